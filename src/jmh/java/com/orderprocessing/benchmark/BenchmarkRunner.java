@@ -0,0 +1,75 @@
+package com.orderprocessing.benchmark;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.results.format.ResultFormatType;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+
+public class BenchmarkRunner {
+    private static final int[] INVENTORY_THREADS = {1, 2, 4, 8, 16, 32, 64};
+    private static final Class<?>[] SINGLE_RUN_BENCHMARKS = {
+        MoneyBenchmark.class, OrderBenchmark.class, OrderRepositoryBenchmark.class, OrderServiceBenchmark.class,
+        DomainCodecBenchmark.class, CustomerRepositoryBenchmark.class, HttpApiBenchmark.class,
+        PartitionedOrderServiceBenchmark.class
+    };
+
+    public static void main(String[] args) throws RunnerException {
+        String include = args.length > 0 ? args[0] : ".*";
+        String resultDir = args.length > 1 ? args[1] : "target";
+        Pattern pattern = Pattern.compile(include);
+
+        if (matchesAny(pattern, SINGLE_RUN_BENCHMARKS)) {
+            new Runner(options(include, resultDir + "/jmh-result.json")
+                .exclude(InventoryBenchmark.class.getName())
+                .build()).run();
+        }
+
+        List<String> inventoryBenchmarks = matchingBenchmarks(pattern, InventoryBenchmark.class);
+        if (!inventoryBenchmarks.isEmpty()) {
+            for (int threads : INVENTORY_THREADS) {
+                ChainedOptionsBuilder builder = options(inventoryBenchmarks.get(0),
+                                                        resultDir + "/jmh-inventory-" + threads + "t.json");
+                for (String benchmark : inventoryBenchmarks.subList(1, inventoryBenchmarks.size())) {
+                    builder.include(benchmark);
+                }
+                new Runner(builder.threads(threads).build()).run();
+            }
+        }
+    }
+
+    private static boolean matchesAny(Pattern pattern, Class<?>... benchmarks) {
+        for (Class<?> benchmark : benchmarks) {
+            if (!matchingBenchmarks(pattern, benchmark).isEmpty()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private static List<String> matchingBenchmarks(Pattern pattern, Class<?> benchmark) {
+        List<String> matches = new ArrayList<>();
+        for (Method method : benchmark.getMethods()) {
+            String name = benchmark.getName() + "." + method.getName();
+            if (method.isAnnotationPresent(Benchmark.class) && pattern.matcher(name).find()) {
+                matches.add(Pattern.quote(name) + "$");
+            }
+        }
+        return matches;
+    }
+
+    private static ChainedOptionsBuilder options(String include, String resultFile) {
+        return new OptionsBuilder()
+            .include(include)
+            .addProfiler(GCProfiler.class)
+            .resultFormat(ResultFormatType.JSON)
+            .result(resultFile);
+    }
+}
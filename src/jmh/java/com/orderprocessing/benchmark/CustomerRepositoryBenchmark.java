@@ -0,0 +1,92 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.MappedCustomerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g"})
+public class CustomerRepositoryBenchmark {
+    private static final int CACHE_SIZE = 10_000;
+
+    @Param({"100000", "1000000"})
+    public int customerCount;
+
+    private Path file;
+    private InMemoryCustomerRepository heap;
+    private MappedCustomerRepository mapped;
+    private CustomerId[] customerIds;
+
+    @Setup(Level.Trial)
+    public void populate() throws IOException {
+        file = Files.createTempFile("customers", ".dat");
+        Files.delete(file);
+        heap = new InMemoryCustomerRepository();
+        mapped = new MappedCustomerRepository(file, customerCount, CACHE_SIZE);
+        customerIds = new CustomerId[customerCount];
+        List<Customer> batch = new ArrayList<>(customerCount);
+        for (int i = 0; i < customerCount; i++) {
+            customerIds[i] = new CustomerId("CUST-" + i);
+            batch.add(new Customer(customerIds[i], "customer" + i + "@example.com", "Customer " + i));
+        }
+        heap.saveAll(batch);
+        mapped.saveAll(batch);
+        mapped.flush();
+    }
+
+    @TearDown(Level.Trial)
+    public void delete() throws IOException {
+        mapped.close();
+        Files.deleteIfExists(file);
+    }
+
+    @Benchmark
+    public Optional<Customer> heapFindById() {
+        return heap.findById(customerIds[ThreadLocalRandom.current().nextInt(customerCount)]);
+    }
+
+    @Benchmark
+    public Optional<Customer> mappedFindById() {
+        return mapped.findById(customerIds[ThreadLocalRandom.current().nextInt(customerCount)]);
+    }
+
+    @Benchmark
+    public Optional<Customer> mappedFindByEmail() {
+        int index = ThreadLocalRandom.current().nextInt(customerCount);
+        return mapped.findByEmail("customer" + index + "@example.com");
+    }
+
+    @Benchmark
+    public int mappedReopen() throws IOException {
+        try (MappedCustomerRepository reopened = new MappedCustomerRepository(file, 1, CACHE_SIZE)) {
+            return reopened.size();
+        }
+    }
+}
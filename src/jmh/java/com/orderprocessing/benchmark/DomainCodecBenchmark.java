@@ -0,0 +1,84 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.infrastructure.codec.CodecDictionary;
+import com.orderprocessing.infrastructure.codec.DomainCodec;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class DomainCodecBenchmark {
+    private final DomainCodec codec = new DomainCodec(new CodecDictionary(List.of("PROD-001", "PROD-002")));
+    private final ByteBuffer buffer = ByteBuffer.allocateDirect(4096);
+    private final ByteBuffer encodedOrder = ByteBuffer.allocateDirect(4096);
+    private final ByteBuffer encodedEvent = ByteBuffer.allocateDirect(4096);
+    private Order order;
+    private OrderProcessedEvent event;
+
+    @Setup
+    public void setUp() {
+        order = new Order(new CustomerId("CUST-001"));
+        order.addItem(new OrderItem("PROD-001", "Widget A", usd("25.99"), 2));
+        order.addItem(new OrderItem("PROD-002", "Widget B", usd("15.50"), 3));
+        order.clearDomainEvents();
+        event = new OrderProcessedEvent(order.getOrderId(), LocalDateTime.now(), order.getTotalAmount(),
+                                        "CREDIT_CARD", order.getItems());
+        codec.encode(order, encodedOrder);
+        encodedOrder.flip();
+        codec.encode(event, encodedEvent);
+        encodedEvent.flip();
+    }
+
+    @Benchmark
+    public int encodeOrder() {
+        buffer.clear();
+        codec.encode(order, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Object decodeOrder() {
+        encodedOrder.rewind();
+        return codec.decode(encodedOrder);
+    }
+
+    @Benchmark
+    public int encodeProcessedEvent() {
+        buffer.clear();
+        codec.encode(event, buffer);
+        return buffer.position();
+    }
+
+    @Benchmark
+    public Object decodeProcessedEvent() {
+        encodedEvent.rewind();
+        return codec.decode(encodedEvent);
+    }
+
+    private static Money usd(String amount) {
+        return new Money(new BigDecimal(amount), "USD");
+    }
+}
@@ -0,0 +1,144 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.http.OrderHttpServer;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetAddress;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(16)
+@Fork(value = 1, jvmArgsAppend = "-Dsun.net.httpserver.nodelay=true")
+public class HttpApiBenchmark {
+    private static final int CUSTOMERS = 100;
+    private static final int PRODUCTS = 100;
+    private static final int SEEDED_ORDERS = 1000;
+    private static final String BINARY = "application/octet-stream";
+
+    private OrderHttpServer server;
+    private HttpClient client;
+    private String baseUri;
+    private CustomerId[] customerIds;
+    private String[] productIds;
+    private URI[] orderUris;
+
+    @Setup(Level.Trial)
+    public void startServer() throws IOException {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        InventoryService inventoryService = new InventoryService();
+        PaymentService paymentService = new PaymentService();
+        customerIds = new CustomerId[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = new CustomerId("BENCH-CUST-" + i);
+            customerRepository.save(new Customer(customerIds[i], "bench" + i + "@example.com", "Bench " + i));
+            paymentService.deposit(customerIds[i], new BigDecimal("1000000000.00"));
+        }
+        productIds = new String[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = "BENCH-PROD-" + i;
+            inventoryService.addStock(productIds[i], Integer.MAX_VALUE / 2);
+        }
+        OrderService orderService = new OrderService(new InMemoryOrderRepository(), customerRepository,
+                                                     inventoryService, paymentService);
+        server = new OrderHttpServer(orderService, new InetSocketAddress(InetAddress.getLoopbackAddress(), 0),
+                                     Runtime.getRuntime().availableProcessors() * 4).start();
+        baseUri = "http://127.0.0.1:" + server.getPort();
+        client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+
+        orderUris = new URI[SEEDED_ORDERS];
+        for (int i = 0; i < SEEDED_ORDERS; i++) {
+            Order order = orderService.createOrder(customerIds[i % CUSTOMERS]);
+            orderService.addItemToOrder(order.getOrderId(), productIds[i % PRODUCTS], "Bench Widget",
+                                        new BigDecimal("19.99"), 1 + i % 3);
+            orderUris[i] = URI.create(baseUri + "/orders/" + order.getOrderId());
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void stopServer() throws InterruptedException {
+        System.out.println("\nCoalesced " + server.getCoalescedRequestCount() + " creates into " +
+                           server.getCoalescedBatchCount() + " batches");
+        server.close();
+    }
+
+    @Benchmark
+    public int createOrder() throws IOException, InterruptedException {
+        CustomerId customerId = customerIds[ThreadLocalRandom.current().nextInt(CUSTOMERS)];
+        return post(baseUri + "/orders", "customerId=" + customerId).statusCode();
+    }
+
+    @Benchmark
+    public byte[] getOrderJson() throws IOException, InterruptedException {
+        return get(orderUris[ThreadLocalRandom.current().nextInt(SEEDED_ORDERS)], null);
+    }
+
+    @Benchmark
+    public byte[] getOrderBinary() throws IOException, InterruptedException {
+        return get(orderUris[ThreadLocalRandom.current().nextInt(SEEDED_ORDERS)], BINARY);
+    }
+
+    @Benchmark
+    public byte[] getCustomerOrders() throws IOException, InterruptedException {
+        CustomerId customerId = customerIds[ThreadLocalRandom.current().nextInt(CUSTOMERS)];
+        return get(URI.create(baseUri + "/customers/" + customerId + "/orders"), BINARY);
+    }
+
+    @Benchmark
+    public int placeOrder() throws IOException, InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        HttpResponse<byte[]> created = post(baseUri + "/orders",
+                                            "customerId=" + customerIds[random.nextInt(CUSTOMERS)]);
+        String orderUri = baseUri + "/orders/" + new String(created.body(), 12, 36);
+        post(orderUri + "/items", "productId=" + productIds[random.nextInt(PRODUCTS)] +
+                                  "&productName=Bench+Widget&unitPrice=19.99&quantity=1");
+        return post(orderUri + "/process", "paymentMethod=DEBIT_CARD").statusCode();
+    }
+
+    private HttpResponse<byte[]> post(String uri, String form) throws IOException, InterruptedException {
+        HttpRequest request = HttpRequest.newBuilder(URI.create(uri))
+            .header("Content-Type", "application/x-www-form-urlencoded")
+            .POST(HttpRequest.BodyPublishers.ofString(form))
+            .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofByteArray());
+    }
+
+    private byte[] get(URI uri, String accept) throws IOException, InterruptedException {
+        HttpRequest.Builder request = HttpRequest.newBuilder(uri);
+        if (accept != null) {
+            request.header("Accept", accept);
+        }
+        return client.send(request.build(), HttpResponse.BodyHandlers.ofByteArray()).body();
+    }
+}
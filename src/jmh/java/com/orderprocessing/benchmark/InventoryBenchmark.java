@@ -0,0 +1,73 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.application.service.InventoryService;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(1)
+public class InventoryBenchmark {
+    static final String SHARED_SKU = "HOT-SKU";
+    static final int MAX_THREADS = 64;
+    static final int STOCK = Integer.MAX_VALUE / 2;
+
+    @State(Scope.Benchmark)
+    public static class Inventory {
+        InventoryService service;
+        final AtomicInteger threadIndex = new AtomicInteger();
+
+        @Setup(Level.Trial)
+        public void stock() {
+            service = new InventoryService();
+            service.addStock(SHARED_SKU, STOCK);
+            for (int i = 0; i < MAX_THREADS; i++) {
+                service.addStock(disjointSku(i), STOCK);
+            }
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class ThreadSku {
+        String sku;
+
+        @Setup(Level.Trial)
+        public void assign(Inventory inventory) {
+            sku = disjointSku(inventory.threadIndex.getAndIncrement() % MAX_THREADS);
+        }
+    }
+
+    static String disjointSku(int index) {
+        return "SKU-" + index;
+    }
+
+    @Benchmark
+    public boolean reserveSharedSku(Inventory inventory) {
+        boolean reserved = inventory.service.reserve(SHARED_SKU, 1);
+        inventory.service.release(SHARED_SKU, 1);
+        return reserved;
+    }
+
+    @Benchmark
+    public boolean reserveDisjointSku(Inventory inventory, ThreadSku threadSku) {
+        boolean reserved = inventory.service.reserve(threadSku.sku, 1);
+        inventory.service.release(threadSku.sku, 1);
+        return reserved;
+    }
+}
@@ -0,0 +1,46 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class MoneyBenchmark {
+    private final Money price = new Money(new BigDecimal("25.99"), "USD");
+    private final Money other = new Money(new BigDecimal("15.50"), "USD");
+
+    @Benchmark
+    public Money add() {
+        return price.add(other);
+    }
+
+    @Benchmark
+    public Money subtract() {
+        return price.subtract(other);
+    }
+
+    @Benchmark
+    public Money multiply() {
+        return price.multiply(0.9);
+    }
+
+    @Benchmark
+    public boolean compare() {
+        return price.isGreaterThan(other);
+    }
+}
@@ -0,0 +1,59 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Thread)
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 10, batchSize = OrderBenchmark.BATCH_SIZE)
+@Measurement(iterations = 20, batchSize = OrderBenchmark.BATCH_SIZE)
+@Fork(1)
+public class OrderBenchmark {
+    static final int BATCH_SIZE = 10_000;
+
+    @Param({"1", "10", "100"})
+    public int existingItems;
+
+    private final CustomerId customerId = new CustomerId("CUST-001");
+    private final OrderItem item = new OrderItem("PROD-001", "Widget A", new Money(new BigDecimal("25.99"), "USD"), 2);
+    private final Order[] orders = new Order[BATCH_SIZE];
+    private int next;
+
+    @Setup(Level.Iteration)
+    public void createOrders() {
+        for (int i = 0; i < BATCH_SIZE; i++) {
+            Order order = new Order(customerId);
+            for (int j = 0; j < existingItems; j++) {
+                order.addItem(item);
+            }
+            order.clearDomainEvents();
+            orders[i] = order;
+        }
+        next = 0;
+    }
+
+    @Benchmark
+    public Money addItem() {
+        Order order = orders[next++];
+        order.addItem(item);
+        return order.getTotalAmount();
+    }
+}
@@ -0,0 +1,85 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(value = 1, jvmArgsAppend = {"-Xmx12g"})
+public class OrderRepositoryBenchmark {
+    private static final int CUSTOMERS = 1000;
+
+    @Param({"1000", "100000", "1000000", "10000000"})
+    public int orderCount;
+
+    private InMemoryOrderRepository repository;
+    private OrderId[] orderIds;
+    private CustomerId[] customerIds;
+    private LocalDateTime newestCreatedAt;
+
+    @Setup(Level.Trial)
+    public void populate() {
+        repository = new InMemoryOrderRepository();
+        orderIds = new OrderId[orderCount];
+        customerIds = new CustomerId[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = new CustomerId("CUST-" + i);
+        }
+        for (int i = 0; i < orderCount; i++) {
+            Order order = new Order(customerIds[i % CUSTOMERS]);
+            order.clearDomainEvents();
+            repository.save(order);
+            orderIds[i] = order.getOrderId();
+            newestCreatedAt = order.getCreatedAt();
+        }
+    }
+
+    @Benchmark
+    public Optional<Order> findById() {
+        return repository.findById(orderIds[ThreadLocalRandom.current().nextInt(orderCount)]);
+    }
+
+    @Benchmark
+    public Optional<OrderSnapshot> findSnapshot() {
+        return repository.findSnapshot(orderIds[ThreadLocalRandom.current().nextInt(orderCount)]);
+    }
+
+    @Benchmark
+    public List<Order> findByCustomerId() {
+        return repository.findByCustomerId(customerIds[ThreadLocalRandom.current().nextInt(CUSTOMERS)]);
+    }
+
+    @Benchmark
+    public List<Order> findPendingOrders() {
+        return repository.findPendingOrders();
+    }
+
+    @Benchmark
+    public List<OrderSnapshot> findCreatedInRecentWindow() {
+        return repository.findSnapshotsCreatedBetween(newestCreatedAt.minusNanos(10_000_000), newestCreatedAt.plusNanos(1));
+    }
+}
@@ -0,0 +1,75 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class OrderServiceBenchmark {
+    private static final int CUSTOMERS = 100;
+    private static final int PRODUCTS = 100;
+
+    private OrderService orderService;
+    private CustomerId[] customerIds;
+    private String[] productIds;
+
+    @Setup(Level.Iteration)
+    public void wireServices() {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        InventoryService inventoryService = new InventoryService();
+        PaymentService paymentService = new PaymentService();
+        customerIds = new CustomerId[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = new CustomerId("BENCH-CUST-" + i);
+            customerRepository.save(new Customer(customerIds[i], "bench" + i + "@example.com", "Bench " + i));
+            paymentService.deposit(customerIds[i], new BigDecimal("1000000000.00"));
+        }
+        productIds = new String[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = "BENCH-PROD-" + i;
+            inventoryService.addStock(productIds[i], Integer.MAX_VALUE / 2);
+        }
+        orderService = new OrderService(new InMemoryOrderRepository(), customerRepository,
+                                         inventoryService, paymentService);
+    }
+
+    @Benchmark
+    public void processOrder(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Order order = orderService.createOrder(customerIds[random.nextInt(CUSTOMERS)]);
+        orderService.addItemToOrder(order.getOrderId(), productIds[random.nextInt(PRODUCTS)],
+                                    "Bench Widget", new BigDecimal("19.99"), 1);
+        try {
+            orderService.processOrder(order.getOrderId(), "DEBIT_CARD");
+        } catch (IllegalStateException e) {
+            blackhole.consume(e);
+        }
+        blackhole.consume(order);
+    }
+}
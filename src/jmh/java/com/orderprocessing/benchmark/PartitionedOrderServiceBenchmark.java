@@ -0,0 +1,83 @@
+package com.orderprocessing.benchmark;
+
+import com.orderprocessing.application.partition.PartitionedOrderService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Threads(8)
+@Fork(1)
+public class PartitionedOrderServiceBenchmark {
+    private static final int CUSTOMERS = 256;
+    private static final int PRODUCTS = 256;
+
+    @Param({"1", "2", "4", "8"})
+    public int partitions;
+
+    private PartitionedOrderService service;
+    private CustomerId[] customerIds;
+    private String[] productIds;
+
+    @Setup(Level.Iteration)
+    public void wirePartitions() {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        service = new PartitionedOrderService(partitions, customerRepository);
+        customerIds = new CustomerId[CUSTOMERS];
+        for (int i = 0; i < CUSTOMERS; i++) {
+            customerIds[i] = new CustomerId("BENCH-CUST-" + i);
+            customerRepository.save(new Customer(customerIds[i], "bench" + i + "@example.com", "Bench " + i));
+            service.deposit(customerIds[i], new BigDecimal("1000000000.00")).join();
+        }
+        productIds = new String[PRODUCTS];
+        for (int i = 0; i < PRODUCTS; i++) {
+            productIds[i] = "BENCH-PROD-" + i;
+            service.addStock(productIds[i], Integer.MAX_VALUE / 2).join();
+        }
+    }
+
+    @TearDown(Level.Iteration)
+    public void closePartitions() throws InterruptedException {
+        service.close();
+    }
+
+    @Benchmark
+    public void placeOrder(Blackhole blackhole) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        Order order = service.createOrder(customerIds[random.nextInt(CUSTOMERS)]).join();
+        try {
+            service.addItemToOrder(order.getOrderId(), productIds[random.nextInt(PRODUCTS)], "Bench Widget",
+                                   new BigDecimal("19.99"), 1)
+                .thenCompose(added -> service.processOrder(order.getOrderId(), "DEBIT_CARD"))
+                .join();
+        } catch (CompletionException e) {
+            blackhole.consume(e);
+        }
+        blackhole.consume(order);
+    }
+}
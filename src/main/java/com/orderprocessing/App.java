@@ -1,27 +1,58 @@
 package com.orderprocessing;
 
+import com.orderprocessing.application.analytics.*;
+import com.orderprocessing.application.projection.*;
 import com.orderprocessing.application.service.*;
 import com.orderprocessing.domain.entity.*;
+import com.orderprocessing.domain.repository.*;
 import com.orderprocessing.domain.valueobject.*;
+import com.orderprocessing.infrastructure.event.*;
+import com.orderprocessing.infrastructure.jfr.*;
+import com.orderprocessing.infrastructure.metrics.*;
 import com.orderprocessing.infrastructure.repository.*;
 
 import java.math.BigDecimal;
 import java.util.concurrent.ExecutorService;
 import java.util.concurrent.Executors;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
 
 public class App {
-    public static void main(String[] args) {
+    public static void main(String[] args) throws Exception {
         System.out.println("Order Processing System - Testing Runtime Bugs");
         
-        InMemoryOrderRepository orderRepo = new InMemoryOrderRepository();
-        InMemoryCustomerRepository customerRepo = new InMemoryCustomerRepository();
+        RingBufferEventBus eventBus = new RingBufferEventBus(1024, WaitStrategy.blocking());
+        AtomicLong publishedEvents = new AtomicLong();
+        eventBus.subscribe("event-counter", (event, sequence, endOfBatch) -> publishedEvents.incrementAndGet());
+        CustomerOrderHistoryProjection orderHistory = new CustomerOrderHistoryProjection();
+        eventBus.subscribe("customer-order-history", (event, sequence, endOfBatch) -> orderHistory.apply(event));
+        SalesAnalytics salesAnalytics = new SalesAnalytics();
+        eventBus.subscribe("sales-analytics", (event, sequence, endOfBatch) -> salesAnalytics.onEvent(event));
+        eventBus.start();
+        
+        InMemoryOrderRepository orderStore = new InMemoryOrderRepository();
+        InMemoryCustomerRepository customerStore = new InMemoryCustomerRepository();
+        QueryableOrderRepository orderRepo = new EventPublishingOrderRepository(orderStore, eventBus);
+        CachingCustomerRepository customerRepo = new CachingCustomerRepository(customerStore, 10_000);
+        OrderProcessingMetrics metrics = new OrderProcessingMetrics(orderStore::size, customerStore::size);
+        metrics.registerPlatformMBeans();
+        FlightRecorderListener flightRecorder = new FlightRecorderListener();
+        
         InventoryService inventoryService = new InventoryService();
+        inventoryService.addListener(metrics.getInventoryMetrics());
+        inventoryService.addListener(flightRecorder);
         PaymentService paymentService = new PaymentService();
+        paymentService.addListener(salesAnalytics);
+        paymentService.addListener(metrics);
+        paymentService.addListener(flightRecorder);
+        
+        LoyaltyAccrualService loyaltyAccrualService = new LoyaltyAccrualService(customerRepo, 200);
         
         OrderService orderService = new OrderService(
-            orderRepo, customerRepo, inventoryService, paymentService
+            orderRepo, customerRepo, inventoryService, paymentService, loyaltyAccrualService
         );
+        orderService.addListener(metrics);
+        orderService.addListener(flightRecorder);
         
         setupTestData(customerRepo);
         
@@ -33,10 +64,49 @@ public class App {
         
         testInventoryAndPaymentEdgeCases(orderService);
         
+        loyaltyAccrualService.close();
+        eventBus.close();
+        System.out.println("\nDomain events published: " + publishedEvents.get());
+        printCustomerSummaries(orderHistory);
+        printSalesAnalytics(salesAnalytics);
+        System.out.println("Customer cache: " + customerRepo.getStats());
+        printStageMetrics(metrics);
+        
         System.out.println("\n=== Test Complete ===");
     }
     
-    private static void setupTestData(InMemoryCustomerRepository customerRepo) {
+    private static void printCustomerSummaries(CustomerOrderHistoryProjection orderHistory) {
+        for (String id : new String[] {"CUST-001", "CUST-002", "CUST-003"}) {
+            CustomerOrderSummary summary = orderHistory.getCustomerSummary(new CustomerId(id));
+            System.out.println(id + ": " + summary.getOrderCount() + " orders, " +
+                               summary.getOrderCount(OrderStatus.PROCESSING) + " processing, " +
+                               "lifetime spend " + summary.getLifetimeSpend());
+        }
+    }
+    
+    private static void printSalesAnalytics(SalesAnalytics salesAnalytics) {
+        for (WindowStats product : salesAnalytics.topProductsByRevenue(AnalyticsWindow.LAST_5_MINUTES, 3)) {
+            System.out.println("Top product " + product.getKey() + ": " + product.getUnits() + " units, " +
+                               "revenue " + product.getRevenue());
+        }
+        for (String method : new String[] {"CREDIT_CARD", "DEBIT_CARD", "PAYPAL"}) {
+            WindowStats payments = salesAnalytics.getPaymentMethodStats(method, AnalyticsWindow.LAST_5_MINUTES);
+            System.out.printf("%s: %d payments, failure rate %.1f%%, p99 %d us%n", method, payments.getCount(),
+                              payments.getFailureRate() * 100, payments.getP99LatencyNanos() / 1000);
+        }
+    }
+    
+    private static void printStageMetrics(OrderProcessingMetrics metrics) {
+        for (ProcessingStage stage : ProcessingStage.values()) {
+            StageMetrics stageMetrics = metrics.getStageMetrics(stage);
+            System.out.printf("Stage %s: %d calls, %d failed, p99 %.1f us%n", stage,
+                              stageMetrics.getCount(), stageMetrics.getFailures(), stageMetrics.getP99Micros());
+        }
+        System.out.println("Inventory reservations contended: " +
+                           metrics.getInventoryMetrics().getContendedReservations());
+    }
+    
+    private static void setupTestData(CustomerRepository customerRepo) {
         System.out.println("Setting up test customers...");
         
         Customer customer1 = new Customer(
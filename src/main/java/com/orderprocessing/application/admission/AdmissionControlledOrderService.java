@@ -0,0 +1,42 @@
+package com.orderprocessing.application.admission;
+
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.math.BigDecimal;
+
+public class AdmissionControlledOrderService {
+    private final OrderService orderService;
+    private final AdmissionController admissionController;
+
+    public AdmissionControlledOrderService(OrderService orderService, AdmissionController admissionController) {
+        if (orderService == null || admissionController == null) {
+            throw new IllegalArgumentException("Order service and admission controller cannot be null");
+        }
+        this.orderService = orderService;
+        this.admissionController = admissionController;
+    }
+
+    public Order createOrder(CustomerId customerId) {
+        return orderService.createOrder(customerId);
+    }
+
+    public void addItemToOrder(OrderId orderId, String productId, String productName,
+                               BigDecimal unitPrice, int quantity) {
+        orderService.addItemToOrder(orderId, productId, productName, unitPrice, quantity);
+    }
+
+    public void processOrder(OrderId orderId, String paymentMethod) {
+        admissionController.execute(() -> orderService.processOrder(orderId, paymentMethod));
+    }
+
+    public Order getOrder(OrderId orderId) {
+        return orderService.getOrder(orderId);
+    }
+
+    public AdmissionController getAdmissionController() {
+        return admissionController;
+    }
+}
@@ -0,0 +1,142 @@
+package com.orderprocessing.application.admission;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+public class AdmissionController {
+    private final GradientConcurrencyLimit limit;
+    private final int maxQueueSize;
+    private final long maxWaitNanos;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition permitAvailable = lock.newCondition();
+    private final LongAdder admitted = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private int inFlight;
+    private int waiting;
+
+    public AdmissionController(GradientConcurrencyLimit limit, int maxQueueSize, long maxWaitMillis) {
+        if (limit == null) {
+            throw new IllegalArgumentException("Limit cannot be null");
+        }
+        if (maxQueueSize < 0 || maxWaitMillis < 0) {
+            throw new IllegalArgumentException("Queue size and wait time cannot be negative");
+        }
+        this.limit = limit;
+        this.maxQueueSize = maxQueueSize;
+        this.maxWaitNanos = TimeUnit.MILLISECONDS.toNanos(maxWaitMillis);
+    }
+
+    public void execute(Runnable task) {
+        call(() -> {
+            task.run();
+            return null;
+        });
+    }
+
+    public <T> T call(Supplier<T> task) {
+        acquire();
+        long startNanos = System.nanoTime();
+        boolean dropped = true;
+        try {
+            T result = task.get();
+            dropped = false;
+            return result;
+        } catch (AdmissionRejectedException e) {
+            throw e;
+        } catch (RuntimeException e) {
+            dropped = false;
+            throw e;
+        } finally {
+            release(System.nanoTime() - startNanos, dropped);
+        }
+    }
+
+    private void acquire() {
+        lock.lock();
+        try {
+            if (inFlight < limit.getLimit() && waiting == 0) {
+                inFlight++;
+                admitted.increment();
+                return;
+            }
+            if (waiting >= maxQueueSize) {
+                throw reject("Order processing is overloaded");
+            }
+            waiting++;
+            try {
+                long remaining = maxWaitNanos;
+                while (inFlight >= limit.getLimit()) {
+                    if (remaining <= 0) {
+                        throw reject("Timed out waiting for order processing capacity");
+                    }
+                    remaining = permitAvailable.awaitNanos(remaining);
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw reject("Interrupted waiting for order processing capacity");
+            } finally {
+                waiting--;
+            }
+            inFlight++;
+            admitted.increment();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private void release(long rttNanos, boolean dropped) {
+        lock.lock();
+        try {
+            int sampledInFlight = inFlight;
+            inFlight--;
+            int newLimit = limit.onSample(rttNanos, sampledInFlight, dropped);
+            for (int free = newLimit - inFlight; free > 0 && waiting > 0; free--) {
+                permitAvailable.signal();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private AdmissionRejectedException reject(String message) {
+        rejected.increment();
+        int currentLimit = Math.max(1, limit.getLimit());
+        long rttNanos = Math.max(limit.getShortRttNanos(), TimeUnit.MILLISECONDS.toNanos(1));
+        long retryAfterNanos = rttNanos * (waiting + 1) / currentLimit;
+        return new AdmissionRejectedException(message,
+                                              Math.max(1, TimeUnit.NANOSECONDS.toMillis(retryAfterNanos)));
+    }
+
+    public int getLimit() {
+        return limit.getLimit();
+    }
+
+    public int getInFlight() {
+        lock.lock();
+        try {
+            return inFlight;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getQueueLength() {
+        lock.lock();
+        try {
+            return waiting;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAdmittedCount() {
+        return admitted.sum();
+    }
+
+    public long getRejectedCount() {
+        return rejected.sum();
+    }
+}
@@ -0,0 +1,14 @@
+package com.orderprocessing.application.admission;
+
+public class AdmissionRejectedException extends IllegalStateException {
+    private final long retryAfterMillis;
+
+    public AdmissionRejectedException(String message, long retryAfterMillis) {
+        super(message);
+        this.retryAfterMillis = retryAfterMillis;
+    }
+
+    public long getRetryAfterMillis() {
+        return retryAfterMillis;
+    }
+}
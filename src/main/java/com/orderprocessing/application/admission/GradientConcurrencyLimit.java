@@ -0,0 +1,72 @@
+package com.orderprocessing.application.admission;
+
+public class GradientConcurrencyLimit {
+    private static final double LONG_WINDOW_WEIGHT = 1.0 / 600;
+    private static final double SHORT_WINDOW_WEIGHT = 1.0 / 10;
+    private static final double SMOOTHING = 0.2;
+    private static final double RTT_TOLERANCE = 1.5;
+    private static final double MIN_GRADIENT = 0.5;
+
+    private final int minLimit;
+    private final int maxLimit;
+    private double estimatedLimit;
+    private double longRttNanos;
+    private double shortRttNanos;
+    private volatile int limit;
+
+    public GradientConcurrencyLimit(int initialLimit, int minLimit, int maxLimit) {
+        if (minLimit <= 0 || maxLimit < minLimit) {
+            throw new IllegalArgumentException("Limits must satisfy 0 < min <= max");
+        }
+        if (initialLimit < minLimit || initialLimit > maxLimit) {
+            throw new IllegalArgumentException("Initial limit must be between min and max");
+        }
+        this.minLimit = minLimit;
+        this.maxLimit = maxLimit;
+        this.estimatedLimit = initialLimit;
+        this.limit = initialLimit;
+    }
+
+    public int getLimit() {
+        return limit;
+    }
+
+    public synchronized long getShortRttNanos() {
+        return (long) shortRttNanos;
+    }
+
+    public synchronized long getLongRttNanos() {
+        return (long) longRttNanos;
+    }
+
+    public synchronized int onSample(long rttNanos, int inFlight, boolean dropped) {
+        if (rttNanos <= 0) {
+            return limit;
+        }
+        if (longRttNanos == 0) {
+            longRttNanos = rttNanos;
+            shortRttNanos = rttNanos;
+        } else {
+            shortRttNanos += (rttNanos - shortRttNanos) * SHORT_WINDOW_WEIGHT;
+            longRttNanos += (rttNanos - longRttNanos) * LONG_WINDOW_WEIGHT;
+        }
+        if (longRttNanos > shortRttNanos * 2) {
+            longRttNanos = shortRttNanos * 2;
+        }
+
+        double target;
+        if (dropped) {
+            target = estimatedLimit * MIN_GRADIENT;
+        } else if (inFlight < estimatedLimit / 2) {
+            return limit;
+        } else {
+            double gradient = Math.max(MIN_GRADIENT,
+                                       Math.min(1.0, RTT_TOLERANCE * longRttNanos / shortRttNanos));
+            target = estimatedLimit * gradient + Math.sqrt(estimatedLimit);
+        }
+        estimatedLimit = Math.max(minLimit, Math.min(maxLimit,
+                                  estimatedLimit * (1 - SMOOTHING) + target * SMOOTHING));
+        limit = (int) estimatedLimit;
+        return limit;
+    }
+}
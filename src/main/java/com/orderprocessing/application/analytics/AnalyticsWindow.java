@@ -0,0 +1,23 @@
+package com.orderprocessing.application.analytics;
+
+import java.util.concurrent.TimeUnit;
+
+public enum AnalyticsWindow {
+    LAST_1_MINUTE(1),
+    LAST_5_MINUTES(5),
+    LAST_15_MINUTES(15);
+
+    private final long millis;
+
+    AnalyticsWindow(int minutes) {
+        this.millis = TimeUnit.MINUTES.toMillis(minutes);
+    }
+
+    public long getMillis() {
+        return millis;
+    }
+
+    public static AnalyticsWindow longest() {
+        return LAST_15_MINUTES;
+    }
+}
@@ -0,0 +1,147 @@
+package com.orderprocessing.application.analytics;
+
+import com.orderprocessing.application.service.PaymentListener;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.metrics.LatencyHistogram;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.LongSupplier;
+
+public class SalesAnalytics implements PaymentListener {
+    public static final long DEFAULT_BUCKET_MILLIS = TimeUnit.SECONDS.toMillis(10);
+
+    private final Map<String, WindowedCounters> products = new ConcurrentHashMap<>();
+    private final Map<String, WindowedCounters> paymentMethods = new ConcurrentHashMap<>();
+    private final long bucketMillis;
+    private final int ringSize;
+    private final LongSupplier clock;
+    private final String currency;
+
+    public SalesAnalytics() {
+        this(DEFAULT_BUCKET_MILLIS, System::currentTimeMillis);
+    }
+
+    public SalesAnalytics(long bucketMillis, LongSupplier clock) {
+        if (bucketMillis <= 0) {
+            throw new IllegalArgumentException("Bucket size must be positive");
+        }
+        this.bucketMillis = bucketMillis;
+        this.ringSize = (int) (AnalyticsWindow.longest().getMillis() / bucketMillis) + 2;
+        this.clock = clock;
+        this.currency = Money.ZERO.getCurrency();
+    }
+
+    public void onEvent(Object event) {
+        if (event instanceof OrderProcessedEvent) {
+            long epoch = currentEpoch();
+            List<OrderItem> items = ((OrderProcessedEvent) event).getItems();
+            for (int i = 0; i < items.size(); i++) {
+                OrderItem item = items.get(i);
+                counters(products, item.getProductId(), false)
+                    .recordSuccess(epoch, item.getQuantity(), toMinorUnits(item.getSubtotal()), -1);
+            }
+        } else if (event instanceof OrderProcessingAbortedEvent) {
+            long epoch = currentEpoch();
+            List<OrderItem> items = ((OrderProcessingAbortedEvent) event).getItems();
+            for (int i = 0; i < items.size(); i++) {
+                counters(products, items.get(i).getProductId(), false).recordFailure(epoch, -1);
+            }
+        }
+    }
+
+    @Override
+    public void onPaymentCompleted(PaymentService.PaymentTransaction transaction, long durationNanos) {
+        counters(paymentMethods, transaction.getPaymentMethod(), true)
+            .recordSuccess(currentEpoch(), 1, toMinorUnits(transaction.getAmount()), durationNanos);
+    }
+
+    @Override
+    public void onPaymentFailed(OrderId orderId, CustomerId customerId, Money amount,
+                                String paymentMethod, RuntimeException cause, long durationNanos) {
+        if (paymentMethod == null) {
+            return;
+        }
+        counters(paymentMethods, paymentMethod, true).recordFailure(currentEpoch(), durationNanos);
+    }
+
+    private WindowedCounters counters(Map<String, WindowedCounters> byKey, String key, boolean trackLatency) {
+        WindowedCounters counters = byKey.get(key);
+        if (counters == null) {
+            counters = byKey.computeIfAbsent(key, k -> new WindowedCounters(ringSize, trackLatency));
+        }
+        return counters;
+    }
+
+    private long currentEpoch() {
+        return clock.getAsLong() / bucketMillis;
+    }
+
+    private long firstEpoch(AnalyticsWindow window, long currentEpoch) {
+        return currentEpoch - window.getMillis() / bucketMillis + 1;
+    }
+
+    private static long toMinorUnits(Money amount) {
+        return amount.getMinorUnits();
+    }
+
+    public WindowStats getProductStats(String productId, AnalyticsWindow window) {
+        return stats(products, productId, window);
+    }
+
+    public WindowStats getPaymentMethodStats(String paymentMethod, AnalyticsWindow window) {
+        return stats(paymentMethods, paymentMethod, window);
+    }
+
+    private WindowStats stats(Map<String, WindowedCounters> byKey, String key, AnalyticsWindow window) {
+        long[] totals = new long[4];
+        LatencyHistogram latency = WindowedCounters.newLatencyHistogram();
+        WindowedCounters counters = byKey.get(key);
+        if (counters != null) {
+            long epoch = currentEpoch();
+            counters.collect(firstEpoch(window, epoch), epoch, totals, latency);
+        }
+        return new WindowStats(key, window, totals[0], totals[1], totals[2],
+                               new Money(BigDecimal.valueOf(totals[3], 2), currency),
+                               latency.getValueAtPercentile(50), latency.getValueAtPercentile(99));
+    }
+
+    public List<WindowStats> topProductsByRevenue(AnalyticsWindow window, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Limit must be positive");
+        }
+        long epoch = currentEpoch();
+        long from = firstEpoch(window, epoch);
+        PriorityQueue<Map.Entry<String, Long>> top = new PriorityQueue<>(Map.Entry.comparingByValue());
+        for (Map.Entry<String, WindowedCounters> entry : products.entrySet()) {
+            long revenue = entry.getValue().sumRevenue(from, epoch);
+            if (revenue <= 0) {
+                continue;
+            }
+            if (top.size() < limit) {
+                top.add(Map.entry(entry.getKey(), revenue));
+            } else if (revenue > top.peek().getValue()) {
+                top.poll();
+                top.add(Map.entry(entry.getKey(), revenue));
+            }
+        }
+        List<WindowStats> result = new ArrayList<>(top.size());
+        for (Map.Entry<String, Long> entry : top) {
+            result.add(getProductStats(entry.getKey(), window));
+        }
+        result.sort(Comparator.comparing((WindowStats stats) -> stats.getRevenue().getAmount()).reversed());
+        return result;
+    }
+}
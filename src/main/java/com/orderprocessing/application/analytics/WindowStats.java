@@ -0,0 +1,67 @@
+package com.orderprocessing.application.analytics;
+
+import com.orderprocessing.domain.valueobject.Money;
+
+public class WindowStats {
+    private final String key;
+    private final AnalyticsWindow window;
+    private final long count;
+    private final long units;
+    private final long failures;
+    private final Money revenue;
+    private final long p50LatencyNanos;
+    private final long p99LatencyNanos;
+
+    public WindowStats(String key, AnalyticsWindow window, long count, long units, long failures,
+                       Money revenue, long p50LatencyNanos, long p99LatencyNanos) {
+        this.key = key;
+        this.window = window;
+        this.count = count;
+        this.units = units;
+        this.failures = failures;
+        this.revenue = revenue;
+        this.p50LatencyNanos = p50LatencyNanos;
+        this.p99LatencyNanos = p99LatencyNanos;
+    }
+
+    public String getKey() {
+        return key;
+    }
+
+    public AnalyticsWindow getWindow() {
+        return window;
+    }
+
+    public long getCount() {
+        return count;
+    }
+
+    public long getUnits() {
+        return units;
+    }
+
+    public long getFailures() {
+        return failures;
+    }
+
+    public double getFailureRate() {
+        long attempts = count + failures;
+        return attempts == 0 ? 0.0 : (double) failures / attempts;
+    }
+
+    public double getThroughputPerSecond() {
+        return count * 1000.0 / window.getMillis();
+    }
+
+    public Money getRevenue() {
+        return revenue;
+    }
+
+    public long getP50LatencyNanos() {
+        return p50LatencyNanos;
+    }
+
+    public long getP99LatencyNanos() {
+        return p99LatencyNanos;
+    }
+}
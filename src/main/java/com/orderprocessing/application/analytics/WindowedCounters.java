@@ -0,0 +1,105 @@
+package com.orderprocessing.application.analytics;
+
+import com.orderprocessing.infrastructure.metrics.LatencyHistogram;
+
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+
+class WindowedCounters {
+    private static final int LATENCY_SUB_BUCKET_BITS = 3;
+
+    private final int ringSize;
+    private final boolean trackLatency;
+    private final AtomicReferenceArray<Bucket> buckets;
+
+    WindowedCounters(int ringSize, boolean trackLatency) {
+        this.ringSize = ringSize;
+        this.trackLatency = trackLatency;
+        this.buckets = new AtomicReferenceArray<>(ringSize);
+    }
+
+    void recordSuccess(long epoch, long unitCount, long revenue, long latencyNanos) {
+        Bucket bucket = rotateTo(epoch);
+        if (bucket == null) {
+            return;
+        }
+        bucket.counts.increment();
+        bucket.units.add(unitCount);
+        bucket.revenueMinorUnits.add(revenue);
+        if (bucket.latency != null && latencyNanos >= 0) {
+            bucket.latency.record(latencyNanos);
+        }
+    }
+
+    void recordFailure(long epoch, long latencyNanos) {
+        Bucket bucket = rotateTo(epoch);
+        if (bucket == null) {
+            return;
+        }
+        bucket.failures.increment();
+        if (bucket.latency != null && latencyNanos >= 0) {
+            bucket.latency.record(latencyNanos);
+        }
+    }
+
+    private Bucket rotateTo(long epoch) {
+        int index = (int) (epoch % ringSize);
+        Bucket fresh = null;
+        while (true) {
+            Bucket current = buckets.get(index);
+            if (current != null && current.epoch >= epoch) {
+                return current.epoch == epoch ? current : null;
+            }
+            if (fresh == null) {
+                fresh = new Bucket(epoch, trackLatency);
+            }
+            if (buckets.compareAndSet(index, current, fresh)) {
+                return fresh;
+            }
+        }
+    }
+
+    long sumRevenue(long fromEpoch, long toEpoch) {
+        long sum = 0;
+        for (int i = 0; i < ringSize; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch >= fromEpoch && bucket.epoch <= toEpoch) {
+                sum += bucket.revenueMinorUnits.sum();
+            }
+        }
+        return sum;
+    }
+
+    void collect(long fromEpoch, long toEpoch, long[] totals, LatencyHistogram latency) {
+        for (int i = 0; i < ringSize; i++) {
+            Bucket bucket = buckets.get(i);
+            if (bucket != null && bucket.epoch >= fromEpoch && bucket.epoch <= toEpoch) {
+                totals[0] += bucket.counts.sum();
+                totals[1] += bucket.units.sum();
+                totals[2] += bucket.failures.sum();
+                totals[3] += bucket.revenueMinorUnits.sum();
+                if (bucket.latency != null && latency != null) {
+                    latency.add(bucket.latency);
+                }
+            }
+        }
+    }
+
+    static LatencyHistogram newLatencyHistogram() {
+        return new LatencyHistogram(LATENCY_SUB_BUCKET_BITS);
+    }
+
+    private static final class Bucket {
+        private final long epoch;
+        private final LongAdder counts = new LongAdder();
+        private final LongAdder units = new LongAdder();
+        private final LongAdder failures = new LongAdder();
+        private final LongAdder revenueMinorUnits = new LongAdder();
+        private final LatencyHistogram latency;
+
+        Bucket(long epoch, boolean trackLatency) {
+            this.epoch = epoch;
+            this.latency = trackLatency ? newLatencyHistogram() : null;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package com.orderprocessing.application.partition;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderPricing;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.repository.CustomerNotFoundException;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ThreadLocalRandom;
+
+final class OrderPartition {
+    private final int index;
+    private final PartitionedOrderService router;
+    private final CustomerRepository customerRepository;
+    private final PartitionEventLoop loop;
+    private final InMemoryOrderRepository orders;
+    private final PaymentService payments = new PaymentService(Collections.emptyMap());
+    private final InventoryService inventory = new InventoryService(Collections.emptyMap());
+    private final Set<OrderId> processing = new HashSet<>();
+
+    OrderPartition(int index, PartitionedOrderService router, CustomerRepository customerRepository,
+                   InMemoryOrderRepository orders) {
+        this.index = index;
+        this.router = router;
+        this.customerRepository = customerRepository;
+        this.orders = orders;
+        this.loop = new PartitionEventLoop("order-partition-" + index);
+    }
+
+    CompletableFuture<Order> createOrder(CustomerId customerId) {
+        return CompletableFuture.supplyAsync(() -> {
+            Customer customer = customerRepository.findById(customerId)
+                .orElseThrow(() -> new CustomerNotFoundException(customerId));
+            if (!customer.isActive()) {
+                throw new IllegalStateException("Customer is not active");
+            }
+            Order order = new Order(nextOrderId(), customerId);
+            orders.save(order);
+            return order;
+        }, loop);
+    }
+
+    CompletableFuture<Void> addItemToOrder(OrderId orderId, String productId, String productName,
+                                           BigDecimal unitPrice, int quantity) {
+        return CompletableFuture.supplyAsync(() -> requireOrder(orderId), loop)
+            .thenCompose(ignored -> router.inventoryOwnerOf(productId).isAvailable(productId, quantity)
+                .thenAcceptAsync(available -> {
+                    if (!available) {
+                        throw new IllegalStateException("Insufficient inventory for product: " + productId);
+                    }
+                    if (processing.contains(orderId)) {
+                        throw new IllegalStateException("Order is already being processed: " + orderId);
+                    }
+                    Order order = requireOrder(orderId);
+                    order.addItem(new OrderItem(productId, productName, new Money(unitPrice, "USD"), quantity));
+                    orders.update(order, order.getVersion());
+                }, loop));
+    }
+
+    CompletableFuture<Void> processOrder(OrderId orderId, String paymentMethod) {
+        return CompletableFuture.supplyAsync(() -> beginProcessing(orderId, paymentMethod), loop)
+            .thenCompose(order -> reserveInventory(order.getItems())
+                .handleAsync((failedProduct, error) -> {
+                    completeProcessing(order, failedProduct, error);
+                    return null;
+                }, loop));
+    }
+
+    CompletableFuture<Order> getOrder(OrderId orderId) {
+        return CompletableFuture.supplyAsync(() -> requireOrder(orderId), loop);
+    }
+
+    CompletableFuture<Void> deposit(CustomerId customerId, BigDecimal amount) {
+        return CompletableFuture.runAsync(() -> payments.deposit(customerId, amount), loop);
+    }
+
+    CompletableFuture<BigDecimal> getBalance(CustomerId customerId) {
+        return CompletableFuture.supplyAsync(() -> payments.getBalance(customerId), loop);
+    }
+
+    CompletableFuture<Void> addStock(String productId, int quantity) {
+        return CompletableFuture.runAsync(() -> inventory.addStock(productId, quantity), loop);
+    }
+
+    CompletableFuture<Integer> getAvailableQuantity(String productId) {
+        return CompletableFuture.supplyAsync(() -> inventory.getAvailableQuantity(productId), loop);
+    }
+
+    CompletableFuture<Boolean> isAvailable(String productId, int quantity) {
+        return CompletableFuture.supplyAsync(() -> inventory.checkAvailability(productId, quantity), loop);
+    }
+
+    CompletableFuture<String> reserveStock(List<OrderItem> items) {
+        return CompletableFuture.supplyAsync(() -> {
+            for (int i = 0; i < items.size(); i++) {
+                OrderItem item = items.get(i);
+                if (!inventory.reserve(item.getProductId(), item.getQuantity())) {
+                    for (int j = 0; j < i; j++) {
+                        inventory.release(items.get(j).getProductId(), items.get(j).getQuantity());
+                    }
+                    return item.getProductId();
+                }
+            }
+            return null;
+        }, loop);
+    }
+
+    void releaseStock(List<OrderItem> items) {
+        loop.execute(() -> {
+            for (OrderItem item : items) {
+                inventory.release(item.getProductId(), item.getQuantity());
+            }
+        });
+    }
+
+    private Order beginProcessing(OrderId orderId, String paymentMethod) {
+        Order order = requireOrder(orderId);
+        if (order.getStatus() != OrderStatus.PENDING) {
+            throw new IllegalStateException("Order is not in pending status");
+        }
+        if (order.getItems().isEmpty()) {
+            throw new IllegalStateException("Cannot process an empty order");
+        }
+        if (!processing.add(orderId)) {
+            throw new IllegalStateException("Order is already being processed: " + orderId);
+        }
+        order.setPaymentMethod(paymentMethod);
+        return order;
+    }
+
+    private CompletableFuture<String> reserveInventory(List<OrderItem> items) {
+        Map<OrderPartition, List<OrderItem>> byOwner = new IdentityHashMap<>();
+        for (OrderItem item : items) {
+            byOwner.computeIfAbsent(router.inventoryOwnerOf(item.getProductId()), owner -> new ArrayList<>())
+                .add(item);
+        }
+        List<OrderPartition> owners = new ArrayList<>(byOwner.keySet());
+        List<CompletableFuture<String>> replies = new ArrayList<>(owners.size());
+        for (OrderPartition owner : owners) {
+            replies.add(owner.reserveStock(byOwner.get(owner)));
+        }
+        return CompletableFuture.allOf(replies.toArray(new CompletableFuture<?>[0]))
+            .handle((ignored, error) -> {
+                String failedProduct = null;
+                for (int i = 0; i < owners.size(); i++) {
+                    CompletableFuture<String> reply = replies.get(i);
+                    String rejected = reply.isCompletedExceptionally()
+                        ? byOwner.get(owners.get(i)).get(0).getProductId() : reply.join();
+                    if (rejected != null) {
+                        failedProduct = rejected;
+                    }
+                }
+                if (failedProduct != null) {
+                    for (int i = 0; i < owners.size(); i++) {
+                        CompletableFuture<String> reply = replies.get(i);
+                        if (!reply.isCompletedExceptionally() && reply.join() == null) {
+                            owners.get(i).releaseStock(byOwner.get(owners.get(i)));
+                        }
+                    }
+                }
+                return failedProduct;
+            });
+    }
+
+    private void completeProcessing(Order order, String failedProduct, Throwable reservationError) {
+        try {
+            if (reservationError != null) {
+                throw new IllegalStateException("Failed to reserve inventory for order: " + order.getOrderId(),
+                                                reservationError);
+            }
+            if (failedProduct != null) {
+                throw new IllegalStateException("Failed to reserve inventory for product: " + failedProduct);
+            }
+            PaymentService.PaymentTransaction transaction = null;
+            try {
+                order.beginProcessing();
+                Customer customer = customerRepository.findById(order.getCustomerId())
+                    .orElseThrow(() -> new IllegalStateException("Customer not found for payment processing"));
+                transaction = chargePayment(order, customer);
+                order.confirmProcessing(transaction.getAmount());
+                orders.update(order, order.getVersion());
+            } catch (RuntimeException e) {
+                try {
+                    if (transaction != null) {
+                        payments.refund(transaction);
+                    }
+                    router.releaseInventory(order.getItems());
+                } catch (RuntimeException compensationFailure) {
+                    e.addSuppressed(compensationFailure);
+                }
+                throw e;
+            }
+            customerRepository.findById(order.getCustomerId()).ifPresent(customer -> {
+                customer.addLoyaltyPoints(OrderPricing.loyaltyPointsFor(order.getTotalAmount()));
+                customerRepository.update(customer);
+            });
+        } finally {
+            processing.remove(order.getOrderId());
+        }
+    }
+
+    private PaymentService.PaymentTransaction chargePayment(Order order, Customer customer) {
+        try {
+            return payments.processPayment(order.getOrderId(), order.getCustomerId(),
+                                           OrderPricing.chargeFor(order, customer),
+                                           order.getPaymentMethod());
+        } catch (RuntimeException e) {
+            throw new IllegalStateException("Payment processing failed: " + e.getMessage(), e);
+        }
+    }
+
+    private Order requireOrder(OrderId orderId) {
+        return orders.findById(orderId)
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    private OrderId nextOrderId() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long mostSignificant = (random.nextLong() & ~0xF000L) | 0x4000L;
+        long leastSignificant = (random.nextLong() & 0x3FFFFFFFFFFF0000L) | 0x8000000000000000L | index;
+        return new OrderId(new UUID(mostSignificant, leastSignificant).toString());
+    }
+
+    int getOrderCount() {
+        return orders.size();
+    }
+
+    int getQueueLength() {
+        return loop.getQueueLength();
+    }
+
+    void shutdown() {
+        loop.shutdown();
+    }
+
+    void awaitTermination() throws InterruptedException {
+        loop.awaitTermination();
+    }
+}
@@ -0,0 +1,85 @@
+package com.orderprocessing.application.partition;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.LockSupport;
+
+final class PartitionEventLoop implements Executor {
+    private static final int SHUTDOWN = 1 << 30;
+
+    private final Queue<Runnable> mailbox = new ConcurrentLinkedQueue<>();
+    private final AtomicInteger state = new AtomicInteger();
+    private final Thread thread;
+    private volatile boolean parked;
+
+    PartitionEventLoop(String name) {
+        this.thread = new Thread(this::run, name);
+        this.thread.setDaemon(true);
+        this.thread.start();
+    }
+
+    @Override
+    public void execute(Runnable task) {
+        if (task == null) {
+            throw new IllegalArgumentException("Task cannot be null");
+        }
+        if ((state.getAndIncrement() & SHUTDOWN) != 0) {
+            state.decrementAndGet();
+            throw new RejectedExecutionException(thread.getName() + " has been shut down");
+        }
+        try {
+            mailbox.offer(task);
+        } finally {
+            state.decrementAndGet();
+        }
+        if (parked) {
+            LockSupport.unpark(thread);
+        }
+    }
+
+    private void run() {
+        while (true) {
+            Runnable task = mailbox.poll();
+            if (task == null) {
+                if (state.get() == SHUTDOWN && mailbox.isEmpty()) {
+                    return;
+                }
+                parked = true;
+                if (mailbox.isEmpty() && state.get() < SHUTDOWN) {
+                    LockSupport.park(this);
+                } else if (mailbox.isEmpty()) {
+                    Thread.onSpinWait();
+                }
+                parked = false;
+                continue;
+            }
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                System.err.println("ERROR in " + thread.getName() + ": " + e.getMessage());
+            }
+        }
+    }
+
+    int getQueueLength() {
+        return mailbox.size();
+    }
+
+    void shutdown() {
+        int current;
+        do {
+            current = state.get();
+            if ((current & SHUTDOWN) != 0) {
+                return;
+            }
+        } while (!state.compareAndSet(current, current | SHUTDOWN));
+        LockSupport.unpark(thread);
+    }
+
+    void awaitTermination() throws InterruptedException {
+        thread.join();
+    }
+}
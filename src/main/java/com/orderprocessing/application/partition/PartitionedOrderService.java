@@ -0,0 +1,155 @@
+package com.orderprocessing.application.partition;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Supplier;
+
+public class PartitionedOrderService implements AutoCloseable {
+    private static final int MAX_PARTITIONS = 1 << 16;
+
+    private final OrderPartition[] partitions;
+
+    public PartitionedOrderService(int partitionCount, CustomerRepository customerRepository) {
+        this(partitionCount, customerRepository, InMemoryOrderRepository::new);
+    }
+
+    PartitionedOrderService(int partitionCount, CustomerRepository customerRepository,
+                            Supplier<InMemoryOrderRepository> orderRepositories) {
+        if (partitionCount <= 0 || partitionCount > MAX_PARTITIONS) {
+            throw new IllegalArgumentException("Partition count must be between 1 and " + MAX_PARTITIONS);
+        }
+        if (customerRepository == null) {
+            throw new IllegalArgumentException("Customer repository cannot be null");
+        }
+        this.partitions = new OrderPartition[partitionCount];
+        for (int i = 0; i < partitionCount; i++) {
+            partitions[i] = new OrderPartition(i, this, customerRepository, orderRepositories.get());
+        }
+    }
+
+    public static PartitionedOrderService perCore(CustomerRepository customerRepository) {
+        return new PartitionedOrderService(Runtime.getRuntime().availableProcessors(), customerRepository);
+    }
+
+    public CompletableFuture<Order> createOrder(CustomerId customerId) {
+        return partitions[partitionOf(customerId)].createOrder(customerId);
+    }
+
+    public CompletableFuture<Void> addItemToOrder(OrderId orderId, String productId, String productName,
+                                                  BigDecimal unitPrice, int quantity) {
+        OrderPartition owner = orderOwnerOf(orderId);
+        if (owner == null) {
+            return CompletableFuture.failedFuture(new OrderNotFoundException(orderId));
+        }
+        return owner.addItemToOrder(orderId, productId, productName, unitPrice, quantity);
+    }
+
+    public CompletableFuture<Void> processOrder(OrderId orderId, String paymentMethod) {
+        OrderPartition owner = orderOwnerOf(orderId);
+        if (owner == null) {
+            return CompletableFuture.failedFuture(new OrderNotFoundException(orderId));
+        }
+        return owner.processOrder(orderId, paymentMethod);
+    }
+
+    public CompletableFuture<Order> getOrder(OrderId orderId) {
+        OrderPartition owner = orderOwnerOf(orderId);
+        if (owner == null) {
+            return CompletableFuture.failedFuture(new OrderNotFoundException(orderId));
+        }
+        return owner.getOrder(orderId);
+    }
+
+    public CompletableFuture<Void> deposit(CustomerId customerId, BigDecimal amount) {
+        return partitions[partitionOf(customerId)].deposit(customerId, amount);
+    }
+
+    public CompletableFuture<BigDecimal> getBalance(CustomerId customerId) {
+        return partitions[partitionOf(customerId)].getBalance(customerId);
+    }
+
+    public CompletableFuture<Void> addStock(String productId, int quantity) {
+        return inventoryOwnerOf(productId).addStock(productId, quantity);
+    }
+
+    public CompletableFuture<Integer> getAvailableQuantity(String productId) {
+        return inventoryOwnerOf(productId).getAvailableQuantity(productId);
+    }
+
+    public int partitionOf(CustomerId customerId) {
+        return indexFor(customerId.getValue().hashCode());
+    }
+
+    public int getPartitionCount() {
+        return partitions.length;
+    }
+
+    public int getOrderCount() {
+        int total = 0;
+        for (OrderPartition partition : partitions) {
+            total += partition.getOrderCount();
+        }
+        return total;
+    }
+
+    public int[] getQueueLengths() {
+        int[] lengths = new int[partitions.length];
+        for (int i = 0; i < partitions.length; i++) {
+            lengths[i] = partitions[i].getQueueLength();
+        }
+        return lengths;
+    }
+
+    OrderPartition inventoryOwnerOf(String productId) {
+        return partitions[indexFor(productId.hashCode())];
+    }
+
+    void releaseInventory(List<OrderItem> items) {
+        Map<OrderPartition, List<OrderItem>> byOwner = new IdentityHashMap<>();
+        for (OrderItem item : items) {
+            byOwner.computeIfAbsent(inventoryOwnerOf(item.getProductId()), owner -> new ArrayList<>()).add(item);
+        }
+        for (Map.Entry<OrderPartition, List<OrderItem>> entry : byOwner.entrySet()) {
+            entry.getKey().releaseStock(entry.getValue());
+        }
+    }
+
+    private OrderPartition orderOwnerOf(OrderId orderId) {
+        UUID uuid;
+        try {
+            uuid = UUID.fromString(orderId.getValue());
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+        int index = (int) (uuid.getLeastSignificantBits() & (MAX_PARTITIONS - 1));
+        return index < partitions.length ? partitions[index] : null;
+    }
+
+    private int indexFor(int hash) {
+        int h = hash * 0x9E3779B1;
+        return Math.floorMod(h ^ (h >>> 16), partitions.length);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        for (OrderPartition partition : partitions) {
+            partition.shutdown();
+        }
+        for (OrderPartition partition : partitions) {
+            partition.awaitTermination();
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.orderprocessing.application.projection;
+
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class CustomerOrderHistoryProjection {
+    private static final int STATUS_COUNT = OrderStatus.values().length;
+    private static final long NO_ORDER = Long.MIN_VALUE;
+
+    private final Map<CustomerId, CustomerCounters> customers = new ConcurrentHashMap<>();
+    private final Map<OrderId, TrackedOrder> trackedOrders = new ConcurrentHashMap<>();
+    private final AtomicLongArray statusCounts = new AtomicLongArray(STATUS_COUNT);
+    private final String currency;
+
+    public CustomerOrderHistoryProjection() {
+        this(Money.ZERO.getCurrency());
+    }
+
+    public CustomerOrderHistoryProjection(String currency) {
+        this.currency = currency;
+    }
+
+    public void apply(Object event) {
+        if (event instanceof OrderCreatedEvent) {
+            onCreated((OrderCreatedEvent) event);
+        } else if (event instanceof OrderProcessedEvent) {
+            OrderProcessedEvent processed = (OrderProcessedEvent) event;
+            TrackedOrder order = trackedOrders.get(processed.getOrderId());
+            if (order != null) {
+                long spend = toMinorUnits(processed.getChargedAmount());
+                order.customer.spendMinorUnits.addAndGet(spend - order.spendMinorUnits);
+                order.spendMinorUnits = spend;
+                transition(order, OrderStatus.PROCESSING);
+            }
+        } else if (event instanceof OrderCompletedEvent) {
+            TrackedOrder order = trackedOrders.remove(((OrderCompletedEvent) event).getOrderId());
+            if (order != null) {
+                transition(order, OrderStatus.COMPLETED);
+            }
+        } else if (event instanceof OrderShippedEvent) {
+            onShipped((OrderShippedEvent) event);
+        } else if (event instanceof OrderCancelledEvent) {
+            TrackedOrder order = trackedOrders.remove(((OrderCancelledEvent) event).getOrderId());
+            if (order != null) {
+                order.customer.spendMinorUnits.addAndGet(-order.spendMinorUnits);
+                order.spendMinorUnits = 0;
+                transition(order, OrderStatus.CANCELLED);
+            }
+        }
+    }
+
+    private void onCreated(OrderCreatedEvent event) {
+        CustomerCounters counters = customers.computeIfAbsent(event.getCustomerId(), id -> new CustomerCounters());
+        if (trackedOrders.putIfAbsent(event.getOrderId(), new TrackedOrder(counters)) != null) {
+            return;
+        }
+        counters.orderCount.incrementAndGet();
+        long createdAt = event.getOccurredAt().toInstant(ZoneOffset.UTC).toEpochMilli();
+        counters.lastOrderAtMillis.accumulateAndGet(createdAt, Math::max);
+        counters.statusCounts.incrementAndGet(OrderStatus.PENDING.ordinal());
+        statusCounts.incrementAndGet(OrderStatus.PENDING.ordinal());
+    }
+
+    // Completed orders can no longer be cancelled, so they are no longer tracked; the shipment finds the
+    // customer through the event instead.
+    private void onShipped(OrderShippedEvent event) {
+        TrackedOrder order = trackedOrders.remove(event.getOrderId());
+        if (order != null) {
+            transition(order, OrderStatus.SHIPPED);
+            return;
+        }
+        CustomerCounters counters = event.getCustomerId() == null ? null : customers.get(event.getCustomerId());
+        if (counters != null && decrementIfPositive(counters.statusCounts, OrderStatus.COMPLETED.ordinal())) {
+            counters.statusCounts.incrementAndGet(OrderStatus.SHIPPED.ordinal());
+            statusCounts.decrementAndGet(OrderStatus.COMPLETED.ordinal());
+            statusCounts.incrementAndGet(OrderStatus.SHIPPED.ordinal());
+        }
+    }
+
+    private void transition(TrackedOrder order, OrderStatus next) {
+        OrderStatus previous = order.status;
+        if (previous == next) {
+            return;
+        }
+        order.status = next;
+        order.customer.statusCounts.decrementAndGet(previous.ordinal());
+        order.customer.statusCounts.incrementAndGet(next.ordinal());
+        statusCounts.decrementAndGet(previous.ordinal());
+        statusCounts.incrementAndGet(next.ordinal());
+    }
+
+    private static boolean decrementIfPositive(AtomicLongArray counts, int index) {
+        long current;
+        do {
+            current = counts.get(index);
+            if (current <= 0) {
+                return false;
+            }
+        } while (!counts.compareAndSet(index, current, current - 1));
+        return true;
+    }
+
+    int getTrackedOrderCount() {
+        return trackedOrders.size();
+    }
+
+    private long toMinorUnits(Money amount) {
+        if (!currency.equals(amount.getCurrency())) {
+            throw new IllegalArgumentException("Projection tracks " + currency + " but got " + amount.getCurrency());
+        }
+        return amount.getAmount().movePointRight(2).longValueExact();
+    }
+
+    public CustomerOrderSummary getCustomerSummary(CustomerId customerId) {
+        CustomerCounters counters = customers.get(customerId);
+        long[] counts = new long[STATUS_COUNT];
+        if (counters == null) {
+            return new CustomerOrderSummary(customerId, 0, new Money(BigDecimal.ZERO, currency), null, counts);
+        }
+        for (int i = 0; i < STATUS_COUNT; i++) {
+            counts[i] = counters.statusCounts.get(i);
+        }
+        long lastOrderAt = counters.lastOrderAtMillis.get();
+        return new CustomerOrderSummary(
+            customerId,
+            counters.orderCount.get(),
+            new Money(BigDecimal.valueOf(counters.spendMinorUnits.get(), 2), currency),
+            lastOrderAt == NO_ORDER ? null : LocalDateTime.ofInstant(Instant.ofEpochMilli(lastOrderAt), ZoneOffset.UTC),
+            counts
+        );
+    }
+
+    public long getOrderCount(CustomerId customerId) {
+        CustomerCounters counters = customers.get(customerId);
+        return counters == null ? 0 : counters.orderCount.get();
+    }
+
+    public long getOrderCount(OrderStatus status) {
+        return statusCounts.get(status.ordinal());
+    }
+
+    private static class CustomerCounters {
+        private final AtomicLong orderCount = new AtomicLong();
+        private final AtomicLong spendMinorUnits = new AtomicLong();
+        private final AtomicLong lastOrderAtMillis = new AtomicLong(NO_ORDER);
+        private final AtomicLongArray statusCounts = new AtomicLongArray(STATUS_COUNT);
+    }
+
+    private static class TrackedOrder {
+        private final CustomerCounters customer;
+        private volatile OrderStatus status = OrderStatus.PENDING;
+        private volatile long spendMinorUnits;
+
+        TrackedOrder(CustomerCounters customer) {
+            this.customer = customer;
+        }
+    }
+}
@@ -0,0 +1,44 @@
+package com.orderprocessing.application.projection;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public class CustomerOrderSummary {
+    private final CustomerId customerId;
+    private final long orderCount;
+    private final Money lifetimeSpend;
+    private final LocalDateTime lastOrderAt;
+    private final long[] statusCounts;
+
+    public CustomerOrderSummary(CustomerId customerId, long orderCount, Money lifetimeSpend,
+                                LocalDateTime lastOrderAt, long[] statusCounts) {
+        this.customerId = customerId;
+        this.orderCount = orderCount;
+        this.lifetimeSpend = lifetimeSpend;
+        this.lastOrderAt = lastOrderAt;
+        this.statusCounts = statusCounts.clone();
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public long getOrderCount() {
+        return orderCount;
+    }
+
+    public Money getLifetimeSpend() {
+        return lifetimeSpend;
+    }
+
+    public LocalDateTime getLastOrderAt() {
+        return lastOrderAt;
+    }
+
+    public long getOrderCount(OrderStatus status) {
+        return statusCounts[status.ordinal()];
+    }
+}
@@ -0,0 +1,34 @@
+package com.orderprocessing.application.scheduling;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerType;
+
+public enum PriorityClass {
+    EXPRESS(8),
+    PREMIUM(4),
+    STANDARD(1);
+
+    private final int weight;
+
+    PriorityClass(int weight) {
+        this.weight = weight;
+    }
+
+    public int getWeight() {
+        return weight;
+    }
+
+    public static PriorityClass classify(Order order, Customer customer) {
+        if (order.isPriorityOrder()) {
+            return EXPRESS;
+        }
+        if (customer != null) {
+            CustomerType type = customer.getCustomerType();
+            if (type == CustomerType.GOLD || type == CustomerType.PLATINUM) {
+                return PREMIUM;
+            }
+        }
+        return STANDARD;
+    }
+}
@@ -0,0 +1,201 @@
+package com.orderprocessing.application.scheduling;
+
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.metrics.LatencyHistogram;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class PriorityOrderScheduler implements AutoCloseable {
+    private static final PriorityClass[] CLASSES = PriorityClass.values();
+    private static final long MAX_AGING_BOOST = 4;
+
+    private final OrderService orderService;
+    private final CustomerRepository customerRepository;
+    private final int queueCapacity;
+    private final long maxQueueDelayNanos;
+    private final Map<PriorityClass, ArrayDeque<Task>> queues = new EnumMap<>(PriorityClass.class);
+    private final Map<PriorityClass, LatencyHistogram> queueDelays = new EnumMap<>(PriorityClass.class);
+    private final long[] currentWeights = new long[CLASSES.length];
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notEmpty = lock.newCondition();
+    private final List<Thread> workers = new ArrayList<>();
+    private int queued;
+    private long agedDispatches;
+    private boolean running = true;
+
+    public PriorityOrderScheduler(OrderService orderService, CustomerRepository customerRepository,
+                                  int workerThreads, int queueCapacity, long maxQueueDelayMillis) {
+        if (orderService == null || customerRepository == null) {
+            throw new IllegalArgumentException("Order service and customer repository cannot be null");
+        }
+        if (workerThreads <= 0 || queueCapacity <= 0 || maxQueueDelayMillis <= 0) {
+            throw new IllegalArgumentException("Workers, capacity and maximum queue delay must be positive");
+        }
+        this.orderService = orderService;
+        this.customerRepository = customerRepository;
+        this.queueCapacity = queueCapacity;
+        this.maxQueueDelayNanos = TimeUnit.MILLISECONDS.toNanos(maxQueueDelayMillis);
+        for (PriorityClass priorityClass : CLASSES) {
+            queues.put(priorityClass, new ArrayDeque<>());
+            queueDelays.put(priorityClass, new LatencyHistogram());
+        }
+        for (int i = 0; i < workerThreads; i++) {
+            Thread worker = new Thread(this::runWorker, "order-scheduler-" + i);
+            worker.setDaemon(true);
+            workers.add(worker);
+            worker.start();
+        }
+    }
+
+    public CompletableFuture<Void> submit(OrderId orderId, String paymentMethod) {
+        Order order = orderService.getOrder(orderId);
+        Customer customer = customerRepository.findById(order.getCustomerId()).orElse(null);
+        return submit(orderId, paymentMethod, PriorityClass.classify(order, customer));
+    }
+
+    public CompletableFuture<Void> submit(OrderId orderId, String paymentMethod, PriorityClass priorityClass) {
+        Task task = new Task(orderId, paymentMethod, priorityClass, System.nanoTime());
+        lock.lock();
+        try {
+            if (!running) {
+                throw new IllegalStateException("Scheduler is shut down");
+            }
+            if (queued >= queueCapacity) {
+                throw new IllegalStateException("Order scheduling queue is full");
+            }
+            queues.get(priorityClass).addLast(task);
+            queued++;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+        return task.result;
+    }
+
+    private void runWorker() {
+        while (true) {
+            Task task;
+            lock.lock();
+            try {
+                while (queued == 0 && running) {
+                    notEmpty.awaitUninterruptibly();
+                }
+                if (queued == 0) {
+                    return;
+                }
+                task = next(System.nanoTime());
+            } finally {
+                lock.unlock();
+            }
+            queueDelays.get(task.priorityClass).record(System.nanoTime() - task.enqueuedNanos);
+            try {
+                orderService.processOrder(task.orderId, task.paymentMethod);
+                task.result.complete(null);
+            } catch (Throwable e) {
+                if (!(e instanceof RuntimeException)) {
+                    System.err.println("ERROR processing scheduled order " + task.orderId + ": " + e);
+                }
+                task.result.completeExceptionally(e);
+            }
+        }
+    }
+
+    private Task next(long now) {
+        long totalWeight = 0;
+        PriorityClass selected = null;
+        boolean selectedAged = false;
+        for (PriorityClass priorityClass : CLASSES) {
+            Task head = queues.get(priorityClass).peekFirst();
+            if (head == null) {
+                continue;
+            }
+            long boost = Math.min(MAX_AGING_BOOST, 1 + (now - head.enqueuedNanos) / maxQueueDelayNanos);
+            long weight = priorityClass.getWeight() * boost;
+            int index = priorityClass.ordinal();
+            currentWeights[index] += weight;
+            totalWeight += weight;
+            if (selected == null || currentWeights[index] > currentWeights[selected.ordinal()]) {
+                selected = priorityClass;
+                selectedAged = boost > 1;
+            }
+        }
+        if (selectedAged) {
+            agedDispatches++;
+        }
+        currentWeights[selected.ordinal()] -= totalWeight;
+        return dequeue(selected);
+    }
+
+    private Task dequeue(PriorityClass priorityClass) {
+        queued--;
+        ArrayDeque<Task> queue = queues.get(priorityClass);
+        Task task = queue.pollFirst();
+        if (queue.isEmpty()) {
+            currentWeights[priorityClass.ordinal()] = 0;
+        }
+        return task;
+    }
+
+    public int getQueueLength(PriorityClass priorityClass) {
+        lock.lock();
+        try {
+            return queues.get(priorityClass).size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getAgedDispatchCount() {
+        lock.lock();
+        try {
+            return agedDispatches;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public LatencyHistogram getQueueDelay(PriorityClass priorityClass) {
+        return queueDelays.get(priorityClass);
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        lock.lock();
+        try {
+            running = false;
+            notEmpty.signalAll();
+        } finally {
+            lock.unlock();
+        }
+        for (Thread worker : workers) {
+            worker.join();
+        }
+    }
+
+    private static class Task {
+        private final OrderId orderId;
+        private final String paymentMethod;
+        private final PriorityClass priorityClass;
+        private final long enqueuedNanos;
+        private final CompletableFuture<Void> result = new CompletableFuture<>();
+
+        Task(OrderId orderId, String paymentMethod, PriorityClass priorityClass, long enqueuedNanos) {
+            this.orderId = orderId;
+            this.paymentMethod = paymentMethod;
+            this.priorityClass = priorityClass;
+            this.enqueuedNanos = enqueuedNanos;
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.application.service.BulkTransitionResult.Rejection;
+import com.orderprocessing.application.service.BulkTransitionResult.RejectionReason;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class BulkTransitionEngine {
+    public static final int DEFAULT_BATCH_SIZE = 1024;
+
+    private final QueryableOrderRepository orderRepository;
+    private final int batchSize;
+
+    public BulkTransitionEngine(QueryableOrderRepository orderRepository) {
+        this(orderRepository, DEFAULT_BATCH_SIZE);
+    }
+
+    public BulkTransitionEngine(QueryableOrderRepository orderRepository, int batchSize) {
+        if (orderRepository == null) {
+            throw new IllegalArgumentException("Order repository cannot be null");
+        }
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        this.orderRepository = orderRepository;
+        this.batchSize = batchSize;
+    }
+
+    public BulkTransitionResult transition(Collection<OrderId> orderIds, OrderStatus target) {
+        requireBulkTarget(target);
+        long startNanos = System.nanoTime();
+        List<Rejection> rejections = new ArrayList<>();
+        Set<OrderId> seen = new HashSet<>(orderIds.size() * 2);
+        List<Order> staged = new ArrayList<>(Math.min(batchSize, orderIds.size()));
+        int applied = 0;
+        for (OrderId orderId : orderIds) {
+            if (!seen.add(orderId)) {
+                rejections.add(new Rejection(orderId, RejectionReason.DUPLICATE, "Order listed more than once"));
+                continue;
+            }
+            Optional<OrderSnapshot> snapshot = orderRepository.findSnapshot(orderId);
+            if (snapshot.isEmpty()) {
+                rejections.add(new Rejection(orderId, RejectionReason.NOT_FOUND, "Order not found"));
+                continue;
+            }
+            stage(snapshot.get(), target, staged, rejections);
+            if (staged.size() == batchSize) {
+                applied += commit(staged, rejections);
+            }
+        }
+        applied += commit(staged, rejections);
+        return new BulkTransitionResult(target, orderIds.size(), applied, rejections, System.nanoTime() - startNanos);
+    }
+
+    public BulkTransitionResult transitionAll(OrderStatus from, OrderStatus target) {
+        requireBulkTarget(target);
+        long startNanos = System.nanoTime();
+        List<OrderSnapshot> candidates = orderRepository.findSnapshotsByStatus(from);
+        List<Rejection> rejections = new ArrayList<>();
+        List<Order> staged = new ArrayList<>(Math.min(batchSize, candidates.size()));
+        int applied = 0;
+        for (OrderSnapshot snapshot : candidates) {
+            stage(snapshot, target, staged, rejections);
+            if (staged.size() == batchSize) {
+                applied += commit(staged, rejections);
+            }
+        }
+        applied += commit(staged, rejections);
+        return new BulkTransitionResult(target, candidates.size(), applied, rejections,
+                                        System.nanoTime() - startNanos);
+    }
+
+    private void stage(OrderSnapshot snapshot, OrderStatus target, List<Order> staged, List<Rejection> rejections) {
+        if (!snapshot.getStatus().canTransitionTo(target)) {
+            rejections.add(new Rejection(snapshot.getOrderId(), RejectionReason.INVALID_TRANSITION,
+                                         "Cannot move from " + snapshot.getStatus() + " to " + target));
+            return;
+        }
+        Order order = Order.fromSnapshot(snapshot);
+        try {
+            if (target == OrderStatus.COMPLETED) {
+                order.complete();
+            } else {
+                order.ship();
+            }
+        } catch (IllegalStateException e) {
+            rejections.add(new Rejection(snapshot.getOrderId(), RejectionReason.INVALID_TRANSITION, e.getMessage()));
+            return;
+        }
+        staged.add(order);
+    }
+
+    private int commit(List<Order> staged, List<Rejection> rejections) {
+        if (staged.isEmpty()) {
+            return 0;
+        }
+        Map<OrderId, RuntimeException> failed = orderRepository.updateAll(staged);
+        for (Map.Entry<OrderId, RuntimeException> entry : failed.entrySet()) {
+            RejectionReason reason = entry.getValue() instanceof OrderVersionConflictException
+                ? RejectionReason.VERSION_CONFLICT : RejectionReason.NOT_FOUND;
+            rejections.add(new Rejection(entry.getKey(), reason, entry.getValue().getMessage()));
+        }
+        int applied = staged.size() - failed.size();
+        staged.clear();
+        return applied;
+    }
+
+    private static void requireBulkTarget(OrderStatus target) {
+        if (target != OrderStatus.COMPLETED && target != OrderStatus.SHIPPED) {
+            throw new IllegalArgumentException("Bulk transitions support COMPLETED and SHIPPED, not " + target +
+                                               "; use OrderService for transitions that move stock or money");
+        }
+    }
+}
@@ -0,0 +1,86 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.util.Collections;
+import java.util.List;
+
+public class BulkTransitionResult {
+    public enum RejectionReason {
+        NOT_FOUND,
+        DUPLICATE,
+        INVALID_TRANSITION,
+        VERSION_CONFLICT
+    }
+
+    private final OrderStatus target;
+    private final int requested;
+    private final int applied;
+    private final List<Rejection> rejections;
+    private final long elapsedNanos;
+
+    public BulkTransitionResult(OrderStatus target, int requested, int applied, List<Rejection> rejections,
+                                long elapsedNanos) {
+        this.target = target;
+        this.requested = requested;
+        this.applied = applied;
+        this.rejections = Collections.unmodifiableList(rejections);
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public OrderStatus getTarget() {
+        return target;
+    }
+
+    public int getRequested() {
+        return requested;
+    }
+
+    public int getApplied() {
+        return applied;
+    }
+
+    public List<Rejection> getRejections() {
+        return rejections;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d of %d orders moved to %s, %d rejected in %.1f ms",
+                             applied, requested, target, rejections.size(), elapsedNanos / 1_000_000.0);
+    }
+
+    public static class Rejection {
+        private final OrderId orderId;
+        private final RejectionReason reason;
+        private final String message;
+
+        public Rejection(OrderId orderId, RejectionReason reason, String message) {
+            this.orderId = orderId;
+            this.reason = reason;
+            this.message = message;
+        }
+
+        public OrderId getOrderId() {
+            return orderId;
+        }
+
+        public RejectionReason getReason() {
+            return reason;
+        }
+
+        public String getMessage() {
+            return message;
+        }
+
+        @Override
+        public String toString() {
+            return orderId + " " + reason + ": " + message;
+        }
+    }
+}
@@ -0,0 +1,15 @@
+package com.orderprocessing.application.service;
+
+public interface InventoryListener {
+    default void onReserveStarted(String productId, int quantity) {
+    }
+
+    default void onReserve(String productId, int quantity, boolean success, boolean contended, long durationNanos) {
+    }
+
+    default void onRelease(String productId, int quantity) {
+    }
+
+    default void onStockSplit(String productId, int stripes) {
+    }
+}
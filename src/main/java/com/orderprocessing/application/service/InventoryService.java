@@ -1,64 +1,113 @@
 package com.orderprocessing.application.service;
 
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 
 public class InventoryService {
-    private final Map<String, Integer> inventory = new ConcurrentHashMap<>();
-    private final Map<String, Integer> reserved = new ConcurrentHashMap<>();
+    private static final int MAX_STRIPES = 64;
+
+    private final Map<String, StripedStock> inventory = new ConcurrentHashMap<>();
+    private final List<InventoryListener> listeners = new CopyOnWriteArrayList<>();
+    private final int stripeCount;
 
     public InventoryService() {
+        this.stripeCount = stripesFor(Runtime.getRuntime().availableProcessors());
         initializeInventory();
     }
 
+    public InventoryService(Map<String, Integer> initialStock) {
+        this.stripeCount = stripesFor(Runtime.getRuntime().availableProcessors());
+        addStock(initialStock);
+    }
+
     private void initializeInventory() {
-        inventory.put("PROD-001", 100);
-        inventory.put("PROD-002", 50);
-        inventory.put("PROD-003", 75);
-        inventory.put("PROD-004", 200);
-        inventory.put("PROD-005", 30);
+        addStock("PROD-001", 100);
+        addStock("PROD-002", 50);
+        addStock("PROD-003", 75);
+        addStock("PROD-004", 200);
+        addStock("PROD-005", 30);
     }
 
-    public boolean checkAvailability(String productId, int quantity) {
-        Integer available = inventory.get(productId);
-        if (available == null) {
-            return false;
+    public void addListener(InventoryListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
         }
-        
-        Integer reservedQty = reserved.getOrDefault(productId, 0);
-        return (available - reservedQty) >= quantity;
+        listeners.add(listener);
     }
 
-    public synchronized boolean reserve(String productId, int quantity) {
-        if (!checkAvailability(productId, quantity)) {
-            return false;
+    public void addStock(String productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
         }
-        
-        Integer currentReserved = reserved.getOrDefault(productId, 0);
-        reserved.put(productId, currentReserved + quantity);
-        
-        Integer currentInventory = inventory.get(productId);
-        inventory.put(productId, currentInventory - quantity);
-        
-        return true;
+        inventory.computeIfAbsent(productId, id -> new StripedStock(stripeCount)).add(quantity);
     }
 
-    public synchronized void release(String productId, int quantity) {
-        Integer currentReserved = reserved.get(productId);
-        if (currentReserved != null && currentReserved >= quantity) {
-            reserved.put(productId, currentReserved - quantity);
-            
-            Integer currentInventory = inventory.get(productId);
-            inventory.put(productId, currentInventory + quantity);
+    public void addStock(Map<String, Integer> quantities) {
+        for (Map.Entry<String, Integer> entry : quantities.entrySet()) {
+            addStock(entry.getKey(), entry.getValue());
         }
     }
 
-    public int getAvailableQuantity(String productId) {
-        Integer available = inventory.get(productId);
-        if (available == null) {
-            return 0;
+    public boolean checkAvailability(String productId, int quantity) {
+        StripedStock stock = inventory.get(productId);
+        return stock != null && stock.available() >= quantity;
+    }
+
+    public boolean reserve(String productId, int quantity) {
+        if (quantity <= 0) {
+            throw new IllegalArgumentException("Quantity must be positive");
+        }
+        long startNanos = 0;
+        if (!listeners.isEmpty()) {
+            for (InventoryListener listener : listeners) {
+                listener.onReserveStarted(productId, quantity);
+            }
+            startNanos = System.nanoTime();
         }
-        Integer reservedQty = reserved.getOrDefault(productId, 0);
-        return available - reservedQty;
+        StripedStock stock = inventory.get(productId);
+        int outcome = stock == null ? 0 : stock.tryAcquire(quantity);
+        boolean success = (outcome & StripedStock.ACQUIRED) != 0;
+        if (!listeners.isEmpty()) {
+            long durationNanos = System.nanoTime() - startNanos;
+            boolean contended = (outcome & StripedStock.CONTENDED) != 0;
+            for (InventoryListener listener : listeners) {
+                listener.onReserve(productId, quantity, success, contended, durationNanos);
+                if ((outcome & StripedStock.SPLIT) != 0) {
+                    listener.onStockSplit(productId, stock.getStripeCount());
+                }
+            }
+        }
+        return success;
+    }
+
+    public void release(String productId, int quantity) {
+        StripedStock stock = inventory.get(productId);
+        if (stock != null && quantity > 0) {
+            stock.release(quantity);
+        }
+        for (InventoryListener listener : listeners) {
+            listener.onRelease(productId, quantity);
+        }
+    }
+
+    public int getAvailableQuantity(String productId) {
+        StripedStock stock = inventory.get(productId);
+        return stock == null ? 0 : (int) Math.min(Integer.MAX_VALUE, stock.available());
+    }
+
+    public int getReservedQuantity(String productId) {
+        StripedStock stock = inventory.get(productId);
+        return stock == null ? 0 : (int) Math.min(Integer.MAX_VALUE, stock.reservedUnits());
+    }
+
+    public boolean isStockSplit(String productId) {
+        StripedStock stock = inventory.get(productId);
+        return stock != null && stock.isSplit();
+    }
+
+    private static int stripesFor(int processors) {
+        return Math.min(MAX_STRIPES, Integer.highestOneBit(Math.max(2, processors * 2 - 1)));
     }
-}
\ No newline at end of file
+}
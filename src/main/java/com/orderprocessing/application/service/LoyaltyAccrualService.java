@@ -0,0 +1,168 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+public class LoyaltyAccrualService implements AutoCloseable {
+    private static final long RETIRED = Long.MIN_VALUE;
+    private static final int MAX_STRIPES = 8;
+    private static final int PADDING = 8;
+
+    private final CustomerRepository customerRepository;
+    private final long flushIntervalMillis;
+    private final Map<CustomerId, AtomicLongArray> pendingPoints = new ConcurrentHashMap<>();
+    private final int stripeCount;
+    private final AtomicLong flushedPoints = new AtomicLong();
+    private final AtomicLong lastFlushMillis = new AtomicLong(System.currentTimeMillis());
+    private final AtomicLong longestFlushMillis = new AtomicLong();
+    private final ScheduledExecutorService scheduler;
+    private volatile boolean closed;
+
+    public LoyaltyAccrualService(CustomerRepository customerRepository, long flushIntervalMillis) {
+        if (flushIntervalMillis <= 0) {
+            throw new IllegalArgumentException("Flush interval must be positive");
+        }
+        this.customerRepository = customerRepository;
+        this.flushIntervalMillis = flushIntervalMillis;
+        this.stripeCount = Math.min(MAX_STRIPES,
+                                    Integer.highestOneBit(Runtime.getRuntime().availableProcessors()));
+        this.scheduler = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "loyalty-accrual-flush");
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.scheduler.scheduleWithFixedDelay(this::flushQuietly, flushIntervalMillis,
+                                              flushIntervalMillis, TimeUnit.MILLISECONDS);
+    }
+
+    public void accrue(CustomerId customerId, int points) {
+        if (points < 0) {
+            throw new IllegalArgumentException("Points cannot be negative");
+        }
+        if (points == 0) {
+            return;
+        }
+        add(customerId, points);
+        if (closed) {
+            flush();
+        }
+    }
+
+    private void add(CustomerId customerId, long points) {
+        int slot = slotOf(stripeIndex());
+        while (true) {
+            AtomicLongArray pending = pendingPoints.get(customerId);
+            if (pending == null) {
+                pending = pendingPoints.computeIfAbsent(customerId, id -> new AtomicLongArray(stripeCount * PADDING));
+            }
+            long current = pending.get(slot);
+            if (current != RETIRED && pending.compareAndSet(slot, current, current + points)) {
+                return;
+            }
+        }
+    }
+
+    public synchronized int flush() {
+        long startedAt = System.currentTimeMillis();
+        int customersUpdated = 0;
+        try {
+            for (CustomerId customerId : pendingPoints.keySet()) {
+                AtomicLongArray pending = pendingPoints.remove(customerId);
+                if (pending == null) {
+                    continue;
+                }
+                long points = 0;
+                for (int i = 0; i < stripeCount; i++) {
+                    points += pending.getAndSet(slotOf(i), RETIRED);
+                }
+                if (points == 0) {
+                    continue;
+                }
+                if (!customerRepository.exists(customerId)) {
+                    continue;
+                }
+                try {
+                    int added = customerRepository.addLoyaltyPoints(customerId, (int) Math.min(points, Integer.MAX_VALUE));
+                    if (added < points) {
+                        add(customerId, points - added);
+                        points = added;
+                    }
+                } catch (RuntimeException e) {
+                    add(customerId, points);
+                    throw e;
+                }
+                flushedPoints.addAndGet(points);
+                customersUpdated++;
+            }
+        } finally {
+            long finishedAt = System.currentTimeMillis();
+            lastFlushMillis.set(finishedAt);
+            longestFlushMillis.accumulateAndGet(finishedAt - startedAt, Math::max);
+        }
+        return customersUpdated;
+    }
+
+    private int stripeIndex() {
+        int h = (int) Thread.currentThread().getId() * 0x9E3779B1;
+        return (h ^ (h >>> 16)) & (stripeCount - 1);
+    }
+
+    private static int slotOf(int stripe) {
+        return stripe * PADDING;
+    }
+
+    private void flushQuietly() {
+        try {
+            flush();
+        } catch (RuntimeException e) {
+            System.err.println("ERROR flushing loyalty points: " + e.getMessage());
+        }
+    }
+
+    public long getPendingPoints(CustomerId customerId) {
+        AtomicLongArray pending = pendingPoints.get(customerId);
+        if (pending == null) {
+            return 0;
+        }
+        long points = 0;
+        for (int i = 0; i < stripeCount; i++) {
+            long stripe = pending.get(slotOf(i));
+            if (stripe != RETIRED) {
+                points += stripe;
+            }
+        }
+        return points;
+    }
+
+    public long getFlushedPoints() {
+        return flushedPoints.get();
+    }
+
+    public long getMaxStalenessMillis() {
+        return flushIntervalMillis + 2 * longestFlushMillis.get();
+    }
+
+    public long getMillisSinceLastFlush() {
+        return System.currentTimeMillis() - lastFlushMillis.get();
+    }
+
+    @Override
+    public void close() {
+        closed = true;
+        scheduler.shutdown();
+        try {
+            scheduler.awaitTermination(flushIntervalMillis * 2, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        flush();
+    }
+}
@@ -0,0 +1,92 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Supplier;
+
+public class OptimisticRetry {
+    public static final int DEFAULT_MAX_ATTEMPTS = 8;
+    public static final long DEFAULT_BACKOFF_NANOS = 20_000;
+
+    private final int maxAttempts;
+    private final long backoffNanos;
+    private final LongAdder conflicts = new LongAdder();
+    private final LongAdder exhausted = new LongAdder();
+
+    public OptimisticRetry() {
+        this(DEFAULT_MAX_ATTEMPTS, DEFAULT_BACKOFF_NANOS);
+    }
+
+    public OptimisticRetry(int maxAttempts, long backoffNanos) {
+        if (maxAttempts <= 0) {
+            throw new IllegalArgumentException("Maximum attempts must be positive");
+        }
+        if (backoffNanos < 0) {
+            throw new IllegalArgumentException("Backoff cannot be negative");
+        }
+        this.maxAttempts = maxAttempts;
+        this.backoffNanos = backoffNanos;
+    }
+
+    public <T> T call(Supplier<T> action) {
+        return call(action, null);
+    }
+
+    public <T> T call(Supplier<T> action, ConflictHandler handler) {
+        for (int attempt = 1; ; attempt++) {
+            long attemptStart = handler == null ? 0 : System.nanoTime();
+            try {
+                return action.get();
+            } catch (OrderVersionConflictException e) {
+                conflicts.increment();
+                if (handler != null) {
+                    handler.onConflict(e, attempt, System.nanoTime() - attemptStart);
+                }
+                if (attempt >= maxAttempts) {
+                    exhausted.increment();
+                    throw e;
+                }
+                backoff(attempt);
+            }
+        }
+    }
+
+    public void run(Runnable action) {
+        run(action, null);
+    }
+
+    public void run(Runnable action, ConflictHandler handler) {
+        call(() -> {
+            action.run();
+            return null;
+        }, handler);
+    }
+
+    private void backoff(int attempt) {
+        if (backoffNanos == 0) {
+            Thread.onSpinWait();
+            return;
+        }
+        long ceiling = backoffNanos << Math.min(attempt - 1, 10);
+        LockSupport.parkNanos(1 + ThreadLocalRandom.current().nextLong(ceiling));
+    }
+
+    public int getMaxAttempts() {
+        return maxAttempts;
+    }
+
+    public long getConflictCount() {
+        return conflicts.sum();
+    }
+
+    public long getExhaustedCount() {
+        return exhausted.sum();
+    }
+
+    public interface ConflictHandler {
+        void onConflict(OrderVersionConflictException conflict, int attempt, long wastedNanos);
+    }
+}
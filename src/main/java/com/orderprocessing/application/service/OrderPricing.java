@@ -0,0 +1,27 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.Money;
+
+/**
+ * Pricing rules shared by {@link OrderService} and the partitioned order service: what a customer is charged for an
+ * order and how many loyalty points the order earns.
+ */
+public final class OrderPricing {
+    private OrderPricing() {
+    }
+
+    public static Money chargeFor(Order order, Customer customer) {
+        Money baseAmount = order.getTotalAmount();
+        double discountRate = customer.getDiscountRate();
+        if (discountRate > 0) {
+            return baseAmount.multiply(1 - discountRate);
+        }
+        return baseAmount;
+    }
+
+    public static int loyaltyPointsFor(Money amount) {
+        return amount.getAmount().intValue() / 10;
+    }
+}
@@ -0,0 +1,29 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+public interface OrderProcessingListener {
+    default void onOrderCreationStarted(int orders) {
+    }
+
+    default void onOrderCreated(Order order, long durationNanos) {
+    }
+
+    default void onVersionConflict(OrderId orderId, int attempt, long wastedNanos) {
+    }
+
+    default void onProcessingStarted(OrderId orderId) {
+    }
+
+    default void onStageStarted(OrderId orderId, ProcessingStage stage) {
+    }
+
+    default void onStageCompleted(OrderId orderId, ProcessingStage stage, long durationNanos, boolean success) {
+    }
+
+    default void onOrderProcessed(OrderId orderId, OrderSnapshot order, String paymentMethod,
+                                  long durationNanos, boolean success) {
+    }
+}
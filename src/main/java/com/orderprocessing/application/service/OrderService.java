@@ -3,39 +3,68 @@ package com.orderprocessing.application.service;
 import com.orderprocessing.domain.entity.Customer;
 import com.orderprocessing.domain.entity.Order;
 import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.CustomerNotFoundException;
 import com.orderprocessing.domain.repository.CustomerRepository;
-import com.orderprocessing.domain.repository.OrderRepository;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
 import com.orderprocessing.domain.valueobject.CustomerId;
 import com.orderprocessing.domain.valueobject.Money;
 import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.concurrent.ConcurrentHashMap;
-import java.util.concurrent.locks.ReentrantLock;
+import java.util.Set;
 
 public class OrderService {
-    private final OrderRepository orderRepository;
+    private final QueryableOrderRepository orderRepository;
     private final CustomerRepository customerRepository;
     private final InventoryService inventoryService;
     private final PaymentService paymentService;
-    private final ConcurrentHashMap<String, ReentrantLock> orderLocks = new ConcurrentHashMap<>();
+    private final LoyaltyAccrualService loyaltyAccrualService;
+    private final OptimisticRetry retry = new OptimisticRetry();
+    private volatile OrderProcessingListener[] listeners = new OrderProcessingListener[0];
 
-    public OrderService(OrderRepository orderRepository, 
+    public OrderService(QueryableOrderRepository orderRepository, 
                        CustomerRepository customerRepository,
                        InventoryService inventoryService,
                        PaymentService paymentService) {
+        this(orderRepository, customerRepository, inventoryService, paymentService, null);
+    }
+
+    public OrderService(QueryableOrderRepository orderRepository, 
+                       CustomerRepository customerRepository,
+                       InventoryService inventoryService,
+                       PaymentService paymentService,
+                       LoyaltyAccrualService loyaltyAccrualService) {
         this.orderRepository = orderRepository;
         this.customerRepository = customerRepository;
         this.inventoryService = inventoryService;
         this.paymentService = paymentService;
+        this.loyaltyAccrualService = loyaltyAccrualService;
+    }
+
+    public synchronized void addListener(OrderProcessingListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        OrderProcessingListener[] next = Arrays.copyOf(listeners, listeners.length + 1);
+        next[listeners.length] = listener;
+        listeners = next;
     }
 
     public Order createOrder(CustomerId customerId) {
+        OrderProcessingListener[] observers = listeners;
+        long startNanos = observers.length == 0 ? 0 : creationStarted(observers, 1);
         Optional<Customer> customer = customerRepository.findById(customerId);
         if (!customer.isPresent()) {
-            throw new IllegalArgumentException("Customer not found: " + customerId);
+            throw new CustomerNotFoundException(customerId);
         }
         
         if (!customer.get().isActive()) {
@@ -44,69 +73,236 @@ public class OrderService {
 
         Order order = new Order(customerId);
         orderRepository.save(order);
+        if (observers.length > 0) {
+            long durationNanos = System.nanoTime() - startNanos;
+            for (OrderProcessingListener listener : observers) {
+                listener.onOrderCreated(order, durationNanos);
+            }
+        }
         return order;
     }
 
-    public void addItemToOrder(OrderId orderId, String productId, String productName, 
-                               BigDecimal unitPrice, int quantity) {
-        Optional<Order> orderOpt = orderRepository.findById(orderId);
-        if (!orderOpt.isPresent()) {
-            throw new IllegalArgumentException("Order not found: " + orderId);
+    public List<Order> createOrders(List<CustomerId> customerIds) {
+        OrderProcessingListener[] observers = listeners;
+        long startNanos = observers.length == 0 ? 0 : creationStarted(observers, customerIds.size());
+        Set<CustomerId> verified = new HashSet<>();
+        List<Order> orders = new ArrayList<>(customerIds.size());
+        for (CustomerId customerId : customerIds) {
+            if (verified.add(customerId)) {
+                Optional<Customer> customer = customerRepository.findById(customerId);
+                if (!customer.isPresent()) {
+                    throw new CustomerNotFoundException(customerId);
+                }
+                if (!customer.get().isActive()) {
+                    throw new IllegalStateException("Customer is not active");
+                }
+            }
+            orders.add(new Order(customerId));
         }
 
-        Order order = orderOpt.get();
-        
-        if (!inventoryService.checkAvailability(productId, quantity)) {
-            throw new IllegalStateException("Insufficient inventory for product: " + productId);
+        orderRepository.saveAll(orders);
+        if (observers.length > 0 && !orders.isEmpty()) {
+            long durationNanos = (System.nanoTime() - startNanos) / orders.size();
+            for (Order order : orders) {
+                for (OrderProcessingListener listener : observers) {
+                    listener.onOrderCreated(order, durationNanos);
+                }
+            }
         }
+        return orders;
+    }
 
+    public void addItemToOrder(OrderId orderId, String productId, String productName, 
+                               BigDecimal unitPrice, int quantity) {
         Money price = new Money(unitPrice, "USD");
-        OrderItem item = new OrderItem(productId, productName, price, quantity);
-        order.addItem(item);
-        
-        orderRepository.update(order);
+        retry.run(() -> {
+            Order order = getOrder(orderId);
+            long version = order.getVersion();
+            
+            if (!inventoryService.checkAvailability(productId, quantity)) {
+                throw new IllegalStateException("Insufficient inventory for product: " + productId);
+            }
+
+            order.addItem(new OrderItem(productId, productName, price, quantity));
+            orderRepository.update(order, version);
+        }, conflictHandler(orderId));
     }
 
     public void processOrder(OrderId orderId, String paymentMethod) {
-        ReentrantLock lock = orderLocks.computeIfAbsent(
-            orderId.getValue(), 
-            k -> new ReentrantLock()
-        );
-        
-        lock.lock();
+        OrderProcessingListener[] observers = listeners;
+        long startNanos = 0;
+        if (observers.length > 0) {
+            for (OrderProcessingListener listener : observers) {
+                listener.onProcessingStarted(orderId);
+            }
+            startNanos = System.nanoTime();
+        }
+        boolean success = false;
+        StageTracker tracker = observers.length == 0 ? StageTracker.UNOBSERVED
+                                                     : new StageTracker(observers, orderId, startNanos);
         try {
-            Optional<Order> orderOpt = orderRepository.findById(orderId);
-            if (!orderOpt.isPresent()) {
-                throw new IllegalArgumentException("Order not found: " + orderId);
+            Order order = retry.call(() -> claim(orderId, paymentMethod, tracker), conflictHandler(orderId));
+            settle(order, tracker);
+            
+            tracker.begin(ProcessingStage.LOYALTY);
+            applyLoyaltyPoints(order);
+            tracker.complete();
+            success = true;
+        } finally {
+            if (!success) {
+                tracker.fail();
+            }
+            long totalNanos = completeStage(observers, orderId, ProcessingStage.TOTAL, startNanos, success) - startNanos;
+            for (OrderProcessingListener listener : observers) {
+                listener.onOrderProcessed(orderId, tracker.committed, paymentMethod, totalNanos, success);
             }
+        }
+    }
 
-            Order order = orderOpt.get();
-            order.setPaymentMethod(paymentMethod);
-            
+    private Order claim(OrderId orderId, String paymentMethod, StageTracker tracker) {
+        tracker.begin(ProcessingStage.ORDER_PROCESS);
+        Order order = getOrder(orderId);
+        long version = order.getVersion();
+        order.setPaymentMethod(paymentMethod);
+        order.beginProcessing();
+        orderRepository.update(order, version);
+        tracker.complete();
+        return order;
+    }
+
+    private void settle(Order order, StageTracker tracker) {
+        boolean reserved = false;
+        PaymentService.PaymentTransaction transaction = null;
+        try {
+            tracker.begin(ProcessingStage.INVENTORY_RESERVATION);
             reserveInventory(order);
+            reserved = true;
+            tracker.complete();
             
-            order.process();
-            
-            processPayment(order);
-            
-            applyLoyaltyPoints(order);
-            
-            orderRepository.update(order);
+            tracker.begin(ProcessingStage.PAYMENT);
+            transaction = processPayment(order);
+            tracker.complete();
             
-        } finally {
-            lock.unlock();
-            orderLocks.remove(orderId.getValue());
+            tracker.begin(ProcessingStage.REPOSITORY_UPDATE);
+            order.confirmProcessing(transaction.getAmount());
+            orderRepository.update(order, order.getVersion());
+            tracker.commit(order);
+        } catch (RuntimeException e) {
+            try {
+                if (transaction != null) {
+                    paymentService.refund(transaction);
+                }
+                if (reserved) {
+                    releaseInventory(order);
+                }
+                abortClaim(order.getOrderId());
+            } catch (RuntimeException compensationFailure) {
+                e.addSuppressed(compensationFailure);
+            }
+            throw e;
         }
     }
 
+    private void abortClaim(OrderId orderId) {
+        retry.run(() -> {
+            Order order = getOrder(orderId);
+            if (order.isPaymentInFlight()) {
+                long version = order.getVersion();
+                order.abortProcessing();
+                orderRepository.update(order, version);
+            }
+        });
+    }
+
+    public void cancelOrder(OrderId orderId) {
+        retry.run(() -> {
+            Order order = getOrder(orderId);
+            long version = order.getVersion();
+            boolean settled = order.getStatus() == OrderStatus.PROCESSING;
+            order.cancel();
+            orderRepository.update(order, version);
+            if (settled) {
+                releaseInventory(order);
+                refundPayment(orderId);
+            }
+        }, conflictHandler(orderId));
+    }
+
+    public boolean cancelPendingOrder(OrderId orderId, long expectedVersion) {
+        Optional<Order> found = orderRepository.findById(orderId);
+        if (found.isEmpty()) {
+            return false;
+        }
+        Order order = found.get();
+        if (order.getStatus() != OrderStatus.PENDING || order.getVersion() != expectedVersion) {
+            return false;
+        }
+        order.cancel();
+        try {
+            orderRepository.update(order, expectedVersion);
+        } catch (OrderVersionConflictException e) {
+            return false;
+        }
+        return true;
+    }
+
+    private void refundPayment(OrderId orderId) {
+        PaymentService.PaymentTransaction transaction = paymentService.getTransaction(orderId);
+        if (transaction != null) {
+            paymentService.refund(transaction);
+        }
+    }
+
+    public long getVersionConflictCount() {
+        return retry.getConflictCount();
+    }
+
+    private OptimisticRetry.ConflictHandler conflictHandler(OrderId orderId) {
+        OrderProcessingListener[] observers = listeners;
+        if (observers.length == 0) {
+            return null;
+        }
+        return (conflict, attempt, wastedNanos) -> {
+            boolean retrying = attempt < retry.getMaxAttempts();
+            for (OrderProcessingListener listener : observers) {
+                listener.onVersionConflict(orderId, attempt, wastedNanos);
+                listener.onStageCompleted(orderId, ProcessingStage.VERSION_CONFLICT, wastedNanos, retrying);
+            }
+        };
+    }
+
+    private static long creationStarted(OrderProcessingListener[] observers, int orders) {
+        for (OrderProcessingListener listener : observers) {
+            listener.onOrderCreationStarted(orders);
+        }
+        return System.nanoTime();
+    }
+
+    private long completeStage(OrderProcessingListener[] observers, OrderId orderId,
+                               ProcessingStage stage, long stageStart, boolean success) {
+        if (observers.length == 0) {
+            return 0;
+        }
+        long now = System.nanoTime();
+        for (OrderProcessingListener listener : observers) {
+            listener.onStageCompleted(orderId, stage, now - stageStart, success);
+        }
+        return now;
+    }
+
     private void reserveInventory(Order order) {
-        for (OrderItem item : order.getItems()) {
+        List<OrderItem> items = order.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
             boolean reserved = inventoryService.reserve(
                 item.getProductId(), 
                 item.getQuantity()
             );
             
             if (!reserved) {
+                for (int j = 0; j < i; j++) {
+                    inventoryService.release(items.get(j).getProductId(), items.get(j).getQuantity());
+                }
                 throw new IllegalStateException(
                     "Failed to reserve inventory for product: " + item.getProductId()
                 );
@@ -114,38 +310,26 @@ public class OrderService {
         }
     }
 
-    private void processPayment(Order order) {
+    private PaymentService.PaymentTransaction processPayment(Order order) {
         Optional<Customer> customer = customerRepository.findById(order.getCustomerId());
         if (customer.isEmpty()) {
             throw new IllegalStateException("Customer not found for payment processing");
         }
         
-        Money finalAmount = calculateFinalAmount(order, customer.get());
+        Money finalAmount = OrderPricing.chargeFor(order, customer.get());
         
         try {
-            paymentService.processPayment(
+            return paymentService.processPayment(
                 order.getOrderId(),
                 order.getCustomerId(),
                 finalAmount,
                 order.getPaymentMethod()
             );
         } catch (RuntimeException e) {
-            releaseInventory(order);
             throw new IllegalStateException("Payment processing failed: " + e.getMessage(), e);
         }
     }
 
-    private Money calculateFinalAmount(Order order, Customer customer) {
-        Money baseAmount = order.getTotalAmount();
-        double discountRate = customer.getDiscountRate();
-        
-        if (discountRate > 0) {
-            return baseAmount.multiply(1 - discountRate);
-        }
-        
-        return baseAmount;
-    }
-
     private void releaseInventory(Order order) {
         for (OrderItem item : order.getItems()) {
             inventoryService.release(item.getProductId(), item.getQuantity());
@@ -153,28 +337,92 @@ public class OrderService {
     }
 
     private void applyLoyaltyPoints(Order order) {
+        if (loyaltyAccrualService != null) {
+            loyaltyAccrualService.accrue(order.getCustomerId(), OrderPricing.loyaltyPointsFor(order.getTotalAmount()));
+            return;
+        }
         Optional<Customer> customer = customerRepository.findById(order.getCustomerId());
         customer.ifPresent(c -> {
-            int points = calculateLoyaltyPoints(order.getTotalAmount());
+            int points = OrderPricing.loyaltyPointsFor(order.getTotalAmount());
             c.addLoyaltyPoints(points);
             customerRepository.update(c);
         });
     }
 
-    private int calculateLoyaltyPoints(Money amount) {
-        return amount.getAmount().intValue() / 10;
-    }
 
     public Order getOrder(OrderId orderId) {
         return orderRepository.findById(orderId)
-            .orElseThrow(() -> new IllegalArgumentException("Order not found: " + orderId));
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
     }
 
     public List<Order> getCustomerOrders(CustomerId customerId) {
         return orderRepository.findByCustomerId(customerId);
     }
 
+    public OrderSnapshot getOrderSnapshot(OrderId orderId) {
+        return orderRepository.findSnapshot(orderId)
+            .orElseThrow(() -> new OrderNotFoundException(orderId));
+    }
+
+    public List<OrderSnapshot> getCustomerOrderSnapshots(CustomerId customerId) {
+        return orderRepository.findSnapshotsByCustomerId(customerId);
+    }
+
     public List<Order> getPendingOrders() {
         return orderRepository.findPendingOrders();
     }
-}
\ No newline at end of file
+
+    private static class StageTracker {
+        // Shared by every unobserved call, so it must never change state.
+        static final StageTracker UNOBSERVED = new StageTracker(new OrderProcessingListener[0], null, 0);
+
+        private final OrderProcessingListener[] observers;
+        private final OrderId orderId;
+        private ProcessingStage stage;
+        private long stageStart;
+        private OrderSnapshot committed;
+
+        StageTracker(OrderProcessingListener[] observers, OrderId orderId, long startNanos) {
+            this.observers = observers;
+            this.orderId = orderId;
+            this.stageStart = startNanos;
+        }
+
+        void begin(ProcessingStage next) {
+            if (observers.length == 0) {
+                return;
+            }
+            stage = next;
+            for (OrderProcessingListener listener : observers) {
+                listener.onStageStarted(orderId, next);
+            }
+            stageStart = System.nanoTime();
+        }
+
+        void complete() {
+            report(true);
+        }
+
+        void commit(Order order) {
+            if (observers.length > 0) {
+                committed = order.toSnapshot(order.getVersion());
+            }
+            report(true);
+        }
+
+        void fail() {
+            report(false);
+        }
+
+        private void report(boolean success) {
+            if (stage == null) {
+                return;
+            }
+            long durationNanos = System.nanoTime() - stageStart;
+            for (OrderProcessingListener listener : observers) {
+                listener.onStageCompleted(orderId, stage, durationNanos, success);
+            }
+            stage = null;
+        }
+    }
+}
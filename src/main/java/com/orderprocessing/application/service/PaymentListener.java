@@ -0,0 +1,17 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+public interface PaymentListener {
+    default void onPaymentStarted(OrderId orderId) {
+    }
+
+    default void onPaymentCompleted(PaymentService.PaymentTransaction transaction, long durationNanos) {
+    }
+
+    default void onPaymentFailed(OrderId orderId, CustomerId customerId, Money amount,
+                                 String paymentMethod, RuntimeException cause, long durationNanos) {
+    }
+}
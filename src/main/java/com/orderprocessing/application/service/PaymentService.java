@@ -5,17 +5,24 @@ import com.orderprocessing.domain.valueobject.Money;
 import com.orderprocessing.domain.valueobject.OrderId;
 
 import java.math.BigDecimal;
+import java.util.List;
 import java.util.Map;
 import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
 import java.util.concurrent.ThreadLocalRandom;
 
 public class PaymentService {
     private final Map<String, BigDecimal> customerBalances = new ConcurrentHashMap<>();
     private final Map<OrderId, PaymentTransaction> transactions = new ConcurrentHashMap<>();
+    private final List<PaymentListener> listeners = new CopyOnWriteArrayList<>();
     
     public PaymentService() {
         initializeTestBalances();
     }
+
+    public PaymentService(Map<CustomerId, BigDecimal> initialBalances) {
+        depositAll(initialBalances);
+    }
     
     private void initializeTestBalances() {
         customerBalances.put("CUST-001", new BigDecimal("1000.00"));
@@ -23,50 +30,99 @@ public class PaymentService {
         customerBalances.put("CUST-003", new BigDecimal("2000.00"));
     }
     
-    public void processPayment(OrderId orderId, CustomerId customerId, 
-                              Money amount, String paymentMethod) {
-        
-        if (transactions.containsKey(orderId)) {
-            throw new IllegalStateException("Payment already processed for order: " + orderId);
+    public void deposit(CustomerId customerId, BigDecimal amount) {
+        if (amount == null || amount.signum() <= 0) {
+            throw new IllegalArgumentException("Deposit amount must be positive");
         }
-        
-        String transactionId = generateTransactionId();
-        
-        switch (paymentMethod) {
-            case "CREDIT_CARD":
-                processCreditCard(customerId, amount);
-                break;
-            case "DEBIT_CARD":
-                processDebitCard(customerId, amount);
-                break;
-            case "PAYPAL":
-                processPayPal(customerId, amount);
-                break;
-            default:
-                throw new IllegalArgumentException("Unsupported payment method: " + paymentMethod);
+        customerBalances.merge(customerId.getValue(), amount, BigDecimal::add);
+    }
+    
+    public void depositAll(Map<CustomerId, BigDecimal> amounts) {
+        for (Map.Entry<CustomerId, BigDecimal> entry : amounts.entrySet()) {
+            customerBalances.merge(entry.getKey().getValue(), entry.getValue(), BigDecimal::add);
         }
-        
-        PaymentTransaction transaction = new PaymentTransaction(
-            transactionId, orderId, customerId, amount, paymentMethod
-        );
-        transactions.put(orderId, transaction);
     }
     
-    private void processCreditCard(CustomerId customerId, Money amount) {
-        BigDecimal balance = customerBalances.getOrDefault(
-            customerId.getValue(), 
-            BigDecimal.ZERO
+    public BigDecimal getBalance(CustomerId customerId) {
+        return customerBalances.getOrDefault(customerId.getValue(), BigDecimal.ZERO);
+    }
+    
+    public void addListener(PaymentListener listener) {
+        if (listener == null) {
+            throw new IllegalArgumentException("Listener cannot be null");
+        }
+        listeners.add(listener);
+    }
+    
+    public PaymentTransaction processPayment(OrderId orderId, CustomerId customerId,
+                                             Money amount, String paymentMethod) {
+        for (PaymentListener listener : listeners) {
+            listener.onPaymentStarted(orderId);
+        }
+        long startNanos = System.nanoTime();
+        PaymentTransaction transaction;
+        try {
+            transaction = executePayment(orderId, customerId, amount, paymentMethod);
+        } catch (RuntimeException e) {
+            long durationNanos = System.nanoTime() - startNanos;
+            for (PaymentListener listener : listeners) {
+                listener.onPaymentFailed(orderId, customerId, amount, paymentMethod, e, durationNanos);
+            }
+            throw e;
+        }
+        long durationNanos = System.nanoTime() - startNanos;
+        for (PaymentListener listener : listeners) {
+            listener.onPaymentCompleted(transaction, durationNanos);
+        }
+        return transaction;
+    }
+    
+    public boolean refund(PaymentTransaction transaction) {
+        if (transaction == null) {
+            throw new IllegalArgumentException("Transaction cannot be null");
+        }
+        if (!transactions.remove(transaction.getOrderId(), transaction)) {
+            return false;
+        }
+        if (!"PAYPAL".equals(transaction.getPaymentMethod())) {
+            customerBalances.merge(transaction.getCustomerId().getValue(),
+                                   transaction.getAmount().getAmount(), BigDecimal::add);
+        }
+        return true;
+    }
+    
+    private PaymentTransaction executePayment(OrderId orderId, CustomerId customerId, 
+                                              Money amount, String paymentMethod) {
+        PaymentTransaction transaction = new PaymentTransaction(
+            generateTransactionId(), orderId, customerId, amount, paymentMethod
         );
-        
-        if (balance.compareTo(amount.getAmount()) < 0) {
-            throw new IllegalStateException("Insufficient funds for customer: " + customerId + 
-                ". Available: " + balance + ", Required: " + amount.getAmount());
+        if (transactions.putIfAbsent(orderId, transaction) != null) {
+            throw new IllegalStateException("Payment already processed for order: " + orderId);
         }
         
-        customerBalances.put(
-            customerId.getValue(), 
-            balance.subtract(amount.getAmount())
-        );
+        try {
+            switch (paymentMethod) {
+                case "CREDIT_CARD":
+                    processCreditCard(customerId, amount);
+                    break;
+                case "DEBIT_CARD":
+                    processDebitCard(customerId, amount);
+                    break;
+                case "PAYPAL":
+                    processPayPal(customerId, amount);
+                    break;
+                default:
+                    throw new IllegalArgumentException("Unsupported payment method: " + paymentMethod);
+            }
+        } catch (RuntimeException e) {
+            transactions.remove(orderId, transaction);
+            throw e;
+        }
+        return transaction;
+    }
+    
+    private void processCreditCard(CustomerId customerId, Money amount) {
+        debit(customerId, amount, "Insufficient funds for customer: ");
         
         if (ThreadLocalRandom.current().nextDouble() <= 0.05) {
             throw new RuntimeException("Credit card payment failed - bank declined transaction");
@@ -74,20 +130,19 @@ public class PaymentService {
     }
     
     private void processDebitCard(CustomerId customerId, Money amount) {
-        BigDecimal balance = customerBalances.getOrDefault(
-            customerId.getValue(), 
-            BigDecimal.ZERO
-        );
-        
-        if (balance.compareTo(amount.getAmount()) < 0) {
-            throw new IllegalStateException("Insufficient funds for debit card payment. Customer: " + customerId + 
-                ". Available: " + balance + ", Required: " + amount.getAmount());
-        }
-        
-        customerBalances.put(
-            customerId.getValue(), 
-            balance.subtract(amount.getAmount())
-        );
+        debit(customerId, amount, "Insufficient funds for debit card payment. Customer: ");
+    }
+    
+    private void debit(CustomerId customerId, Money amount, String insufficientFunds) {
+        BigDecimal required = amount.getAmount();
+        customerBalances.compute(customerId.getValue(), (id, balance) -> {
+            BigDecimal available = balance == null ? BigDecimal.ZERO : balance;
+            if (available.compareTo(required) < 0) {
+                throw new IllegalStateException(insufficientFunds + customerId + 
+                    ". Available: " + available + ", Required: " + required);
+            }
+            return available.subtract(required);
+        });
     }
     
     private void processPayPal(CustomerId customerId, Money amount) {
@@ -0,0 +1,184 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderQueryRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class PendingOrderSweeper implements AutoCloseable {
+    private final OrderService orderService;
+    private final OrderQueryRepository orderRepository;
+    private final ForkJoinPool pool;
+    private final int chunkSize;
+    private final Duration gracePeriod;
+    private final Duration staleAfter;
+    private final String defaultPaymentMethod;
+    private final long idleMillis;
+    private final Thread sweeper;
+    private final LongAdder processed = new LongAdder();
+    private final LongAdder cancelled = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private volatile boolean running = true;
+
+    public PendingOrderSweeper(OrderService orderService, OrderQueryRepository orderRepository,
+                               int parallelism, int chunkSize, Duration gracePeriod, Duration staleAfter,
+                               String defaultPaymentMethod, long idleMillis) {
+        if (orderService == null || orderRepository == null) {
+            throw new IllegalArgumentException("Order service and repository cannot be null");
+        }
+        if (parallelism <= 0 || chunkSize <= 0 || idleMillis <= 0) {
+            throw new IllegalArgumentException("Parallelism, chunk size and idle interval must be positive");
+        }
+        if (gracePeriod.isNegative() || staleAfter.compareTo(gracePeriod) <= 0) {
+            throw new IllegalArgumentException("Stale timeout must be longer than the grace period");
+        }
+        this.orderService = orderService;
+        this.orderRepository = orderRepository;
+        this.pool = new ForkJoinPool(parallelism, SweeperWorker::new, null, false);
+        this.chunkSize = chunkSize;
+        this.gracePeriod = gracePeriod;
+        this.staleAfter = staleAfter;
+        this.defaultPaymentMethod = defaultPaymentMethod;
+        this.idleMillis = idleMillis;
+        this.sweeper = new Thread(this::run, "pending-order-sweeper");
+        this.sweeper.setDaemon(true);
+        this.sweeper.start();
+    }
+
+    private void run() {
+        while (running) {
+            try {
+                sweep();
+            } catch (RuntimeException e) {
+                System.err.println("ERROR sweeping pending orders: " + e.getMessage());
+            }
+            try {
+                TimeUnit.MILLISECONDS.sleep(idleMillis);
+            } catch (InterruptedException e) {
+                return;
+            }
+        }
+    }
+
+    public int sweep() {
+        LocalDateTime now = LocalDateTime.now();
+        LocalDateTime settledBefore = now.minus(gracePeriod);
+        LocalDateTime staleBefore = now.minus(staleAfter);
+        int swept = 0;
+        OrderSnapshot cursor = null;
+        while (running) {
+            List<OrderSnapshot> page = orderRepository.findSnapshotsByStatus(OrderStatus.PENDING, cursor, chunkSize);
+            List<OrderSnapshot> chunk = new ArrayList<>(page.size());
+            for (OrderSnapshot snapshot : page) {
+                if (snapshot.getCreatedAt().isBefore(settledBefore)) {
+                    chunk.add(snapshot);
+                }
+            }
+            if (!chunk.isEmpty()) {
+                swept += pool.invoke(new ChunkTask(groupByCustomer(chunk), staleBefore));
+            }
+            if (page.size() < chunkSize || chunk.size() < page.size()) {
+                break;
+            }
+            cursor = page.get(page.size() - 1);
+        }
+        return swept;
+    }
+
+    private static List<List<OrderSnapshot>> groupByCustomer(List<OrderSnapshot> chunk) {
+        Map<CustomerId, List<OrderSnapshot>> groups = new LinkedHashMap<>();
+        for (OrderSnapshot order : chunk) {
+            groups.computeIfAbsent(order.getCustomerId(), id -> new ArrayList<>()).add(order);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private int sweepCustomer(List<OrderSnapshot> orders, LocalDateTime staleBefore) {
+        int swept = 0;
+        for (OrderSnapshot order : orders) {
+            try {
+                if (order.getCreatedAt().isBefore(staleBefore)) {
+                    if (orderService.cancelPendingOrder(order.getOrderId(), order.getVersion())) {
+                        cancelled.increment();
+                        swept++;
+                    }
+                    continue;
+                }
+                String paymentMethod = order.getPaymentMethod() != null
+                    ? order.getPaymentMethod()
+                    : defaultPaymentMethod;
+                if (paymentMethod == null || order.getItems().isEmpty()) {
+                    continue;
+                }
+                orderService.processOrder(order.getOrderId(), paymentMethod);
+                processed.increment();
+                swept++;
+            } catch (RuntimeException e) {
+                failed.increment();
+            }
+        }
+        return swept;
+    }
+
+    public long getProcessedCount() {
+        return processed.sum();
+    }
+
+    public long getCancelledCount() {
+        return cancelled.sum();
+    }
+
+    public long getFailedCount() {
+        return failed.sum();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        running = false;
+        sweeper.interrupt();
+        sweeper.join();
+        pool.shutdown();
+        pool.awaitTermination(30, TimeUnit.SECONDS);
+    }
+
+    private class ChunkTask extends RecursiveTask<Integer> {
+        private final List<List<OrderSnapshot>> groups;
+        private final LocalDateTime staleBefore;
+
+        ChunkTask(List<List<OrderSnapshot>> groups, LocalDateTime staleBefore) {
+            this.groups = groups;
+            this.staleBefore = staleBefore;
+        }
+
+        @Override
+        protected Integer compute() {
+            if (groups.size() == 1) {
+                return sweepCustomer(groups.get(0), staleBefore);
+            }
+            int middle = groups.size() / 2;
+            ChunkTask left = new ChunkTask(groups.subList(0, middle), staleBefore);
+            ChunkTask right = new ChunkTask(groups.subList(middle, groups.size()), staleBefore);
+            left.fork();
+            return right.compute() + left.join();
+        }
+    }
+
+    private static class SweeperWorker extends ForkJoinWorkerThread {
+        SweeperWorker(ForkJoinPool pool) {
+            super(pool);
+            setName("pending-order-sweeper-" + getPoolIndex());
+        }
+    }
+}
@@ -0,0 +1,11 @@
+package com.orderprocessing.application.service;
+
+public enum ProcessingStage {
+    VERSION_CONFLICT,
+    INVENTORY_RESERVATION,
+    ORDER_PROCESS,
+    PAYMENT,
+    LOYALTY,
+    REPOSITORY_UPDATE,
+    TOTAL
+}
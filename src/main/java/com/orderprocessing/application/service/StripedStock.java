@@ -0,0 +1,223 @@
+package com.orderprocessing.application.service;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+final class StripedStock {
+    static final int ACQUIRED = 1;
+    static final int CONTENDED = 2;
+    static final int SPLIT = 4;
+
+    static final int SPLIT_THRESHOLD = 32;
+    static final long MIN_UNITS_PER_STRIPE = 8;
+
+    private static final int PADDING = 8;
+    private static final long CONTENTION_WINDOW_NANOS = TimeUnit.MILLISECONDS.toNanos(100);
+
+    private final int stripeCount;
+    private final AtomicLong central = new AtomicLong();
+    private final AtomicInteger contention = new AtomicInteger();
+    private final AtomicLong reserved = new AtomicLong();
+    private volatile AtomicLongArray stripes;
+    private volatile boolean split;
+    private volatile long windowStart = System.nanoTime();
+
+    StripedStock(int stripeCount) {
+        if (stripeCount <= 0 || Integer.bitCount(stripeCount) != 1) {
+            throw new IllegalArgumentException("Stripe count must be a positive power of two");
+        }
+        this.stripeCount = stripeCount;
+    }
+
+    void add(long units) {
+        central.addAndGet(units);
+    }
+
+    int tryAcquire(int quantity) {
+        if (split) {
+            AtomicLongArray local = stripes;
+            int slot = slotOf(stripeIndex());
+            if (takeFromStripe(local, slot, quantity) || refill(local, slot, quantity)) {
+                reserved.addAndGet(quantity);
+                return ACQUIRED;
+            }
+            return acquireExact(quantity) | CONTENDED;
+        }
+        boolean contended = false;
+        while (true) {
+            long available = central.get();
+            if (available < quantity) {
+                int outcome = stripes == null ? 0 : acquireExact(quantity);
+                return contended ? outcome | CONTENDED : outcome;
+            }
+            if (central.compareAndSet(available, available - quantity)) {
+                reserved.addAndGet(quantity);
+                if (!contended) {
+                    return ACQUIRED;
+                }
+                return recordContention() ? ACQUIRED | CONTENDED | SPLIT : ACQUIRED | CONTENDED;
+            }
+            contended = true;
+        }
+    }
+
+    boolean release(int quantity) {
+        while (true) {
+            long held = reserved.get();
+            if (held < quantity) {
+                return false;
+            }
+            if (reserved.compareAndSet(held, held - quantity)) {
+                break;
+            }
+        }
+        AtomicLongArray local = stripes;
+        if (split && local != null) {
+            local.getAndAdd(slotOf(stripeIndex()), quantity);
+        } else {
+            central.addAndGet(quantity);
+        }
+        return true;
+    }
+
+    long available() {
+        long total = central.get();
+        AtomicLongArray local = stripes;
+        if (local != null) {
+            for (int i = 0; i < stripeCount; i++) {
+                total += local.get(slotOf(i));
+            }
+        }
+        return total;
+    }
+
+    long reservedUnits() {
+        return reserved.get();
+    }
+
+    boolean isSplit() {
+        return split;
+    }
+
+    int getStripeCount() {
+        return stripeCount;
+    }
+
+    private boolean takeFromStripe(AtomicLongArray local, int slot, int quantity) {
+        while (true) {
+            long available = local.get(slot);
+            if (available < quantity) {
+                return false;
+            }
+            if (local.compareAndSet(slot, available, available - quantity)) {
+                return true;
+            }
+        }
+    }
+
+    private boolean refill(AtomicLongArray local, int slot, int quantity) {
+        while (true) {
+            long pool = central.get();
+            if (pool < quantity) {
+                return false;
+            }
+            long grant = Math.max(quantity, Math.min(pool, pool / (2L * stripeCount)));
+            if (central.compareAndSet(pool, pool - grant)) {
+                if (grant > quantity) {
+                    local.getAndAdd(slot, grant - quantity);
+                }
+                return true;
+            }
+        }
+    }
+
+    private synchronized int acquireExact(int quantity) {
+        drainStripes();
+        boolean acquired = takeFromCentral(quantity);
+        if (!acquired) {
+            drainStripes();
+            acquired = takeFromCentral(quantity);
+        }
+        if (acquired) {
+            reserved.addAndGet(quantity);
+        }
+        if (split) {
+            if (central.get() < stripeCount * MIN_UNITS_PER_STRIPE) {
+                split = false;
+                drainStripes();
+            } else {
+                distribute();
+            }
+        }
+        return acquired ? ACQUIRED : 0;
+    }
+
+    private boolean recordContention() {
+        long now = System.nanoTime();
+        if (now - windowStart > CONTENTION_WINDOW_NANOS) {
+            windowStart = now;
+            contention.set(0);
+        }
+        return contention.incrementAndGet() >= SPLIT_THRESHOLD && trySplit();
+    }
+
+    private synchronized boolean trySplit() {
+        if (split || central.get() < 2L * stripeCount * MIN_UNITS_PER_STRIPE) {
+            return false;
+        }
+        if (stripes == null) {
+            stripes = new AtomicLongArray(stripeCount * PADDING);
+        }
+        split = true;
+        contention.set(0);
+        distribute();
+        return true;
+    }
+
+    private void distribute() {
+        AtomicLongArray local = stripes;
+        long share = central.get() / (2L * stripeCount);
+        if (share == 0) {
+            return;
+        }
+        for (int i = 0; i < stripeCount && takeFromCentral(share); i++) {
+            local.getAndAdd(slotOf(i), share);
+        }
+    }
+
+    private void drainStripes() {
+        AtomicLongArray local = stripes;
+        if (local == null) {
+            return;
+        }
+        for (int i = 0; i < stripeCount; i++) {
+            long units = local.getAndSet(slotOf(i), 0);
+            if (units != 0) {
+                central.addAndGet(units);
+            }
+        }
+    }
+
+    private boolean takeFromCentral(long units) {
+        while (true) {
+            long pool = central.get();
+            if (pool < units) {
+                return false;
+            }
+            if (central.compareAndSet(pool, pool - units)) {
+                return true;
+            }
+        }
+    }
+
+    private int stripeIndex() {
+        int h = (int) Thread.currentThread().getId() * 0x9E3779B1;
+        return (h ^ (h >>> 16)) & (stripeCount - 1);
+    }
+
+    private static int slotOf(int stripe) {
+        return stripe * PADDING;
+    }
+}
@@ -9,8 +9,8 @@ public class Customer {
     private final CustomerId customerId;
     private String email;
     private String name;
-    private CustomerType customerType;
-    private int loyaltyPoints;
+    private volatile CustomerType customerType;
+    private volatile int loyaltyPoints;
     private LocalDateTime registeredAt;
     private boolean isActive;
 
@@ -24,7 +24,24 @@ public class Customer {
         this.isActive = true;
     }
 
-    public void addLoyaltyPoints(int points) {
+    private Customer(CustomerId customerId, String email, String name, int loyaltyPoints,
+                     LocalDateTime registeredAt, boolean isActive) {
+        this.customerId = customerId;
+        this.email = email;
+        this.name = name;
+        this.customerType = CustomerType.REGULAR;
+        this.loyaltyPoints = loyaltyPoints;
+        this.registeredAt = registeredAt;
+        this.isActive = isActive;
+        updateCustomerType();
+    }
+
+    public static Customer restore(CustomerId customerId, String email, String name, int loyaltyPoints,
+                                   LocalDateTime registeredAt, boolean isActive) {
+        return new Customer(customerId, email, name, loyaltyPoints, registeredAt, isActive);
+    }
+
+    public synchronized void addLoyaltyPoints(int points) {
         if (points < 0) {
             throw new IllegalArgumentException("Points cannot be negative");
         }
@@ -32,7 +49,13 @@ public class Customer {
         updateCustomerType();
     }
 
-    public void useLoyaltyPoints(int points) {
+    public synchronized int addLoyaltyPointsUpToLimit(int points) {
+        int added = (int) Math.min(points, Integer.MAX_VALUE - (long) loyaltyPoints);
+        addLoyaltyPoints(added);
+        return added;
+    }
+
+    public synchronized void useLoyaltyPoints(int points) {
         if (points < 0) {
             throw new IllegalArgumentException("Points cannot be negative");
         }
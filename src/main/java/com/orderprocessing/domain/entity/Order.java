@@ -4,8 +4,16 @@ import com.orderprocessing.domain.valueobject.OrderId;
 import com.orderprocessing.domain.valueobject.CustomerId;
 import com.orderprocessing.domain.valueobject.Money;
 import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
 import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderItemAddedEvent;
+import com.orderprocessing.domain.event.OrderItemRemovedEvent;
+import com.orderprocessing.domain.event.OrderPriorityChangedEvent;
 import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.event.OrderProcessingStartedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
@@ -16,7 +24,7 @@ import java.util.UUID;
 public class Order {
     private final OrderId orderId;
     private final CustomerId customerId;
-    private final List<OrderItem> items;
+    private OrderItemList items;
     private OrderStatus status;
     private Money totalAmount;
     private LocalDateTime createdAt;
@@ -24,11 +32,17 @@ public class Order {
     private final List<Object> domainEvents;
     private String paymentMethod;
     private boolean isPriorityOrder;
+    private long version;
+    private int committedEvents;
 
     public Order(CustomerId customerId) {
-        this.orderId = new OrderId(UUID.randomUUID().toString());
+        this(new OrderId(UUID.randomUUID().toString()), customerId);
+    }
+
+    public Order(OrderId orderId, CustomerId customerId) {
+        this.orderId = orderId;
         this.customerId = customerId;
-        this.items = new ArrayList<>();
+        this.items = OrderItemList.empty();
         this.status = OrderStatus.PENDING;
         this.totalAmount = Money.ZERO;
         this.createdAt = LocalDateTime.now();
@@ -38,20 +52,112 @@ public class Order {
         addDomainEvent(new OrderCreatedEvent(orderId, customerId, createdAt));
     }
 
+    private Order(OrderId orderId, CustomerId customerId, LocalDateTime createdAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.items = OrderItemList.empty();
+        this.status = OrderStatus.PENDING;
+        this.totalAmount = Money.ZERO;
+        this.createdAt = createdAt;
+        this.domainEvents = new ArrayList<>();
+        this.isPriorityOrder = false;
+    }
+
+    public static Order fromSnapshot(OrderSnapshot snapshot) {
+        Order order = new Order(snapshot.getOrderId(), snapshot.getCustomerId(), snapshot.getCreatedAt());
+        order.items = OrderItemList.copyOf(snapshot.getItems());
+        order.status = snapshot.getStatus();
+        order.totalAmount = snapshot.getTotalAmount();
+        order.processedAt = snapshot.getProcessedAt();
+        order.paymentMethod = snapshot.getPaymentMethod();
+        order.isPriorityOrder = snapshot.isPriorityOrder();
+        order.version = snapshot.getVersion();
+        return order;
+    }
+
+    public static Order replay(OrderSnapshot snapshot, List<Object> events) {
+        Order order;
+        int start = 0;
+        if (snapshot != null) {
+            order = fromSnapshot(snapshot);
+        } else {
+            if (events.isEmpty() || !(events.get(0) instanceof OrderCreatedEvent)) {
+                throw new IllegalArgumentException("Order history must start with an OrderCreatedEvent");
+            }
+            OrderCreatedEvent created = (OrderCreatedEvent) events.get(0);
+            order = new Order(created.getOrderId(), created.getCustomerId(), created.getOccurredAt());
+            start = 1;
+        }
+        for (int i = start; i < events.size(); i++) {
+            order.apply(events.get(i));
+        }
+        return order;
+    }
+
+    private void apply(Object event) {
+        if (event instanceof OrderItemAddedEvent) {
+            OrderItemAddedEvent added = (OrderItemAddedEvent) event;
+            items = items.append(new OrderItem(added.getProductId(), added.getProductName(),
+                                               added.getUnitPrice(), added.getQuantity()));
+            recalculateTotalAmount();
+        } else if (event instanceof OrderItemRemovedEvent) {
+            String productId = ((OrderItemRemovedEvent) event).getProductId();
+            items = items.withoutProduct(productId);
+            recalculateTotalAmount();
+        } else if (event instanceof OrderProcessingStartedEvent) {
+            OrderProcessingStartedEvent started = (OrderProcessingStartedEvent) event;
+            this.status = OrderStatus.PROCESSING;
+            this.processedAt = null;
+            this.totalAmount = started.getTotalAmount();
+            this.paymentMethod = started.getPaymentMethod();
+        } else if (event instanceof OrderProcessingAbortedEvent) {
+            this.status = OrderStatus.PENDING;
+            this.processedAt = null;
+            recalculateTotalAmount();
+        } else if (event instanceof OrderProcessedEvent) {
+            OrderProcessedEvent processed = (OrderProcessedEvent) event;
+            this.status = OrderStatus.PROCESSING;
+            this.processedAt = processed.getProcessedAt();
+            this.totalAmount = processed.getTotalAmount();
+            this.paymentMethod = processed.getPaymentMethod();
+        } else if (event instanceof OrderPriorityChangedEvent) {
+            this.isPriorityOrder = ((OrderPriorityChangedEvent) event).isPriorityOrder();
+        } else if (event instanceof OrderCompletedEvent) {
+            this.status = OrderStatus.COMPLETED;
+        } else if (event instanceof OrderShippedEvent) {
+            this.status = OrderStatus.SHIPPED;
+        } else if (event instanceof OrderCancelledEvent) {
+            this.status = OrderStatus.CANCELLED;
+        } else {
+            throw new IllegalArgumentException("Unsupported order event: " + event.getClass().getName());
+        }
+    }
+
+    public OrderSnapshot toSnapshot(long version) {
+        return new OrderSnapshot(orderId, customerId, items, status, totalAmount, createdAt,
+                                 processedAt, paymentMethod, isPriorityOrder, version);
+    }
+
     public void addItem(OrderItem item) {
         if (status != OrderStatus.PENDING) {
             throw new IllegalStateException("Cannot add items to a non-pending order");
         }
-        items.add(item);
+        items = items.append(item);
         recalculateTotalAmount();
+        addDomainEvent(new OrderItemAddedEvent(orderId, item.getProductId(), item.getProductName(),
+                                               item.getUnitPrice(), item.getQuantity(), LocalDateTime.now()));
     }
 
     public void removeItem(String productId) {
         if (status != OrderStatus.PENDING) {
             throw new IllegalStateException("Cannot remove items from a non-pending order");
         }
-        items.removeIf(item -> item.getProductId().equals(productId));
-        recalculateTotalAmount();
+        OrderItemList remaining = items.withoutProduct(productId);
+        if (remaining != items) {
+            items = remaining;
+            recalculateTotalAmount();
+            addDomainEvent(new OrderItemRemovedEvent(orderId, productId, LocalDateTime.now()));
+        }
     }
 
     private void recalculateTotalAmount() {
@@ -61,7 +167,7 @@ public class Order {
     }
 
     public void process() {
-        if (status != OrderStatus.PENDING) {
+        if (!status.canTransitionTo(OrderStatus.PROCESSING)) {
             throw new IllegalStateException("Order is not in pending status");
         }
         
@@ -75,7 +181,48 @@ public class Order {
         this.status = OrderStatus.PROCESSING;
         this.processedAt = LocalDateTime.now();
         
-        addDomainEvent(new OrderProcessedEvent(orderId, processedAt, totalAmount));
+        addDomainEvent(new OrderProcessedEvent(orderId, processedAt, totalAmount, paymentMethod, items));
+    }
+
+    public void beginProcessing() {
+        if (!status.canTransitionTo(OrderStatus.PROCESSING)) {
+            throw new IllegalStateException("Order is not in pending status");
+        }
+
+        if (items.isEmpty()) {
+            throw new IllegalStateException("Cannot process an empty order");
+        }
+
+        validatePaymentMethod();
+        applyDiscounts();
+
+        this.status = OrderStatus.PROCESSING;
+        this.processedAt = null;
+
+        addDomainEvent(new OrderProcessingStartedEvent(orderId, totalAmount, paymentMethod, LocalDateTime.now()));
+    }
+
+    public void confirmProcessing(Money chargedAmount) {
+        if (!isPaymentInFlight()) {
+            throw new IllegalStateException("Order has no processing attempt to confirm");
+        }
+        this.processedAt = LocalDateTime.now();
+
+        addDomainEvent(new OrderProcessedEvent(orderId, processedAt, totalAmount, chargedAmount, paymentMethod,
+                                               items));
+    }
+
+    public void abortProcessing() {
+        if (!isPaymentInFlight()) {
+            throw new IllegalStateException("Order has no processing attempt to abort");
+        }
+        this.status = OrderStatus.PENDING;
+        recalculateTotalAmount();
+        addDomainEvent(new OrderProcessingAbortedEvent(orderId, items, LocalDateTime.now()));
+    }
+
+    public boolean isPaymentInFlight() {
+        return status == OrderStatus.PROCESSING && processedAt == null;
     }
 
     private void validatePaymentMethod() {
@@ -101,17 +248,37 @@ public class Order {
     }
 
     public void complete() {
-        if (status != OrderStatus.PROCESSING) {
+        if (!status.canTransitionTo(OrderStatus.COMPLETED)) {
             throw new IllegalStateException("Order must be in processing status to complete");
         }
+        if (isPaymentInFlight()) {
+            throw new IllegalStateException("Cannot complete an order while its payment is in flight");
+        }
         this.status = OrderStatus.COMPLETED;
+        addDomainEvent(new OrderCompletedEvent(orderId, LocalDateTime.now()));
+    }
+
+    public void ship() {
+        if (!status.canTransitionTo(OrderStatus.SHIPPED)) {
+            throw new IllegalStateException("Order must be completed before it can be shipped");
+        }
+        this.status = OrderStatus.SHIPPED;
+        addDomainEvent(new OrderShippedEvent(orderId, customerId, LocalDateTime.now()));
     }
 
     public void cancel() {
         if (status == OrderStatus.COMPLETED || status == OrderStatus.SHIPPED) {
             throw new IllegalStateException("Cannot cancel a completed or shipped order");
         }
+        if (!status.canTransitionTo(OrderStatus.CANCELLED)) {
+            throw new IllegalStateException("Order is already cancelled");
+        }
+        if (isPaymentInFlight()) {
+            throw new IllegalStateException("Cannot cancel an order while its payment is in flight");
+        }
+        OrderStatus previousStatus = status;
         this.status = OrderStatus.CANCELLED;
+        addDomainEvent(new OrderCancelledEvent(orderId, previousStatus, LocalDateTime.now()));
     }
 
     private void addDomainEvent(Object event) {
@@ -122,8 +289,18 @@ public class Order {
         return Collections.unmodifiableList(domainEvents);
     }
 
+    public List<Object> getUncommittedEvents() {
+        return Collections.unmodifiableList(domainEvents.subList(committedEvents, domainEvents.size()));
+    }
+
+    public void markEventsCommitted(long version) {
+        this.version = version;
+        this.committedEvents = domainEvents.size();
+    }
+
     public void clearDomainEvents() {
         domainEvents.clear();
+        committedEvents = 0;
     }
 
     public OrderId getOrderId() {
@@ -135,7 +312,7 @@ public class Order {
     }
 
     public List<OrderItem> getItems() {
-        return Collections.unmodifiableList(items);
+        return items;
     }
 
     public OrderStatus getStatus() {
@@ -163,10 +340,22 @@ public class Order {
     }
 
     public void setPriorityOrder(boolean isPriorityOrder) {
+        if (this.isPriorityOrder == isPriorityOrder) {
+            return;
+        }
         this.isPriorityOrder = isPriorityOrder;
+        addDomainEvent(new OrderPriorityChangedEvent(orderId, isPriorityOrder, LocalDateTime.now()));
     }
 
     public boolean isPriorityOrder() {
         return isPriorityOrder;
     }
+
+    public long getVersion() {
+        return version;
+    }
+
+    public void setVersion(long version) {
+        this.version = version;
+    }
 }
\ No newline at end of file
@@ -8,8 +8,8 @@ public class OrderItem {
     private final String productId;
     private final String productName;
     private final Money unitPrice;
-    private int quantity;
-    private Money subtotal;
+    private final int quantity;
+    private final Money subtotal;
 
     public OrderItem(String productId, String productName, Money unitPrice, int quantity) {
         if (quantity <= 0) {
@@ -20,20 +20,12 @@ public class OrderItem {
         this.productName = productName;
         this.unitPrice = unitPrice;
         this.quantity = quantity;
-        calculateSubtotal();
+        this.subtotal = new Money(unitPrice.getAmount().multiply(BigDecimal.valueOf(quantity)),
+                                  unitPrice.getCurrency());
     }
 
-    private void calculateSubtotal() {
-        BigDecimal qty = BigDecimal.valueOf(quantity);
-        this.subtotal = new Money(unitPrice.getAmount().multiply(qty), unitPrice.getCurrency());
-    }
-
-    public void updateQuantity(int newQuantity) {
-        if (newQuantity <= 0) {
-            throw new IllegalArgumentException("Quantity must be positive");
-        }
-        this.quantity = newQuantity;
-        calculateSubtotal();
+    public OrderItem withQuantity(int newQuantity) {
+        return new OrderItem(productId, productName, unitPrice, newQuantity);
     }
 
     public String getProductId() {
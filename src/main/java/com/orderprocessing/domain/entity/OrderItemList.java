@@ -0,0 +1,98 @@
+package com.orderprocessing.domain.entity;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Objects;
+import java.util.RandomAccess;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public final class OrderItemList extends AbstractList<OrderItem> implements RandomAccess {
+    private static final OrderItemList EMPTY = new OrderItemList(new Store(new OrderItem[0], 0), 0);
+    private static final int MIN_CAPACITY = 4;
+
+    private final Store store;
+    private final int size;
+
+    private OrderItemList(Store store, int size) {
+        this.store = store;
+        this.size = size;
+    }
+
+    public static OrderItemList empty() {
+        return EMPTY;
+    }
+
+    public static OrderItemList copyOf(Collection<OrderItem> items) {
+        if (items instanceof OrderItemList) {
+            return (OrderItemList) items;
+        }
+        if (items.isEmpty()) {
+            return EMPTY;
+        }
+        OrderItem[] copy = items.toArray(new OrderItem[0]);
+        for (OrderItem item : copy) {
+            Objects.requireNonNull(item, "Order item cannot be null");
+        }
+        return new OrderItemList(new Store(copy, copy.length), copy.length);
+    }
+
+    public OrderItemList append(OrderItem item) {
+        Objects.requireNonNull(item, "Order item cannot be null");
+        OrderItem[] items = store.items;
+        if (size < items.length && store.claimed.compareAndSet(size, size + 1)) {
+            items[size] = item;
+            return new OrderItemList(store, size + 1);
+        }
+        OrderItem[] grown = new OrderItem[Math.max(MIN_CAPACITY, size + (size >> 1) + 1)];
+        System.arraycopy(items, 0, grown, 0, size);
+        grown[size] = item;
+        return new OrderItemList(new Store(grown, size + 1), size + 1);
+    }
+
+    public OrderItemList withoutProduct(String productId) {
+        int first = -1;
+        for (int i = 0; i < size; i++) {
+            if (store.items[i].getProductId().equals(productId)) {
+                first = i;
+                break;
+            }
+        }
+        if (first < 0) {
+            return this;
+        }
+        OrderItem[] remaining = Arrays.copyOf(store.items, size);
+        int kept = first;
+        for (int i = first + 1; i < size; i++) {
+            if (!remaining[i].getProductId().equals(productId)) {
+                remaining[kept++] = remaining[i];
+            }
+        }
+        if (kept == 0) {
+            return EMPTY;
+        }
+        Arrays.fill(remaining, kept, size, null);
+        return new OrderItemList(new Store(remaining, kept), kept);
+    }
+
+    @Override
+    public OrderItem get(int index) {
+        Objects.checkIndex(index, size);
+        return store.items[index];
+    }
+
+    @Override
+    public int size() {
+        return size;
+    }
+
+    private static final class Store {
+        private final OrderItem[] items;
+        private final AtomicInteger claimed;
+
+        Store(OrderItem[] items, int claimed) {
+            this.items = items;
+            this.claimed = new AtomicInteger(claimed);
+        }
+    }
+}
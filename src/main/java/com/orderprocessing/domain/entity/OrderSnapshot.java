@@ -0,0 +1,78 @@
+package com.orderprocessing.domain.entity;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public final class OrderSnapshot {
+    private final OrderId orderId;
+    private final CustomerId customerId;
+    private final List<OrderItem> items;
+    private final OrderStatus status;
+    private final Money totalAmount;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime processedAt;
+    private final String paymentMethod;
+    private final boolean priorityOrder;
+    private final long version;
+
+    public OrderSnapshot(OrderId orderId, CustomerId customerId, List<OrderItem> items,
+                         OrderStatus status, Money totalAmount, LocalDateTime createdAt,
+                         LocalDateTime processedAt, String paymentMethod,
+                         boolean priorityOrder, long version) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.items = OrderItemList.copyOf(items);
+        this.status = status;
+        this.totalAmount = totalAmount;
+        this.createdAt = createdAt;
+        this.processedAt = processedAt;
+        this.paymentMethod = paymentMethod;
+        this.priorityOrder = priorityOrder;
+        this.version = version;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+
+    public OrderStatus getStatus() {
+        return status;
+    }
+
+    public Money getTotalAmount() {
+        return totalAmount;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    public LocalDateTime getProcessedAt() {
+        return processedAt;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public boolean isPriorityOrder() {
+        return priorityOrder;
+    }
+
+    public long getVersion() {
+        return version;
+    }
+}
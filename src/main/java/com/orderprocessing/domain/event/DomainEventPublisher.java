@@ -0,0 +1,7 @@
+package com.orderprocessing.domain.event;
+
+import java.util.List;
+
+public interface DomainEventPublisher {
+    void publish(List<Object> events);
+}
@@ -0,0 +1,30 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+
+public class OrderCancelledEvent {
+    private final OrderId orderId;
+    private final OrderStatus previousStatus;
+    private final LocalDateTime occurredAt;
+
+    public OrderCancelledEvent(OrderId orderId, OrderStatus previousStatus, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.previousStatus = previousStatus;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public OrderStatus getPreviousStatus() {
+        return previousStatus;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,23 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderCompletedEvent {
+    private final OrderId orderId;
+    private final LocalDateTime occurredAt;
+
+    public OrderCompletedEvent(OrderId orderId, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,49 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderItemAddedEvent {
+    private final OrderId orderId;
+    private final String productId;
+    private final String productName;
+    private final Money unitPrice;
+    private final int quantity;
+    private final LocalDateTime occurredAt;
+
+    public OrderItemAddedEvent(OrderId orderId, String productId, String productName,
+                               Money unitPrice, int quantity, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.productName = productName;
+        this.unitPrice = unitPrice;
+        this.quantity = quantity;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public String getProductName() {
+        return productName;
+    }
+
+    public Money getUnitPrice() {
+        return unitPrice;
+    }
+
+    public int getQuantity() {
+        return quantity;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
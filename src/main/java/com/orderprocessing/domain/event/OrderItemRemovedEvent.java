@@ -0,0 +1,29 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderItemRemovedEvent {
+    private final OrderId orderId;
+    private final String productId;
+    private final LocalDateTime occurredAt;
+
+    public OrderItemRemovedEvent(OrderId orderId, String productId, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.productId = productId;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public String getProductId() {
+        return productId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,29 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderPriorityChangedEvent {
+    private final OrderId orderId;
+    private final boolean priorityOrder;
+    private final LocalDateTime occurredAt;
+
+    public OrderPriorityChangedEvent(OrderId orderId, boolean priorityOrder, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.priorityOrder = priorityOrder;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public boolean isPriorityOrder() {
+        return priorityOrder;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -1,19 +1,39 @@
 package com.orderprocessing.domain.event;
 
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderItemList;
 import com.orderprocessing.domain.valueobject.OrderId;
 import com.orderprocessing.domain.valueobject.Money;
 
 import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
 
 public class OrderProcessedEvent {
     private final OrderId orderId;
     private final LocalDateTime processedAt;
     private final Money totalAmount;
+    private final Money chargedAmount;
+    private final String paymentMethod;
+    private final List<OrderItem> items;
 
     public OrderProcessedEvent(OrderId orderId, LocalDateTime processedAt, Money totalAmount) {
+        this(orderId, processedAt, totalAmount, null, Collections.emptyList());
+    }
+
+    public OrderProcessedEvent(OrderId orderId, LocalDateTime processedAt, Money totalAmount,
+                               String paymentMethod, List<OrderItem> items) {
+        this(orderId, processedAt, totalAmount, totalAmount, paymentMethod, items);
+    }
+
+    public OrderProcessedEvent(OrderId orderId, LocalDateTime processedAt, Money totalAmount, Money chargedAmount,
+                               String paymentMethod, List<OrderItem> items) {
         this.orderId = orderId;
         this.processedAt = processedAt;
         this.totalAmount = totalAmount;
+        this.chargedAmount = chargedAmount;
+        this.paymentMethod = paymentMethod;
+        this.items = OrderItemList.copyOf(items);
     }
 
     public OrderId getOrderId() {
@@ -27,4 +47,20 @@ public class OrderProcessedEvent {
     public Money getTotalAmount() {
         return totalAmount;
     }
-}
\ No newline at end of file
+
+    /**
+     * The amount the payment actually took, after customer discounts. Events recorded before this was tracked
+     * report the order total.
+     */
+    public Money getChargedAmount() {
+        return chargedAmount;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+}
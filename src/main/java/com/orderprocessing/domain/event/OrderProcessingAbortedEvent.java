@@ -0,0 +1,32 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderItemList;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+public class OrderProcessingAbortedEvent {
+    private final OrderId orderId;
+    private final List<OrderItem> items;
+    private final LocalDateTime occurredAt;
+
+    public OrderProcessingAbortedEvent(OrderId orderId, List<OrderItem> items, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.items = OrderItemList.copyOf(items);
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public List<OrderItem> getItems() {
+        return items;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderProcessingStartedEvent {
+    private final OrderId orderId;
+    private final Money totalAmount;
+    private final String paymentMethod;
+    private final LocalDateTime occurredAt;
+
+    public OrderProcessingStartedEvent(OrderId orderId, Money totalAmount, String paymentMethod,
+                                       LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.totalAmount = totalAmount;
+        this.paymentMethod = paymentMethod;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public Money getTotalAmount() {
+        return totalAmount;
+    }
+
+    public String getPaymentMethod() {
+        return paymentMethod;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
@@ -0,0 +1,37 @@
+package com.orderprocessing.domain.event;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.time.LocalDateTime;
+
+public class OrderShippedEvent {
+    private final OrderId orderId;
+    private final CustomerId customerId;
+    private final LocalDateTime occurredAt;
+
+    public OrderShippedEvent(OrderId orderId, LocalDateTime occurredAt) {
+        this(orderId, null, occurredAt);
+    }
+
+    public OrderShippedEvent(OrderId orderId, CustomerId customerId, LocalDateTime occurredAt) {
+        this.orderId = orderId;
+        this.customerId = customerId;
+        this.occurredAt = occurredAt;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    /**
+     * The owning customer, or {@code null} for events recorded before it was carried.
+     */
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+}
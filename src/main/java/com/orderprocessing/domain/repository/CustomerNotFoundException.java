@@ -0,0 +1,16 @@
+package com.orderprocessing.domain.repository;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+
+public class CustomerNotFoundException extends IllegalArgumentException {
+    private final CustomerId customerId;
+
+    public CustomerNotFoundException(CustomerId customerId) {
+        super("Customer not found: " + customerId);
+        this.customerId = customerId;
+    }
+
+    public CustomerId getCustomerId() {
+        return customerId;
+    }
+}
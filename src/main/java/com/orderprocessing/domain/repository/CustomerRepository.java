@@ -3,6 +3,7 @@ package com.orderprocessing.domain.repository;
 import com.orderprocessing.domain.entity.Customer;
 import com.orderprocessing.domain.valueobject.CustomerId;
 
+import java.util.Collection;
 import java.util.Optional;
 
 public interface CustomerRepository {
@@ -11,4 +12,18 @@ public interface CustomerRepository {
     Optional<Customer> findByEmail(String email);
     void update(Customer customer);
     boolean exists(CustomerId customerId);
+
+    /**
+     * Adds points to the stored customer in one step, so a redemption or any other update that lands meanwhile is
+     * kept. The balance stops at {@link Integer#MAX_VALUE}; returns the points actually added.
+     *
+     * @throws IllegalStateException if the customer does not exist
+     */
+    int addLoyaltyPoints(CustomerId customerId, int points);
+
+    default void saveAll(Collection<Customer> customers) {
+        for (Customer customer : customers) {
+            save(customer);
+        }
+    }
 }
\ No newline at end of file
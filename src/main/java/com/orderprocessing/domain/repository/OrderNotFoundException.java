@@ -0,0 +1,16 @@
+package com.orderprocessing.domain.repository;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+
+public class OrderNotFoundException extends IllegalArgumentException {
+    private final OrderId orderId;
+
+    public OrderNotFoundException(OrderId orderId) {
+        super("Order not found: " + orderId);
+        this.orderId = orderId;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+}
@@ -0,0 +1,103 @@
+package com.orderprocessing.domain.repository;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Read side of an order store: immutable {@link OrderSnapshot}s by id, customer, status and time range. Only the first
+ * three lookups are required; the rest default to filtering {@link #findAllSnapshots()} and are overridden by stores
+ * that keep indexes.
+ */
+public interface OrderQueryRepository {
+    Optional<OrderSnapshot> findSnapshot(OrderId orderId);
+    List<OrderSnapshot> findSnapshotsByCustomerId(CustomerId customerId);
+    List<OrderSnapshot> findAllSnapshots();
+
+    /**
+     * Opens a point-in-time view of every order. The default copies {@link #findAllSnapshots()}, which is only as
+     * consistent as that scan; repositories that can isolate a cut from concurrent writes override it.
+     */
+    default OrderSnapshotCut openSnapshotCut() {
+        return OrderSnapshotCut.of(findAllSnapshots());
+    }
+
+    default List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : findAllSnapshots()) {
+            if (snapshot.getStatus() == status) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+
+    default List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status, OrderSnapshot after, int limit) {
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        Comparator<OrderSnapshot> byCreation = Comparator.comparing(OrderSnapshot::getCreatedAt)
+            .thenComparing(snapshot -> snapshot.getOrderId().getValue());
+        List<OrderSnapshot> matching = findSnapshotsByStatus(status);
+        matching.sort(byCreation);
+        List<OrderSnapshot> page = new ArrayList<>(Math.min(limit, matching.size()));
+        for (OrderSnapshot snapshot : matching) {
+            if (page.size() == limit) {
+                break;
+            }
+            if (after == null || byCreation.compare(snapshot, after) > 0) {
+                page.add(snapshot);
+            }
+        }
+        return page;
+    }
+
+    default List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to) {
+        return findSnapshotsCreatedBetween(from, to, EnumSet.allOf(OrderStatus.class));
+    }
+
+    default List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                            Set<OrderStatus> statuses) {
+        return scanBetween(findAllSnapshots(), from, to, statuses, OrderSnapshot::getCreatedAt);
+    }
+
+    default List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to) {
+        return findSnapshotsProcessedBetween(from, to, EnumSet.allOf(OrderStatus.class));
+    }
+
+    default List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to,
+                                                              Set<OrderStatus> statuses) {
+        return scanBetween(findAllSnapshots(), from, to, statuses, OrderSnapshot::getProcessedAt);
+    }
+
+    private static List<OrderSnapshot> scanBetween(List<OrderSnapshot> snapshots, LocalDateTime from,
+                                                   LocalDateTime to, Set<OrderStatus> statuses,
+                                                   Function<OrderSnapshot, LocalDateTime> timestamp) {
+        if (from == null || to == null || statuses == null) {
+            throw new IllegalArgumentException("Range bounds and statuses cannot be null");
+        }
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : snapshots) {
+            LocalDateTime time = timestamp.apply(snapshot);
+            if (time != null && !time.isBefore(from) && time.isBefore(to) &&
+                    statuses.contains(snapshot.getStatus())) {
+                result.add(snapshot);
+            }
+        }
+        result.sort(Comparator.comparing(timestamp).thenComparing(snapshot -> snapshot.getOrderId().getValue()));
+        return result;
+    }
+}
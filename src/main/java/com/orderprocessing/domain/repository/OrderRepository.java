@@ -4,15 +4,47 @@ import com.orderprocessing.domain.entity.Order;
 import com.orderprocessing.domain.valueobject.OrderId;
 import com.orderprocessing.domain.valueobject.CustomerId;
 
+import java.util.Collection;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
+/**
+ * Write contract for orders. Snapshot reads are in {@link OrderQueryRepository}; components that need both take a
+ * {@link QueryableOrderRepository}.
+ */
 public interface OrderRepository {
+    /**
+     * Stores a new order. Implementations differ on an id that is already stored: the in-memory repository replaces
+     * the order, the event-sourced one rejects it with an {@link IllegalStateException}. Use {@link #update} to change
+     * a stored order.
+     */
     void save(Order order);
     Optional<Order> findById(OrderId orderId);
     List<Order> findByCustomerId(CustomerId customerId);
     List<Order> findPendingOrders();
+    List<Order> findAll();
     void update(Order order);
+    void update(Order order, long expectedVersion);
     void delete(OrderId orderId);
     boolean exists(OrderId orderId);
-}
\ No newline at end of file
+
+    default void saveAll(Collection<Order> orders) {
+        for (Order order : orders) {
+            save(order);
+        }
+    }
+
+    default Map<OrderId, RuntimeException> updateAll(List<Order> orders) {
+        Map<OrderId, RuntimeException> rejected = new LinkedHashMap<>();
+        for (Order order : orders) {
+            try {
+                update(order, order.getVersion());
+            } catch (IllegalStateException e) {
+                rejected.put(order.getOrderId(), e);
+            }
+        }
+        return rejected;
+    }
+}
@@ -0,0 +1,45 @@
+package com.orderprocessing.domain.repository;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Point-in-time view of every order in a repository: writes that commit after the cut was opened are not visible
+ * through it. The repository keeps the pre-cut versions of the orders rewritten meanwhile, so close it promptly.
+ */
+public interface OrderSnapshotCut extends AutoCloseable {
+
+    /**
+     * Splits the cut into at most {@code count} disjoint partitions that together cover it. Each iterator is meant
+     * for a single thread, and different partitions can be drained concurrently.
+     */
+    List<Iterator<OrderSnapshot>> partitions(int count);
+
+    @Override
+    void close();
+
+    static OrderSnapshotCut of(List<OrderSnapshot> snapshots) {
+        return new OrderSnapshotCut() {
+            @Override
+            public List<Iterator<OrderSnapshot>> partitions(int count) {
+                if (count <= 0) {
+                    throw new IllegalArgumentException("Partition count must be positive");
+                }
+                int partitions = Math.max(1, Math.min(count, snapshots.size()));
+                List<Iterator<OrderSnapshot>> result = new ArrayList<>(partitions);
+                for (int partition = 0; partition < partitions; partition++) {
+                    result.add(snapshots.subList(snapshots.size() * partition / partitions,
+                                                 snapshots.size() * (partition + 1) / partitions).iterator());
+                }
+                return result;
+            }
+
+            @Override
+            public void close() {
+            }
+        };
+    }
+}
@@ -0,0 +1,29 @@
+package com.orderprocessing.domain.repository;
+
+import com.orderprocessing.domain.valueobject.OrderId;
+
+public class OrderVersionConflictException extends IllegalStateException {
+    private final OrderId orderId;
+    private final long expectedVersion;
+    private final long actualVersion;
+
+    public OrderVersionConflictException(OrderId orderId, long expectedVersion, long actualVersion) {
+        super("Order " + orderId + " was modified concurrently: expected version " + expectedVersion +
+              " but found " + actualVersion);
+        this.orderId = orderId;
+        this.expectedVersion = expectedVersion;
+        this.actualVersion = actualVersion;
+    }
+
+    public OrderId getOrderId() {
+        return orderId;
+    }
+
+    public long getExpectedVersion() {
+        return expectedVersion;
+    }
+
+    public long getActualVersion() {
+        return actualVersion;
+    }
+}
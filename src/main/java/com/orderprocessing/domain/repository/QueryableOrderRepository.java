@@ -0,0 +1,8 @@
+package com.orderprocessing.domain.repository;
+
+/**
+ * An order store that serves both the {@link OrderRepository} writes and the {@link OrderQueryRepository} snapshot
+ * reads, for services such as {@code OrderService} that update orders and read them back as snapshots.
+ */
+public interface QueryableOrderRepository extends OrderRepository, OrderQueryRepository {
+}
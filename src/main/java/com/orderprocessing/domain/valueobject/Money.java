@@ -1,14 +1,17 @@
 package com.orderprocessing.domain.valueobject;
 
 import java.math.BigDecimal;
+import java.math.BigInteger;
 import java.math.RoundingMode;
 import java.util.Objects;
 
 public class Money {
     public static final Money ZERO = new Money(BigDecimal.ZERO, "USD");
+    private static final long MINOR_UNITS_OVERFLOW = Long.MIN_VALUE;
     
     private final BigDecimal amount;
     private final String currency;
+    private final long minorUnits;
 
     public Money(BigDecimal amount, String currency) {
         if (amount == null) {
@@ -19,6 +22,8 @@ public class Money {
         }
         this.amount = amount.setScale(2, RoundingMode.HALF_UP);
         this.currency = currency.toUpperCase();
+        BigInteger unscaled = this.amount.unscaledValue();
+        this.minorUnits = unscaled.bitLength() < Long.SIZE ? unscaled.longValue() : MINOR_UNITS_OVERFLOW;
     }
 
     public Money add(Money other) {
@@ -60,6 +65,13 @@ public class Money {
         return amount;
     }
 
+    public long getMinorUnits() {
+        if (minorUnits == MINOR_UNITS_OVERFLOW) {
+            return amount.unscaledValue().longValueExact();
+        }
+        return minorUnits;
+    }
+
     public String getCurrency() {
         return currency;
     }
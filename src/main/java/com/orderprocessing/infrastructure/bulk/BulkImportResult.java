@@ -0,0 +1,41 @@
+package com.orderprocessing.infrastructure.bulk;
+
+public class BulkImportResult {
+    private final long records;
+    private final int chunks;
+    private final long bytes;
+    private final long elapsedNanos;
+
+    public BulkImportResult(long records, int chunks, long bytes, long elapsedNanos) {
+        this.records = records;
+        this.chunks = chunks;
+        this.bytes = bytes;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getRecords() {
+        return records;
+    }
+
+    public int getChunks() {
+        return chunks;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    public double getRecordsPerSecond() {
+        return elapsedNanos == 0 ? 0.0 : records * 1e9 / elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d records from %d bytes in %d chunks, %.0f records/s",
+                             records, bytes, chunks, getRecordsPerSecond());
+    }
+}
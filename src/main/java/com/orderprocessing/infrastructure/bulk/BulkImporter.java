@@ -0,0 +1,214 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.repository.OrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+
+public class BulkImporter {
+    private static final String[] PAYMENT_METHODS = {"CREDIT_CARD", "DEBIT_CARD", "PAYPAL"};
+    private static final String CURRENCY = "USD";
+    private static final OrderStatus[] ORDER_STATUSES = OrderStatus.values();
+    private static final int SUB_MILLI_DIGITS = 6;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final int parallelism;
+    private final int batchSize;
+    private final ZoneId zone;
+
+    public BulkImporter(int parallelism, int batchSize) {
+        this(parallelism, batchSize, ZoneId.systemDefault());
+    }
+
+    public BulkImporter(int parallelism, int batchSize, ZoneId zone) {
+        if (parallelism <= 0 || batchSize <= 0) {
+            throw new IllegalArgumentException("Parallelism and batch size must be positive");
+        }
+        this.parallelism = parallelism;
+        this.batchSize = batchSize;
+        this.zone = zone;
+    }
+
+    public BulkImportResult importCustomers(Path file, CustomerRepository repository) throws IOException {
+        return importFile(file, reader -> Customer.restore(
+            new CustomerId(reader.nextString()),
+            reader.nextString(),
+            reader.nextString(),
+            reader.nextInt(),
+            fromEpochMillis(reader.nextLong()),
+            reader.nextBoolean()
+        ), repository::saveAll);
+    }
+
+    public BulkImportResult importOrders(Path file, OrderRepository repository) throws IOException {
+        return importFile(file, this::parseOrder, repository::saveAll);
+    }
+
+    public BulkImportResult importInventory(Path file, InventoryService inventoryService) throws IOException {
+        return importFile(file, reader -> new AbstractMap.SimpleImmutableEntry<>(reader.nextString(), reader.nextInt()),
+                          batch -> {
+                              Map<String, Integer> quantities = new HashMap<>();
+                              for (Map.Entry<String, Integer> entry : batch) {
+                                  quantities.merge(entry.getKey(), entry.getValue(), Integer::sum);
+                              }
+                              inventoryService.addStock(quantities);
+                          });
+    }
+
+    public BulkImportResult importBalances(Path file, PaymentService paymentService) throws IOException {
+        return importFile(file, reader -> new AbstractMap.SimpleImmutableEntry<>(new CustomerId(reader.nextString()),
+                                                                                 reader.nextDecimal()),
+                          batch -> {
+                              Map<CustomerId, BigDecimal> amounts = new HashMap<>();
+                              for (Map.Entry<CustomerId, BigDecimal> entry : batch) {
+                                  amounts.merge(entry.getKey(), entry.getValue(), BigDecimal::add);
+                              }
+                              paymentService.depositAll(amounts);
+                          });
+    }
+
+    private Order parseOrder(CsvRecordReader reader) {
+        OrderId orderId = new OrderId(reader.nextString());
+        CustomerId customerId = new CustomerId(reader.nextString());
+        OrderStatus status = reader.nextEnum(ORDER_STATUSES);
+        LocalDateTime createdAt = fromEpochNanos(reader.nextFixedPoint(SUB_MILLI_DIGITS));
+        LocalDateTime processedAt = reader.nextIsEmpty() ? null
+                                                         : fromEpochNanos(reader.nextFixedPoint(SUB_MILLI_DIGITS));
+        String paymentMethod = reader.nextOptionalString(PAYMENT_METHODS);
+        boolean priority = reader.nextBoolean();
+        BigDecimal totalAmount = reader.nextDecimal();
+
+        List<OrderItem> items = new ArrayList<>();
+        reader.enter(';');
+        while (reader.hasMoreFields()) {
+            reader.enter('|');
+            String productId = reader.nextString();
+            String productName = reader.nextString();
+            BigDecimal unitPrice = reader.nextDecimal();
+            int quantity = reader.nextInt();
+            reader.exit();
+            items.add(new OrderItem(productId, productName, new Money(unitPrice, CURRENCY), quantity));
+        }
+        reader.exit();
+
+        return Order.fromSnapshot(new OrderSnapshot(orderId, customerId, items, status,
+                                                    new Money(totalAmount, CURRENCY), createdAt,
+                                                    processedAt, paymentMethod, priority, 0));
+    }
+
+    private LocalDateTime fromEpochMillis(long epochMillis) {
+        return LocalDateTime.ofInstant(Instant.ofEpochMilli(epochMillis), zone);
+    }
+
+    private LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofInstant(Instant.ofEpochSecond(Math.floorDiv(epochNanos, NANOS_PER_SECOND),
+                                                             Math.floorMod(epochNanos, NANOS_PER_SECOND)), zone);
+    }
+
+    private <T> BulkImportResult importFile(Path file, RecordParser<T> parser, Consumer<List<T>> sink)
+            throws IOException {
+        long startNanos = System.nanoTime();
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long dataStart = FileChunk.nextLineStart(channel, 0, size);
+            List<FileChunk> chunks = FileChunk.split(channel, dataStart, parallelism * 4);
+            AtomicLong records = new AtomicLong();
+
+            ExecutorService workers = Executors.newFixedThreadPool(Math.min(parallelism, Math.max(1, chunks.size())),
+                                                                   runnable -> {
+                Thread thread = new Thread(runnable, "bulk-import");
+                thread.setDaemon(true);
+                return thread;
+            });
+            try {
+                List<Future<?>> futures = new ArrayList<>(chunks.size());
+                for (FileChunk chunk : chunks) {
+                    futures.add(workers.submit(() -> {
+                        records.addAndGet(parseChunk(channel, chunk, parser, sink));
+                        return null;
+                    }));
+                }
+                for (Future<?> future : futures) {
+                    await(future);
+                }
+            } finally {
+                workers.shutdownNow();
+            }
+            return new BulkImportResult(records.get(), chunks.size(), size, System.nanoTime() - startNanos);
+        }
+    }
+
+    private <T> long parseChunk(FileChannel channel, FileChunk chunk, RecordParser<T> parser,
+                                Consumer<List<T>> sink) throws IOException {
+        MappedByteBuffer mapped = channel.map(FileChannel.MapMode.READ_ONLY, chunk.getStart(), chunk.length());
+        CsvRecordReader reader = new CsvRecordReader(mapped, chunk.getStart());
+        List<T> batch = new ArrayList<>(batchSize);
+        long count = 0;
+        while (reader.nextRecord()) {
+            batch.add(parser.parse(reader));
+            if (reader.hasMoreFields()) {
+                throw reader.malformed("Record has too many fields");
+            }
+            count++;
+            if (batch.size() == batchSize) {
+                sink.accept(batch);
+                batch = new ArrayList<>(batchSize);
+            }
+        }
+        if (!batch.isEmpty()) {
+            sink.accept(batch);
+        }
+        return count;
+    }
+
+    private static void await(Future<?> future) throws IOException {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during bulk import", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    interface RecordParser<T> {
+        T parse(CsvRecordReader reader);
+    }
+}
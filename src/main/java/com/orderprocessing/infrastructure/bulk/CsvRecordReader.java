@@ -0,0 +1,339 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+class CsvRecordReader {
+    private static final int MAX_LONG_DIGITS = 18;
+    private static final int MAX_DEPTH = 3;
+
+    private final ByteBuffer buffer;
+    private final long baseOffset;
+    private final int[] savedPositions = new int[MAX_DEPTH];
+    private final int[] savedLimits = new int[MAX_DEPTH];
+    private final byte[] savedSeparators = new byte[MAX_DEPTH];
+    private byte[] scratch = new byte[256];
+    private int nextLineStart;
+    private int lineStart;
+    private int position;
+    private int limit;
+    private byte separator = ',';
+    private int depth;
+    private int fieldStart;
+    private int fieldEnd;
+
+    CsvRecordReader(ByteBuffer buffer, long baseOffset) {
+        this.buffer = buffer;
+        this.baseOffset = baseOffset;
+    }
+
+    boolean nextRecord() {
+        int end = buffer.limit();
+        depth = 0;
+        separator = ',';
+        while (nextLineStart < end) {
+            int newline = nextLineStart;
+            while (newline < end && buffer.get(newline) != '\n') {
+                newline++;
+            }
+            int lineEnd = newline;
+            if (lineEnd > nextLineStart && buffer.get(lineEnd - 1) == '\r') {
+                lineEnd--;
+            }
+            lineStart = nextLineStart;
+            nextLineStart = newline + 1;
+            if (lineEnd > lineStart) {
+                position = lineStart;
+                limit = lineEnd;
+                return true;
+            }
+        }
+        return false;
+    }
+
+    long getRecordOffset() {
+        return baseOffset + lineStart;
+    }
+
+    boolean hasMoreFields() {
+        return depth == 0 ? position <= limit : position < limit;
+    }
+
+    void enter(char innerSeparator) {
+        if (depth == MAX_DEPTH) {
+            throw new IllegalStateException("Fields nested too deeply");
+        }
+        nextRange();
+        savedPositions[depth] = position;
+        savedLimits[depth] = limit;
+        savedSeparators[depth] = separator;
+        depth++;
+        position = fieldStart;
+        limit = fieldEnd;
+        separator = (byte) innerSeparator;
+    }
+
+    void exit() {
+        depth--;
+        position = savedPositions[depth];
+        limit = savedLimits[depth];
+        separator = savedSeparators[depth];
+    }
+
+    String nextString() {
+        return decode(readText());
+    }
+
+    String nextString(String[] knownValues) {
+        return nextKnown(knownValues, readText());
+    }
+
+    String nextOptionalString(String[] knownValues) {
+        int length = readText();
+        return length == 0 ? null : nextKnown(knownValues, length);
+    }
+
+    private String nextKnown(String[] knownValues, int length) {
+        for (String known : knownValues) {
+            if (matches(known, length)) {
+                return known;
+            }
+        }
+        return decode(length);
+    }
+
+    <E extends Enum<E>> E nextEnum(E[] values) {
+        int length = readText();
+        for (E value : values) {
+            if (matches(value.name(), length)) {
+                return value;
+            }
+        }
+        throw malformed("Unknown value '" + decode(length) + "'");
+    }
+
+    boolean nextBoolean() {
+        int length = readText();
+        if (matches("true", length) || matches("1", length)) {
+            return true;
+        }
+        if (matches("false", length) || matches("0", length)) {
+            return false;
+        }
+        throw malformed("Expected boolean but got '" + decode(length) + "'");
+    }
+
+    boolean nextIsEmpty() {
+        if (position < limit && buffer.get(position) != separator) {
+            return false;
+        }
+        nextRange();
+        return true;
+    }
+
+    int nextInt() {
+        long value = nextLong();
+        if (value < Integer.MIN_VALUE || value > Integer.MAX_VALUE) {
+            throw malformed("Integer out of range: " + value);
+        }
+        return (int) value;
+    }
+
+    long nextLong() {
+        nextRange();
+        boolean negative = false;
+        long value = 0;
+        int digits = 0;
+        for (int i = fieldStart; i < fieldEnd; i++) {
+            byte b = buffer.get(i);
+            if (b == '-' && i == fieldStart) {
+                negative = true;
+            } else if (b >= '0' && b <= '9') {
+                if (++digits > MAX_LONG_DIGITS) {
+                    throw malformed("Number has too many digits");
+                }
+                value = value * 10 + (b - '0');
+            } else {
+                throw malformed("Unexpected character '" + (char) b + "' in number");
+            }
+        }
+        if (digits == 0) {
+            throw malformed("Expected a number");
+        }
+        return negative ? -value : value;
+    }
+
+    long nextFixedPoint(int scale) {
+        nextRange();
+        boolean negative = false;
+        long whole = 0;
+        long fraction = 0;
+        int digits = 0;
+        int fractionDigits = -1;
+        for (int i = fieldStart; i < fieldEnd; i++) {
+            byte b = buffer.get(i);
+            if (b == '-' && i == fieldStart) {
+                negative = true;
+            } else if (b == '.' && fractionDigits < 0) {
+                fractionDigits = 0;
+            } else if (b >= '0' && b <= '9') {
+                if (fractionDigits < 0) {
+                    if (++digits > MAX_LONG_DIGITS) {
+                        throw malformed("Number has too many digits");
+                    }
+                    whole = whole * 10 + (b - '0');
+                } else {
+                    if (++fractionDigits > scale) {
+                        throw malformed("Number has more than " + scale + " fraction digits");
+                    }
+                    fraction = fraction * 10 + (b - '0');
+                }
+            } else {
+                throw malformed("Unexpected character '" + (char) b + "' in number");
+            }
+        }
+        if (digits == 0) {
+            throw malformed("Expected a number");
+        }
+        long unit = 1;
+        for (int i = 0; i < scale; i++) {
+            unit *= 10;
+        }
+        for (int i = Math.max(0, fractionDigits); i < scale; i++) {
+            fraction *= 10;
+        }
+        try {
+            long value = Math.addExact(Math.multiplyExact(whole, unit), fraction);
+            return negative ? -value : value;
+        } catch (ArithmeticException e) {
+            throw malformed("Number out of range");
+        }
+    }
+
+    BigDecimal nextDecimal() {
+        nextRange();
+        boolean negative = false;
+        long unscaled = 0;
+        int digits = 0;
+        int scale = -1;
+        for (int i = fieldStart; i < fieldEnd; i++) {
+            byte b = buffer.get(i);
+            if (b == '-' && i == fieldStart) {
+                negative = true;
+            } else if (b == '.' && scale < 0) {
+                scale = 0;
+            } else if (b >= '0' && b <= '9') {
+                digits++;
+                if (scale >= 0) {
+                    scale++;
+                }
+                unscaled = unscaled * 10 + (b - '0');
+            } else {
+                throw malformed("Unexpected character '" + (char) b + "' in decimal");
+            }
+            if (digits > MAX_LONG_DIGITS) {
+                int length = copyRange(fieldStart, fieldEnd);
+                return new BigDecimal(new String(scratch, 0, length, StandardCharsets.US_ASCII));
+            }
+        }
+        if (digits == 0) {
+            throw malformed("Expected a decimal");
+        }
+        return BigDecimal.valueOf(negative ? -unscaled : unscaled, Math.max(0, scale));
+    }
+
+    private void nextRange() {
+        if (position > limit) {
+            throw malformed("Record has too few fields");
+        }
+        fieldStart = position;
+        int end = position;
+        boolean quoted = false;
+        while (end < limit) {
+            byte b = buffer.get(end);
+            if (b == '"') {
+                quoted = !quoted;
+            } else if (b == separator && !quoted) {
+                break;
+            }
+            end++;
+        }
+        fieldEnd = end;
+        position = end + 1;
+    }
+
+    private int readText() {
+        if (position < limit && buffer.get(position) == '"') {
+            return readQuoted();
+        }
+        nextRange();
+        return copyRange(fieldStart, fieldEnd);
+    }
+
+    private int readQuoted() {
+        int length = 0;
+        int i = position + 1;
+        while (true) {
+            if (i >= limit) {
+                throw malformed("Unterminated quoted field");
+            }
+            byte b = buffer.get(i++);
+            if (b == '"') {
+                if (i < limit && buffer.get(i) == '"') {
+                    i++;
+                } else {
+                    break;
+                }
+            }
+            append(length++, b);
+        }
+        if (i < limit && buffer.get(i) != separator) {
+            throw malformed("Unexpected character after quoted field");
+        }
+        position = i + 1;
+        return length;
+    }
+
+    private int copyRange(int start, int end) {
+        int length = end - start;
+        for (int i = 0; i < length; i++) {
+            append(i, buffer.get(start + i));
+        }
+        return length;
+    }
+
+    private void append(int index, byte b) {
+        if (index == scratch.length) {
+            byte[] grown = new byte[scratch.length * 2];
+            System.arraycopy(scratch, 0, grown, 0, scratch.length);
+            scratch = grown;
+        }
+        scratch[index] = b;
+    }
+
+    private boolean matches(String known, int length) {
+        if (known.length() != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (scratch[i] != known.charAt(i)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private String decode(int length) {
+        for (int i = 0; i < length; i++) {
+            if (scratch[i] < 0) {
+                return new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+        }
+        return new String(scratch, 0, length, StandardCharsets.ISO_8859_1);
+    }
+
+    IllegalArgumentException malformed(String message) {
+        return new IllegalArgumentException("Malformed record at byte " + getRecordOffset() + ": " + message);
+    }
+}
@@ -0,0 +1,73 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.List;
+
+class FileChunk {
+    private static final long MAX_CHUNK_BYTES = 256L * 1024 * 1024;
+    private static final int SCAN_BUFFER_BYTES = 64 * 1024;
+
+    private final long start;
+    private final long end;
+
+    FileChunk(long start, long end) {
+        this.start = start;
+        this.end = end;
+    }
+
+    long getStart() {
+        return start;
+    }
+
+    long getEnd() {
+        return end;
+    }
+
+    long length() {
+        return end - start;
+    }
+
+    static List<FileChunk> split(FileChannel channel, long dataStart, int targetChunks) throws IOException {
+        long size = channel.size();
+        List<FileChunk> chunks = new ArrayList<>();
+        if (dataStart >= size) {
+            return chunks;
+        }
+        long remaining = size - dataStart;
+        long chunkCount = Math.max(targetChunks, (remaining + MAX_CHUNK_BYTES - 1) / MAX_CHUNK_BYTES);
+        long nominal = Math.max(1, (remaining + chunkCount - 1) / chunkCount);
+
+        long start = dataStart;
+        while (start < size) {
+            long end = start + nominal >= size ? size : nextLineStart(channel, start + nominal, size);
+            if (end - start > Integer.MAX_VALUE) {
+                throw new IllegalArgumentException("Record longer than 2 GB starting at byte " + start);
+            }
+            chunks.add(new FileChunk(start, end));
+            start = end;
+        }
+        return chunks;
+    }
+
+    static long nextLineStart(FileChannel channel, long position, long size) throws IOException {
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        long offset = position;
+        while (offset < size) {
+            buffer.clear();
+            int read = channel.read(buffer, offset);
+            if (read <= 0) {
+                break;
+            }
+            for (int i = 0; i < read; i++) {
+                if (buffer.get(i) == '\n') {
+                    return offset + i + 1;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+}
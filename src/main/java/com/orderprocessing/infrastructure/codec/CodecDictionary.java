@@ -0,0 +1,61 @@
+package com.orderprocessing.infrastructure.codec;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CodecDictionary {
+    private final Map<String, Integer> indexes = new ConcurrentHashMap<>();
+    private volatile String[] values = new String[0];
+
+    public CodecDictionary(List<String> initialValues) {
+        for (String value : initialValues) {
+            register(value);
+        }
+    }
+
+    public static CodecDictionary currencies() {
+        return new CodecDictionary(List.of("USD", "EUR", "GBP", "JPY", "CAD", "AUD", "CHF", "CNY"));
+    }
+
+    public static CodecDictionary paymentMethods() {
+        return new CodecDictionary(List.of("CREDIT_CARD", "DEBIT_CARD", "PAYPAL"));
+    }
+
+    public synchronized int register(String value) {
+        if (value == null) {
+            throw new IllegalArgumentException("Dictionary value cannot be null");
+        }
+        Integer existing = indexes.get(value);
+        if (existing != null) {
+            return existing;
+        }
+        String[] next = Arrays.copyOf(values, values.length + 1);
+        next[values.length] = value;
+        values = next;
+        indexes.put(value, values.length - 1);
+        return values.length - 1;
+    }
+
+    public int indexOf(String value) {
+        Integer index = indexes.get(value);
+        return index == null ? -1 : index;
+    }
+
+    public String valueAt(int index) {
+        String[] current = values;
+        if (index < 0 || index >= current.length) {
+            throw new IllegalArgumentException("Unknown dictionary index: " + index);
+        }
+        return current[index];
+    }
+
+    public int size() {
+        return values.length;
+    }
+
+    public List<String> values() {
+        return List.of(values);
+    }
+}
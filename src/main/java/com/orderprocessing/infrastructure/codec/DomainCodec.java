@@ -0,0 +1,430 @@
+package com.orderprocessing.infrastructure.codec;
+
+import com.orderprocessing.application.service.PaymentService.PaymentTransaction;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderItemAddedEvent;
+import com.orderprocessing.domain.event.OrderItemRemovedEvent;
+import com.orderprocessing.domain.event.OrderPriorityChangedEvent;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.event.OrderProcessingStartedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+public class DomainCodec {
+    public static final int SCHEMA_VERSION = 1;
+
+    static final int MONEY = 1;
+    static final int ORDER_ITEM = 2;
+    static final int ORDER = 3;
+    static final int CUSTOMER = 4;
+    static final int PAYMENT_TRANSACTION = 5;
+    static final int ORDER_CREATED = 16;
+    static final int ORDER_ITEM_ADDED = 17;
+    static final int ORDER_ITEM_REMOVED = 18;
+    static final int ORDER_PROCESSED = 19;
+    static final int ORDER_COMPLETED = 20;
+    static final int ORDER_CANCELLED = 21;
+    static final int ORDER_SHIPPED = 22;
+    static final int ORDER_PRIORITY_CHANGED = 23;
+    static final int ORDER_PROCESSING_STARTED = 24;
+    static final int ORDER_PROCESSING_ABORTED = 25;
+
+    private static final int LENGTH_PREFIX_BYTES = 2;
+    private static final int MAX_PADDED_LENGTH = (1 << 14) - 1;
+    private static final int MONEY_SCALE = 2;
+    private static final OrderStatus[] STATUSES = OrderStatus.values();
+
+    private final CodecDictionary productIds;
+    private final CodecDictionary currencies;
+    private final CodecDictionary paymentMethods;
+
+    public DomainCodec(CodecDictionary productIds) {
+        this(productIds, CodecDictionary.currencies(), CodecDictionary.paymentMethods());
+    }
+
+    public DomainCodec(CodecDictionary productIds, CodecDictionary currencies, CodecDictionary paymentMethods) {
+        if (productIds == null || currencies == null || paymentMethods == null) {
+            throw new IllegalArgumentException("Dictionaries cannot be null");
+        }
+        this.productIds = productIds;
+        this.currencies = currencies;
+        this.paymentMethods = paymentMethods;
+    }
+
+    public void encode(Object value, ByteBuffer out) {
+        if (value instanceof Order) {
+            int start = beginRecord(out, ORDER);
+            writeOrder(out, (Order) value);
+            endRecord(out, start);
+        } else if (value instanceof OrderSnapshot) {
+            int start = beginRecord(out, ORDER);
+            writeOrder(out, (OrderSnapshot) value);
+            endRecord(out, start);
+        } else if (value instanceof OrderItem) {
+            int start = beginRecord(out, ORDER_ITEM);
+            writeItem(out, (OrderItem) value);
+            endRecord(out, start);
+        } else if (value instanceof Money) {
+            int start = beginRecord(out, MONEY);
+            writeMoney(out, (Money) value);
+            endRecord(out, start);
+        } else if (value instanceof Customer) {
+            int start = beginRecord(out, CUSTOMER);
+            writeCustomer(out, (Customer) value);
+            endRecord(out, start);
+        } else if (value instanceof PaymentTransaction) {
+            int start = beginRecord(out, PAYMENT_TRANSACTION);
+            writeTransaction(out, (PaymentTransaction) value);
+            endRecord(out, start);
+        } else {
+            encodeEvent(value, out);
+        }
+    }
+
+    private void encodeEvent(Object event, ByteBuffer out) {
+        int start;
+        if (event instanceof OrderCreatedEvent) {
+            OrderCreatedEvent created = (OrderCreatedEvent) event;
+            start = beginRecord(out, ORDER_CREATED);
+            WireFormat.writeId(out, created.getOrderId().getValue());
+            WireFormat.writeId(out, created.getCustomerId().getValue());
+            WireFormat.writeTimestamp(out, created.getOccurredAt());
+        } else if (event instanceof OrderItemAddedEvent) {
+            OrderItemAddedEvent added = (OrderItemAddedEvent) event;
+            start = beginRecord(out, ORDER_ITEM_ADDED);
+            WireFormat.writeId(out, added.getOrderId().getValue());
+            WireFormat.writeDictionaryString(out, productIds, added.getProductId());
+            WireFormat.writeString(out, added.getProductName());
+            writeMoney(out, added.getUnitPrice());
+            WireFormat.writeVarInt(out, added.getQuantity());
+            WireFormat.writeTimestamp(out, added.getOccurredAt());
+        } else if (event instanceof OrderItemRemovedEvent) {
+            OrderItemRemovedEvent removed = (OrderItemRemovedEvent) event;
+            start = beginRecord(out, ORDER_ITEM_REMOVED);
+            WireFormat.writeId(out, removed.getOrderId().getValue());
+            WireFormat.writeDictionaryString(out, productIds, removed.getProductId());
+            WireFormat.writeTimestamp(out, removed.getOccurredAt());
+        } else if (event instanceof OrderProcessedEvent) {
+            OrderProcessedEvent processed = (OrderProcessedEvent) event;
+            start = beginRecord(out, ORDER_PROCESSED);
+            WireFormat.writeId(out, processed.getOrderId().getValue());
+            WireFormat.writeTimestamp(out, processed.getProcessedAt());
+            writeMoney(out, processed.getTotalAmount());
+            writeOptionalPaymentMethod(out, processed.getPaymentMethod());
+            writeItems(out, processed.getItems());
+            writeMoney(out, processed.getChargedAmount());
+        } else if (event instanceof OrderCompletedEvent) {
+            OrderCompletedEvent completed = (OrderCompletedEvent) event;
+            start = beginRecord(out, ORDER_COMPLETED);
+            WireFormat.writeId(out, completed.getOrderId().getValue());
+            WireFormat.writeTimestamp(out, completed.getOccurredAt());
+        } else if (event instanceof OrderCancelledEvent) {
+            OrderCancelledEvent cancelled = (OrderCancelledEvent) event;
+            start = beginRecord(out, ORDER_CANCELLED);
+            WireFormat.writeId(out, cancelled.getOrderId().getValue());
+            out.put((byte) cancelled.getPreviousStatus().ordinal());
+            WireFormat.writeTimestamp(out, cancelled.getOccurredAt());
+        } else if (event instanceof OrderShippedEvent) {
+            OrderShippedEvent shipped = (OrderShippedEvent) event;
+            start = beginRecord(out, ORDER_SHIPPED);
+            WireFormat.writeId(out, shipped.getOrderId().getValue());
+            WireFormat.writeTimestamp(out, shipped.getOccurredAt());
+            if (shipped.getCustomerId() != null) {
+                WireFormat.writeId(out, shipped.getCustomerId().getValue());
+            }
+        } else if (event instanceof OrderPriorityChangedEvent) {
+            OrderPriorityChangedEvent changed = (OrderPriorityChangedEvent) event;
+            start = beginRecord(out, ORDER_PRIORITY_CHANGED);
+            WireFormat.writeId(out, changed.getOrderId().getValue());
+            out.put((byte) (changed.isPriorityOrder() ? 1 : 0));
+            WireFormat.writeTimestamp(out, changed.getOccurredAt());
+        } else if (event instanceof OrderProcessingStartedEvent) {
+            OrderProcessingStartedEvent started = (OrderProcessingStartedEvent) event;
+            start = beginRecord(out, ORDER_PROCESSING_STARTED);
+            WireFormat.writeId(out, started.getOrderId().getValue());
+            writeMoney(out, started.getTotalAmount());
+            writeOptionalPaymentMethod(out, started.getPaymentMethod());
+            WireFormat.writeTimestamp(out, started.getOccurredAt());
+        } else if (event instanceof OrderProcessingAbortedEvent) {
+            OrderProcessingAbortedEvent aborted = (OrderProcessingAbortedEvent) event;
+            start = beginRecord(out, ORDER_PROCESSING_ABORTED);
+            WireFormat.writeId(out, aborted.getOrderId().getValue());
+            writeItems(out, aborted.getItems());
+            WireFormat.writeTimestamp(out, aborted.getOccurredAt());
+        } else {
+            throw new IllegalArgumentException("Unsupported type: " +
+                                               (event == null ? "null" : event.getClass().getName()));
+        }
+        endRecord(out, start);
+    }
+
+    public Object decode(ByteBuffer in) {
+        int type = WireFormat.readVarInt(in);
+        int version = in.get() & 0xFF;
+        if (version < 1) {
+            throw new IllegalArgumentException("Invalid schema version: " + version);
+        }
+        int length = WireFormat.readVarInt(in);
+        int bodyEnd = in.position() + length;
+        int savedLimit = in.limit();
+        if (bodyEnd > savedLimit) {
+            throw new IllegalArgumentException("Truncated record of type " + type);
+        }
+        in.limit(bodyEnd);
+        try {
+            return decodeBody(type, in);
+        } finally {
+            in.limit(savedLimit);
+            in.position(bodyEnd);
+        }
+    }
+
+    public boolean canDecode(ByteBuffer in) {
+        int type = WireFormat.readVarInt(in.duplicate());
+        return type == MONEY || type == ORDER_ITEM || type == ORDER || type == CUSTOMER
+               || type == PAYMENT_TRANSACTION || type >= ORDER_CREATED && type <= ORDER_PROCESSING_ABORTED;
+    }
+
+    public void skip(ByteBuffer in) {
+        WireFormat.readVarInt(in);
+        in.get();
+        int length = WireFormat.readVarInt(in);
+        in.position(in.position() + length);
+    }
+
+    private Object decodeBody(int type, ByteBuffer in) {
+        switch (type) {
+            case MONEY:
+                return readMoney(in);
+            case ORDER_ITEM:
+                return readItem(in);
+            case ORDER:
+                return readOrder(in);
+            case CUSTOMER:
+                return readCustomer(in);
+            case PAYMENT_TRANSACTION:
+                return readTransaction(in);
+            case ORDER_CREATED:
+                return new OrderCreatedEvent(new OrderId(WireFormat.readId(in)),
+                                             new CustomerId(WireFormat.readId(in)),
+                                             WireFormat.readTimestamp(in));
+            case ORDER_ITEM_ADDED:
+                return new OrderItemAddedEvent(new OrderId(WireFormat.readId(in)),
+                                               WireFormat.readDictionaryString(in, productIds),
+                                               WireFormat.readString(in), readMoney(in),
+                                               WireFormat.readVarInt(in), WireFormat.readTimestamp(in));
+            case ORDER_ITEM_REMOVED:
+                return new OrderItemRemovedEvent(new OrderId(WireFormat.readId(in)),
+                                                 WireFormat.readDictionaryString(in, productIds),
+                                                 WireFormat.readTimestamp(in));
+            case ORDER_PROCESSED: {
+                OrderId orderId = new OrderId(WireFormat.readId(in));
+                LocalDateTime processedAt = WireFormat.readTimestamp(in);
+                Money totalAmount = readMoney(in);
+                if (!in.hasRemaining()) {
+                    return new OrderProcessedEvent(orderId, processedAt, totalAmount);
+                }
+                String paymentMethod = readOptionalPaymentMethod(in);
+                List<OrderItem> items = in.hasRemaining() ? readItems(in) : Collections.emptyList();
+                Money chargedAmount = in.hasRemaining() ? readMoney(in) : totalAmount;
+                return new OrderProcessedEvent(orderId, processedAt, totalAmount, chargedAmount, paymentMethod, items);
+            }
+            case ORDER_COMPLETED:
+                return new OrderCompletedEvent(new OrderId(WireFormat.readId(in)), WireFormat.readTimestamp(in));
+            case ORDER_CANCELLED:
+                return new OrderCancelledEvent(new OrderId(WireFormat.readId(in)), readStatus(in),
+                                               WireFormat.readTimestamp(in));
+            case ORDER_SHIPPED: {
+                OrderId orderId = new OrderId(WireFormat.readId(in));
+                LocalDateTime occurredAt = WireFormat.readTimestamp(in);
+                CustomerId customerId = in.hasRemaining() ? new CustomerId(WireFormat.readId(in)) : null;
+                return new OrderShippedEvent(orderId, customerId, occurredAt);
+            }
+            case ORDER_PRIORITY_CHANGED:
+                return new OrderPriorityChangedEvent(new OrderId(WireFormat.readId(in)), in.get() != 0,
+                                                     WireFormat.readTimestamp(in));
+            case ORDER_PROCESSING_STARTED:
+                return new OrderProcessingStartedEvent(new OrderId(WireFormat.readId(in)), readMoney(in),
+                                                       readOptionalPaymentMethod(in), WireFormat.readTimestamp(in));
+            case ORDER_PROCESSING_ABORTED:
+                return new OrderProcessingAbortedEvent(new OrderId(WireFormat.readId(in)), readItems(in),
+                                                       WireFormat.readTimestamp(in));
+            default:
+                throw new IllegalArgumentException("Unknown record type: " + type);
+        }
+    }
+
+    private static int beginRecord(ByteBuffer out, int type) {
+        WireFormat.writeVarInt(out, type);
+        out.put((byte) SCHEMA_VERSION);
+        int start = out.position();
+        if (out.remaining() < LENGTH_PREFIX_BYTES) {
+            throw new BufferOverflowException();
+        }
+        out.position(start + LENGTH_PREFIX_BYTES);
+        return start;
+    }
+
+    private static void endRecord(ByteBuffer out, int start) {
+        int bodyStart = start + LENGTH_PREFIX_BYTES;
+        int length = out.position() - bodyStart;
+        if (length <= MAX_PADDED_LENGTH) {
+            out.put(start, (byte) ((length & 0x7F) | 0x80));
+            out.put(start + 1, (byte) (length >>> 7));
+            return;
+        }
+        byte[] body = new byte[length];
+        out.position(bodyStart);
+        out.get(body);
+        out.position(start);
+        WireFormat.writeVarInt(out, length);
+        out.put(body);
+    }
+
+    private void writeMoney(ByteBuffer out, Money money) {
+        WireFormat.writeDictionaryString(out, currencies, money.getCurrency());
+        WireFormat.writeSignedVarLong(out, money.getAmount().movePointRight(MONEY_SCALE).longValueExact());
+    }
+
+    private Money readMoney(ByteBuffer in) {
+        String currency = WireFormat.readDictionaryString(in, currencies);
+        return new Money(BigDecimal.valueOf(WireFormat.readSignedVarLong(in), MONEY_SCALE), currency);
+    }
+
+    private void writeItem(ByteBuffer out, OrderItem item) {
+        WireFormat.writeDictionaryString(out, productIds, item.getProductId());
+        WireFormat.writeString(out, item.getProductName());
+        writeMoney(out, item.getUnitPrice());
+        WireFormat.writeVarInt(out, item.getQuantity());
+    }
+
+    private OrderItem readItem(ByteBuffer in) {
+        return new OrderItem(WireFormat.readDictionaryString(in, productIds), WireFormat.readString(in),
+                             readMoney(in), WireFormat.readVarInt(in));
+    }
+
+    private void writeItems(ByteBuffer out, List<OrderItem> items) {
+        WireFormat.writeVarInt(out, items.size());
+        for (OrderItem item : items) {
+            writeItem(out, item);
+        }
+    }
+
+    private List<OrderItem> readItems(ByteBuffer in) {
+        int count = WireFormat.readVarInt(in);
+        if (count > in.remaining()) {
+            throw new IllegalArgumentException("Item count exceeds record size: " + count);
+        }
+        List<OrderItem> items = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            items.add(readItem(in));
+        }
+        return items;
+    }
+
+    private void writeOptionalPaymentMethod(ByteBuffer out, String paymentMethod) {
+        if (paymentMethod == null) {
+            out.put((byte) 0);
+        } else {
+            out.put((byte) 1);
+            WireFormat.writeDictionaryString(out, paymentMethods, paymentMethod);
+        }
+    }
+
+    private String readOptionalPaymentMethod(ByteBuffer in) {
+        return in.get() == 0 ? null : WireFormat.readDictionaryString(in, paymentMethods);
+    }
+
+    private static OrderStatus readStatus(ByteBuffer in) {
+        int ordinal = in.get();
+        if (ordinal < 0 || ordinal >= STATUSES.length) {
+            throw new IllegalArgumentException("Unknown order status: " + ordinal);
+        }
+        return STATUSES[ordinal];
+    }
+
+    private void writeOrder(ByteBuffer out, Order order) {
+        WireFormat.writeId(out, order.getOrderId().getValue());
+        WireFormat.writeId(out, order.getCustomerId().getValue());
+        out.put((byte) order.getStatus().ordinal());
+        WireFormat.writeTimestamp(out, order.getCreatedAt());
+        WireFormat.writeOptionalTimestamp(out, order.getProcessedAt());
+        writeOptionalPaymentMethod(out, order.getPaymentMethod());
+        out.put((byte) (order.isPriorityOrder() ? 1 : 0));
+        writeMoney(out, order.getTotalAmount());
+        writeItems(out, order.getItems());
+    }
+
+    private void writeOrder(ByteBuffer out, OrderSnapshot order) {
+        WireFormat.writeId(out, order.getOrderId().getValue());
+        WireFormat.writeId(out, order.getCustomerId().getValue());
+        out.put((byte) order.getStatus().ordinal());
+        WireFormat.writeTimestamp(out, order.getCreatedAt());
+        WireFormat.writeOptionalTimestamp(out, order.getProcessedAt());
+        writeOptionalPaymentMethod(out, order.getPaymentMethod());
+        out.put((byte) (order.isPriorityOrder() ? 1 : 0));
+        writeMoney(out, order.getTotalAmount());
+        writeItems(out, order.getItems());
+    }
+
+    private Order readOrder(ByteBuffer in) {
+        OrderId orderId = new OrderId(WireFormat.readId(in));
+        CustomerId customerId = new CustomerId(WireFormat.readId(in));
+        OrderStatus status = readStatus(in);
+        LocalDateTime createdAt = WireFormat.readTimestamp(in);
+        LocalDateTime processedAt = WireFormat.readOptionalTimestamp(in);
+        String paymentMethod = readOptionalPaymentMethod(in);
+        boolean priority = in.get() != 0;
+        Money totalAmount = readMoney(in);
+        List<OrderItem> items = readItems(in);
+        return Order.fromSnapshot(new OrderSnapshot(orderId, customerId, items, status, totalAmount, createdAt,
+                                                    processedAt, paymentMethod, priority, 0));
+    }
+
+    private void writeCustomer(ByteBuffer out, Customer customer) {
+        WireFormat.writeId(out, customer.getCustomerId().getValue());
+        WireFormat.writeString(out, customer.getEmail());
+        WireFormat.writeString(out, customer.getName());
+        WireFormat.writeVarInt(out, customer.getLoyaltyPoints());
+        WireFormat.writeTimestamp(out, customer.getRegisteredAt());
+        out.put((byte) (customer.isActive() ? 1 : 0));
+    }
+
+    private Customer readCustomer(ByteBuffer in) {
+        return Customer.restore(new CustomerId(WireFormat.readId(in)), WireFormat.readString(in),
+                                WireFormat.readString(in), WireFormat.readVarInt(in),
+                                WireFormat.readTimestamp(in), in.get() != 0);
+    }
+
+    private void writeTransaction(ByteBuffer out, PaymentTransaction transaction) {
+        WireFormat.writeString(out, transaction.getTransactionId());
+        WireFormat.writeId(out, transaction.getOrderId().getValue());
+        WireFormat.writeId(out, transaction.getCustomerId().getValue());
+        writeMoney(out, transaction.getAmount());
+        WireFormat.writeDictionaryString(out, paymentMethods, transaction.getPaymentMethod());
+    }
+
+    private PaymentTransaction readTransaction(ByteBuffer in) {
+        return new PaymentTransaction(WireFormat.readString(in), new OrderId(WireFormat.readId(in)),
+                                      new CustomerId(WireFormat.readId(in)), readMoney(in),
+                                      WireFormat.readDictionaryString(in, paymentMethods));
+    }
+}
@@ -0,0 +1,237 @@
+package com.orderprocessing.infrastructure.codec;
+
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+
+final class WireFormat {
+    private static final int ID_STRING = 0;
+    private static final int ID_UUID = 1;
+    private static final char[] HEX = "0123456789abcdef".toCharArray();
+    private static final ThreadLocal<byte[]> SCRATCH = ThreadLocal.withInitial(() -> new byte[256]);
+
+    private WireFormat() {
+    }
+
+    static void writeVarLong(ByteBuffer out, long value) {
+        while ((value & ~0x7FL) != 0) {
+            out.put((byte) ((value & 0x7F) | 0x80));
+            value >>>= 7;
+        }
+        out.put((byte) value);
+    }
+
+    static long readVarLong(ByteBuffer in) {
+        long result = 0;
+        for (int shift = 0; shift < 64; shift += 7) {
+            byte b = in.get();
+            result |= (long) (b & 0x7F) << shift;
+            if ((b & 0x80) == 0) {
+                return result;
+            }
+        }
+        throw new IllegalArgumentException("Malformed varint");
+    }
+
+    static void writeVarInt(ByteBuffer out, int value) {
+        writeVarLong(out, value & 0xFFFFFFFFL);
+    }
+
+    static int readVarInt(ByteBuffer in) {
+        long value = readVarLong(in);
+        if (value > 0xFFFFFFFFL) {
+            throw new IllegalArgumentException("Varint does not fit in 32 bits");
+        }
+        return (int) value;
+    }
+
+    static void writeSignedVarLong(ByteBuffer out, long value) {
+        writeVarLong(out, (value << 1) ^ (value >> 63));
+    }
+
+    static long readSignedVarLong(ByteBuffer in) {
+        long raw = readVarLong(in);
+        return (raw >>> 1) ^ -(raw & 1);
+    }
+
+
+    static void writeString(ByteBuffer out, String value) {
+        int length = value.length();
+        int encoded = 0;
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                encoded++;
+            } else if (c < 0x800) {
+                encoded += 2;
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                       && Character.isLowSurrogate(value.charAt(i + 1))) {
+                encoded += 4;
+                i++;
+            } else {
+                encoded += 3;
+            }
+        }
+        writeVarInt(out, encoded);
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                       && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                char encodable = Character.isSurrogate(c) ? '?' : c;
+                out.put((byte) (0xE0 | (encodable >> 12)));
+                out.put((byte) (0x80 | ((encodable >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (encodable & 0x3F)));
+            }
+        }
+    }
+
+    static String readString(ByteBuffer in) {
+        int length = readVarInt(in);
+        if (length > in.remaining()) {
+            throw new BufferUnderflowException();
+        }
+        if (in.hasArray()) {
+            String value = new String(in.array(), in.arrayOffset() + in.position(), length, StandardCharsets.UTF_8);
+            in.position(in.position() + length);
+            return value;
+        }
+        byte[] scratch = SCRATCH.get();
+        if (scratch.length < length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+            SCRATCH.set(scratch);
+        }
+        in.get(scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    static void writeOptionalString(ByteBuffer out, String value) {
+        if (value == null) {
+            out.put((byte) 0);
+        } else {
+            out.put((byte) 1);
+            writeString(out, value);
+        }
+    }
+
+    static String readOptionalString(ByteBuffer in) {
+        return in.get() == 0 ? null : readString(in);
+    }
+
+    static void writeDictionaryString(ByteBuffer out, CodecDictionary dictionary, String value) {
+        int index = dictionary.indexOf(value);
+        if (index >= 0) {
+            writeVarInt(out, index + 1);
+        } else {
+            writeVarInt(out, 0);
+            writeString(out, value);
+        }
+    }
+
+    static String readDictionaryString(ByteBuffer in, CodecDictionary dictionary) {
+        int code = readVarInt(in);
+        return code == 0 ? readString(in) : dictionary.valueAt(code - 1);
+    }
+
+    static void writeId(ByteBuffer out, String id) {
+        if (isCanonicalUuid(id)) {
+            out.put((byte) ID_UUID);
+            out.putLong(parseHex(id, 0, 8) << 32 | parseHex(id, 9, 13) << 16 | parseHex(id, 14, 18));
+            out.putLong(parseHex(id, 19, 23) << 48 | parseHex(id, 24, 36));
+        } else {
+            out.put((byte) ID_STRING);
+            writeString(out, id);
+        }
+    }
+
+    static String readId(ByteBuffer in) {
+        int kind = in.get();
+        if (kind == ID_STRING) {
+            return readString(in);
+        }
+        if (kind != ID_UUID) {
+            throw new IllegalArgumentException("Unknown identifier encoding: " + kind);
+        }
+        long high = in.getLong();
+        long low = in.getLong();
+        char[] chars = new char[36];
+        formatHex(chars, 0, high >>> 32, 8);
+        chars[8] = '-';
+        formatHex(chars, 9, high >>> 16, 4);
+        chars[13] = '-';
+        formatHex(chars, 14, high, 4);
+        chars[18] = '-';
+        formatHex(chars, 19, low >>> 48, 4);
+        chars[23] = '-';
+        formatHex(chars, 24, low, 12);
+        return new String(chars);
+    }
+
+    private static boolean isCanonicalUuid(String id) {
+        if (id.length() != 36) {
+            return false;
+        }
+        for (int i = 0; i < 36; i++) {
+            char c = id.charAt(i);
+            if (i == 8 || i == 13 || i == 18 || i == 23) {
+                if (c != '-') {
+                    return false;
+                }
+            } else if (!(c >= '0' && c <= '9' || c >= 'a' && c <= 'f')) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static long parseHex(String value, int from, int to) {
+        long result = 0;
+        for (int i = from; i < to; i++) {
+            result = result << 4 | Character.digit(value.charAt(i), 16);
+        }
+        return result;
+    }
+
+    private static void formatHex(char[] target, int offset, long value, int digits) {
+        for (int i = digits - 1; i >= 0; i--) {
+            target[offset + i] = HEX[(int) (value & 0xF)];
+            value >>>= 4;
+        }
+    }
+
+    static void writeTimestamp(ByteBuffer out, LocalDateTime timestamp) {
+        writeSignedVarLong(out, timestamp.toEpochSecond(ZoneOffset.UTC));
+        writeVarInt(out, timestamp.getNano());
+    }
+
+    static LocalDateTime readTimestamp(ByteBuffer in) {
+        long seconds = readSignedVarLong(in);
+        int nanos = readVarInt(in);
+        return LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC);
+    }
+
+    static void writeOptionalTimestamp(ByteBuffer out, LocalDateTime timestamp) {
+        if (timestamp == null) {
+            out.put((byte) 0);
+        } else {
+            out.put((byte) 1);
+            writeTimestamp(out, timestamp);
+        }
+    }
+
+    static LocalDateTime readOptionalTimestamp(ByteBuffer in) {
+        return in.get() == 0 ? null : readTimestamp(in);
+    }
+}
@@ -0,0 +1,5 @@
+package com.orderprocessing.infrastructure.event;
+
+public interface EventHandler {
+    void onEvent(Object event, long sequence, boolean endOfBatch);
+}
@@ -0,0 +1,228 @@
+package com.orderprocessing.infrastructure.event;
+
+import com.orderprocessing.domain.event.DomainEventPublisher;
+
+import java.util.List;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class RingBufferEventBus implements DomainEventPublisher, AutoCloseable {
+    private static final long INITIAL_SEQUENCE = -1L;
+    private static final int COMMIT_SPIN_TRIES = 100;
+
+    private final Object[] entries;
+    private final AtomicIntegerArray pendingReads;
+    private final int mask;
+    private final WaitStrategy waitStrategy;
+    private final AtomicLong claimed = new AtomicLong(INITIAL_SEQUENCE);
+    private final AtomicLong cursor = new AtomicLong(INITIAL_SEQUENCE);
+    private volatile Subscriber[] subscribers = new Subscriber[0];
+    private volatile boolean started;
+
+    public RingBufferEventBus(int bufferSize, WaitStrategy waitStrategy) {
+        if (bufferSize <= 0 || Integer.bitCount(bufferSize) != 1) {
+            throw new IllegalArgumentException("Buffer size must be a positive power of two");
+        }
+        if (waitStrategy == null) {
+            throw new IllegalArgumentException("Wait strategy cannot be null");
+        }
+        this.entries = new Object[bufferSize];
+        this.pendingReads = new AtomicIntegerArray(bufferSize);
+        this.mask = bufferSize - 1;
+        this.waitStrategy = waitStrategy;
+    }
+
+    public synchronized void subscribe(String name, EventHandler handler) {
+        if (started) {
+            throw new IllegalStateException("Cannot subscribe after the event bus has started");
+        }
+        if (handler == null) {
+            throw new IllegalArgumentException("Handler cannot be null");
+        }
+        Subscriber[] current = subscribers;
+        Subscriber[] next = new Subscriber[current.length + 1];
+        System.arraycopy(current, 0, next, 0, current.length);
+        next[current.length] = new Subscriber(name, handler);
+        subscribers = next;
+    }
+
+    public synchronized void start(ThreadFactory threadFactory) {
+        if (started) {
+            throw new IllegalStateException("Event bus already started");
+        }
+        for (Subscriber subscriber : subscribers) {
+            subscriber.thread = threadFactory.newThread(subscriber);
+            subscriber.thread.start();
+        }
+        started = true;
+    }
+
+    public void start() {
+        start(runnable -> {
+            Thread thread = new Thread(runnable, "event-bus-subscriber");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @Override
+    public void publish(List<Object> events) {
+        int size = events.size();
+        int offset = 0;
+        while (offset < size) {
+            int batch = Math.min(size - offset, entries.length);
+            publishBatch(events, offset, batch);
+            offset += batch;
+        }
+    }
+
+    private void publishBatch(List<Object> events, int offset, int batch) {
+        long high = claimed.addAndGet(batch);
+        long low = high - batch + 1;
+
+        long wrapPoint = high - entries.length;
+        while (wrapPoint > minimumSubscriberSequence()) {
+            LockSupport.parkNanos(1L);
+        }
+
+        // Each slot counts the subscribers still to read it, and the last one clears it, so consumed events are
+        // not kept reachable until the ring wraps around to them.
+        int readers = subscribers.length;
+        if (readers > 0) {
+            for (int i = 0; i < batch; i++) {
+                int index = (int) ((low + i) & mask);
+                pendingReads.set(index, readers);
+                entries[index] = events.get(offset + i);
+            }
+        }
+
+        for (int spins = 0; cursor.get() != low - 1; spins++) {
+            if (spins < COMMIT_SPIN_TRIES) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+        }
+        cursor.set(high);
+        waitStrategy.signalAllWhenBlocking();
+    }
+
+    private long minimumSubscriberSequence() {
+        long minimum = cursor.get();
+        for (Subscriber subscriber : subscribers) {
+            minimum = Math.min(minimum, subscriber.sequence.get());
+        }
+        return minimum;
+    }
+
+    public long getCursor() {
+        return cursor.get();
+    }
+
+    public int getBufferSize() {
+        return entries.length;
+    }
+
+    public long getRemainingCapacity() {
+        return entries.length - (claimed.get() - minimumSubscriberSequence());
+    }
+
+    int getRetainedEventCount() {
+        int retained = 0;
+        for (Object entry : entries) {
+            if (entry != null) {
+                retained++;
+            }
+        }
+        return retained;
+    }
+
+    public boolean awaitDrained(long timeout, TimeUnit unit) throws InterruptedException {
+        long deadline = System.nanoTime() + unit.toNanos(timeout);
+        long target = claimed.get();
+        while (minimumSubscriberSequence() < target || cursor.get() < target) {
+            if (System.nanoTime() >= deadline) {
+                return false;
+            }
+            if (Thread.interrupted()) {
+                throw new InterruptedException();
+            }
+            LockSupport.parkNanos(TimeUnit.MICROSECONDS.toNanos(100));
+        }
+        return true;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        awaitDrained(5, TimeUnit.SECONDS);
+        for (Subscriber subscriber : subscribers) {
+            subscriber.running = false;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (subscriber.thread != null) {
+                subscriber.thread.interrupt();
+                subscriber.thread.join(TimeUnit.SECONDS.toMillis(1));
+            }
+        }
+    }
+
+    public class Subscriber implements Runnable {
+        private final String name;
+        private final EventHandler handler;
+        private final AtomicLong sequence = new AtomicLong(INITIAL_SEQUENCE);
+        private volatile boolean running = true;
+        private Thread thread;
+
+        private Subscriber(String name, EventHandler handler) {
+            this.name = name;
+            this.handler = handler;
+        }
+
+        public void checkRunning() throws InterruptedException {
+            if (!running || Thread.currentThread().isInterrupted()) {
+                throw new InterruptedException("Subscriber stopped: " + name);
+            }
+        }
+
+        @Override
+        public void run() {
+            long next = sequence.get() + 1;
+            try {
+                while (true) {
+                    long available = waitStrategy.waitFor(next, cursor, this);
+                    for (long current = next; current <= available; current++) {
+                        int index = (int) (current & mask);
+                        dispatch(entries[index], current, current == available);
+                        if (pendingReads.decrementAndGet(index) == 0) {
+                            entries[index] = null;
+                        }
+                    }
+                    sequence.set(available);
+                    next = available + 1;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        private void dispatch(Object event, long current, boolean endOfBatch) {
+            try {
+                handler.onEvent(event, current, endOfBatch);
+            } catch (RuntimeException e) {
+                System.err.println("ERROR in event subscriber " + name + " at sequence " + current +
+                                   ": " + e.getMessage());
+            }
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public long getSequence() {
+            return sequence.get();
+        }
+    }
+}
@@ -0,0 +1,147 @@
+package com.orderprocessing.infrastructure.event;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.LockSupport;
+import java.util.concurrent.locks.ReentrantLock;
+
+public interface WaitStrategy {
+    long waitFor(long sequence, AtomicLong cursor, RingBufferEventBus.Subscriber subscriber) throws InterruptedException;
+
+    void signalAllWhenBlocking();
+
+    static WaitStrategy busySpin() {
+        return new BusySpinWaitStrategy();
+    }
+
+    static WaitStrategy yielding() {
+        return new YieldingWaitStrategy();
+    }
+
+    static WaitStrategy sleeping(long parkNanos) {
+        return new SleepingWaitStrategy(parkNanos);
+    }
+
+    static WaitStrategy blocking() {
+        return new BlockingWaitStrategy();
+    }
+
+    class BusySpinWaitStrategy implements WaitStrategy {
+        @Override
+        public long waitFor(long sequence, AtomicLong cursor, RingBufferEventBus.Subscriber subscriber)
+                throws InterruptedException {
+            long available;
+            while ((available = cursor.get()) < sequence) {
+                subscriber.checkRunning();
+                Thread.onSpinWait();
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+        }
+    }
+
+    class YieldingWaitStrategy implements WaitStrategy {
+        private static final int SPIN_TRIES = 100;
+
+        @Override
+        public long waitFor(long sequence, AtomicLong cursor, RingBufferEventBus.Subscriber subscriber)
+                throws InterruptedException {
+            long available;
+            int counter = SPIN_TRIES;
+            while ((available = cursor.get()) < sequence) {
+                subscriber.checkRunning();
+                if (counter > 0) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else {
+                    Thread.yield();
+                }
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+        }
+    }
+
+    class SleepingWaitStrategy implements WaitStrategy {
+        private static final int SPIN_TRIES = 100;
+        private static final int YIELD_TRIES = 100;
+        private final long parkNanos;
+
+        public SleepingWaitStrategy(long parkNanos) {
+            if (parkNanos <= 0) {
+                throw new IllegalArgumentException("Park time must be positive");
+            }
+            this.parkNanos = parkNanos;
+        }
+
+        @Override
+        public long waitFor(long sequence, AtomicLong cursor, RingBufferEventBus.Subscriber subscriber)
+                throws InterruptedException {
+            long available;
+            int counter = SPIN_TRIES + YIELD_TRIES;
+            while ((available = cursor.get()) < sequence) {
+                subscriber.checkRunning();
+                if (counter > YIELD_TRIES) {
+                    counter--;
+                    Thread.onSpinWait();
+                } else if (counter > 0) {
+                    counter--;
+                    Thread.yield();
+                } else {
+                    LockSupport.parkNanos(parkNanos);
+                }
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+        }
+    }
+
+    class BlockingWaitStrategy implements WaitStrategy {
+        private final ReentrantLock lock = new ReentrantLock();
+        private final Condition published = lock.newCondition();
+        private final AtomicInteger waiters = new AtomicInteger();
+
+        @Override
+        public long waitFor(long sequence, AtomicLong cursor, RingBufferEventBus.Subscriber subscriber)
+                throws InterruptedException {
+            long available;
+            if ((available = cursor.get()) < sequence) {
+                waiters.incrementAndGet();
+                lock.lock();
+                try {
+                    while ((available = cursor.get()) < sequence) {
+                        subscriber.checkRunning();
+                        published.await(1, TimeUnit.MILLISECONDS);
+                    }
+                } finally {
+                    lock.unlock();
+                    waiters.decrementAndGet();
+                }
+            }
+            return available;
+        }
+
+        @Override
+        public void signalAllWhenBlocking() {
+            if (waiters.get() > 0) {
+                lock.lock();
+                try {
+                    published.signalAll();
+                } finally {
+                    lock.unlock();
+                }
+            }
+        }
+    }
+}
@@ -0,0 +1,167 @@
+package com.orderprocessing.infrastructure.export;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+class BufferChain {
+    private static final int MAX_LONG_DIGITS = 20;
+
+    private final DirectBufferPool pool;
+    private final List<ByteBuffer> buffers = new ArrayList<>();
+    private final byte[] digits = new byte[MAX_LONG_DIGITS];
+    private ByteBuffer current;
+    private long size;
+
+    BufferChain(DirectBufferPool pool) {
+        this.pool = pool;
+    }
+
+    long size() {
+        return size;
+    }
+
+    int bufferCount() {
+        return buffers.size();
+    }
+
+    private ByteBuffer ensure(int bytes) {
+        if (current == null || current.remaining() < bytes) {
+            current = pool.acquire();
+            buffers.add(current);
+        }
+        size += bytes;
+        return current;
+    }
+
+    void putByte(int value) {
+        ensure(1).put((byte) value);
+    }
+
+    void putInt(int value) {
+        ensure(Integer.BYTES).putInt(value);
+    }
+
+    void putLong(long value) {
+        ensure(Long.BYTES).putLong(value);
+    }
+
+    void putBytes(byte[] bytes) {
+        int offset = 0;
+        while (offset < bytes.length) {
+            int chunk = Math.min(bytes.length - offset, pool.getBufferSize());
+            ensure(chunk).put(bytes, offset, chunk);
+            offset += chunk;
+        }
+    }
+
+    void putAscii(String value) {
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            if (value.charAt(i) >= 0x80) {
+                putBytes(value.getBytes(StandardCharsets.UTF_8));
+                return;
+            }
+        }
+        int offset = 0;
+        while (offset < length) {
+            int chunk = Math.min(length - offset, pool.getBufferSize());
+            ByteBuffer buffer = ensure(chunk);
+            for (int i = 0; i < chunk; i++) {
+                buffer.put((byte) value.charAt(offset + i));
+            }
+            offset += chunk;
+        }
+    }
+
+    void putLengthPrefixed(String value) {
+        if (value == null) {
+            putInt(-1);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        putInt(bytes.length);
+        putBytes(bytes);
+    }
+
+    void putDecimalText(long value) {
+        if (value == Long.MIN_VALUE) {
+            putAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            putByte('-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[MAX_LONG_DIGITS - 1 - count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        ensure(count).put(digits, MAX_LONG_DIGITS - count, count);
+    }
+
+    void putDecimalText(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale > 18 || value.unscaledValue().bitLength() > 62) {
+            putAscii(value.toPlainString());
+            return;
+        }
+        long unscaled = value.unscaledValue().longValue();
+        if (scale == 0) {
+            putDecimalText(unscaled);
+            return;
+        }
+        if (unscaled < 0) {
+            putByte('-');
+            unscaled = -unscaled;
+        }
+        long divisor = 1;
+        for (int i = 0; i < scale; i++) {
+            divisor *= 10;
+        }
+        putDecimalText(unscaled / divisor);
+        putByte('.');
+        long fraction = unscaled % divisor;
+        for (long place = divisor / 10; place > 0; place /= 10) {
+            putByte('0' + (int) (fraction / place % 10));
+        }
+    }
+
+    void collectInto(List<ByteBuffer> target) {
+        for (ByteBuffer buffer : buffers) {
+            buffer.flip();
+            target.add(buffer);
+        }
+        buffers.clear();
+        current = null;
+        size = 0;
+    }
+
+    long writeTo(FileChannel channel) throws IOException {
+        List<ByteBuffer> pending = new ArrayList<>(buffers.size());
+        collectInto(pending);
+        return write(channel, pending, pool);
+    }
+
+    static long write(FileChannel channel, List<ByteBuffer> pending, DirectBufferPool pool) throws IOException {
+        ByteBuffer[] gather = pending.toArray(new ByteBuffer[0]);
+        long written = 0;
+        int first = 0;
+        while (first < gather.length) {
+            written += channel.write(gather, first, gather.length - first);
+            while (first < gather.length && !gather[first].hasRemaining()) {
+                first++;
+            }
+        }
+        for (ByteBuffer buffer : gather) {
+            pool.release(buffer);
+        }
+        pending.clear();
+        return written;
+    }
+}
@@ -0,0 +1,16 @@
+package com.orderprocessing.infrastructure.export;
+
+public enum ExportFormat {
+    CSV(".csv"),
+    COLUMNAR(".ordc");
+
+    private final String extension;
+
+    ExportFormat(String extension) {
+        this.extension = extension;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
@@ -0,0 +1,62 @@
+package com.orderprocessing.infrastructure.export;
+
+import java.nio.file.Path;
+import java.time.Instant;
+import java.util.List;
+
+public class ExportResult {
+    private final long orders;
+    private final long items;
+    private final long bytes;
+    private final List<Path> files;
+    private final Instant captureStarted;
+    private final Instant captureFinished;
+    private final long elapsedNanos;
+
+    public ExportResult(long orders, long items, long bytes, List<Path> files, Instant captureStarted,
+                        Instant captureFinished, long elapsedNanos) {
+        this.orders = orders;
+        this.items = items;
+        this.bytes = bytes;
+        this.files = List.copyOf(files);
+        this.captureStarted = captureStarted;
+        this.captureFinished = captureFinished;
+        this.elapsedNanos = elapsedNanos;
+    }
+
+    public long getOrders() {
+        return orders;
+    }
+
+    public long getItems() {
+        return items;
+    }
+
+    public long getBytes() {
+        return bytes;
+    }
+
+    public List<Path> getFiles() {
+        return files;
+    }
+
+    public Instant getCaptureStarted() {
+        return captureStarted;
+    }
+
+    public Instant getCaptureFinished() {
+        return captureFinished;
+    }
+
+    public long getElapsedNanos() {
+        return elapsedNanos;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("%d orders, %d items, %d bytes in %d files, %.0f orders/s, "
+                             + "each order as of some instant in [%s, %s]",
+                             orders, items, bytes, files.size(),
+                             elapsedNanos == 0 ? 0.0 : orders * 1e9 / elapsedNanos, captureStarted, captureFinished);
+    }
+}
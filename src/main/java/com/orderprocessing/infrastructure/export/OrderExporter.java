@@ -0,0 +1,320 @@
+package com.orderprocessing.infrastructure.export;
+
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderQueryRepository;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.valueobject.Money;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.Instant;
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+public class OrderExporter {
+    private static final byte[] COLUMNAR_MAGIC = "ORDCOL02".getBytes(StandardCharsets.US_ASCII);
+    public static final int COLUMNAR_BLOCK_ROWS = 4096;
+
+    private static final String CSV_HEADER =
+        "orderId,customerId,status,createdAt,processedAt,paymentMethod,priority,totalAmount,items\n";
+    private static final int CSV_FLUSH_BUFFERS = 16;
+    private static final long NO_TIMESTAMP = Long.MIN_VALUE;
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+    private static final long NANOS_PER_MILLI = 1_000_000L;
+
+    private final DirectBufferPool pool;
+    private final int parallelism;
+    private final ZoneId zone;
+
+    public OrderExporter(DirectBufferPool pool, int parallelism) {
+        this(pool, parallelism, ZoneId.systemDefault());
+    }
+
+    public OrderExporter(DirectBufferPool pool, int parallelism, ZoneId zone) {
+        if (pool == null) {
+            throw new IllegalArgumentException("Buffer pool cannot be null");
+        }
+        if (parallelism <= 0) {
+            throw new IllegalArgumentException("Parallelism must be positive");
+        }
+        this.pool = pool;
+        this.parallelism = parallelism;
+        this.zone = zone;
+    }
+
+    public ExportResult export(OrderQueryRepository repository, Path directory, String baseName,
+                               ExportFormat format) throws IOException {
+        long startNanos = System.nanoTime();
+        Files.createDirectories(directory);
+        Instant captureStarted = Instant.now();
+        try (OrderSnapshotCut cut = repository.openSnapshotCut()) {
+            Instant captureFinished = Instant.now();
+            return export(cut.partitions(parallelism), directory, baseName, format, captureStarted, captureFinished,
+                          startNanos);
+        }
+    }
+
+    private ExportResult export(List<Iterator<OrderSnapshot>> partitions, Path directory, String baseName,
+                                ExportFormat format, Instant captureStarted, Instant captureFinished,
+                                long startNanos) throws IOException {
+        ExecutorService workers = Executors.newFixedThreadPool(partitions.size(), runnable -> {
+            Thread thread = new Thread(runnable, "order-export");
+            thread.setDaemon(true);
+            return thread;
+        });
+        List<Path> files = new ArrayList<>(partitions.size());
+        List<Future<long[]>> futures = new ArrayList<>(partitions.size());
+        try {
+            for (int partition = 0; partition < partitions.size(); partition++) {
+                Iterator<OrderSnapshot> slice = partitions.get(partition);
+                Path file = directory.resolve(String.format("%s-part-%05d%s", baseName, partition,
+                                                            format.getExtension()));
+                files.add(file);
+                futures.add(workers.submit(() -> exportPartition(slice, file, format)));
+            }
+            long exportedOrders = 0;
+            long exportedItems = 0;
+            long bytes = 0;
+            for (Future<long[]> future : futures) {
+                long[] counts = await(future);
+                exportedOrders += counts[0];
+                exportedItems += counts[1];
+                bytes += counts[2];
+            }
+            return new ExportResult(exportedOrders, exportedItems, bytes, files, captureStarted, captureFinished,
+                                    System.nanoTime() - startNanos);
+        } finally {
+            workers.shutdownNow();
+        }
+    }
+
+    private long[] exportPartition(Iterator<OrderSnapshot> orders, Path file, ExportFormat format) throws IOException {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                                                    StandardOpenOption.TRUNCATE_EXISTING)) {
+            if (format == ExportFormat.CSV) {
+                return writeCsv(orders, channel);
+            }
+            return writeColumnar(orders, channel);
+        }
+    }
+
+    private long[] writeCsv(Iterator<OrderSnapshot> orders, FileChannel channel) throws IOException {
+        BufferChain out = new BufferChain(pool);
+        long rows = 0;
+        long items = 0;
+        long bytes = 0;
+        out.putAscii(CSV_HEADER);
+        while (orders.hasNext()) {
+            OrderSnapshot order = orders.next();
+            rows++;
+            putCsvText(out, order.getOrderId().getValue());
+            out.putByte(',');
+            putCsvText(out, order.getCustomerId().getValue());
+            out.putByte(',');
+            out.putAscii(order.getStatus().name());
+            out.putByte(',');
+            putCsvTimestamp(out, toEpochNanos(order.getCreatedAt()));
+            out.putByte(',');
+            if (order.getProcessedAt() != null) {
+                putCsvTimestamp(out, toEpochNanos(order.getProcessedAt()));
+            }
+            out.putByte(',');
+            if (order.getPaymentMethod() != null) {
+                putCsvText(out, order.getPaymentMethod());
+            }
+            out.putByte(',');
+            out.putAscii(order.isPriorityOrder() ? "true" : "false");
+            out.putByte(',');
+            out.putDecimalText(order.getTotalAmount().getAmount());
+            out.putByte(',');
+            boolean first = true;
+            for (OrderItem item : order.getItems()) {
+                if (!first) {
+                    out.putByte(';');
+                }
+                first = false;
+                putCsvText(out, item.getProductId());
+                out.putByte('|');
+                putCsvText(out, item.getProductName());
+                out.putByte('|');
+                out.putDecimalText(item.getUnitPrice().getAmount());
+                out.putByte('|');
+                out.putDecimalText(item.getQuantity());
+                items++;
+            }
+            out.putByte('\n');
+            if (out.bufferCount() >= CSV_FLUSH_BUFFERS) {
+                bytes += out.writeTo(channel);
+            }
+        }
+        bytes += out.writeTo(channel);
+        return new long[] {rows, items, bytes};
+    }
+
+    private static void putCsvTimestamp(BufferChain out, long epochNanos) {
+        if (epochNanos < 0) {
+            out.putByte('-');
+            epochNanos = -epochNanos;
+        }
+        out.putDecimalText(epochNanos / NANOS_PER_MILLI);
+        long subMilli = epochNanos % NANOS_PER_MILLI;
+        if (subMilli != 0) {
+            out.putByte('.');
+            for (long place = NANOS_PER_MILLI / 10; place > 0; place /= 10) {
+                out.putByte('0' + (int) (subMilli / place % 10));
+            }
+        }
+    }
+
+    private static void putCsvText(BufferChain out, String value) {
+        boolean needsQuotes = false;
+        for (int i = 0; i < value.length() && !needsQuotes; i++) {
+            char c = value.charAt(i);
+            needsQuotes = c == ',' || c == '"' || c == ';' || c == '|' || c == '\n' || c == '\r';
+        }
+        if (!needsQuotes) {
+            out.putAscii(value);
+            return;
+        }
+        out.putByte('"');
+        out.putAscii(value.replace("\"", "\"\""));
+        out.putByte('"');
+    }
+
+    private long[] writeColumnar(Iterator<OrderSnapshot> orders, FileChannel channel) throws IOException {
+        long bytes = BufferChain.write(channel, new ArrayList<>(List.of(ByteBuffer.wrap(COLUMNAR_MAGIC))), pool);
+        long rows = 0;
+        long items = 0;
+        while (orders.hasNext()) {
+            ColumnarBlock columns = new ColumnarBlock();
+            int blockRows = 0;
+            while (blockRows < COLUMNAR_BLOCK_ROWS && orders.hasNext()) {
+                columns.add(orders.next());
+                blockRows++;
+            }
+            rows += blockRows;
+            items += columns.itemCount;
+            bytes += columns.writeTo(channel, blockRows);
+        }
+        return new long[] {rows, items, bytes};
+    }
+
+    private long toEpochNanos(LocalDateTime dateTime) {
+        Instant instant = dateTime.atZone(zone).toInstant();
+        return Math.addExact(Math.multiplyExact(instant.getEpochSecond(), NANOS_PER_SECOND), instant.getNano());
+    }
+
+    private static <T> T await(Future<T> future) throws IOException {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted during order export", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    private class ColumnarBlock {
+        private final BufferChain orderIds;
+        private final BufferChain customerIds;
+        private final BufferChain statuses;
+        private final BufferChain createdAt;
+        private final BufferChain processedAt;
+        private final BufferChain paymentMethods;
+        private final BufferChain priorities;
+        private final BufferChain totalAmounts;
+        private final BufferChain itemCounts;
+        private final BufferChain productIds;
+        private final BufferChain productNames;
+        private final BufferChain unitPrices;
+        private final BufferChain quantities;
+        private int itemCount;
+
+        ColumnarBlock() {
+            this.orderIds = new BufferChain(pool);
+            this.customerIds = new BufferChain(pool);
+            this.statuses = new BufferChain(pool);
+            this.createdAt = new BufferChain(pool);
+            this.processedAt = new BufferChain(pool);
+            this.paymentMethods = new BufferChain(pool);
+            this.priorities = new BufferChain(pool);
+            this.totalAmounts = new BufferChain(pool);
+            this.itemCounts = new BufferChain(pool);
+            this.productIds = new BufferChain(pool);
+            this.productNames = new BufferChain(pool);
+            this.unitPrices = new BufferChain(pool);
+            this.quantities = new BufferChain(pool);
+        }
+
+        void add(OrderSnapshot order) {
+            orderIds.putLengthPrefixed(order.getOrderId().getValue());
+            customerIds.putLengthPrefixed(order.getCustomerId().getValue());
+            statuses.putByte(order.getStatus().ordinal());
+            createdAt.putLong(toEpochNanos(order.getCreatedAt()));
+            processedAt.putLong(order.getProcessedAt() == null ? NO_TIMESTAMP : toEpochNanos(order.getProcessedAt()));
+            paymentMethods.putLengthPrefixed(order.getPaymentMethod());
+            priorities.putByte(order.isPriorityOrder() ? 1 : 0);
+            putMoney(totalAmounts, order.getTotalAmount());
+            itemCounts.putInt(order.getItems().size());
+            for (OrderItem item : order.getItems()) {
+                productIds.putLengthPrefixed(item.getProductId());
+                productNames.putLengthPrefixed(item.getProductName());
+                putMoney(unitPrices, item.getUnitPrice());
+                quantities.putInt(item.getQuantity());
+                itemCount++;
+            }
+        }
+
+        private void putMoney(BufferChain column, Money money) {
+            BigDecimal amount = money.getAmount();
+            if (amount.unscaledValue().bitLength() > 63) {
+                throw new IllegalArgumentException("Amount too large for columnar export: " + amount);
+            }
+            column.putInt(amount.scale());
+            column.putLong(amount.unscaledValue().longValue());
+            column.putLengthPrefixed(money.getCurrency());
+        }
+
+        long writeTo(FileChannel channel, int rows) throws IOException {
+            BufferChain[] columns = {
+                orderIds, customerIds, statuses, createdAt, processedAt, paymentMethods, priorities,
+                totalAmounts, itemCounts, productIds, productNames, unitPrices, quantities
+            };
+            BufferChain header = new BufferChain(pool);
+            header.putInt(rows);
+            header.putInt(itemCount);
+            header.putInt(columns.length);
+            for (BufferChain column : columns) {
+                header.putLong(column.size());
+            }
+            List<ByteBuffer> gather = new ArrayList<>();
+            header.collectInto(gather);
+            for (BufferChain column : columns) {
+                column.collectInto(gather);
+            }
+            return BufferChain.write(channel, gather, pool);
+        }
+    }
+}
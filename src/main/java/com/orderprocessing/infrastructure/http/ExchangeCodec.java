@@ -0,0 +1,366 @@
+package com.orderprocessing.infrastructure.http;
+
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.infrastructure.codec.DomainCodec;
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.math.BigDecimal;
+import java.net.URLDecoder;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+final class ExchangeCodec {
+    static final String JSON_TYPE = "application/json";
+    static final String BINARY_TYPE = "application/octet-stream";
+
+    private static final int INITIAL_CAPACITY = 4096;
+    private static final int MAX_RETAINED_CAPACITY = 1 << 20;
+    private static final int MAX_RESPONSE_BYTES = 64 << 20;
+    private static final int MAX_BODY_BYTES = 64 * 1024;
+    private static final int MAX_LONG_DIGITS = 20;
+    private static final byte[] HEX = "0123456789abcdef".getBytes(StandardCharsets.US_ASCII);
+
+    private final DomainCodec domainCodec;
+    private final Map<String, String> parameters = new HashMap<>();
+    private final byte[] digits = new byte[MAX_LONG_DIGITS];
+    private byte[] body = new byte[INITIAL_CAPACITY];
+    private ByteBuffer out = ByteBuffer.allocate(INITIAL_CAPACITY);
+    private boolean binary;
+
+    ExchangeCodec(DomainCodec domainCodec) {
+        this.domainCodec = domainCodec;
+    }
+
+    void begin(HttpExchange exchange) throws IOException {
+        parameters.clear();
+        String accept = exchange.getRequestHeaders().getFirst("Accept");
+        binary = accept != null && accept.contains(BINARY_TYPE);
+        parseParameters(exchange.getRequestURI().getRawQuery());
+        int length = readBody(exchange.getRequestBody());
+        if (length > 0) {
+            parseParameters(new String(body, 0, length, StandardCharsets.ISO_8859_1));
+        }
+    }
+
+    String parameter(String name) {
+        String value = parameters.get(name);
+        if (value == null || value.isEmpty()) {
+            throw new IllegalArgumentException("Missing parameter: " + name);
+        }
+        return value;
+    }
+
+    void encodeOrder(OrderSnapshot order) {
+        while (true) {
+            out.clear();
+            try {
+                if (binary) {
+                    domainCodec.encode(order, out);
+                } else {
+                    writeOrder(order);
+                }
+                return;
+            } catch (BufferOverflowException e) {
+                grow(e);
+            } catch (RuntimeException e) {
+                throw encodingFailed(e);
+            }
+        }
+    }
+
+    void encodeOrders(List<OrderSnapshot> orders) {
+        while (true) {
+            out.clear();
+            try {
+                if (binary) {
+                    for (OrderSnapshot order : orders) {
+                        domainCodec.encode(order, out);
+                    }
+                } else {
+                    out.put((byte) '[');
+                    for (int i = 0; i < orders.size(); i++) {
+                        if (i > 0) {
+                            out.put((byte) ',');
+                        }
+                        writeOrder(orders.get(i));
+                    }
+                    out.put((byte) ']');
+                }
+                return;
+            } catch (BufferOverflowException e) {
+                grow(e);
+            } catch (RuntimeException e) {
+                throw encodingFailed(e);
+            }
+        }
+    }
+
+    void encodeError(String message) {
+        binary = false;
+        while (true) {
+            out.clear();
+            try {
+                putAscii("{\"error\":");
+                putString(message == null ? "Internal error" : message);
+                out.put((byte) '}');
+                return;
+            } catch (BufferOverflowException e) {
+                grow(e);
+            }
+        }
+    }
+
+    void send(HttpExchange exchange, int status) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", binary ? BINARY_TYPE : JSON_TYPE);
+        int length = out.position();
+        exchange.sendResponseHeaders(status, length == 0 ? -1 : length);
+        if (length > 0) {
+            try (OutputStream response = exchange.getResponseBody()) {
+                response.write(out.array(), 0, length);
+            }
+        }
+        if (out.capacity() > MAX_RETAINED_CAPACITY) {
+            out = ByteBuffer.allocate(INITIAL_CAPACITY);
+        }
+    }
+
+    private int readBody(InputStream in) throws IOException {
+        int length = 0;
+        try (in) {
+            int read;
+            while ((read = in.read(body, length, body.length - length)) > 0) {
+                length += read;
+                if (length == body.length) {
+                    if (length >= MAX_BODY_BYTES) {
+                        throw new IllegalArgumentException("Request body exceeds " + MAX_BODY_BYTES + " bytes");
+                    }
+                    byte[] larger = new byte[Math.min(MAX_BODY_BYTES, body.length * 2)];
+                    System.arraycopy(body, 0, larger, 0, length);
+                    body = larger;
+                }
+            }
+        }
+        return length;
+    }
+
+    private void parseParameters(String encoded) {
+        if (encoded == null || encoded.isEmpty()) {
+            return;
+        }
+        int start = 0;
+        while (start <= encoded.length()) {
+            int end = encoded.indexOf('&', start);
+            if (end < 0) {
+                end = encoded.length();
+            }
+            int separator = encoded.indexOf('=', start);
+            if (separator > start && separator < end) {
+                parameters.put(decode(encoded.substring(start, separator)),
+                               decode(encoded.substring(separator + 1, end)));
+            }
+            start = end + 1;
+        }
+    }
+
+    private static String decode(String value) {
+        if (value.indexOf('%') < 0 && value.indexOf('+') < 0) {
+            return value;
+        }
+        return URLDecoder.decode(value, StandardCharsets.UTF_8);
+    }
+
+    private void writeOrder(OrderSnapshot order) {
+        putAscii("{\"orderId\":");
+        putString(order.getOrderId().getValue());
+        putAscii(",\"customerId\":");
+        putString(order.getCustomerId().getValue());
+        putAscii(",\"status\":\"");
+        putAscii(order.getStatus().name());
+        putAscii("\",\"createdAt\":");
+        putTimestamp(order.getCreatedAt());
+        putAscii(",\"processedAt\":");
+        putTimestamp(order.getProcessedAt());
+        putAscii(",\"paymentMethod\":");
+        putString(order.getPaymentMethod());
+        putAscii(",\"priority\":");
+        putAscii(order.isPriorityOrder() ? "true" : "false");
+        putAscii(",\"totalAmount\":");
+        putDecimal(order.getTotalAmount().getAmount());
+        putAscii(",\"currency\":");
+        putString(order.getTotalAmount().getCurrency());
+        putAscii(",\"version\":");
+        putLong(order.getVersion());
+        putAscii(",\"items\":[");
+        List<OrderItem> items = order.getItems();
+        for (int i = 0; i < items.size(); i++) {
+            OrderItem item = items.get(i);
+            if (i > 0) {
+                out.put((byte) ',');
+            }
+            putAscii("{\"productId\":");
+            putString(item.getProductId());
+            putAscii(",\"productName\":");
+            putString(item.getProductName());
+            putAscii(",\"unitPrice\":");
+            putDecimal(item.getUnitPrice().getAmount());
+            putAscii(",\"quantity\":");
+            putLong(item.getQuantity());
+            out.put((byte) '}');
+        }
+        putAscii("]}");
+    }
+
+    private void putAscii(String value) {
+        for (int i = 0; i < value.length(); i++) {
+            out.put((byte) value.charAt(i));
+        }
+    }
+
+    private void putString(String value) {
+        if (value == null) {
+            putAscii("null");
+            return;
+        }
+        out.put((byte) '"');
+        int length = value.length();
+        for (int i = 0; i < length; i++) {
+            char c = value.charAt(i);
+            if (c == '"' || c == '\\') {
+                out.put((byte) '\\');
+                out.put((byte) c);
+            } else if (c < 0x20) {
+                putAscii("\\u00");
+                out.put(HEX[c >> 4]);
+                out.put(HEX[c & 0xF]);
+            } else if (c < 0x80) {
+                out.put((byte) c);
+            } else if (c < 0x800) {
+                out.put((byte) (0xC0 | (c >> 6)));
+                out.put((byte) (0x80 | (c & 0x3F)));
+            } else if (Character.isHighSurrogate(c) && i + 1 < length
+                       && Character.isLowSurrogate(value.charAt(i + 1))) {
+                int codePoint = Character.toCodePoint(c, value.charAt(++i));
+                out.put((byte) (0xF0 | (codePoint >> 18)));
+                out.put((byte) (0x80 | ((codePoint >> 12) & 0x3F)));
+                out.put((byte) (0x80 | ((codePoint >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (codePoint & 0x3F)));
+            } else {
+                char encodable = Character.isSurrogate(c) ? '?' : c;
+                out.put((byte) (0xE0 | (encodable >> 12)));
+                out.put((byte) (0x80 | ((encodable >> 6) & 0x3F)));
+                out.put((byte) (0x80 | (encodable & 0x3F)));
+            }
+        }
+        out.put((byte) '"');
+    }
+
+    private void putTimestamp(LocalDateTime timestamp) {
+        if (timestamp == null) {
+            putAscii("null");
+            return;
+        }
+        out.put((byte) '"');
+        putPadded(timestamp.getYear(), 4);
+        out.put((byte) '-');
+        putPadded(timestamp.getMonthValue(), 2);
+        out.put((byte) '-');
+        putPadded(timestamp.getDayOfMonth(), 2);
+        out.put((byte) 'T');
+        putPadded(timestamp.getHour(), 2);
+        out.put((byte) ':');
+        putPadded(timestamp.getMinute(), 2);
+        out.put((byte) ':');
+        putPadded(timestamp.getSecond(), 2);
+        int nanos = timestamp.getNano();
+        if (nanos != 0) {
+            out.put((byte) '.');
+            if (nanos % 1_000_000 == 0) {
+                putPadded(nanos / 1_000_000, 3);
+            } else if (nanos % 1000 == 0) {
+                putPadded(nanos / 1000, 6);
+            } else {
+                putPadded(nanos, 9);
+            }
+        }
+        out.put((byte) '"');
+    }
+
+    private void putPadded(int value, int width) {
+        int divisor = 1;
+        for (int i = 1; i < width; i++) {
+            divisor *= 10;
+        }
+        if (value < 0 || value >= divisor * 10) {
+            putLong(value);
+            return;
+        }
+        for (; divisor > 0; divisor /= 10) {
+            out.put((byte) ('0' + value / divisor % 10));
+        }
+    }
+
+    private void putLong(long value) {
+        if (value == Long.MIN_VALUE) {
+            putAscii(Long.toString(value));
+            return;
+        }
+        if (value < 0) {
+            out.put((byte) '-');
+            value = -value;
+        }
+        int count = 0;
+        do {
+            digits[MAX_LONG_DIGITS - 1 - count++] = (byte) ('0' + value % 10);
+            value /= 10;
+        } while (value != 0);
+        out.put(digits, MAX_LONG_DIGITS - count, count);
+    }
+
+    private void putDecimal(BigDecimal value) {
+        int scale = value.scale();
+        if (scale < 0 || scale > 18 || value.unscaledValue().bitLength() > 62) {
+            putAscii(value.toPlainString());
+            return;
+        }
+        long unscaled = value.unscaledValue().longValue();
+        if (scale == 0) {
+            putLong(unscaled);
+            return;
+        }
+        if (unscaled < 0) {
+            out.put((byte) '-');
+            unscaled = -unscaled;
+        }
+        long divisor = 1;
+        for (int i = 0; i < scale; i++) {
+            divisor *= 10;
+        }
+        putLong(unscaled / divisor);
+        out.put((byte) '.');
+        long fraction = unscaled % divisor;
+        for (long place = divisor / 10; place > 0; place /= 10) {
+            out.put((byte) ('0' + (int) (fraction / place % 10)));
+        }
+    }
+
+    // Codec errors are server faults, so they must not surface as the IllegalArgumentException a bad request maps to.
+    private static RuntimeException encodingFailed(RuntimeException cause) {
+        return new RuntimeException("Failed to encode response: " + cause.getMessage(), cause);
+    }
+
+    private void grow(BufferOverflowException overflow) {
+        if (out.capacity() >= MAX_RESPONSE_BYTES) {
+            throw overflow;
+        }
+        out = ByteBuffer.allocate(out.capacity() * 2);
+    }
+}
@@ -0,0 +1,210 @@
+package com.orderprocessing.infrastructure.http;
+
+import com.orderprocessing.application.admission.AdmissionRejectedException;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.repository.CustomerNotFoundException;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.codec.CodecDictionary;
+import com.orderprocessing.infrastructure.codec.DomainCodec;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.util.Collections;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+public class OrderHttpServer implements AutoCloseable {
+    public static final int DEFAULT_MAX_BATCH_SIZE = 256;
+
+    private static final String ORDERS = "/orders";
+    private static final String CUSTOMERS = "/customers";
+    private static final String ITEMS = "items";
+    private static final String PROCESS = "process";
+
+    private final OrderService orderService;
+    private final HttpServer server;
+    private final ExecutorService workers;
+    private final RequestCoalescer<CustomerId, Order> orderCreation;
+    private final ThreadLocal<ExchangeCodec> codecs;
+
+    public OrderHttpServer(OrderService orderService, InetSocketAddress address, int workerThreads)
+            throws IOException {
+        this(orderService, address, workerThreads, DEFAULT_MAX_BATCH_SIZE,
+             new DomainCodec(new CodecDictionary(Collections.emptyList())));
+    }
+
+    public OrderHttpServer(OrderService orderService, InetSocketAddress address, int workerThreads,
+                           int maxBatchSize, DomainCodec domainCodec) throws IOException {
+        if (orderService == null || domainCodec == null) {
+            throw new IllegalArgumentException("Order service and codec are required");
+        }
+        if (workerThreads <= 0) {
+            throw new IllegalArgumentException("Worker threads must be positive");
+        }
+        this.orderService = orderService;
+        this.orderCreation = new RequestCoalescer<>(orderService::createOrders, orderService::createOrder,
+                                                    maxBatchSize);
+        this.codecs = ThreadLocal.withInitial(() -> new ExchangeCodec(domainCodec));
+        AtomicInteger workerIds = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(workerThreads, runnable -> {
+            Thread thread = new Thread(runnable, "http-worker-" + workerIds.getAndIncrement());
+            thread.setDaemon(true);
+            return thread;
+        });
+        this.server = HttpServer.create(address, 0);
+        this.server.setExecutor(workers);
+        this.server.createContext(ORDERS, this::handleOrders);
+        this.server.createContext(CUSTOMERS, this::handleCustomers);
+    }
+
+    public OrderHttpServer start() {
+        server.start();
+        return this;
+    }
+
+    public int getPort() {
+        return server.getAddress().getPort();
+    }
+
+    public long getCoalescedBatchCount() {
+        return orderCreation.getBatchCount();
+    }
+
+    public long getCoalescedRequestCount() {
+        return orderCreation.getRequestCount();
+    }
+
+    public long getBatchFallbackCount() {
+        return orderCreation.getFallbackCount();
+    }
+
+    private void handleOrders(HttpExchange exchange) throws IOException {
+        ExchangeCodec codec = codecs.get();
+        try {
+            codec.begin(exchange);
+            String method = exchange.getRequestMethod();
+            String path = exchange.getRequestURI().getPath();
+            int idStart = ORDERS.length() + 1;
+            if (path.length() > ORDERS.length() && path.charAt(ORDERS.length()) != '/') {
+                sendNotFound(exchange, codec, path);
+                return;
+            }
+            if (path.length() <= idStart) {
+                if (!"POST".equals(method)) {
+                    sendMethodNotAllowed(exchange, codec);
+                    return;
+                }
+                Order order = orderCreation.submit(new CustomerId(codec.parameter("customerId")));
+                codec.encodeOrder(order.toSnapshot(order.getVersion()));
+                codec.send(exchange, 201);
+                return;
+            }
+            int idEnd = path.indexOf('/', idStart);
+            OrderId orderId = new OrderId(path.substring(idStart, idEnd < 0 ? path.length() : idEnd));
+            String action = idEnd < 0 ? "" : path.substring(idEnd + 1);
+            if (action.isEmpty() && "GET".equals(method)) {
+                codec.encodeOrder(orderService.getOrderSnapshot(orderId));
+            } else if (ITEMS.equals(action) && "POST".equals(method)) {
+                orderService.addItemToOrder(orderId, codec.parameter("productId"), codec.parameter("productName"),
+                                            new BigDecimal(codec.parameter("unitPrice")),
+                                            Integer.parseInt(codec.parameter("quantity")));
+                codec.encodeOrder(orderService.getOrderSnapshot(orderId));
+            } else if (PROCESS.equals(action) && "POST".equals(method)) {
+                orderService.processOrder(orderId, codec.parameter("paymentMethod"));
+                codec.encodeOrder(orderService.getOrderSnapshot(orderId));
+            } else {
+                sendNotFound(exchange, codec, path);
+                return;
+            }
+            codec.send(exchange, 200);
+        } catch (RuntimeException e) {
+            sendError(exchange, codec, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private void handleCustomers(HttpExchange exchange) throws IOException {
+        ExchangeCodec codec = codecs.get();
+        try {
+            codec.begin(exchange);
+            String path = exchange.getRequestURI().getPath();
+            int idStart = CUSTOMERS.length() + 1;
+            int idEnd = path.indexOf('/', idStart);
+            if (idEnd <= idStart || path.charAt(CUSTOMERS.length()) != '/' || !path.startsWith(ORDERS, idEnd)
+                || path.length() != idEnd + ORDERS.length()) {
+                sendNotFound(exchange, codec, path);
+                return;
+            }
+            if (!"GET".equals(exchange.getRequestMethod())) {
+                sendMethodNotAllowed(exchange, codec);
+                return;
+            }
+            CustomerId customerId = new CustomerId(path.substring(idStart, idEnd));
+            codec.encodeOrders(orderService.getCustomerOrderSnapshots(customerId));
+            codec.send(exchange, 200);
+        } catch (RuntimeException e) {
+            sendError(exchange, codec, e);
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void sendError(HttpExchange exchange, ExchangeCodec codec, RuntimeException e)
+            throws IOException {
+        int status = statusFor(e);
+        if (status == 500) {
+            System.err.println("ERROR handling " + exchange.getRequestMethod() + " " +
+                               exchange.getRequestURI().getPath() + ": " + e.getMessage());
+        }
+        if (e instanceof AdmissionRejectedException) {
+            long retryAfterMillis = ((AdmissionRejectedException) e).getRetryAfterMillis();
+            exchange.getResponseHeaders().set("Retry-After",
+                                              Long.toString(Math.max(1, (retryAfterMillis + 999) / 1000)));
+        }
+        codec.encodeError(e instanceof NumberFormatException ? "Malformed number: " + e.getMessage()
+                                                              : e.getMessage());
+        codec.send(exchange, status);
+    }
+
+    private static void sendNotFound(HttpExchange exchange, ExchangeCodec codec, String path) throws IOException {
+        codec.encodeError("No route for " + path);
+        codec.send(exchange, 404);
+    }
+
+    private static void sendMethodNotAllowed(HttpExchange exchange, ExchangeCodec codec) throws IOException {
+        codec.encodeError("Method not allowed: " + exchange.getRequestMethod());
+        codec.send(exchange, 405);
+    }
+
+    private static int statusFor(RuntimeException e) {
+        if (e instanceof OrderNotFoundException || e instanceof CustomerNotFoundException) {
+            return 404;
+        }
+        if (e instanceof IllegalArgumentException) {
+            return 400;
+        }
+        if (e instanceof AdmissionRejectedException) {
+            return 503;
+        }
+        if (e instanceof IllegalStateException) {
+            return 409;
+        }
+        return 500;
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        server.stop(0);
+        workers.shutdown();
+        workers.awaitTermination(5, TimeUnit.SECONDS);
+    }
+}
@@ -0,0 +1,136 @@
+package com.orderprocessing.infrastructure.http;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.LockSupport;
+import java.util.function.Function;
+
+final class RequestCoalescer<T, R> {
+    private final Function<List<T>, List<R>> batchHandler;
+    private final Function<T, R> singleHandler;
+    private final int maxBatchSize;
+    private final Queue<Pending<T, R>> queue = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean combining = new AtomicBoolean();
+    private final LongAdder batches = new LongAdder();
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder fallbacks = new LongAdder();
+
+    RequestCoalescer(Function<List<T>, List<R>> batchHandler, Function<T, R> singleHandler, int maxBatchSize) {
+        if (batchHandler == null || singleHandler == null) {
+            throw new IllegalArgumentException("Batch and single handlers are required");
+        }
+        if (maxBatchSize <= 0) {
+            throw new IllegalArgumentException("Max batch size must be positive");
+        }
+        this.batchHandler = batchHandler;
+        this.singleHandler = singleHandler;
+        this.maxBatchSize = maxBatchSize;
+    }
+
+    R submit(T request) {
+        Pending<T, R> pending = new Pending<>(request, Thread.currentThread());
+        queue.offer(pending);
+        while (!pending.done) {
+            if (combining.compareAndSet(false, true)) {
+                try {
+                    while (!pending.done) {
+                        combine();
+                    }
+                } finally {
+                    combining.set(false);
+                }
+                Pending<T, R> next = queue.peek();
+                if (next != null) {
+                    LockSupport.unpark(next.waiter);
+                }
+            } else {
+                LockSupport.park(this);
+            }
+        }
+        if (pending.error != null) {
+            throw pending.error;
+        }
+        return pending.result;
+    }
+
+    long getBatchCount() {
+        return batches.sum();
+    }
+
+    long getRequestCount() {
+        return requests.sum();
+    }
+
+    long getFallbackCount() {
+        return fallbacks.sum();
+    }
+
+    private void combine() {
+        List<Pending<T, R>> batch = new ArrayList<>(Math.min(maxBatchSize, 64));
+        Pending<T, R> pending;
+        while (batch.size() < maxBatchSize && (pending = queue.poll()) != null) {
+            batch.add(pending);
+        }
+        if (batch.isEmpty()) {
+            return;
+        }
+        batches.increment();
+        requests.add(batch.size());
+        List<T> inputs = new ArrayList<>(batch.size());
+        for (Pending<T, R> entry : batch) {
+            inputs.add(entry.request);
+        }
+        List<R> results = null;
+        try {
+            results = batchHandler.apply(inputs);
+        } catch (RuntimeException e) {
+            if (batch.size() == 1) {
+                batch.get(0).fail(e);
+                return;
+            }
+        }
+        if (results != null && results.size() == batch.size()) {
+            for (int i = 0; i < batch.size(); i++) {
+                batch.get(i).complete(results.get(i));
+            }
+            return;
+        }
+        fallbacks.increment();
+        for (Pending<T, R> entry : batch) {
+            try {
+                entry.complete(singleHandler.apply(entry.request));
+            } catch (RuntimeException e) {
+                entry.fail(e);
+            }
+        }
+    }
+
+    private static final class Pending<T, R> {
+        private final T request;
+        private final Thread waiter;
+        private R result;
+        private RuntimeException error;
+        private volatile boolean done;
+
+        Pending(T request, Thread waiter) {
+            this.request = request;
+            this.waiter = waiter;
+        }
+
+        void complete(R value) {
+            result = value;
+            done = true;
+            LockSupport.unpark(waiter);
+        }
+
+        void fail(RuntimeException e) {
+            error = e;
+            done = true;
+            LockSupport.unpark(waiter);
+        }
+    }
+}
@@ -0,0 +1,226 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import com.orderprocessing.application.service.InventoryListener;
+import com.orderprocessing.application.service.OrderProcessingListener;
+import com.orderprocessing.application.service.PaymentListener;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.application.service.ProcessingStage;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.util.ArrayDeque;
+
+public class FlightRecorderListener implements OrderProcessingListener, InventoryListener, PaymentListener {
+    private final ThreadLocal<InFlight> inFlight = ThreadLocal.withInitial(InFlight::new);
+
+    @Override
+    public void onOrderCreationStarted(int orders) {
+        ArrayDeque<OrderCreationEvent> creations = inFlight.get().creations;
+        creations.clear();
+        for (int i = 0; i < orders; i++) {
+            OrderCreationEvent event = new OrderCreationEvent();
+            if (!event.isEnabled()) {
+                return;
+            }
+            event.begin();
+            creations.addLast(event);
+        }
+    }
+
+    @Override
+    public void onOrderCreated(Order order, long durationNanos) {
+        OrderCreationEvent event = inFlight.get().creations.pollFirst();
+        if (event == null) {
+            event = new OrderCreationEvent();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.orderId = order.getOrderId().getValue();
+            event.customerId = order.getCustomerId().getValue();
+            event.elapsed = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onVersionConflict(OrderId orderId, int attempt, long wastedNanos) {
+        OrderVersionConflictEvent event = new OrderVersionConflictEvent();
+        if (event.shouldCommit()) {
+            event.orderId = orderId.getValue();
+            event.attempt = attempt;
+            event.wastedTime = wastedNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onProcessingStarted(OrderId orderId) {
+        OrderProcessedEvent event = new OrderProcessedEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            inFlight.get().processing = event;
+        }
+    }
+
+    @Override
+    public void onStageStarted(OrderId orderId, ProcessingStage stage) {
+        ProcessingStageEvent event = new ProcessingStageEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            InFlight current = inFlight.get();
+            current.stage = event;
+            current.stageName = stage;
+        }
+    }
+
+    @Override
+    public void onStageCompleted(OrderId orderId, ProcessingStage stage, long durationNanos, boolean success) {
+        if (stage == ProcessingStage.TOTAL) {
+            return;
+        }
+        InFlight current = inFlight.get();
+        ProcessingStageEvent event = current.stageName == stage ? current.stage : null;
+        if (event == null) {
+            event = new ProcessingStageEvent();
+        } else {
+            current.stage = null;
+            current.stageName = null;
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.orderId = orderId.getValue();
+            event.stage = stage.name();
+            event.success = success;
+            event.elapsed = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onOrderProcessed(OrderId orderId, OrderSnapshot order, String paymentMethod,
+                                 long durationNanos, boolean success) {
+        InFlight current = inFlight.get();
+        OrderProcessedEvent event = current.processing;
+        current.processing = null;
+        if (event == null) {
+            event = new OrderProcessedEvent();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.orderId = orderId.getValue();
+            event.paymentMethod = paymentMethod;
+            event.success = success;
+            event.elapsed = durationNanos;
+            if (order != null) {
+                Money total = order.getTotalAmount();
+                event.productCount = order.getItems().size();
+                event.totalAmount = total.getAmount().doubleValue();
+                event.currency = total.getCurrency();
+            }
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onReserveStarted(String productId, int quantity) {
+        InventoryReservationEvent event = new InventoryReservationEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            inFlight.get().reservation = event;
+        }
+    }
+
+    @Override
+    public void onReserve(String productId, int quantity, boolean success, boolean contended, long durationNanos) {
+        InFlight current = inFlight.get();
+        InventoryReservationEvent event = current.reservation;
+        current.reservation = null;
+        if (event == null) {
+            event = new InventoryReservationEvent();
+        }
+        event.end();
+        if (event.shouldCommit()) {
+            event.productId = productId;
+            event.quantity = quantity;
+            event.success = success;
+            event.contended = contended;
+            event.elapsed = durationNanos;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onRelease(String productId, int quantity) {
+        InventoryReleaseEvent event = new InventoryReleaseEvent();
+        if (event.shouldCommit()) {
+            event.productId = productId;
+            event.quantity = quantity;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onPaymentStarted(OrderId orderId) {
+        PaymentAttemptEvent event = new PaymentAttemptEvent();
+        if (event.isEnabled()) {
+            event.begin();
+            inFlight.get().payment = event;
+        }
+    }
+
+    @Override
+    public void onPaymentCompleted(PaymentService.PaymentTransaction transaction, long durationNanos) {
+        PaymentAttemptEvent event = takePayment();
+        if (event.shouldCommit()) {
+            populate(event, transaction.getOrderId(), transaction.getCustomerId(),
+                     transaction.getAmount(), transaction.getPaymentMethod(), durationNanos);
+            event.success = true;
+            event.commit();
+        }
+    }
+
+    @Override
+    public void onPaymentFailed(OrderId orderId, CustomerId customerId, Money amount,
+                                String paymentMethod, RuntimeException cause, long durationNanos) {
+        PaymentAttemptEvent event = takePayment();
+        if (event.shouldCommit()) {
+            populate(event, orderId, customerId, amount, paymentMethod, durationNanos);
+            event.success = false;
+            event.failure = cause.getMessage();
+            event.commit();
+        }
+    }
+
+    private PaymentAttemptEvent takePayment() {
+        InFlight current = inFlight.get();
+        PaymentAttemptEvent event = current.payment;
+        current.payment = null;
+        if (event == null) {
+            event = new PaymentAttemptEvent();
+        }
+        event.end();
+        return event;
+    }
+
+    private static void populate(PaymentAttemptEvent event, OrderId orderId, CustomerId customerId,
+                                 Money amount, String paymentMethod, long durationNanos) {
+        event.orderId = orderId.getValue();
+        event.customerId = customerId.getValue();
+        event.amount = amount.getAmount().doubleValue();
+        event.currency = amount.getCurrency();
+        event.paymentMethod = paymentMethod;
+        event.elapsed = durationNanos;
+    }
+
+    private static final class InFlight {
+        private final ArrayDeque<OrderCreationEvent> creations = new ArrayDeque<>();
+        private OrderProcessedEvent processing;
+        private ProcessingStageEvent stage;
+        private ProcessingStage stageName;
+        private InventoryReservationEvent reservation;
+        private PaymentAttemptEvent payment;
+    }
+}
@@ -0,0 +1,19 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+@Name("com.orderprocessing.InventoryRelease")
+@Label("Inventory Release")
+@Category({"Order Processing", "Inventory"})
+@StackTrace(false)
+class InventoryReleaseEvent extends Event {
+    @Label("Product ID")
+    String productId;
+
+    @Label("Quantity")
+    int quantity;
+}
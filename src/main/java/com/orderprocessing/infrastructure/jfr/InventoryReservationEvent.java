@@ -0,0 +1,30 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.InventoryReservation")
+@Label("Inventory Reservation")
+@Category({"Order Processing", "Inventory"})
+@StackTrace(false)
+class InventoryReservationEvent extends Event {
+    @Label("Product ID")
+    String productId;
+
+    @Label("Quantity")
+    int quantity;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Contended")
+    boolean contended;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
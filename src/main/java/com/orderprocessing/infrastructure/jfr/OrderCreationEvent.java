@@ -0,0 +1,24 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.OrderCreation")
+@Label("Order Creation")
+@Category({"Order Processing", "Orders"})
+@StackTrace(false)
+class OrderCreationEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Customer ID")
+    String customerId;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
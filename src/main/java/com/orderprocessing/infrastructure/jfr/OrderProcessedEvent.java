@@ -0,0 +1,36 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.OrderProcessed")
+@Label("Order Processed")
+@Category({"Order Processing", "Orders"})
+@StackTrace(false)
+class OrderProcessedEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Product Count")
+    int productCount;
+
+    @Label("Total Amount")
+    double totalAmount;
+
+    @Label("Currency")
+    String currency;
+
+    @Label("Payment Method")
+    String paymentMethod;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
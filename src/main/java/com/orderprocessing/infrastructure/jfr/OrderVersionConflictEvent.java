@@ -0,0 +1,24 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.OrderVersionConflict")
+@Label("Order Version Conflict")
+@Category({"Order Processing", "Concurrency"})
+@StackTrace(false)
+class OrderVersionConflictEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Attempt")
+    int attempt;
+
+    @Label("Wasted Time")
+    @Timespan(Timespan.NANOSECONDS)
+    long wastedTime;
+}
@@ -0,0 +1,39 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.PaymentAttempt")
+@Label("Payment Attempt")
+@Category({"Order Processing", "Payments"})
+@StackTrace(false)
+class PaymentAttemptEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Customer ID")
+    String customerId;
+
+    @Label("Amount")
+    double amount;
+
+    @Label("Currency")
+    String currency;
+
+    @Label("Payment Method")
+    String paymentMethod;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Failure")
+    String failure;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,27 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import jdk.jfr.Timespan;
+
+@Name("com.orderprocessing.ProcessingStage")
+@Label("Order Processing Stage")
+@Category({"Order Processing", "Orders"})
+@StackTrace(false)
+class ProcessingStageEvent extends Event {
+    @Label("Order ID")
+    String orderId;
+
+    @Label("Stage")
+    String stage;
+
+    @Label("Success")
+    boolean success;
+
+    @Label("Elapsed")
+    @Timespan(Timespan.NANOSECONDS)
+    long elapsed;
+}
@@ -0,0 +1,83 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import com.orderprocessing.application.service.InventoryListener;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class InventoryMetrics implements InventoryMetricsMBean, InventoryListener {
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder contended = new LongAdder();
+    private final LongAdder releases = new LongAdder();
+    private final LongAdder stockSplits = new LongAdder();
+    private final LatencyHistogram reserveLatency = new LatencyHistogram();
+
+    @Override
+    public void onReserve(String productId, int quantity, boolean success, boolean wasContended, long durationNanos) {
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+        if (wasContended) {
+            contended.increment();
+        }
+        reserveLatency.record(durationNanos);
+    }
+
+    @Override
+    public void onRelease(String productId, int quantity) {
+        releases.increment();
+    }
+
+    @Override
+    public void onStockSplit(String productId, int stripes) {
+        stockSplits.increment();
+    }
+
+    @Override
+    public long getReservationsSucceeded() {
+        return succeeded.sum();
+    }
+
+    @Override
+    public long getReservationsFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public long getContendedReservations() {
+        return contended.sum();
+    }
+
+    @Override
+    public double getContentionRate() {
+        long attempts = succeeded.sum() + failed.sum();
+        return attempts == 0 ? 0.0 : (double) contended.sum() / attempts;
+    }
+
+    @Override
+    public long getReleases() {
+        return releases.sum();
+    }
+
+    @Override
+    public long getStockSplits() {
+        return stockSplits.sum();
+    }
+
+    @Override
+    public double getReserveP99Micros() {
+        return reserveLatency.getValueAtPercentile(99) / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        succeeded.reset();
+        failed.reset();
+        contended.reset();
+        releases.reset();
+        stockSplits.reset();
+        reserveLatency.reset();
+    }
+}
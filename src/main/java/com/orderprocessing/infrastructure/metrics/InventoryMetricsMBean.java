@@ -0,0 +1,19 @@
+package com.orderprocessing.infrastructure.metrics;
+
+public interface InventoryMetricsMBean {
+    long getReservationsSucceeded();
+
+    long getReservationsFailed();
+
+    long getContendedReservations();
+
+    double getContentionRate();
+
+    long getReleases();
+
+    long getStockSplits();
+
+    double getReserveP99Micros();
+
+    void reset();
+}
@@ -0,0 +1,146 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import com.orderprocessing.application.service.OrderProcessingListener;
+import com.orderprocessing.application.service.PaymentListener;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.application.service.ProcessingStage;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.LongSupplier;
+
+public class OrderProcessingMetrics implements OrderProcessingListener, PaymentListener {
+    public static final String DOMAIN = "com.orderprocessing";
+
+    private final Map<ProcessingStage, StageMetrics> stages = new EnumMap<>(ProcessingStage.class);
+    private final StageMetrics orderCreation = new StageMetrics();
+    private final InventoryMetrics inventory = new InventoryMetrics();
+    private final Map<String, PaymentMethodMetrics> paymentMethods = new ConcurrentHashMap<>();
+    private final RepositoryMetrics repositories;
+    private final List<ObjectName> registered = new CopyOnWriteArrayList<>();
+    private volatile MBeanServer server;
+
+    public OrderProcessingMetrics(LongSupplier orderCount, LongSupplier customerCount) {
+        for (ProcessingStage stage : ProcessingStage.values()) {
+            stages.put(stage, new StageMetrics());
+        }
+        this.repositories = new RepositoryMetrics(orderCount, customerCount);
+    }
+
+    @Override
+    public void onOrderCreated(Order order, long durationNanos) {
+        orderCreation.record(durationNanos, true);
+    }
+
+    @Override
+    public void onStageCompleted(OrderId orderId, ProcessingStage stage, long durationNanos, boolean success) {
+        stages.get(stage).record(durationNanos, success);
+    }
+
+    @Override
+    public void onPaymentCompleted(PaymentService.PaymentTransaction transaction, long durationNanos) {
+        paymentMethod(transaction.getPaymentMethod()).record(true, durationNanos);
+    }
+
+    @Override
+    public void onPaymentFailed(OrderId orderId, CustomerId customerId, Money amount,
+                                String paymentMethod, RuntimeException cause, long durationNanos) {
+        if (paymentMethod != null) {
+            paymentMethod(paymentMethod).record(false, durationNanos);
+        }
+    }
+
+    private PaymentMethodMetrics paymentMethod(String method) {
+        PaymentMethodMetrics metrics = paymentMethods.get(method);
+        if (metrics != null) {
+            return metrics;
+        }
+        PaymentMethodMetrics created = new PaymentMethodMetrics();
+        metrics = paymentMethods.putIfAbsent(method, created);
+        if (metrics != null) {
+            return metrics;
+        }
+        MBeanServer target = server;
+        if (target != null) {
+            registerQuietly(target, created, "type=Payment,method=" + ObjectName.quote(method));
+        }
+        return created;
+    }
+
+    public InventoryMetrics getInventoryMetrics() {
+        return inventory;
+    }
+
+    public StageMetrics getStageMetrics(ProcessingStage stage) {
+        return stages.get(stage);
+    }
+
+    public StageMetrics getOrderCreationMetrics() {
+        return orderCreation;
+    }
+
+    public PaymentMethodMetrics getPaymentMethodMetrics(String method) {
+        return paymentMethods.get(method);
+    }
+
+    public void registerPlatformMBeans() throws JMException {
+        register(ManagementFactory.getPlatformMBeanServer());
+    }
+
+    public synchronized void register(MBeanServer mBeanServer) throws JMException {
+        if (server != null) {
+            throw new IllegalStateException("Metrics are already registered");
+        }
+        server = mBeanServer;
+        for (Map.Entry<ProcessingStage, StageMetrics> entry : stages.entrySet()) {
+            register(mBeanServer, entry.getValue(), "type=Stage,name=" + entry.getKey());
+        }
+        register(mBeanServer, orderCreation, "type=Stage,name=ORDER_CREATION");
+        register(mBeanServer, inventory, "type=Inventory");
+        register(mBeanServer, repositories, "type=Repository");
+        for (Map.Entry<String, PaymentMethodMetrics> entry : paymentMethods.entrySet()) {
+            register(mBeanServer, entry.getValue(), "type=Payment,method=" + ObjectName.quote(entry.getKey()));
+        }
+    }
+
+    private void register(MBeanServer mBeanServer, Object mBean, String properties) throws JMException {
+        ObjectName name = new ObjectName(DOMAIN + ":" + properties);
+        mBeanServer.registerMBean(mBean, name);
+        registered.add(name);
+    }
+
+    private void registerQuietly(MBeanServer mBeanServer, Object mBean, String properties) {
+        try {
+            register(mBeanServer, mBean, properties);
+        } catch (JMException e) {
+            System.err.println("ERROR registering metrics MBean " + properties + ": " + e.getMessage());
+        }
+    }
+
+    public synchronized void unregister() {
+        MBeanServer mBeanServer = server;
+        if (mBeanServer == null) {
+            return;
+        }
+        for (ObjectName name : registered) {
+            try {
+                mBeanServer.unregisterMBean(name);
+            } catch (JMException e) {
+                System.err.println("ERROR unregistering metrics MBean " + name + ": " + e.getMessage());
+            }
+        }
+        registered.clear();
+        server = null;
+    }
+}
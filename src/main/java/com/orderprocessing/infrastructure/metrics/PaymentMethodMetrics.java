@@ -0,0 +1,51 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class PaymentMethodMetrics implements PaymentMethodMetricsMBean {
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LatencyHistogram latency = new LatencyHistogram();
+
+    public void record(boolean success, long durationNanos) {
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+        latency.record(durationNanos);
+    }
+
+    @Override
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    @Override
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    @Override
+    public double getFailureRate() {
+        long attempts = succeeded.sum() + failed.sum();
+        return attempts == 0 ? 0.0 : (double) failed.sum() / attempts;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.getValueAtPercentile(50) / 1000.0;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.getValueAtPercentile(99) / 1000.0;
+    }
+
+    @Override
+    public void reset() {
+        succeeded.reset();
+        failed.reset();
+        latency.reset();
+    }
+}
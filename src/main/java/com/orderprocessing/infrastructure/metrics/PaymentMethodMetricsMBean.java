@@ -0,0 +1,15 @@
+package com.orderprocessing.infrastructure.metrics;
+
+public interface PaymentMethodMetricsMBean {
+    long getSucceeded();
+
+    long getFailed();
+
+    double getFailureRate();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    void reset();
+}
@@ -0,0 +1,23 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import java.util.function.LongSupplier;
+
+public class RepositoryMetrics implements RepositoryMetricsMBean {
+    private final LongSupplier orderCount;
+    private final LongSupplier customerCount;
+
+    public RepositoryMetrics(LongSupplier orderCount, LongSupplier customerCount) {
+        this.orderCount = orderCount;
+        this.customerCount = customerCount;
+    }
+
+    @Override
+    public long getOrderCount() {
+        return orderCount.getAsLong();
+    }
+
+    @Override
+    public long getCustomerCount() {
+        return customerCount.getAsLong();
+    }
+}
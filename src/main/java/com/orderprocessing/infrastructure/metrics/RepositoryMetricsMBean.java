@@ -0,0 +1,7 @@
+package com.orderprocessing.infrastructure.metrics;
+
+public interface RepositoryMetricsMBean {
+    long getOrderCount();
+
+    long getCustomerCount();
+}
@@ -0,0 +1,58 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import java.util.concurrent.atomic.LongAdder;
+
+public class StageMetrics implements StageMetricsMBean {
+    private static final double NANOS_PER_MICRO = 1000.0;
+
+    private final LatencyHistogram latency = new LatencyHistogram();
+    private final LongAdder failures = new LongAdder();
+
+    public void record(long durationNanos, boolean success) {
+        latency.record(durationNanos);
+        if (!success) {
+            failures.increment();
+        }
+    }
+
+    @Override
+    public long getCount() {
+        return latency.getTotalCount();
+    }
+
+    @Override
+    public long getFailures() {
+        return failures.sum();
+    }
+
+    @Override
+    public double getMeanMicros() {
+        return latency.getMean() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP50Micros() {
+        return latency.getValueAtPercentile(50) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP99Micros() {
+        return latency.getValueAtPercentile(99) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getP999Micros() {
+        return latency.getValueAtPercentile(99.9) / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public double getMaxMicros() {
+        return latency.getMaxValue() / NANOS_PER_MICRO;
+    }
+
+    @Override
+    public void reset() {
+        latency.reset();
+        failures.reset();
+    }
+}
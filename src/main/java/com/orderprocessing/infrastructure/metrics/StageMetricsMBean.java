@@ -0,0 +1,19 @@
+package com.orderprocessing.infrastructure.metrics;
+
+public interface StageMetricsMBean {
+    long getCount();
+
+    long getFailures();
+
+    double getMeanMicros();
+
+    double getP50Micros();
+
+    double getP99Micros();
+
+    double getP999Micros();
+
+    double getMaxMicros();
+
+    void reset();
+}
@@ -0,0 +1,103 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+public class FileOutboxSink implements OutboxSink {
+    private final Path file;
+    private final FileChannel channel;
+    private final StringBuilder buffer = new StringBuilder(8192);
+    private long lastWrittenSequence;
+
+    public FileOutboxSink(Path file) throws IOException {
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE,
+            StandardOpenOption.READ, StandardOpenOption.WRITE);
+        truncatePartialLine(channel);
+        this.lastWrittenSequence = readLastWrittenSequence(file);
+        channel.position(channel.size());
+    }
+
+    static void truncatePartialLine(FileChannel channel) throws IOException {
+        long end = channel.size();
+        ByteBuffer chunk = ByteBuffer.allocate(4096);
+        while (end > 0) {
+            int length = (int) Math.min(chunk.capacity(), end);
+            long start = end - length;
+            chunk.clear().limit(length);
+            while (chunk.hasRemaining()) {
+                if (channel.read(chunk, start + chunk.position()) < 0) {
+                    break;
+                }
+            }
+            for (int i = length - 1; i >= 0; i--) {
+                if (chunk.get(i) == '\n') {
+                    if (start + i + 1 < channel.size()) {
+                        channel.truncate(start + i + 1);
+                    }
+                    return;
+                }
+            }
+            end = start;
+        }
+        channel.truncate(0);
+    }
+
+    private static long readLastWrittenSequence(Path file) throws IOException {
+        if (!Files.exists(file)) {
+            return -1L;
+        }
+        long last = -1L;
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.UTF_8)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.isEmpty()) {
+                    last = OutboxEventFormatter.parseSequence(line);
+                }
+            }
+        }
+        return last;
+    }
+
+    @Override
+    public void write(List<OutboxEntry> batch) throws IOException {
+        buffer.setLength(0);
+        long last = lastWrittenSequence;
+        for (OutboxEntry entry : batch) {
+            if (entry.getSequence() > last) {
+                OutboxEventFormatter.format(entry, buffer);
+                last = entry.getSequence();
+            }
+        }
+        if (buffer.length() == 0) {
+            return;
+        }
+        ByteBuffer bytes = StandardCharsets.UTF_8.encode(buffer.toString());
+        while (bytes.hasRemaining()) {
+            channel.write(bytes);
+        }
+        channel.force(false);
+        lastWrittenSequence = last;
+    }
+
+    @Override
+    public long getLastWrittenSequence() {
+        return lastWrittenSequence;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
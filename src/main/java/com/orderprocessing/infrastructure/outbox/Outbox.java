@@ -0,0 +1,291 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded queue of the events an {@link com.orderprocessing.infrastructure.repository.OutboxOrderRepository} write
+ * produced, drained by {@link OutboxRelay}. An outbox opened with {@link #open} also appends every entry to a journal
+ * file and fsyncs it before {@link #append} returns, so an event whose write returned to its caller survives a crash
+ * and is re-queued on the next {@code open}. Together with the delivered-sequence cursor and a sink that drops repeats,
+ * such as {@link FileOutboxSink}, each event then reaches the sink exactly once. The journal is rewritten with only
+ * the undelivered entries once it grows past {@value #COMPACT_THRESHOLD_BYTES} bytes.
+ */
+public class Outbox implements AutoCloseable {
+    static final long COMPACT_THRESHOLD_BYTES = 4L * 1024 * 1024;
+
+    private final int capacity;
+    private final long appendTimeoutMillis;
+    private final ArrayDeque<OutboxEntry> entries;
+    private final ReentrantLock lock = new ReentrantLock();
+    private final Condition notFull = lock.newCondition();
+    private final Condition notEmpty = lock.newCondition();
+    private final Path journalFile;
+    private final StringBuilder journalBuffer = new StringBuilder(1024);
+    private FileChannel journal;
+    private long lastSequence;
+    private int reserved;
+
+    public Outbox(int capacity, long lastRecordedSequence, long appendTimeoutMillis) {
+        this(capacity, lastRecordedSequence, appendTimeoutMillis, null, null);
+    }
+
+    private Outbox(int capacity, long lastRecordedSequence, long appendTimeoutMillis, Path journalFile,
+                   FileChannel journal) {
+        if (capacity <= 0) {
+            throw new IllegalArgumentException("Outbox capacity must be positive");
+        }
+        if (appendTimeoutMillis < 0) {
+            throw new IllegalArgumentException("Append timeout cannot be negative");
+        }
+        this.capacity = capacity;
+        this.appendTimeoutMillis = appendTimeoutMillis;
+        this.entries = new ArrayDeque<>(capacity);
+        this.lastSequence = lastRecordedSequence;
+        this.journalFile = journalFile;
+        this.journal = journal;
+    }
+
+    /**
+     * Creates an in-heap outbox numbered after the last delivered sequence. Its entries do not survive the process.
+     */
+    public static Outbox resume(int capacity, OutboxSink sink, OutboxCursor cursor, long appendTimeoutMillis) {
+        return new Outbox(capacity, deliveredSequence(sink, cursor), appendTimeoutMillis);
+    }
+
+    /**
+     * Opens a journaled outbox, queueing the journal's entries that were recorded but not yet delivered.
+     */
+    public static Outbox open(Path journalFile, int capacity, OutboxSink sink, OutboxCursor cursor,
+                              long appendTimeoutMillis) throws IOException {
+        FileChannel channel = FileChannel.open(journalFile, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                               StandardOpenOption.WRITE);
+        try {
+            FileOutboxSink.truncatePartialLine(channel);
+            channel.position(channel.size());
+            long delivered = deliveredSequence(sink, cursor);
+            List<OutboxEntry> pending = new ArrayList<>();
+            long last = delivered;
+            try (BufferedReader reader = Files.newBufferedReader(journalFile, StandardCharsets.UTF_8)) {
+                String line;
+                while ((line = reader.readLine()) != null) {
+                    if (line.isEmpty()) {
+                        continue;
+                    }
+                    OutboxEntry entry = OutboxEntry.recovered(line);
+                    last = Math.max(last, entry.getSequence());
+                    if (entry.getSequence() > delivered) {
+                        pending.add(entry);
+                    }
+                }
+            }
+            Outbox outbox = new Outbox(capacity, last, appendTimeoutMillis, journalFile, channel);
+            outbox.entries.addAll(pending);
+            return outbox;
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    static long deliveredSequence(OutboxSink sink, OutboxCursor cursor) {
+        return Math.max(cursor.getPosition(), sink.getLastWrittenSequence());
+    }
+
+    public void reserve(int count) {
+        if (count > capacity) {
+            throw new IllegalArgumentException("Cannot reserve " + count + " entries in an outbox of " + capacity);
+        }
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(appendTimeoutMillis);
+            while (entries.size() + reserved + count > capacity) {
+                if (remaining <= 0) {
+                    throw new IllegalStateException("Outbox is full, relay is lagging behind by " +
+                                                    entries.size() + " entries");
+                }
+                remaining = notFull.awaitNanos(remaining);
+            }
+            reserved += count;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for outbox capacity", e);
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void cancelReservation(int count) {
+        lock.lock();
+        try {
+            reserved -= count;
+            notFull.signalAll();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Records events against a prior {@link #reserve}. With a journal the entries are on disk when this returns; if
+     * the journal write fails the reservation is released, nothing is queued and an {@link UncheckedIOException} is
+     * thrown.
+     */
+    public void append(List<Object> events) {
+        long now = System.currentTimeMillis();
+        lock.lock();
+        try {
+            List<OutboxEntry> appended = new ArrayList<>(events.size());
+            long sequence = lastSequence;
+            for (Object event : events) {
+                appended.add(journal == null ? new OutboxEntry(++sequence, event, now)
+                                             : formatted(new OutboxEntry(++sequence, event, now)));
+            }
+            reserved -= events.size();
+            if (journal != null) {
+                try {
+                    writeJournal(appended);
+                } catch (IOException e) {
+                    notFull.signalAll();
+                    throw new UncheckedIOException("Failed to journal outbox entries: " + journalFile, e);
+                }
+            }
+            entries.addAll(appended);
+            lastSequence = sequence;
+            notEmpty.signal();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    private OutboxEntry formatted(OutboxEntry entry) {
+        journalBuffer.setLength(0);
+        OutboxEventFormatter.format(entry, journalBuffer);
+        journalBuffer.setLength(journalBuffer.length() - 1);
+        return new OutboxEntry(entry.getSequence(), entry.getEvent(), entry.getRecordedAtMillis(),
+                               journalBuffer.toString());
+    }
+
+    private void writeJournal(List<OutboxEntry> appended) throws IOException {
+        journalBuffer.setLength(0);
+        for (OutboxEntry entry : appended) {
+            journalBuffer.append(entry.getLine()).append('\n');
+        }
+        long start = journal.position();
+        try {
+            ByteBuffer bytes = StandardCharsets.UTF_8.encode(journalBuffer.toString());
+            while (bytes.hasRemaining()) {
+                journal.write(bytes);
+            }
+            journal.force(false);
+        } catch (IOException e) {
+            try {
+                journal.truncate(start);
+                journal.position(start);
+            } catch (IOException truncateFailure) {
+                e.addSuppressed(truncateFailure);
+            }
+            throw e;
+        }
+    }
+
+    public void awaitBatch(List<OutboxEntry> batch, int maxBatchSize, long lingerMillis) throws InterruptedException {
+        lock.lock();
+        try {
+            long remaining = TimeUnit.MILLISECONDS.toNanos(lingerMillis);
+            while (entries.size() < maxBatchSize && remaining > 0) {
+                remaining = notEmpty.awaitNanos(remaining);
+            }
+            Iterator<OutboxEntry> iterator = entries.iterator();
+            while (iterator.hasNext() && batch.size() < maxBatchSize) {
+                batch.add(iterator.next());
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public void acknowledge(long upToSequence) {
+        lock.lock();
+        try {
+            while (!entries.isEmpty() && entries.peekFirst().getSequence() <= upToSequence) {
+                entries.pollFirst();
+            }
+            notFull.signalAll();
+            if (journal != null && journal.position() >= COMPACT_THRESHOLD_BYTES) {
+                compactJournal();
+            }
+        } catch (IOException e) {
+            System.err.println("ERROR compacting outbox journal: " + e.getMessage());
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    // Rewrites the journal with the queued entries only; a crash mid-rewrite leaves the old, longer journal.
+    private void compactJournal() throws IOException {
+        Path tempFile = journalFile.resolveSibling(journalFile.getFileName() + ".tmp");
+        StringBuilder remaining = new StringBuilder();
+        for (OutboxEntry entry : entries) {
+            remaining.append(entry.getLine()).append('\n');
+        }
+        Files.write(tempFile, remaining.toString().getBytes(StandardCharsets.UTF_8), StandardOpenOption.CREATE,
+                    StandardOpenOption.TRUNCATE_EXISTING, StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(tempFile, journalFile, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        journal.close();
+        journal = FileChannel.open(journalFile, StandardOpenOption.READ, StandardOpenOption.WRITE);
+        journal.position(journal.size());
+    }
+
+    public int size() {
+        lock.lock();
+        try {
+            return entries.size();
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public long getLastSequence() {
+        lock.lock();
+        try {
+            return lastSequence;
+        } finally {
+            lock.unlock();
+        }
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public boolean isJournaled() {
+        return journalFile != null;
+    }
+
+    @Override
+    public void close() throws IOException {
+        lock.lock();
+        try {
+            if (journal != null) {
+                journal.close();
+            }
+        } finally {
+            lock.unlock();
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+
+public class OutboxCursor {
+    private final Path file;
+    private final Path tempFile;
+    private volatile long position;
+
+    public OutboxCursor(Path file) {
+        this.file = file;
+        this.tempFile = file.resolveSibling(file.getFileName() + ".tmp");
+        this.position = read();
+    }
+
+    private long read() {
+        try {
+            if (!Files.exists(file)) {
+                return -1L;
+            }
+            String content = new String(Files.readAllBytes(file), StandardCharsets.UTF_8).trim();
+            return content.isEmpty() ? -1L : Long.parseLong(content);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read outbox cursor: " + file, e);
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException("Corrupt outbox cursor: " + file, e);
+        }
+    }
+
+    public synchronized void commit(long sequence) throws IOException {
+        if (sequence <= position) {
+            return;
+        }
+        Files.write(tempFile, Long.toString(sequence).getBytes(StandardCharsets.UTF_8),
+            StandardOpenOption.CREATE, StandardOpenOption.TRUNCATE_EXISTING,
+            StandardOpenOption.WRITE, StandardOpenOption.SYNC);
+        Files.move(tempFile, file, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        position = sequence;
+    }
+
+    public long getPosition() {
+        return position;
+    }
+}
@@ -0,0 +1,48 @@
+package com.orderprocessing.infrastructure.outbox;
+
+public class OutboxEntry {
+    private final long sequence;
+    private final Object event;
+    private final long recordedAtMillis;
+    private final String line;
+
+    public OutboxEntry(long sequence, Object event, long recordedAtMillis) {
+        this(sequence, event, recordedAtMillis, null);
+    }
+
+    OutboxEntry(long sequence, Object event, long recordedAtMillis, String line) {
+        this.sequence = sequence;
+        this.event = event;
+        this.recordedAtMillis = recordedAtMillis;
+        this.line = line;
+    }
+
+    static OutboxEntry recovered(String line) {
+        return new OutboxEntry(OutboxEventFormatter.parseSequence(line), null,
+                               OutboxEventFormatter.parseRecordedAtMillis(line), line);
+    }
+
+    public long getSequence() {
+        return sequence;
+    }
+
+    /**
+     * The domain event, or {@code null} for an entry recovered from an outbox journal after a restart, which only
+     * has its formatted {@link #getLine() line}.
+     */
+    public Object getEvent() {
+        return event;
+    }
+
+    public long getRecordedAtMillis() {
+        return recordedAtMillis;
+    }
+
+    /**
+     * The entry as formatted by {@link OutboxEventFormatter}, without the trailing newline, or {@code null} if it
+     * was never journaled.
+     */
+    public String getLine() {
+        return line;
+    }
+}
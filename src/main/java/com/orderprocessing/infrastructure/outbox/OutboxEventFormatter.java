@@ -0,0 +1,106 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderItemAddedEvent;
+import com.orderprocessing.domain.event.OrderItemRemovedEvent;
+import com.orderprocessing.domain.event.OrderPriorityChangedEvent;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.event.OrderProcessingStartedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+
+public final class OutboxEventFormatter {
+    private static final char SEPARATOR = '|';
+
+    private OutboxEventFormatter() {
+    }
+
+    public static void format(OutboxEntry entry, StringBuilder out) {
+        if (entry.getLine() != null) {
+            out.append(entry.getLine()).append('\n');
+            return;
+        }
+        Object event = entry.getEvent();
+        out.append(entry.getSequence()).append(SEPARATOR)
+           .append(entry.getRecordedAtMillis()).append(SEPARATOR)
+           .append(event.getClass().getSimpleName());
+
+        if (event instanceof OrderCreatedEvent) {
+            OrderCreatedEvent created = (OrderCreatedEvent) event;
+            out.append(SEPARATOR).append(created.getOrderId())
+               .append(SEPARATOR).append(created.getCustomerId())
+               .append(SEPARATOR).append(created.getOccurredAt());
+        } else if (event instanceof OrderProcessedEvent) {
+            OrderProcessedEvent processed = (OrderProcessedEvent) event;
+            out.append(SEPARATOR).append(processed.getOrderId())
+               .append(SEPARATOR).append(processed.getProcessedAt())
+               .append(SEPARATOR).append(processed.getTotalAmount().getCurrency())
+               .append(SEPARATOR).append(processed.getTotalAmount().getAmount().toPlainString())
+               .append(SEPARATOR).append(processed.getChargedAmount().getAmount().toPlainString())
+               .append(SEPARATOR).append(processed.getPaymentMethod());
+        } else if (event instanceof OrderItemAddedEvent) {
+            OrderItemAddedEvent added = (OrderItemAddedEvent) event;
+            out.append(SEPARATOR).append(added.getOrderId())
+               .append(SEPARATOR).append(added.getProductId())
+               .append(SEPARATOR).append(added.getQuantity())
+               .append(SEPARATOR).append(added.getUnitPrice().getCurrency())
+               .append(SEPARATOR).append(added.getUnitPrice().getAmount().toPlainString());
+        } else if (event instanceof OrderItemRemovedEvent) {
+            OrderItemRemovedEvent removed = (OrderItemRemovedEvent) event;
+            out.append(SEPARATOR).append(removed.getOrderId())
+               .append(SEPARATOR).append(removed.getProductId());
+        } else if (event instanceof OrderCompletedEvent) {
+            OrderCompletedEvent completed = (OrderCompletedEvent) event;
+            out.append(SEPARATOR).append(completed.getOrderId())
+               .append(SEPARATOR).append(completed.getOccurredAt());
+        } else if (event instanceof OrderCancelledEvent) {
+            OrderCancelledEvent cancelled = (OrderCancelledEvent) event;
+            out.append(SEPARATOR).append(cancelled.getOrderId())
+               .append(SEPARATOR).append(cancelled.getPreviousStatus())
+               .append(SEPARATOR).append(cancelled.getOccurredAt());
+        } else if (event instanceof OrderShippedEvent) {
+            OrderShippedEvent shipped = (OrderShippedEvent) event;
+            out.append(SEPARATOR).append(shipped.getOrderId())
+               .append(SEPARATOR).append(shipped.getCustomerId())
+               .append(SEPARATOR).append(shipped.getOccurredAt());
+        } else if (event instanceof OrderPriorityChangedEvent) {
+            OrderPriorityChangedEvent changed = (OrderPriorityChangedEvent) event;
+            out.append(SEPARATOR).append(changed.getOrderId())
+               .append(SEPARATOR).append(changed.isPriorityOrder())
+               .append(SEPARATOR).append(changed.getOccurredAt());
+        } else if (event instanceof OrderProcessingStartedEvent) {
+            OrderProcessingStartedEvent started = (OrderProcessingStartedEvent) event;
+            out.append(SEPARATOR).append(started.getOrderId())
+               .append(SEPARATOR).append(started.getTotalAmount().getCurrency())
+               .append(SEPARATOR).append(started.getTotalAmount().getAmount().toPlainString())
+               .append(SEPARATOR).append(started.getPaymentMethod())
+               .append(SEPARATOR).append(started.getOccurredAt());
+        } else if (event instanceof OrderProcessingAbortedEvent) {
+            OrderProcessingAbortedEvent aborted = (OrderProcessingAbortedEvent) event;
+            out.append(SEPARATOR).append(aborted.getOrderId())
+               .append(SEPARATOR).append(aborted.getOccurredAt());
+        } else {
+            out.append(SEPARATOR).append(event);
+        }
+        out.append('\n');
+    }
+
+    public static long parseSequence(String line) {
+        int end = line.indexOf(SEPARATOR);
+        if (end <= 0) {
+            throw new IllegalArgumentException("Malformed outbox line: " + line);
+        }
+        return Long.parseLong(line.substring(0, end));
+    }
+
+    public static long parseRecordedAtMillis(String line) {
+        int start = line.indexOf(SEPARATOR) + 1;
+        int end = line.indexOf(SEPARATOR, start);
+        if (start <= 0 || end < 0) {
+            throw new IllegalArgumentException("Malformed outbox line: " + line);
+        }
+        return Long.parseLong(line.substring(start, end));
+    }
+}
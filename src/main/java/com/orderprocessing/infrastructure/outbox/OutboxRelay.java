@@ -0,0 +1,129 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+public class OutboxRelay implements Runnable, AutoCloseable {
+    private static final long MAX_BACKOFF_MILLIS = 1000;
+
+    private final Outbox outbox;
+    private final OutboxSink sink;
+    private final OutboxCursor cursor;
+    private final int batchSize;
+    private final long lingerMillis;
+    private final AtomicLong relayedEntries = new AtomicLong();
+    private final AtomicLong failedFlushes = new AtomicLong();
+    private volatile boolean running;
+    private Thread thread;
+
+    public OutboxRelay(Outbox outbox, OutboxSink sink, OutboxCursor cursor, int batchSize, long lingerMillis) {
+        if (batchSize <= 0) {
+            throw new IllegalArgumentException("Batch size must be positive");
+        }
+        if (lingerMillis < 0) {
+            throw new IllegalArgumentException("Linger time cannot be negative");
+        }
+        long delivered = Outbox.deliveredSequence(sink, cursor);
+        if (outbox.getLastSequence() < delivered) {
+            throw new IllegalArgumentException("Outbox numbering starts at " + outbox.getLastSequence() +
+                                               " but sequence " + delivered + " was already delivered; " +
+                                               "create it with Outbox.resume");
+        }
+        this.outbox = outbox;
+        this.sink = sink;
+        this.cursor = cursor;
+        this.batchSize = batchSize;
+        this.lingerMillis = lingerMillis;
+    }
+
+    public synchronized void start() {
+        if (running) {
+            throw new IllegalStateException("Outbox relay already started");
+        }
+        running = true;
+        thread = new Thread(this, "outbox-relay");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void run() {
+        List<OutboxEntry> batch = new ArrayList<>(batchSize);
+        long backoffMillis = 1;
+        while (running || outbox.size() > 0) {
+            try {
+                batch.clear();
+                outbox.awaitBatch(batch, batchSize, running ? lingerMillis : 0);
+                if (batch.isEmpty()) {
+                    continue;
+                }
+                flush(batch);
+                backoffMillis = 1;
+            } catch (IOException e) {
+                failedFlushes.incrementAndGet();
+                System.err.println("ERROR flushing outbox batch: " + e.getMessage());
+                if (!sleep(backoffMillis)) {
+                    return;
+                }
+                backoffMillis = Math.min(backoffMillis * 2, MAX_BACKOFF_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    private void flush(List<OutboxEntry> batch) throws IOException {
+        long delivered = Outbox.deliveredSequence(sink, cursor);
+        int firstPending = 0;
+        while (firstPending < batch.size() && batch.get(firstPending).getSequence() <= delivered) {
+            firstPending++;
+        }
+        List<OutboxEntry> pending = batch.subList(firstPending, batch.size());
+        if (!pending.isEmpty()) {
+            sink.write(pending);
+            relayedEntries.addAndGet(pending.size());
+        }
+        long last = batch.get(batch.size() - 1).getSequence();
+        cursor.commit(last);
+        outbox.acknowledge(last);
+    }
+
+    private boolean sleep(long millis) {
+        try {
+            TimeUnit.MILLISECONDS.sleep(millis);
+            return true;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        }
+    }
+
+    public long getRelayedEntries() {
+        return relayedEntries.get();
+    }
+
+    public long getFailedFlushes() {
+        return failedFlushes.get();
+    }
+
+    public long getLag() {
+        return outbox.getLastSequence() - cursor.getPosition();
+    }
+
+    @Override
+    public void close() throws InterruptedException {
+        Thread relayThread;
+        synchronized (this) {
+            running = false;
+            relayThread = thread;
+        }
+        if (relayThread != null) {
+            relayThread.join(TimeUnit.SECONDS.toMillis(5));
+            relayThread.interrupt();
+        }
+    }
+}
@@ -0,0 +1,13 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import java.io.IOException;
+import java.util.List;
+
+public interface OutboxSink extends AutoCloseable {
+    void write(List<OutboxEntry> batch) throws IOException;
+
+    long getLastWrittenSequence();
+
+    @Override
+    void close() throws IOException;
+}
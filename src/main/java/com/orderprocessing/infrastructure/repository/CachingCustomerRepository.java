@@ -0,0 +1,348 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicIntegerArray;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class CachingCustomerRepository implements CustomerRepository {
+    private static final int MAX_SECOND_CHANCES = 16;
+    private static final int WRITE_STAMP_STRIPES = 64;
+    private static final long UNCONDITIONAL = -1L;
+
+    private final CustomerRepository delegate;
+    private final int maximumSize;
+    private final Map<CustomerId, Customer> entries = new ConcurrentHashMap<>();
+    private final Map<CustomerId, CompletableFuture<Optional<Customer>>> loading = new ConcurrentHashMap<>();
+    private final Set<CustomerId> evictionOrder = new LinkedHashSet<>();
+    private final ReentrantLock evictionLock = new ReentrantLock();
+    private final AtomicLongArray writeStamps = new AtomicLongArray(WRITE_STAMP_STRIPES);
+    private final FrequencySketch sketch;
+    private final LongAdder hits = new LongAdder();
+    private final LongAdder misses = new LongAdder();
+    private final LongAdder loads = new LongAdder();
+    private final LongAdder evictions = new LongAdder();
+    private final LongAdder rejections = new LongAdder();
+
+    public CachingCustomerRepository(CustomerRepository delegate, int maximumSize) {
+        if (delegate == null) {
+            throw new IllegalArgumentException("Delegate repository cannot be null");
+        }
+        if (maximumSize <= 0) {
+            throw new IllegalArgumentException("Maximum size must be positive");
+        }
+        this.delegate = delegate;
+        this.maximumSize = maximumSize;
+        this.sketch = new FrequencySketch(maximumSize);
+    }
+
+    @Override
+    public void save(Customer customer) {
+        delegate.save(customer);
+        refresh(customer);
+    }
+
+    @Override
+    public void saveAll(Collection<Customer> customers) {
+        delegate.saveAll(customers);
+        for (Customer customer : customers) {
+            invalidate(customer.getCustomerId());
+        }
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId customerId) {
+        sketch.increment(customerId);
+        Customer cached = entries.get(customerId);
+        if (cached != null) {
+            hits.increment();
+            return Optional.of(cached);
+        }
+        misses.increment();
+        return load(customerId);
+    }
+
+    private Optional<Customer> load(CustomerId customerId) {
+        CompletableFuture<Optional<Customer>> pending = new CompletableFuture<>();
+        CompletableFuture<Optional<Customer>> inFlight = loading.putIfAbsent(customerId, pending);
+        if (inFlight != null) {
+            try {
+                return inFlight.join();
+            } catch (CompletionException e) {
+                if (e.getCause() instanceof RuntimeException) {
+                    throw (RuntimeException) e.getCause();
+                }
+                throw e;
+            }
+        }
+        try {
+            Customer admitted = entries.get(customerId);
+            if (admitted != null) {
+                Optional<Customer> cached = Optional.of(admitted);
+                pending.complete(cached);
+                return cached;
+            }
+            long stamp = writeStamps.get(stampIndex(customerId));
+            loads.increment();
+            Optional<Customer> loaded = delegate.findById(customerId);
+            loaded.ifPresent(customer -> admit(customer, stamp));
+            pending.complete(loaded);
+            return loaded;
+        } catch (RuntimeException e) {
+            pending.completeExceptionally(e);
+            throw e;
+        } finally {
+            loading.remove(customerId, pending);
+        }
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        return delegate.findByEmail(email);
+    }
+
+    @Override
+    public void update(Customer customer) {
+        try {
+            delegate.update(customer);
+        } catch (RuntimeException e) {
+            invalidate(customer.getCustomerId());
+            throw e;
+        }
+        refresh(customer);
+    }
+
+    @Override
+    public int addLoyaltyPoints(CustomerId customerId, int points) {
+        try {
+            return delegate.addLoyaltyPoints(customerId, points);
+        } finally {
+            invalidate(customerId);
+        }
+    }
+
+    @Override
+    public boolean exists(CustomerId customerId) {
+        return entries.containsKey(customerId) || delegate.exists(customerId);
+    }
+
+    public void invalidate(CustomerId customerId) {
+        writeStamps.incrementAndGet(stampIndex(customerId));
+        evictionLock.lock();
+        try {
+            if (entries.remove(customerId) != null) {
+                evictionOrder.remove(customerId);
+            }
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    public void invalidateAll() {
+        for (int i = 0; i < WRITE_STAMP_STRIPES; i++) {
+            writeStamps.incrementAndGet(i);
+        }
+        evictionLock.lock();
+        try {
+            entries.clear();
+            evictionOrder.clear();
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private void refresh(Customer customer) {
+        CustomerId customerId = customer.getCustomerId();
+        writeStamps.incrementAndGet(stampIndex(customerId));
+        if (entries.replace(customerId, customer) == null) {
+            admit(customer, UNCONDITIONAL);
+        }
+    }
+
+    private void admit(Customer customer, long stamp) {
+        CustomerId customerId = customer.getCustomerId();
+        evictionLock.lock();
+        try {
+            if (stamp != UNCONDITIONAL && writeStamps.get(stampIndex(customerId)) != stamp) {
+                return;
+            }
+            if (entries.containsKey(customerId)) {
+                if (stamp == UNCONDITIONAL) {
+                    entries.put(customerId, customer);
+                }
+                return;
+            }
+            if (entries.size() >= maximumSize && !makeRoomFor(customerId)) {
+                rejections.increment();
+                return;
+            }
+            entries.put(customerId, customer);
+            evictionOrder.add(customerId);
+        } finally {
+            evictionLock.unlock();
+        }
+    }
+
+    private boolean makeRoomFor(CustomerId candidate) {
+        int candidateFrequency = sketch.frequency(candidate);
+        int secondChances = 0;
+        while (entries.size() >= maximumSize) {
+            Iterator<CustomerId> oldest = evictionOrder.iterator();
+            if (!oldest.hasNext()) {
+                return true;
+            }
+            CustomerId victim = oldest.next();
+            oldest.remove();
+            if (sketch.frequency(victim) >= candidateFrequency) {
+                evictionOrder.add(victim);
+                if (++secondChances >= MAX_SECOND_CHANCES) {
+                    return false;
+                }
+                continue;
+            }
+            entries.remove(victim);
+            evictions.increment();
+        }
+        return true;
+    }
+
+    private static int stampIndex(CustomerId customerId) {
+        int h = customerId.hashCode() * 0x9E3779B1;
+        return (h ^ (h >>> 16)) & (WRITE_STAMP_STRIPES - 1);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public Stats getStats() {
+        return new Stats(hits.sum(), misses.sum(), loads.sum(), evictions.sum(), rejections.sum());
+    }
+
+    public static class Stats {
+        private final long hitCount;
+        private final long missCount;
+        private final long loadCount;
+        private final long evictionCount;
+        private final long rejectionCount;
+
+        public Stats(long hitCount, long missCount, long loadCount, long evictionCount, long rejectionCount) {
+            this.hitCount = hitCount;
+            this.missCount = missCount;
+            this.loadCount = loadCount;
+            this.evictionCount = evictionCount;
+            this.rejectionCount = rejectionCount;
+        }
+
+        public long getHitCount() {
+            return hitCount;
+        }
+
+        public long getMissCount() {
+            return missCount;
+        }
+
+        public long getLoadCount() {
+            return loadCount;
+        }
+
+        public long getEvictionCount() {
+            return evictionCount;
+        }
+
+        public long getRejectionCount() {
+            return rejectionCount;
+        }
+
+        public double getHitRate() {
+            long requests = hitCount + missCount;
+            return requests == 0 ? 1.0 : (double) hitCount / requests;
+        }
+
+        @Override
+        public String toString() {
+            return String.format("hits=%d, misses=%d, loads=%d, evictions=%d, rejections=%d, hitRate=%.2f",
+                                 hitCount, missCount, loadCount, evictionCount, rejectionCount, getHitRate());
+        }
+    }
+
+    private static class FrequencySketch {
+        private static final int DEPTH = 4;
+        private static final int MAX_COUNT = 15;
+        private static final int[] SEEDS = {0x9E3779B1, 0x85EBCA77, 0xC2B2AE3D, 0x27D4EB2F};
+
+        private final AtomicIntegerArray table;
+        private final int width;
+        private final int mask;
+        private final int resetThreshold;
+        private final AtomicInteger additions = new AtomicInteger();
+
+        FrequencySketch(int maximumSize) {
+            this.width = Integer.highestOneBit(Math.max(16, maximumSize * 2 - 1)) << 1;
+            this.table = new AtomicIntegerArray(DEPTH * width);
+            this.mask = width - 1;
+            this.resetThreshold = Math.max(16, maximumSize * 10);
+        }
+
+        void increment(Object key) {
+            int hash = spread(key.hashCode());
+            boolean added = false;
+            for (int row = 0; row < DEPTH; row++) {
+                int index = indexOf(hash, row);
+                int count;
+                while ((count = table.get(index)) < MAX_COUNT) {
+                    if (table.compareAndSet(index, count, count + 1)) {
+                        added = true;
+                        break;
+                    }
+                }
+            }
+            if (added && additions.incrementAndGet() == resetThreshold) {
+                halve();
+            }
+        }
+
+        int frequency(Object key) {
+            int hash = spread(key.hashCode());
+            int frequency = MAX_COUNT;
+            for (int row = 0; row < DEPTH; row++) {
+                frequency = Math.min(frequency, table.get(indexOf(hash, row)));
+            }
+            return frequency;
+        }
+
+        private int indexOf(int hash, int row) {
+            int h = hash * SEEDS[row];
+            return row * width + ((h ^ (h >>> 16)) & mask);
+        }
+
+        private static int spread(int hash) {
+            int h = hash * 0x45D9F3B;
+            return h ^ (h >>> 16);
+        }
+
+        private void halve() {
+            for (int i = 0; i < table.length(); i++) {
+                int count;
+                do {
+                    count = table.get(i);
+                } while (!table.compareAndSet(i, count, count >>> 1));
+            }
+            additions.addAndGet(-resetThreshold);
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.event.DomainEventPublisher;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class EventPublishingOrderRepository implements QueryableOrderRepository {
+    private final QueryableOrderRepository delegate;
+    private final DomainEventPublisher publisher;
+
+    public EventPublishingOrderRepository(QueryableOrderRepository delegate, DomainEventPublisher publisher) {
+        if (delegate == null || publisher == null) {
+            throw new IllegalArgumentException("Delegate repository and publisher are required");
+        }
+        this.delegate = delegate;
+        this.publisher = publisher;
+    }
+
+    @Override
+    public void save(Order order) {
+        delegate.save(order);
+        publishEvents(order);
+    }
+
+    @Override
+    public void saveAll(Collection<Order> orders) {
+        delegate.saveAll(orders);
+        List<Object> events = new ArrayList<>();
+        for (Order order : orders) {
+            events.addAll(order.getDomainEvents());
+        }
+        if (!events.isEmpty()) {
+            publisher.publish(events);
+        }
+        for (Order order : orders) {
+            order.clearDomainEvents();
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public List<Order> findByCustomerId(CustomerId customerId) {
+        return delegate.findByCustomerId(customerId);
+    }
+
+    @Override
+    public List<Order> findPendingOrders() {
+        return delegate.findPendingOrders();
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<OrderSnapshot> findSnapshot(OrderId orderId) {
+        return delegate.findSnapshot(orderId);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByCustomerId(CustomerId customerId) {
+        return delegate.findSnapshotsByCustomerId(customerId);
+    }
+
+    @Override
+    public List<OrderSnapshot> findAllSnapshots() {
+        return delegate.findAllSnapshots();
+    }
+
+    @Override
+    public OrderSnapshotCut openSnapshotCut() {
+        return delegate.openSnapshotCut();
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status) {
+        return delegate.findSnapshotsByStatus(status);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status, OrderSnapshot after, int limit) {
+        return delegate.findSnapshotsByStatus(status, after, limit);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                           Set<OrderStatus> statuses) {
+        return delegate.findSnapshotsCreatedBetween(from, to, statuses);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to,
+                                                             Set<OrderStatus> statuses) {
+        return delegate.findSnapshotsProcessedBetween(from, to, statuses);
+    }
+
+    @Override
+    public void update(Order order) {
+        delegate.update(order);
+        publishEvents(order);
+    }
+
+    @Override
+    public void update(Order order, long expectedVersion) {
+        delegate.update(order, expectedVersion);
+        publishEvents(order);
+    }
+
+    @Override
+    public Map<OrderId, RuntimeException> updateAll(List<Order> orders) {
+        Map<OrderId, RuntimeException> rejected = delegate.updateAll(orders);
+        List<Order> accepted = new ArrayList<>(orders.size() - rejected.size());
+        List<Object> events = new ArrayList<>();
+        for (Order order : orders) {
+            if (!rejected.containsKey(order.getOrderId())) {
+                accepted.add(order);
+                events.addAll(order.getDomainEvents());
+            }
+        }
+        if (!events.isEmpty()) {
+            publisher.publish(events);
+        }
+        for (Order order : accepted) {
+            order.clearDomainEvents();
+        }
+        return rejected;
+    }
+
+    @Override
+    public void delete(OrderId orderId) {
+        delegate.delete(orderId);
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        return delegate.exists(orderId);
+    }
+
+    private void publishEvents(Order order) {
+        List<Object> events = order.getDomainEvents();
+        if (events.isEmpty()) {
+            return;
+        }
+        publisher.publish(events);
+        order.clearDomainEvents();
+    }
+}
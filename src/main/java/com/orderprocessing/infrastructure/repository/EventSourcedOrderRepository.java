@@ -0,0 +1,293 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class EventSourcedOrderRepository implements QueryableOrderRepository {
+    public static final int DEFAULT_SNAPSHOT_INTERVAL = 32;
+
+    private final Map<OrderId, EventStream> streams = new ConcurrentHashMap<>();
+    private final OrderTimeIndex timeIndex = new OrderTimeIndex();
+    private final OrderStatusIndex statusIndex = new OrderStatusIndex();
+    private final SnapshotCutRegistry cuts = new SnapshotCutRegistry();
+    private final int snapshotInterval;
+
+    public EventSourcedOrderRepository() {
+        this(DEFAULT_SNAPSHOT_INTERVAL);
+    }
+
+    public EventSourcedOrderRepository(int snapshotInterval) {
+        if (snapshotInterval <= 0) {
+            throw new IllegalArgumentException("Snapshot interval must be positive");
+        }
+        this.snapshotInterval = snapshotInterval;
+    }
+
+    /**
+     * Starts the event stream of a new order. Unlike {@link InMemoryOrderRepository#save}, which replaces an order
+     * saved under the same id, a stream cannot be overwritten: saving an existing id throws
+     * {@link IllegalStateException}, and changes to a saved order go through {@link #update}.
+     */
+    @Override
+    public void save(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        EventStream stream = new EventStream(order.getCustomerId());
+        synchronized (stream) {
+            stream.version = order.getVersion();
+            List<Object> events = order.getUncommittedEvents();
+            if (events.isEmpty() || !(events.get(0) instanceof OrderCreatedEvent)) {
+                stream.snapshot = order.toSnapshot(stream.version);
+                stream.view = stream.snapshot;
+            } else {
+                stream.append(events);
+            }
+            long stamp = cuts.beginWrite();
+            try {
+                cuts.recordBefore(order.getOrderId(), this::viewOf);
+                if (streams.putIfAbsent(order.getOrderId(), stream) != null) {
+                    throw new IllegalStateException("Order already exists: " + order.getOrderId());
+                }
+            } finally {
+                cuts.endWrite(stamp);
+            }
+            order.markEventsCommitted(stream.version);
+            timeIndex.add(stream.view);
+            statusIndex.add(stream.view);
+        }
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        EventStream stream = streams.get(orderId);
+        return stream == null ? Optional.empty() : Optional.of(stream.rehydrate());
+    }
+
+    @Override
+    public List<Order> findByCustomerId(CustomerId customerId) {
+        List<Order> result = new ArrayList<>();
+        for (EventStream stream : streams.values()) {
+            if (stream.customerId.equals(customerId)) {
+                result.add(stream.rehydrate());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Order> findPendingOrders() {
+        List<Order> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : statusIndex.find(OrderStatus.PENDING, this::viewOf)) {
+            EventStream stream = streams.get(snapshot.getOrderId());
+            if (stream != null) {
+                result.add(stream.rehydrate());
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> result = new ArrayList<>(streams.size());
+        for (EventStream stream : streams.values()) {
+            result.add(stream.rehydrate());
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<OrderSnapshot> findSnapshot(OrderId orderId) {
+        EventStream stream = streams.get(orderId);
+        return stream == null ? Optional.empty() : Optional.of(stream.view);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByCustomerId(CustomerId customerId) {
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (EventStream stream : streams.values()) {
+            if (stream.customerId.equals(customerId)) {
+                result.add(stream.view);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<OrderSnapshot> findAllSnapshots() {
+        List<OrderSnapshot> result = new ArrayList<>(streams.size());
+        for (EventStream stream : streams.values()) {
+            result.add(stream.view);
+        }
+        return result;
+    }
+
+    @Override
+    public OrderSnapshotCut openSnapshotCut() {
+        return cuts.open(() -> streams.keySet().spliterator(), this::viewOf);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status) {
+        return statusIndex.find(status, this::viewOf);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status, OrderSnapshot after, int limit) {
+        return statusIndex.page(status, after, limit, this::viewOf);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                           Set<OrderStatus> statuses) {
+        return timeIndex.createdBetween(from, to, statuses, this::viewOf);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to,
+                                                             Set<OrderStatus> statuses) {
+        return timeIndex.processedBetween(from, to, statuses, this::viewOf);
+    }
+
+    private void reindex(OrderSnapshot previous, OrderSnapshot next) {
+        if (!Objects.equals(previous.getProcessedAt(), next.getProcessedAt())) {
+            timeIndex.remove(previous);
+            timeIndex.add(next);
+        }
+        statusIndex.move(previous, next);
+    }
+
+    private OrderSnapshot viewOf(OrderId orderId) {
+        EventStream stream = streams.get(orderId);
+        return stream == null ? null : stream.view;
+    }
+
+    @Override
+    public void update(Order order) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        EventStream stream = streams.get(order.getOrderId());
+        if (stream == null) {
+            throw new IllegalStateException("Order not found: " + order.getOrderId());
+        }
+        synchronized (stream) {
+            OrderSnapshot previous = stream.view;
+            long stamp = cuts.beginWrite();
+            try {
+                cuts.recordBefore(order.getOrderId(), this::viewOf);
+                stream.version++;
+                stream.append(order.getUncommittedEvents());
+            } finally {
+                cuts.endWrite(stamp);
+            }
+            reindex(previous, stream.view);
+            order.markEventsCommitted(stream.version);
+        }
+    }
+
+    @Override
+    public void update(Order order, long expectedVersion) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        EventStream stream = streams.get(order.getOrderId());
+        if (stream == null) {
+            throw new IllegalStateException("Order not found: " + order.getOrderId());
+        }
+        synchronized (stream) {
+            if (stream.version != expectedVersion) {
+                throw new OrderVersionConflictException(order.getOrderId(), expectedVersion, stream.version);
+            }
+            OrderSnapshot previous = stream.view;
+            long stamp = cuts.beginWrite();
+            try {
+                cuts.recordBefore(order.getOrderId(), this::viewOf);
+                stream.version++;
+                stream.append(order.getUncommittedEvents());
+            } finally {
+                cuts.endWrite(stamp);
+            }
+            reindex(previous, stream.view);
+            order.markEventsCommitted(stream.version);
+        }
+    }
+
+    @Override
+    public void delete(OrderId orderId) {
+        EventStream removed;
+        cuts.beginDelete();
+        try {
+            removed = streams.remove(orderId);
+        } finally {
+            cuts.endDelete();
+        }
+        if (removed != null) {
+            timeIndex.remove(removed.view);
+            statusIndex.remove(removed.view);
+        }
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        return streams.containsKey(orderId);
+    }
+
+    public List<Object> getHistory(OrderId orderId) {
+        EventStream stream = streams.get(orderId);
+        if (stream == null) {
+            throw new OrderNotFoundException(orderId);
+        }
+        synchronized (stream) {
+            return new ArrayList<>(stream.history);
+        }
+    }
+
+    private class EventStream {
+        private final CustomerId customerId;
+        private final List<Object> history = new ArrayList<>();
+        private OrderSnapshot snapshot;
+        private long version;
+        private volatile OrderSnapshot view;
+
+        EventStream(CustomerId customerId) {
+            this.customerId = customerId;
+        }
+
+        // The view is taken from the replayed events rather than the caller's order, so findSnapshot and findById
+        // always agree even when the caller changed state that no event records.
+        void append(List<Object> pending) {
+            history.addAll(pending);
+            view = rehydrate().toSnapshot(version);
+
+            if (history.size() >= snapshotInterval) {
+                snapshot = view;
+                history.clear();
+            }
+        }
+
+        synchronized Order rehydrate() {
+            Order order;
+            order = Order.replay(snapshot, history);
+            order.setVersion(version);
+            return order;
+        }
+    }
+}
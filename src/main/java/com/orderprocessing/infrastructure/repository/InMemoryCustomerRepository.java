@@ -4,6 +4,7 @@ import com.orderprocessing.domain.entity.Customer;
 import com.orderprocessing.domain.repository.CustomerRepository;
 import com.orderprocessing.domain.valueobject.CustomerId;
 
+import java.util.Collection;
 import java.util.Map;
 import java.util.Optional;
 import java.util.concurrent.ConcurrentHashMap;
@@ -21,6 +22,14 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         customersByEmail.put(customer.getEmail(), customer);
     }
 
+    @Override
+    public void saveAll(Collection<Customer> batch) {
+        for (Customer customer : batch) {
+            customers.put(customer.getCustomerId(), customer);
+            customersByEmail.put(customer.getEmail(), customer);
+        }
+    }
+
     @Override
     public Optional<Customer> findById(CustomerId customerId) {
         return Optional.ofNullable(customers.get(customerId));
@@ -51,8 +60,25 @@ public class InMemoryCustomerRepository implements CustomerRepository {
         customersByEmail.put(customer.getEmail(), customer);
     }
 
+    @Override
+    public int addLoyaltyPoints(CustomerId customerId, int points) {
+        int[] added = new int[1];
+        Customer customer = customers.computeIfPresent(customerId, (id, current) -> {
+            added[0] = current.addLoyaltyPointsUpToLimit(points);
+            return current;
+        });
+        if (customer == null) {
+            throw new IllegalStateException("Customer not found: " + customerId);
+        }
+        return added[0];
+    }
+
     @Override
     public boolean exists(CustomerId customerId) {
         return customers.containsKey(customerId);
     }
+
+    public int size() {
+        return customers.size();
+    }
 }
\ No newline at end of file
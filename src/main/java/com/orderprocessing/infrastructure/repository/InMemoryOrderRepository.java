@@ -1,43 +1,122 @@
 package com.orderprocessing.infrastructure.repository;
 
 import com.orderprocessing.domain.entity.Order;
-import com.orderprocessing.domain.repository.OrderRepository;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
 import com.orderprocessing.domain.valueobject.OrderId;
 import com.orderprocessing.domain.valueobject.CustomerId;
 import com.orderprocessing.domain.valueobject.OrderStatus;
 
+import java.time.LocalDateTime;
 import java.util.*;
 import java.util.concurrent.ConcurrentHashMap;
-import java.util.stream.Collectors;
 
-public class InMemoryOrderRepository implements OrderRepository {
-    private final Map<OrderId, Order> orders = new ConcurrentHashMap<>();
+public class InMemoryOrderRepository implements QueryableOrderRepository {
+    private final Map<OrderId, OrderSnapshot> orders = new ConcurrentHashMap<>();
+    private final OrderTimeIndex timeIndex = new OrderTimeIndex();
+    private final OrderStatusIndex statusIndex = new OrderStatusIndex();
+    private final SnapshotCutRegistry cuts = new SnapshotCutRegistry();
 
     @Override
     public void save(Order order) {
         if (order == null) {
             throw new IllegalArgumentException("Order cannot be null");
         }
-        orders.put(order.getOrderId(), order);
+        OrderSnapshot snapshot = order.toSnapshot(order.getVersion());
+        index(put(order.getOrderId(), snapshot), snapshot);
+    }
+
+    @Override
+    public void saveAll(Collection<Order> batch) {
+        for (Order order : batch) {
+            OrderSnapshot snapshot = order.toSnapshot(order.getVersion());
+            index(put(order.getOrderId(), snapshot), snapshot);
+        }
     }
 
     @Override
     public Optional<Order> findById(OrderId orderId) {
-        return Optional.ofNullable(orders.get(orderId));
+        OrderSnapshot snapshot = orders.get(orderId);
+        return snapshot == null ? Optional.empty() : Optional.of(Order.fromSnapshot(snapshot));
     }
 
     @Override
     public List<Order> findByCustomerId(CustomerId customerId) {
-        return orders.values().stream()
-            .filter(order -> order.getCustomerId().equals(customerId))
-            .collect(Collectors.toList());
+        List<Order> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : orders.values()) {
+            if (snapshot.getCustomerId().equals(customerId)) {
+                result.add(Order.fromSnapshot(snapshot));
+            }
+        }
+        return result;
     }
 
     @Override
     public List<Order> findPendingOrders() {
-        return orders.values().stream()
-            .filter(order -> order.getStatus() == OrderStatus.PENDING)
-            .collect(Collectors.toList());
+        List<Order> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : statusIndex.find(OrderStatus.PENDING, orders::get)) {
+            result.add(Order.fromSnapshot(snapshot));
+        }
+        return result;
+    }
+
+    @Override
+    public List<Order> findAll() {
+        List<Order> result = new ArrayList<>(orders.size());
+        for (OrderSnapshot snapshot : orders.values()) {
+            result.add(Order.fromSnapshot(snapshot));
+        }
+        return result;
+    }
+
+    @Override
+    public Optional<OrderSnapshot> findSnapshot(OrderId orderId) {
+        return Optional.ofNullable(orders.get(orderId));
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByCustomerId(CustomerId customerId) {
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (OrderSnapshot snapshot : orders.values()) {
+            if (snapshot.getCustomerId().equals(customerId)) {
+                result.add(snapshot);
+            }
+        }
+        return result;
+    }
+
+    @Override
+    public List<OrderSnapshot> findAllSnapshots() {
+        return new ArrayList<>(orders.values());
+    }
+
+    @Override
+    public OrderSnapshotCut openSnapshotCut() {
+        return cuts.open(() -> orders.keySet().spliterator(), orders::get);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status) {
+        return statusIndex.find(status, orders::get);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status, OrderSnapshot after, int limit) {
+        return statusIndex.page(status, after, limit, orders::get);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                           Set<OrderStatus> statuses) {
+        return timeIndex.createdBetween(from, to, statuses, orders::get);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to,
+                                                             Set<OrderStatus> statuses) {
+        return timeIndex.processedBetween(from, to, statuses, orders::get);
     }
 
     @Override
@@ -45,19 +124,132 @@ public class InMemoryOrderRepository implements OrderRepository {
         if (order == null) {
             throw new IllegalArgumentException("Order cannot be null");
         }
-        if (!orders.containsKey(order.getOrderId())) {
+        while (true) {
+            OrderSnapshot current = orders.get(order.getOrderId());
+            if (current == null) {
+                throw new IllegalStateException("Order not found: " + order.getOrderId());
+            }
+            if (replace(order, current)) {
+                return;
+            }
+        }
+    }
+
+    @Override
+    public void update(Order order, long expectedVersion) {
+        if (order == null) {
+            throw new IllegalArgumentException("Order cannot be null");
+        }
+        OrderSnapshot current = orders.get(order.getOrderId());
+        if (current == null) {
             throw new IllegalStateException("Order not found: " + order.getOrderId());
         }
-        orders.put(order.getOrderId(), order);
+        if (current.getVersion() != expectedVersion || !replace(order, current)) {
+            OrderSnapshot latest = orders.get(order.getOrderId());
+            throw new OrderVersionConflictException(order.getOrderId(), expectedVersion,
+                                                    latest == null ? -1 : latest.getVersion());
+        }
+    }
+
+    @Override
+    public Map<OrderId, RuntimeException> updateAll(List<Order> batch) {
+        Map<OrderId, RuntimeException> rejected = new LinkedHashMap<>();
+        List<OrderSnapshot> previous = new ArrayList<>(batch.size());
+        List<OrderSnapshot> next = new ArrayList<>(batch.size());
+        for (Order order : batch) {
+            OrderId orderId = order.getOrderId();
+            OrderSnapshot current = orders.get(orderId);
+            if (current == null) {
+                rejected.put(orderId, new IllegalStateException("Order not found: " + orderId));
+                continue;
+            }
+            OrderSnapshot replacement = order.toSnapshot(current.getVersion() + 1);
+            if (current.getVersion() != order.getVersion() || !replace(orderId, current, replacement)) {
+                OrderSnapshot latest = orders.get(orderId);
+                rejected.put(orderId, new OrderVersionConflictException(orderId, order.getVersion(),
+                                                                        latest == null ? -1 : latest.getVersion()));
+                continue;
+            }
+            order.setVersion(replacement.getVersion());
+            previous.add(current);
+            next.add(replacement);
+        }
+        for (int i = 0; i < next.size(); i++) {
+            reindexTimes(previous.get(i), next.get(i));
+        }
+        statusIndex.moveAll(previous, next);
+        return rejected;
+    }
+
+    private boolean replace(Order order, OrderSnapshot current) {
+        OrderSnapshot next = order.toSnapshot(current.getVersion() + 1);
+        if (!replace(order.getOrderId(), current, next)) {
+            return false;
+        }
+        index(current, next);
+        order.setVersion(next.getVersion());
+        return true;
+    }
+
+    private OrderSnapshot put(OrderId orderId, OrderSnapshot snapshot) {
+        long stamp = cuts.beginWrite();
+        try {
+            cuts.recordBefore(orderId, orders::get);
+            return orders.put(orderId, snapshot);
+        } finally {
+            cuts.endWrite(stamp);
+        }
+    }
+
+    private boolean replace(OrderId orderId, OrderSnapshot current, OrderSnapshot next) {
+        long stamp = cuts.beginWrite();
+        try {
+            cuts.recordBefore(orderId, orders::get);
+            return orders.replace(orderId, current, next);
+        } finally {
+            cuts.endWrite(stamp);
+        }
+    }
+
+    private void index(OrderSnapshot previous, OrderSnapshot next) {
+        if (previous == null) {
+            timeIndex.add(next);
+            statusIndex.add(next);
+            return;
+        }
+        reindexTimes(previous, next);
+        statusIndex.move(previous, next);
+    }
+
+    private void reindexTimes(OrderSnapshot previous, OrderSnapshot next) {
+        if (!previous.getCreatedAt().equals(next.getCreatedAt()) ||
+                !Objects.equals(previous.getProcessedAt(), next.getProcessedAt())) {
+            timeIndex.remove(previous);
+            timeIndex.add(next);
+        }
     }
 
     @Override
     public void delete(OrderId orderId) {
-        orders.remove(orderId);
+        OrderSnapshot removed;
+        cuts.beginDelete();
+        try {
+            removed = orders.remove(orderId);
+        } finally {
+            cuts.endDelete();
+        }
+        if (removed != null) {
+            timeIndex.remove(removed);
+            statusIndex.remove(removed);
+        }
     }
 
     @Override
     public boolean exists(OrderId orderId) {
         return orders.containsKey(orderId);
     }
-}
\ No newline at end of file
+
+    public int size() {
+        return orders.size();
+    }
+}
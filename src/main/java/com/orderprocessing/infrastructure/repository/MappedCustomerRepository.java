@@ -0,0 +1,564 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.repository.CustomerRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+
+import java.io.IOException;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.locks.ReentrantLock;
+
+public class MappedCustomerRepository implements CustomerRepository, AutoCloseable {
+    public static final int MAX_ID_BYTES = 64;
+    public static final int MAX_EMAIL_BYTES = 96;
+    public static final int MAX_NAME_BYTES = 64;
+
+    private static final long MAGIC = 0x4355535430303031L;
+    private static final int FORMAT_VERSION = 1;
+    private static final int HEADER_BYTES = 4096;
+    private static final int CAPACITY_OFFSET = 12;
+    private static final int INDEX_SLOTS_OFFSET = 16;
+    private static final int COUNT_OFFSET = 20;
+
+    private static final int RECORD_BYTES = 256;
+    private static final int SEQ = 0;
+    private static final int LOYALTY_POINTS = 4;
+    private static final int REGISTERED_SECONDS = 8;
+    private static final int REGISTERED_NANOS = 16;
+    private static final int ACTIVE = 20;
+    private static final int ID_LENGTH = 21;
+    private static final int EMAIL_LENGTH = 22;
+    private static final int NAME_LENGTH = 23;
+    private static final int ID_BYTES = 32;
+    private static final int EMAIL_BYTES = ID_BYTES + MAX_ID_BYTES;
+    private static final int NAME_BYTES = EMAIL_BYTES + MAX_EMAIL_BYTES;
+    private static final int NULL_LENGTH = 0xFF;
+
+    private static final int INDEX_ENTRY_BYTES = 8;
+    private static final long EMPTY = 0L;
+    private static final long TOMBSTONE_REF = 0xFFFFFFFFL;
+    private static final int SEGMENT_BYTES = 1 << 30;
+    private static final int CACHE_SEGMENTS = 16;
+    private static final int SPINS_BEFORE_YIELD = 1 << 10;
+    private static final long STALLED_WRITE_NANOS = 1_000_000_000L;
+
+    private static final VarHandle INT_VIEW =
+        MethodHandles.byteBufferViewVarHandle(int[].class, ByteOrder.nativeOrder());
+    private static final VarHandle LONG_VIEW =
+        MethodHandles.byteBufferViewVarHandle(long[].class, ByteOrder.nativeOrder());
+
+    private final Path file;
+    private final FileChannel channel;
+    private final MappedByteBuffer header;
+    private final Region records;
+    private final Region idIndex;
+    private final Region emailIndex;
+    private final int capacity;
+    private final int indexMask;
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final CacheSegment[] cache;
+    private volatile int count;
+
+    public MappedCustomerRepository(Path file, int capacity, int cacheSize) throws IOException {
+        if (capacity <= 0 || capacity > (1 << 29)) {
+            throw new IllegalArgumentException("Capacity must be between 1 and " + (1 << 29));
+        }
+        if (cacheSize <= 0) {
+            throw new IllegalArgumentException("Cache size must be positive");
+        }
+        boolean existing = Files.exists(file) && Files.size(file) >= HEADER_BYTES;
+        this.file = file;
+        this.channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                                        StandardOpenOption.WRITE);
+        try {
+            this.header = channel.map(FileChannel.MapMode.READ_WRITE, 0, HEADER_BYTES);
+            header.order(ByteOrder.nativeOrder());
+            if (existing) {
+                if (header.getLong(0) != MAGIC || header.getInt(8) != FORMAT_VERSION) {
+                    throw new IOException("Not a customer store: " + file);
+                }
+                this.capacity = header.getInt(CAPACITY_OFFSET);
+                this.indexMask = header.getInt(INDEX_SLOTS_OFFSET) - 1;
+                this.count = header.getInt(COUNT_OFFSET);
+            } else {
+                this.capacity = capacity;
+                this.indexMask = Integer.highestOneBit(capacity * 2 - 1) * 2 - 1;
+                header.putLong(0, MAGIC);
+                header.putInt(8, FORMAT_VERSION);
+                header.putInt(CAPACITY_OFFSET, this.capacity);
+                header.putInt(INDEX_SLOTS_OFFSET, indexMask + 1);
+                header.putInt(COUNT_OFFSET, 0);
+            }
+            long recordBytes = (long) this.capacity * RECORD_BYTES;
+            long indexBytes = (long) (indexMask + 1) * INDEX_ENTRY_BYTES;
+            this.records = new Region(channel, HEADER_BYTES, recordBytes);
+            this.idIndex = new Region(channel, HEADER_BYTES + recordBytes, indexBytes);
+            this.emailIndex = new Region(channel, HEADER_BYTES + recordBytes + indexBytes, indexBytes);
+            if (existing) {
+                repairInterruptedWrites();
+            }
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        this.cache = new CacheSegment[CACHE_SEGMENTS];
+        int perSegment = Math.max(1, (cacheSize + CACHE_SEGMENTS - 1) / CACHE_SEGMENTS);
+        for (int i = 0; i < CACHE_SEGMENTS; i++) {
+            cache[i] = new CacheSegment(perSegment);
+        }
+    }
+
+    @Override
+    public void save(Customer customer) {
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null");
+        }
+        writeLock.lock();
+        try {
+            store(customer, false);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public void saveAll(Collection<Customer> customers) {
+        writeLock.lock();
+        try {
+            for (Customer customer : customers) {
+                store(customer, false);
+            }
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public Optional<Customer> findById(CustomerId customerId) {
+        CacheSegment segment = segmentFor(customerId);
+        Customer cached = segment.get(customerId);
+        if (cached != null) {
+            return Optional.of(copyOf(cached));
+        }
+        byte[] key = customerId.getValue().getBytes(StandardCharsets.UTF_8);
+        int record = lookup(idIndex, key, hash(key), ID_LENGTH, ID_BYTES, MAX_ID_BYTES);
+        return record < 0 ? Optional.empty() : Optional.of(copyOf(materialize(record, customerId, segment)));
+    }
+
+    @Override
+    public Optional<Customer> findByEmail(String email) {
+        if (email == null) {
+            return Optional.empty();
+        }
+        byte[] key = email.getBytes(StandardCharsets.UTF_8);
+        int record = lookup(emailIndex, key, hash(key), EMAIL_LENGTH, EMAIL_BYTES, MAX_EMAIL_BYTES);
+        if (record < 0) {
+            return Optional.empty();
+        }
+        CustomerId customerId = new CustomerId(readString(record, ID_LENGTH, ID_BYTES, MAX_ID_BYTES));
+        CacheSegment segment = segmentFor(customerId);
+        Customer cached = segment.get(customerId);
+        if (cached == null) {
+            cached = materialize(record, customerId, segment);
+        }
+        return email.equals(cached.getEmail()) ? Optional.of(copyOf(cached)) : Optional.empty();
+    }
+
+    @Override
+    public void update(Customer customer) {
+        if (customer == null) {
+            throw new IllegalArgumentException("Customer cannot be null");
+        }
+        writeLock.lock();
+        try {
+            store(customer, true);
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public int addLoyaltyPoints(CustomerId customerId, int points) {
+        writeLock.lock();
+        try {
+            Customer customer = findById(customerId)
+                .orElseThrow(() -> new IllegalStateException("Customer not found: " + customerId));
+            int added = customer.addLoyaltyPointsUpToLimit(points);
+            store(customer, true);
+            return added;
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    @Override
+    public boolean exists(CustomerId customerId) {
+        byte[] key = customerId.getValue().getBytes(StandardCharsets.UTF_8);
+        return lookup(idIndex, key, hash(key), ID_LENGTH, ID_BYTES, MAX_ID_BYTES) >= 0;
+    }
+
+    public int size() {
+        return count;
+    }
+
+    public int getCapacity() {
+        return capacity;
+    }
+
+    public Path getFile() {
+        return file;
+    }
+
+    public void flush() {
+        header.force();
+        records.force();
+        idIndex.force();
+        emailIndex.force();
+    }
+
+    @Override
+    public void close() throws IOException {
+        writeLock.lock();
+        try {
+            flush();
+            channel.close();
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+    private void store(Customer customer, boolean mustExist) {
+        byte[] id = encode(customer.getCustomerId().getValue(), MAX_ID_BYTES, "Customer id");
+        if (customer.getEmail() == null) {
+            throw new IllegalArgumentException("Customer email cannot be null");
+        }
+        byte[] email = encode(customer.getEmail(), MAX_EMAIL_BYTES, "Customer email");
+        byte[] name = customer.getName() == null ? null : encode(customer.getName(), MAX_NAME_BYTES, "Customer name");
+        int idHash = hash(id);
+        int record = lookup(idIndex, id, idHash, ID_LENGTH, ID_BYTES, MAX_ID_BYTES);
+        if (record < 0) {
+            if (mustExist) {
+                throw new IllegalStateException("Customer not found: " + customer.getCustomerId());
+            }
+            if (count == capacity) {
+                throw new IllegalStateException("Customer store is full: " + capacity + " records in " + file);
+            }
+            record = count;
+            writeRecord(record, customer, id, email, name);
+            insertEmail(email, record);
+            insert(idIndex, idHash, record);
+            count = record + 1;
+            header.putInt(COUNT_OFFSET, count);
+        } else {
+            byte[] previousEmail = readBytes(record, EMAIL_LENGTH, EMAIL_BYTES, MAX_EMAIL_BYTES);
+            writeRecord(record, customer, id, email, name);
+            if (!Arrays.equals(previousEmail, email)) {
+                removeEmail(previousEmail, record);
+                insertEmail(email, record);
+            }
+        }
+        segmentFor(customer.getCustomerId()).put(customer.getCustomerId(), copyOf(customer));
+    }
+
+    /**
+     * A crash between the two sequence bumps of {@link #writeRecord} leaves the record's sequence odd on
+     * disk, and readers would treat it as permanently mid-write. The only records that can be affected are
+     * the live ones and the slot an interrupted insert was filling, so those are rounded up to the next even
+     * sequence. The fields may mix the old and new write; the email lookup already re-checks the stored email.
+     * Must run before any other handle on the file starts writing.
+     */
+    private void repairInterruptedWrites() {
+        int last = Math.min(count, capacity - 1);
+        for (int record = 0; record <= last; record++) {
+            long position = (long) record * RECORD_BYTES;
+            MappedByteBuffer buffer = records.segment(position);
+            int base = records.offset(position);
+            int seq = (int) INT_VIEW.getVolatile(buffer, base + SEQ);
+            if ((seq & 1) != 0) {
+                INT_VIEW.setRelease(buffer, base + SEQ, seq + 1);
+            }
+        }
+    }
+
+    private void writeRecord(int record, Customer customer, byte[] id, byte[] email, byte[] name) {
+        long position = (long) record * RECORD_BYTES;
+        MappedByteBuffer buffer = records.segment(position);
+        int base = records.offset(position);
+        int seq = (int) INT_VIEW.getVolatile(buffer, base + SEQ);
+        INT_VIEW.setOpaque(buffer, base + SEQ, seq + 1);
+        VarHandle.storeStoreFence();
+        LocalDateTime registeredAt = customer.getRegisteredAt();
+        buffer.putInt(base + LOYALTY_POINTS, customer.getLoyaltyPoints());
+        buffer.putLong(base + REGISTERED_SECONDS, registeredAt.toEpochSecond(ZoneOffset.UTC));
+        buffer.putInt(base + REGISTERED_NANOS, registeredAt.getNano());
+        buffer.put(base + ACTIVE, (byte) (customer.isActive() ? 1 : 0));
+        putBytes(buffer, base, ID_LENGTH, ID_BYTES, id);
+        putBytes(buffer, base, EMAIL_LENGTH, EMAIL_BYTES, email);
+        putBytes(buffer, base, NAME_LENGTH, NAME_BYTES, name);
+        INT_VIEW.setRelease(buffer, base + SEQ, seq + 2);
+    }
+
+    private static void putBytes(MappedByteBuffer buffer, int base, int lengthField, int bytesField, byte[] value) {
+        if (value == null) {
+            buffer.put(base + lengthField, (byte) NULL_LENGTH);
+            return;
+        }
+        buffer.put(base + lengthField, (byte) value.length);
+        for (int i = 0; i < value.length; i++) {
+            buffer.put(base + bytesField + i, value[i]);
+        }
+    }
+
+    private Customer materialize(int record, CustomerId customerId, CacheSegment segment) {
+        long position = (long) record * RECORD_BYTES;
+        MappedByteBuffer buffer = records.segment(position);
+        int base = records.offset(position);
+        while (true) {
+            int seq = awaitStable(buffer, base, record);
+            int loyaltyPoints = buffer.getInt(base + LOYALTY_POINTS);
+            long seconds = buffer.getLong(base + REGISTERED_SECONDS);
+            int nanos = buffer.getInt(base + REGISTERED_NANOS);
+            boolean active = buffer.get(base + ACTIVE) != 0;
+            byte[] email = getBytes(buffer, base, EMAIL_LENGTH, EMAIL_BYTES, MAX_EMAIL_BYTES);
+            byte[] name = getBytes(buffer, base, NAME_LENGTH, NAME_BYTES, MAX_NAME_BYTES);
+            VarHandle.loadLoadFence();
+            if ((int) INT_VIEW.getVolatile(buffer, base + SEQ) != seq) {
+                continue;
+            }
+            Customer customer = Customer.restore(customerId, new String(email, StandardCharsets.UTF_8),
+                                                 name == null ? null : new String(name, StandardCharsets.UTF_8),
+                                                 loyaltyPoints, LocalDateTime.ofEpochSecond(seconds, nanos, ZoneOffset.UTC),
+                                                 active);
+            synchronized (segment) {
+                if ((int) INT_VIEW.getVolatile(buffer, base + SEQ) != seq) {
+                    return customer;
+                }
+                Customer cached = segment.putIfAbsent(customerId, customer);
+                return cached == null ? customer : cached;
+            }
+        }
+    }
+
+    private String readString(int record, int lengthField, int bytesField, int maxBytes) {
+        return new String(readBytes(record, lengthField, bytesField, maxBytes), StandardCharsets.UTF_8);
+    }
+
+    private byte[] readBytes(int record, int lengthField, int bytesField, int maxBytes) {
+        long position = (long) record * RECORD_BYTES;
+        MappedByteBuffer buffer = records.segment(position);
+        int base = records.offset(position);
+        while (true) {
+            int seq = awaitStable(buffer, base, record);
+            byte[] value = getBytes(buffer, base, lengthField, bytesField, maxBytes);
+            VarHandle.loadLoadFence();
+            if ((int) INT_VIEW.getVolatile(buffer, base + SEQ) == seq) {
+                return value == null ? new byte[0] : value;
+            }
+        }
+    }
+
+    /**
+     * Waits for an even sequence. A writer holds a record odd for microseconds, so a sequence that stays on the
+     * same odd value for {@link #STALLED_WRITE_NANOS} belongs to a writer that died mid-record.
+     */
+    private int awaitStable(MappedByteBuffer buffer, int base, int record) {
+        int seq = (int) INT_VIEW.getAcquire(buffer, base + SEQ);
+        if ((seq & 1) == 0) {
+            return seq;
+        }
+        long stalledSince = System.nanoTime();
+        for (int spins = 0; ; spins++) {
+            if (spins < SPINS_BEFORE_YIELD) {
+                Thread.onSpinWait();
+            } else {
+                Thread.yield();
+            }
+            int current = (int) INT_VIEW.getAcquire(buffer, base + SEQ);
+            if ((current & 1) == 0) {
+                return current;
+            }
+            if (current != seq) {
+                seq = current;
+                stalledSince = System.nanoTime();
+            } else if (System.nanoTime() - stalledSince > STALLED_WRITE_NANOS) {
+                throw new IllegalStateException("Customer record " + record + " is stuck mid-write in " + file
+                                                + "; reopen the store to repair it");
+            }
+        }
+    }
+
+    private static Customer copyOf(Customer customer) {
+        return Customer.restore(customer.getCustomerId(), customer.getEmail(), customer.getName(),
+                                customer.getLoyaltyPoints(), customer.getRegisteredAt(), customer.isActive());
+    }
+
+    private static byte[] getBytes(MappedByteBuffer buffer, int base, int lengthField, int bytesField, int max) {
+        int length = buffer.get(base + lengthField) & 0xFF;
+        if (length == NULL_LENGTH) {
+            return null;
+        }
+        byte[] value = new byte[Math.min(length, max)];
+        for (int i = 0; i < value.length; i++) {
+            value[i] = buffer.get(base + bytesField + i);
+        }
+        return value;
+    }
+
+    private int lookup(Region index, byte[] key, int hash, int lengthField, int bytesField, int maxBytes) {
+        for (int slot = hash & indexMask, probes = 0; probes <= indexMask; slot = (slot + 1) & indexMask, probes++) {
+            long entry = readEntry(index, slot);
+            if (entry == EMPTY) {
+                return -1;
+            }
+            long ref = entry & 0xFFFFFFFFL;
+            if (ref != TOMBSTONE_REF && (int) (entry >>> 32) == hash
+                    && Arrays.equals(readBytes((int) ref - 1, lengthField, bytesField, maxBytes), key)) {
+                return (int) ref - 1;
+            }
+        }
+        return -1;
+    }
+
+    private void insert(Region index, int hash, int record) {
+        int target = -1;
+        for (int slot = hash & indexMask, probes = 0; probes <= indexMask; slot = (slot + 1) & indexMask, probes++) {
+            long entry = readEntry(index, slot);
+            if (entry == EMPTY || (entry & 0xFFFFFFFFL) == TOMBSTONE_REF) {
+                target = slot;
+                break;
+            }
+        }
+        if (target < 0) {
+            throw new IllegalStateException("Customer index is full in " + file);
+        }
+        writeEntry(index, target, ((long) hash << 32) | (record + 1L));
+    }
+
+    private void insertEmail(byte[] email, int record) {
+        int hash = hash(email);
+        int existing = lookup(emailIndex, email, hash, EMAIL_LENGTH, EMAIL_BYTES, MAX_EMAIL_BYTES);
+        if (existing == record) {
+            return;
+        }
+        if (existing >= 0) {
+            replaceEntry(emailIndex, hash, existing, record);
+            return;
+        }
+        insert(emailIndex, hash, record);
+    }
+
+    private void removeEmail(byte[] email, int record) {
+        int hash = hash(email);
+        replaceEntry(emailIndex, hash, record, -1);
+    }
+
+    private void replaceEntry(Region index, int hash, int from, int to) {
+        long expected = ((long) hash << 32) | (from + 1L);
+        for (int slot = hash & indexMask, probes = 0; probes <= indexMask; slot = (slot + 1) & indexMask, probes++) {
+            long entry = readEntry(index, slot);
+            if (entry == EMPTY) {
+                return;
+            }
+            if (entry == expected) {
+                writeEntry(index, slot, ((long) hash << 32) | (to < 0 ? TOMBSTONE_REF : to + 1L));
+                return;
+            }
+        }
+    }
+
+    private static long readEntry(Region index, int slot) {
+        long position = (long) slot * INDEX_ENTRY_BYTES;
+        return (long) LONG_VIEW.getAcquire(index.segment(position), index.offset(position));
+    }
+
+    private static void writeEntry(Region index, int slot, long entry) {
+        long position = (long) slot * INDEX_ENTRY_BYTES;
+        LONG_VIEW.setRelease(index.segment(position), index.offset(position), entry);
+    }
+
+    private static byte[] encode(String value, int maxBytes, String field) {
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        if (bytes.length > maxBytes) {
+            throw new IllegalArgumentException(field + " exceeds " + maxBytes + " bytes: " + value);
+        }
+        return bytes;
+    }
+
+    private static int hash(byte[] key) {
+        int h = Arrays.hashCode(key) * 0x9E3779B1;
+        return h ^ (h >>> 16);
+    }
+
+    private CacheSegment segmentFor(CustomerId customerId) {
+        int h = customerId.hashCode() * 0x9E3779B1;
+        return cache[(h ^ (h >>> 16)) & (CACHE_SEGMENTS - 1)];
+    }
+
+    private static class Region {
+        private final MappedByteBuffer[] segments;
+
+        Region(FileChannel channel, long start, long length) throws IOException {
+            int count = (int) Math.max(1, (length + SEGMENT_BYTES - 1) / SEGMENT_BYTES);
+            this.segments = new MappedByteBuffer[count];
+            for (int i = 0; i < count; i++) {
+                long offset = (long) i * SEGMENT_BYTES;
+                segments[i] = channel.map(FileChannel.MapMode.READ_WRITE, start + offset,
+                                          Math.min(SEGMENT_BYTES, length - offset));
+                segments[i].order(ByteOrder.nativeOrder());
+            }
+        }
+
+        MappedByteBuffer segment(long position) {
+            return segments[(int) (position / SEGMENT_BYTES)];
+        }
+
+        int offset(long position) {
+            return (int) (position % SEGMENT_BYTES);
+        }
+
+        void force() {
+            for (MappedByteBuffer segment : segments) {
+                segment.force();
+            }
+        }
+    }
+
+    private static class CacheSegment extends LinkedHashMap<CustomerId, Customer> {
+        private final int maximumSize;
+
+        CacheSegment(int maximumSize) {
+            super(16, 0.75f, true);
+            this.maximumSize = maximumSize;
+        }
+
+        @Override
+        public synchronized Customer get(Object key) {
+            return super.get(key);
+        }
+
+        @Override
+        public synchronized Customer put(CustomerId key, Customer value) {
+            return super.put(key, value);
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<CustomerId, Customer> eldest) {
+            return size() > maximumSize;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableSet;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+final class OrderStatusIndex {
+    private final Map<OrderStatus, NavigableSet<Entry>> byStatus = new EnumMap<>(OrderStatus.class);
+
+    OrderStatusIndex() {
+        for (OrderStatus status : OrderStatus.values()) {
+            byStatus.put(status, new ConcurrentSkipListSet<>());
+        }
+    }
+
+    void add(OrderSnapshot snapshot) {
+        byStatus.get(snapshot.getStatus()).add(new Entry(snapshot));
+    }
+
+    void move(OrderSnapshot previous, OrderSnapshot next) {
+        if (previous.getStatus() != next.getStatus()) {
+            byStatus.get(next.getStatus()).add(new Entry(next));
+            byStatus.get(previous.getStatus()).remove(new Entry(previous));
+        }
+    }
+
+    void moveAll(List<OrderSnapshot> previous, List<OrderSnapshot> next) {
+        Map<OrderStatus, List<Entry>> entering = new EnumMap<>(OrderStatus.class);
+        Map<OrderStatus, List<Entry>> leaving = new EnumMap<>(OrderStatus.class);
+        for (int i = 0; i < next.size(); i++) {
+            OrderStatus from = previous.get(i).getStatus();
+            OrderStatus to = next.get(i).getStatus();
+            if (from != to) {
+                entering.computeIfAbsent(to, status -> new ArrayList<>()).add(new Entry(next.get(i)));
+                leaving.computeIfAbsent(from, status -> new ArrayList<>()).add(new Entry(previous.get(i)));
+            }
+        }
+        for (Map.Entry<OrderStatus, List<Entry>> entry : entering.entrySet()) {
+            byStatus.get(entry.getKey()).addAll(entry.getValue());
+        }
+        for (Map.Entry<OrderStatus, List<Entry>> entry : leaving.entrySet()) {
+            byStatus.get(entry.getKey()).removeAll(entry.getValue());
+        }
+    }
+
+    void remove(OrderSnapshot snapshot) {
+        byStatus.get(snapshot.getStatus()).remove(new Entry(snapshot));
+    }
+
+    List<OrderSnapshot> find(OrderStatus status, Function<OrderId, OrderSnapshot> lookup) {
+        return page(status, null, Integer.MAX_VALUE, lookup);
+    }
+
+    List<OrderSnapshot> page(OrderStatus status, OrderSnapshot after, int limit,
+                             Function<OrderId, OrderSnapshot> lookup) {
+        if (status == null) {
+            throw new IllegalArgumentException("Status cannot be null");
+        }
+        if (limit <= 0) {
+            throw new IllegalArgumentException("Page size must be positive");
+        }
+        NavigableSet<Entry> members = byStatus.get(status);
+        NavigableSet<Entry> remaining = after == null ? members : members.tailSet(new Entry(after), false);
+        List<OrderSnapshot> result = new ArrayList<>();
+        for (Entry entry : remaining) {
+            if (result.size() == limit) {
+                break;
+            }
+            OrderSnapshot snapshot = lookup.apply(entry.orderId);
+            if (snapshot != null && snapshot.getStatus() == status) {
+                result.add(snapshot);
+            } else if (members.remove(entry)) {
+                OrderSnapshot current = lookup.apply(entry.orderId);
+                if (current != null && current.getStatus() == status) {
+                    members.add(entry);
+                    result.add(current);
+                }
+            }
+        }
+        return result;
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final long createdAt;
+        private final String key;
+        private final OrderId orderId;
+
+        Entry(OrderSnapshot snapshot) {
+            this.createdAt = OrderTimeIndex.nanosOf(snapshot.getCreatedAt());
+            this.orderId = snapshot.getOrderId();
+            this.key = orderId.getValue();
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = Long.compare(createdAt, other.createdAt);
+            return byTime != 0 ? byTime : key.compareTo(other.key);
+        }
+    }
+}
@@ -0,0 +1,144 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.NavigableSet;
+import java.util.Set;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.ConcurrentSkipListSet;
+import java.util.function.Function;
+
+final class OrderTimeIndex {
+    static final Duration DEFAULT_BUCKET_WIDTH = Duration.ofMinutes(1);
+
+    private final long bucketNanos;
+    private final ConcurrentSkipListMap<Long, NavigableSet<Entry>> created = new ConcurrentSkipListMap<>();
+    private final ConcurrentSkipListMap<Long, NavigableSet<Entry>> processed = new ConcurrentSkipListMap<>();
+
+    OrderTimeIndex() {
+        this(DEFAULT_BUCKET_WIDTH);
+    }
+
+    OrderTimeIndex(Duration bucketWidth) {
+        if (bucketWidth == null || bucketWidth.toMillis() <= 0) {
+            throw new IllegalArgumentException("Bucket width must be at least one millisecond");
+        }
+        this.bucketNanos = bucketWidth.toNanos();
+    }
+
+    void add(OrderSnapshot snapshot) {
+        add(created, snapshot.getCreatedAt(), snapshot.getOrderId());
+        if (snapshot.getProcessedAt() != null) {
+            add(processed, snapshot.getProcessedAt(), snapshot.getOrderId());
+        }
+    }
+
+    void remove(OrderSnapshot snapshot) {
+        remove(created, snapshot.getCreatedAt(), snapshot.getOrderId());
+        if (snapshot.getProcessedAt() != null) {
+            remove(processed, snapshot.getProcessedAt(), snapshot.getOrderId());
+        }
+    }
+
+    List<OrderSnapshot> createdBetween(LocalDateTime from, LocalDateTime to, Set<OrderStatus> statuses,
+                                       Function<OrderId, OrderSnapshot> lookup) {
+        return scan(created, OrderSnapshot::getCreatedAt, from, to, statuses, lookup);
+    }
+
+    List<OrderSnapshot> processedBetween(LocalDateTime from, LocalDateTime to, Set<OrderStatus> statuses,
+                                         Function<OrderId, OrderSnapshot> lookup) {
+        return scan(processed, OrderSnapshot::getProcessedAt, from, to, statuses, lookup);
+    }
+
+    private List<OrderSnapshot> scan(ConcurrentSkipListMap<Long, NavigableSet<Entry>> index,
+                                     Function<OrderSnapshot, LocalDateTime> timeOf, LocalDateTime from,
+                                     LocalDateTime to, Set<OrderStatus> statuses,
+                                     Function<OrderId, OrderSnapshot> lookup) {
+        if (from == null || to == null || statuses == null) {
+            throw new IllegalArgumentException("Range bounds and statuses cannot be null");
+        }
+        List<OrderSnapshot> result = new ArrayList<>();
+        if (!from.isBefore(to) || statuses.isEmpty()) {
+            return result;
+        }
+        Entry lower = new Entry(nanosOf(from), "", null);
+        Entry upper = new Entry(nanosOf(to), "", null);
+        for (NavigableSet<Entry> bucket : index.subMap(bucketOf(lower.time), true,
+                                                       bucketOf(upper.time), true).values()) {
+            for (Entry entry : bucket.subSet(lower, true, upper, false)) {
+                OrderSnapshot snapshot = lookup.apply(entry.orderId);
+                if (snapshot == null || !statuses.contains(snapshot.getStatus())) {
+                    continue;
+                }
+                LocalDateTime time = timeOf.apply(snapshot);
+                if (time != null && nanosOf(time) == entry.time) {
+                    result.add(snapshot);
+                }
+            }
+        }
+        return result;
+    }
+
+    private void add(ConcurrentSkipListMap<Long, NavigableSet<Entry>> index, LocalDateTime time, OrderId orderId) {
+        add(index, new Entry(nanosOf(time), orderId.getValue(), orderId));
+    }
+
+    private void add(ConcurrentSkipListMap<Long, NavigableSet<Entry>> index, Entry entry) {
+        Long key = bucketOf(entry.time);
+        while (true) {
+            NavigableSet<Entry> bucket = index.computeIfAbsent(key, ignored -> new ConcurrentSkipListSet<>());
+            bucket.add(entry);
+            if (index.get(key) == bucket) {
+                return;
+            }
+        }
+    }
+
+    private void remove(ConcurrentSkipListMap<Long, NavigableSet<Entry>> index, LocalDateTime time,
+                        OrderId orderId) {
+        long nanos = nanosOf(time);
+        Long key = bucketOf(nanos);
+        NavigableSet<Entry> bucket = index.get(key);
+        if (bucket == null || !bucket.remove(new Entry(nanos, orderId.getValue(), orderId))) {
+            return;
+        }
+        if (bucket.isEmpty() && index.remove(key, bucket)) {
+            for (Entry raced : bucket) {
+                add(index, raced);
+            }
+        }
+    }
+
+    private long bucketOf(long nanos) {
+        return Math.floorDiv(nanos, bucketNanos);
+    }
+
+    static long nanosOf(LocalDateTime time) {
+        return time.toEpochSecond(ZoneOffset.UTC) * 1_000_000_000L + time.getNano();
+    }
+
+    private static final class Entry implements Comparable<Entry> {
+        private final long time;
+        private final String key;
+        private final OrderId orderId;
+
+        Entry(long time, String key, OrderId orderId) {
+            this.time = time;
+            this.key = key;
+            this.orderId = orderId;
+        }
+
+        @Override
+        public int compareTo(Entry other) {
+            int byTime = Long.compare(time, other.time);
+            return byTime != 0 ? byTime : key.compareTo(other.key);
+        }
+    }
+}
@@ -0,0 +1,193 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.outbox.Outbox;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+
+public class OutboxOrderRepository implements QueryableOrderRepository {
+    private final QueryableOrderRepository delegate;
+    private final Outbox outbox;
+
+    public OutboxOrderRepository(QueryableOrderRepository delegate, Outbox outbox) {
+        if (delegate == null || outbox == null) {
+            throw new IllegalArgumentException("Delegate repository and outbox are required");
+        }
+        this.delegate = delegate;
+        this.outbox = outbox;
+    }
+
+    @Override
+    public void save(Order order) {
+        List<Object> events = List.copyOf(order.getDomainEvents());
+        outbox.reserve(events.size());
+        try {
+            delegate.save(order);
+        } catch (RuntimeException e) {
+            outbox.cancelReservation(events.size());
+            throw e;
+        }
+        recordEvents(order, events);
+    }
+
+    @Override
+    public Optional<Order> findById(OrderId orderId) {
+        return delegate.findById(orderId);
+    }
+
+    @Override
+    public List<Order> findByCustomerId(CustomerId customerId) {
+        return delegate.findByCustomerId(customerId);
+    }
+
+    @Override
+    public List<Order> findPendingOrders() {
+        return delegate.findPendingOrders();
+    }
+
+    @Override
+    public List<Order> findAll() {
+        return delegate.findAll();
+    }
+
+    @Override
+    public Optional<OrderSnapshot> findSnapshot(OrderId orderId) {
+        return delegate.findSnapshot(orderId);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByCustomerId(CustomerId customerId) {
+        return delegate.findSnapshotsByCustomerId(customerId);
+    }
+
+    @Override
+    public List<OrderSnapshot> findAllSnapshots() {
+        return delegate.findAllSnapshots();
+    }
+
+    @Override
+    public OrderSnapshotCut openSnapshotCut() {
+        return delegate.openSnapshotCut();
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status) {
+        return delegate.findSnapshotsByStatus(status);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsByStatus(OrderStatus status, OrderSnapshot after, int limit) {
+        return delegate.findSnapshotsByStatus(status, after, limit);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsCreatedBetween(LocalDateTime from, LocalDateTime to,
+                                                           Set<OrderStatus> statuses) {
+        return delegate.findSnapshotsCreatedBetween(from, to, statuses);
+    }
+
+    @Override
+    public List<OrderSnapshot> findSnapshotsProcessedBetween(LocalDateTime from, LocalDateTime to,
+                                                             Set<OrderStatus> statuses) {
+        return delegate.findSnapshotsProcessedBetween(from, to, statuses);
+    }
+
+    @Override
+    public void update(Order order) {
+        List<Object> events = List.copyOf(order.getDomainEvents());
+        outbox.reserve(events.size());
+        try {
+            delegate.update(order);
+        } catch (RuntimeException e) {
+            outbox.cancelReservation(events.size());
+            throw e;
+        }
+        recordEvents(order, events);
+    }
+
+    @Override
+    public void update(Order order, long expectedVersion) {
+        List<Object> events = List.copyOf(order.getDomainEvents());
+        outbox.reserve(events.size());
+        try {
+            delegate.update(order, expectedVersion);
+        } catch (RuntimeException e) {
+            outbox.cancelReservation(events.size());
+            throw e;
+        }
+        recordEvents(order, events);
+    }
+
+    @Override
+    public Map<OrderId, RuntimeException> updateAll(List<Order> orders) {
+        Map<OrderId, RuntimeException> rejected = new LinkedHashMap<>();
+        int from = 0;
+        while (from < orders.size()) {
+            int to = from;
+            int reservedEvents = 0;
+            while (to < orders.size() && (to == from ||
+                    reservedEvents + orders.get(to).getDomainEvents().size() <= outbox.getCapacity())) {
+                reservedEvents += orders.get(to).getDomainEvents().size();
+                to++;
+            }
+            List<Order> chunk = orders.subList(from, to);
+            List<List<Object>> staged = new ArrayList<>(chunk.size());
+            for (Order order : chunk) {
+                staged.add(List.copyOf(order.getDomainEvents()));
+            }
+            outbox.reserve(reservedEvents);
+            Map<OrderId, RuntimeException> chunkRejected;
+            try {
+                chunkRejected = delegate.updateAll(chunk);
+            } catch (RuntimeException e) {
+                outbox.cancelReservation(reservedEvents);
+                throw e;
+            }
+            List<Object> events = new ArrayList<>(reservedEvents);
+            for (int i = 0; i < chunk.size(); i++) {
+                Order order = chunk.get(i);
+                if (!chunkRejected.containsKey(order.getOrderId())) {
+                    events.addAll(staged.get(i));
+                    order.clearDomainEvents();
+                }
+            }
+            outbox.cancelReservation(reservedEvents - events.size());
+            if (!events.isEmpty()) {
+                outbox.append(events);
+            }
+            rejected.putAll(chunkRejected);
+            from = to;
+        }
+        return rejected;
+    }
+
+    @Override
+    public void delete(OrderId orderId) {
+        delegate.delete(orderId);
+    }
+
+    @Override
+    public boolean exists(OrderId orderId) {
+        return delegate.exists(orderId);
+    }
+
+    private void recordEvents(Order order, List<Object> events) {
+        if (events.isEmpty()) {
+            return;
+        }
+        outbox.append(events);
+        order.clearDomainEvents();
+    }
+}
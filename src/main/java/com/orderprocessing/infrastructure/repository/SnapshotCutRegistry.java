@@ -0,0 +1,182 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.valueobject.OrderId;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Spliterator;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.StampedLock;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+/**
+ * Copy-on-write cuts over a concurrent order map. Every write runs between {@link #beginWrite} and {@link #endWrite}
+ * and calls {@link #recordBefore} before changing an order, so each open cut keeps the first pre-cut version of every
+ * order rewritten after it opened. A cut reads the live map and falls back to those versions. Opening a cut waits
+ * for the writes already in flight. Deletes wait for open cuts to close, because a key removed from the live map can
+ * no longer be found by the cut's key scan.
+ */
+final class SnapshotCutRegistry {
+    private static final Object ABSENT = new Object();
+
+    private final StampedLock writes = new StampedLock();
+    private final List<Cut> cuts = new CopyOnWriteArrayList<>();
+    private int openCuts;
+    private int pendingDeletes;
+
+    long beginWrite() {
+        return writes.readLock();
+    }
+
+    void endWrite(long stamp) {
+        writes.unlockRead(stamp);
+    }
+
+    void recordBefore(OrderId orderId, Function<OrderId, OrderSnapshot> current) {
+        if (cuts.isEmpty()) {
+            return;
+        }
+        OrderSnapshot snapshot = current.apply(orderId);
+        for (Cut cut : cuts) {
+            cut.previous.putIfAbsent(orderId, snapshot == null ? ABSENT : snapshot);
+        }
+    }
+
+    synchronized void beginDelete() {
+        while (openCuts > 0) {
+            awaitChange("Interrupted while waiting for an open snapshot cut");
+        }
+        pendingDeletes++;
+    }
+
+    synchronized void endDelete() {
+        pendingDeletes--;
+        notifyAll();
+    }
+
+    OrderSnapshotCut open(Supplier<Spliterator<OrderId>> keys, Function<OrderId, OrderSnapshot> live) {
+        synchronized (this) {
+            while (pendingDeletes > 0) {
+                awaitChange("Interrupted while waiting for a pending delete");
+            }
+            openCuts++;
+        }
+        Cut cut = new Cut(keys, live);
+        long stamp = writes.writeLock();
+        try {
+            cuts.add(cut);
+        } finally {
+            writes.unlockWrite(stamp);
+        }
+        return cut;
+    }
+
+    private synchronized void closed(Cut cut) {
+        cuts.remove(cut);
+        openCuts--;
+        notifyAll();
+    }
+
+    private void awaitChange(String interruptedMessage) {
+        try {
+            wait();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(interruptedMessage, e);
+        }
+    }
+
+    private class Cut implements OrderSnapshotCut {
+        private final Map<OrderId, Object> previous = new ConcurrentHashMap<>();
+        private final Supplier<Spliterator<OrderId>> keys;
+        private final Function<OrderId, OrderSnapshot> live;
+        private boolean closed;
+
+        Cut(Supplier<Spliterator<OrderId>> keys, Function<OrderId, OrderSnapshot> live) {
+            this.keys = keys;
+            this.live = live;
+        }
+
+        @Override
+        public List<Iterator<OrderSnapshot>> partitions(int count) {
+            if (count <= 0) {
+                throw new IllegalArgumentException("Partition count must be positive");
+            }
+            List<Spliterator<OrderId>> parts = new ArrayList<>(count);
+            parts.add(keys.get());
+            boolean split = true;
+            while (parts.size() < count && split) {
+                split = false;
+                for (int i = 0, n = parts.size(); i < n && parts.size() < count; i++) {
+                    Spliterator<OrderId> prefix = parts.get(i).trySplit();
+                    if (prefix != null) {
+                        parts.add(prefix);
+                        split = true;
+                    }
+                }
+            }
+            List<Iterator<OrderSnapshot>> result = new ArrayList<>(parts.size());
+            for (Spliterator<OrderId> part : parts) {
+                result.add(new PartitionIterator(part));
+            }
+            return result;
+        }
+
+        // The live read must come first: a writer records the old version before it replaces the live one.
+        OrderSnapshot resolve(OrderId orderId) {
+            OrderSnapshot current = live.apply(orderId);
+            Object before = previous.get(orderId);
+            if (before == null) {
+                return current;
+            }
+            return before == ABSENT ? null : (OrderSnapshot) before;
+        }
+
+        @Override
+        public void close() {
+            synchronized (SnapshotCutRegistry.this) {
+                if (closed) {
+                    return;
+                }
+                closed = true;
+            }
+            closed(this);
+        }
+
+        private class PartitionIterator implements Iterator<OrderSnapshot> {
+            private final Spliterator<OrderId> keys;
+            private OrderSnapshot next;
+
+            PartitionIterator(Spliterator<OrderId> keys) {
+                this.keys = keys;
+            }
+
+            @Override
+            public boolean hasNext() {
+                while (next == null) {
+                    if (!keys.tryAdvance(orderId -> next = resolve(orderId))) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            @Override
+            public OrderSnapshot next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                OrderSnapshot result = next;
+                next = null;
+                return result;
+            }
+        }
+    }
+}
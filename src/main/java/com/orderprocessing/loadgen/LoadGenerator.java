@@ -0,0 +1,186 @@
+package com.orderprocessing.loadgen;
+
+import com.orderprocessing.application.admission.AdmissionController;
+import com.orderprocessing.application.admission.AdmissionRejectedException;
+import com.orderprocessing.application.admission.GradientConcurrencyLimit;
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+
+import java.math.BigDecimal;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+
+public class LoadGenerator {
+    private static final BigDecimal CUSTOMER_BALANCE = new BigDecimal("1000000000000.00");
+    private static final int PRODUCT_STOCK = Integer.MAX_VALUE / 4;
+
+    private final OrderService orderService;
+    private final AdmissionController admissionController;
+    private final LoadProfile profile;
+    private final CustomerId[] customerIds;
+    private final String[] productIds;
+    private final BigDecimal[] productPrices;
+    private final ZipfianGenerator customerPicker;
+    private final ZipfianGenerator productPicker;
+
+    public LoadGenerator(OrderService orderService, LoadProfile profile,
+                         CustomerId[] customerIds, String[] productIds, BigDecimal[] productPrices) {
+        if (productIds.length != productPrices.length) {
+            throw new IllegalArgumentException("Every product needs a price");
+        }
+        this.orderService = orderService;
+        this.admissionController = profile.isAdmissionControl()
+            ? new AdmissionController(
+                  new GradientConcurrencyLimit(Math.min(20, profile.getWorkerThreads()), 1, profile.getWorkerThreads()),
+                  Math.max(1, profile.getWorkerThreads() / 4), 20)
+            : null;
+        this.profile = profile;
+        this.customerIds = customerIds.clone();
+        this.productIds = productIds.clone();
+        this.productPrices = productPrices.clone();
+        this.customerPicker = new ZipfianGenerator(customerIds.length, profile.getCustomerSkew());
+        this.productPicker = new ZipfianGenerator(productIds.length, profile.getProductSkew());
+    }
+
+    public static LoadGenerator withSeededServices(LoadProfile profile) {
+        InMemoryCustomerRepository customerRepository = new InMemoryCustomerRepository();
+        InventoryService inventoryService = new InventoryService();
+        PaymentService paymentService = new PaymentService();
+
+        CustomerId[] customerIds = new CustomerId[profile.getCustomers()];
+        for (int i = 0; i < customerIds.length; i++) {
+            customerIds[i] = new CustomerId("LOAD-CUST-" + i);
+            customerRepository.save(new Customer(customerIds[i], "load" + i + "@example.com", "Load Customer " + i));
+            paymentService.deposit(customerIds[i], CUSTOMER_BALANCE);
+        }
+
+        String[] productIds = new String[profile.getProducts()];
+        BigDecimal[] productPrices = new BigDecimal[productIds.length];
+        for (int i = 0; i < productIds.length; i++) {
+            productIds[i] = "LOAD-PROD-" + i;
+            productPrices[i] = BigDecimal.valueOf(499 + (i % 100) * 100L, 2);
+            inventoryService.addStock(productIds[i], PRODUCT_STOCK);
+        }
+
+        OrderService orderService = new OrderService(new InMemoryOrderRepository(), customerRepository,
+                                                     inventoryService, paymentService);
+        return new LoadGenerator(orderService, profile, customerIds, productIds, productPrices);
+    }
+
+    public LoadReport run() throws InterruptedException {
+        LoadReport report = new LoadReport();
+        ExecutorService workers = Executors.newFixedThreadPool(profile.getWorkerThreads(), runnable -> {
+            Thread thread = new Thread(runnable, "load-worker");
+            thread.setDaemon(true);
+            return thread;
+        });
+
+        long totalRequests = (long) (profile.getWarmupSeconds() + profile.getDurationSeconds())
+                             * profile.getRatePerSecond();
+        double intervalNanos = 1e9 / profile.getRatePerSecond();
+        long startNanos = System.nanoTime();
+        long measurementStartNanos = startNanos + TimeUnit.SECONDS.toNanos(profile.getWarmupSeconds());
+        AtomicLong lastCompletionNanos = new AtomicLong(measurementStartNanos);
+
+        for (long i = 0; i < totalRequests; i++) {
+            long intendedStart = startNanos + (long) (i * intervalNanos);
+            long now;
+            while ((now = System.nanoTime()) < intendedStart) {
+                LockSupport.parkNanos(intendedStart - now);
+            }
+            boolean measured = intendedStart >= measurementStartNanos;
+            workers.execute(() -> {
+                admitAndPlaceOrder(intendedStart, measured ? report : null);
+                if (measured) {
+                    lastCompletionNanos.accumulateAndGet(System.nanoTime(), Math::max);
+                }
+            });
+        }
+
+        workers.shutdown();
+        workers.awaitTermination(1, TimeUnit.HOURS);
+        report.setMeasurementWindow(measurementStartNanos, lastCompletionNanos.get());
+        return report;
+    }
+
+    private void admitAndPlaceOrder(long intendedStart, LoadReport report) {
+        if (admissionController == null) {
+            placeOrder(intendedStart, report);
+            return;
+        }
+        try {
+            admissionController.execute(() -> placeOrder(intendedStart, report));
+        } catch (AdmissionRejectedException e) {
+            if (report != null) {
+                report.record(LoadReport.Stage.SHED, System.nanoTime() - intendedStart);
+                report.recordRejected();
+            }
+        }
+    }
+
+    private void placeOrder(long intendedStart, LoadReport report) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        long begin = System.nanoTime();
+        LoadReport.Stage stage = LoadReport.Stage.CREATE_ORDER;
+        long stageStart = begin;
+        boolean success = false;
+        try {
+            Order order = orderService.createOrder(customerIds[customerPicker.next()]);
+            stageStart = record(report, stage, stageStart);
+
+            stage = LoadReport.Stage.ADD_ITEMS;
+            int cartSize = 1 + random.nextInt(profile.getMaxCartSize());
+            for (int i = 0; i < cartSize; i++) {
+                int product = productPicker.next();
+                orderService.addItemToOrder(order.getOrderId(), productIds[product], productIds[product],
+                                            productPrices[product], 1 + random.nextInt(3));
+            }
+            stageStart = record(report, stage, stageStart);
+
+            stage = LoadReport.Stage.PROCESS_ORDER;
+            orderService.processOrder(order.getOrderId(), profile.pickPaymentMethod(random.nextDouble()));
+            record(report, stage, stageStart);
+            success = true;
+        } catch (RuntimeException e) {
+            record(report, stage, stageStart);
+        }
+        if (report != null) {
+            long end = System.nanoTime();
+            report.record(LoadReport.Stage.QUEUE_DELAY, begin - intendedStart);
+            report.record(LoadReport.Stage.SERVICE_TIME, end - begin);
+            report.record(LoadReport.Stage.END_TO_END, end - intendedStart);
+            report.recordOutcome(success);
+        }
+    }
+
+    private static long record(LoadReport report, LoadReport.Stage stage, long stageStart) {
+        long now = System.nanoTime();
+        if (report != null) {
+            report.record(stage, now - stageStart);
+        }
+        return now;
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        LoadProfile profile = LoadProfile.fromArgs(args);
+        System.out.println("Open-loop load generator: " + profile);
+        LoadGenerator generator = withSeededServices(profile);
+        LoadReport report = generator.run();
+        report.print(System.out);
+        if (generator.admissionController != null) {
+            System.out.println("Admission limit: " + generator.admissionController.getLimit() +
+                               ", admitted " + generator.admissionController.getAdmittedCount() +
+                               ", rejected " + generator.admissionController.getRejectedCount());
+        }
+    }
+}
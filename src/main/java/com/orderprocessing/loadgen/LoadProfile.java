@@ -0,0 +1,156 @@
+package com.orderprocessing.loadgen;
+
+import java.util.HashMap;
+import java.util.Map;
+
+public class LoadProfile {
+    private final int ratePerSecond;
+    private final int durationSeconds;
+    private final int warmupSeconds;
+    private final int workerThreads;
+    private final int customers;
+    private final int products;
+    private final double customerSkew;
+    private final double productSkew;
+    private final int maxCartSize;
+    private final double creditCardShare;
+    private final double debitCardShare;
+    private final double payPalShare;
+    private final boolean admissionControl;
+
+    public LoadProfile(int ratePerSecond, int durationSeconds, int warmupSeconds, int workerThreads,
+                       int customers, int products, double customerSkew, double productSkew,
+                       int maxCartSize, double creditCardShare, double debitCardShare, double payPalShare) {
+        this(ratePerSecond, durationSeconds, warmupSeconds, workerThreads, customers, products, customerSkew,
+             productSkew, maxCartSize, creditCardShare, debitCardShare, payPalShare, false);
+    }
+
+    public LoadProfile(int ratePerSecond, int durationSeconds, int warmupSeconds, int workerThreads,
+                       int customers, int products, double customerSkew, double productSkew,
+                       int maxCartSize, double creditCardShare, double debitCardShare, double payPalShare,
+                       boolean admissionControl) {
+        if (ratePerSecond <= 0 || durationSeconds <= 0 || workerThreads <= 0) {
+            throw new IllegalArgumentException("Rate, duration and worker threads must be positive");
+        }
+        if (warmupSeconds < 0) {
+            throw new IllegalArgumentException("Warmup cannot be negative");
+        }
+        if (customers <= 0 || products <= 0 || maxCartSize <= 0) {
+            throw new IllegalArgumentException("Customers, products and cart size must be positive");
+        }
+        if (creditCardShare < 0 || debitCardShare < 0 || payPalShare < 0
+                || creditCardShare + debitCardShare + payPalShare <= 0) {
+            throw new IllegalArgumentException("Payment method mix must be non-negative and non-empty");
+        }
+        this.ratePerSecond = ratePerSecond;
+        this.durationSeconds = durationSeconds;
+        this.warmupSeconds = warmupSeconds;
+        this.workerThreads = workerThreads;
+        this.customers = customers;
+        this.products = products;
+        this.customerSkew = customerSkew;
+        this.productSkew = productSkew;
+        this.maxCartSize = maxCartSize;
+        this.creditCardShare = creditCardShare;
+        this.debitCardShare = debitCardShare;
+        this.payPalShare = payPalShare;
+        this.admissionControl = admissionControl;
+    }
+
+    public static LoadProfile fromArgs(String[] args) {
+        Map<String, String> options = new HashMap<>();
+        for (String arg : args) {
+            int separator = arg.indexOf('=');
+            if (separator <= 0) {
+                throw new IllegalArgumentException("Expected key=value argument but got: " + arg);
+            }
+            options.put(arg.substring(0, separator), arg.substring(separator + 1));
+        }
+        return new LoadProfile(
+            intOption(options, "rate", 1000),
+            intOption(options, "duration", 30),
+            intOption(options, "warmup", 5),
+            intOption(options, "threads", Runtime.getRuntime().availableProcessors() * 2),
+            intOption(options, "customers", 10_000),
+            intOption(options, "products", 1_000),
+            doubleOption(options, "customerSkew", 0.8),
+            doubleOption(options, "productSkew", 1.1),
+            intOption(options, "maxCartSize", 5),
+            doubleOption(options, "creditCard", 0.5),
+            doubleOption(options, "debitCard", 0.3),
+            doubleOption(options, "payPal", 0.2),
+            Boolean.parseBoolean(options.getOrDefault("admission", "false"))
+        );
+    }
+
+    private static int intOption(Map<String, String> options, String key, int defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Integer.parseInt(value);
+    }
+
+    private static double doubleOption(Map<String, String> options, String key, double defaultValue) {
+        String value = options.get(key);
+        return value == null ? defaultValue : Double.parseDouble(value);
+    }
+
+    public String pickPaymentMethod(double uniform) {
+        double total = creditCardShare + debitCardShare + payPalShare;
+        double point = uniform * total;
+        if (point < creditCardShare) {
+            return "CREDIT_CARD";
+        }
+        if (point < creditCardShare + debitCardShare) {
+            return "DEBIT_CARD";
+        }
+        return "PAYPAL";
+    }
+
+    public int getRatePerSecond() {
+        return ratePerSecond;
+    }
+
+    public int getDurationSeconds() {
+        return durationSeconds;
+    }
+
+    public int getWarmupSeconds() {
+        return warmupSeconds;
+    }
+
+    public int getWorkerThreads() {
+        return workerThreads;
+    }
+
+    public int getCustomers() {
+        return customers;
+    }
+
+    public int getProducts() {
+        return products;
+    }
+
+    public double getCustomerSkew() {
+        return customerSkew;
+    }
+
+    public double getProductSkew() {
+        return productSkew;
+    }
+
+    public int getMaxCartSize() {
+        return maxCartSize;
+    }
+
+    public boolean isAdmissionControl() {
+        return admissionControl;
+    }
+
+    @Override
+    public String toString() {
+        return String.format("rate=%d/s duration=%ds warmup=%ds threads=%d customers=%d (skew %.2f) " +
+                             "products=%d (skew %.2f) maxCartSize=%d mix=CC:%.2f/DC:%.2f/PP:%.2f admission=%b",
+                             ratePerSecond, durationSeconds, warmupSeconds, workerThreads, customers,
+                             customerSkew, products, productSkew, maxCartSize,
+                             creditCardShare, debitCardShare, payPalShare, admissionControl);
+    }
+}
@@ -0,0 +1,96 @@
+package com.orderprocessing.loadgen;
+
+import com.orderprocessing.infrastructure.metrics.LatencyHistogram;
+
+import java.io.PrintStream;
+import java.util.EnumMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+public class LoadReport {
+    public enum Stage {
+        QUEUE_DELAY,
+        CREATE_ORDER,
+        ADD_ITEMS,
+        PROCESS_ORDER,
+        SERVICE_TIME,
+        END_TO_END,
+        SHED
+    }
+
+    private final Map<Stage, LatencyHistogram> histograms = new EnumMap<>(Stage.class);
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private volatile long measurementStartNanos;
+    private volatile long measurementEndNanos;
+
+    public LoadReport() {
+        for (Stage stage : Stage.values()) {
+            histograms.put(stage, new LatencyHistogram());
+        }
+    }
+
+    void record(Stage stage, long nanos) {
+        histograms.get(stage).record(nanos);
+    }
+
+    void recordOutcome(boolean success) {
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    void recordRejected() {
+        rejected.increment();
+    }
+
+    void setMeasurementWindow(long startNanos, long endNanos) {
+        this.measurementStartNanos = startNanos;
+        this.measurementEndNanos = endNanos;
+    }
+
+    public LatencyHistogram getHistogram(Stage stage) {
+        return histograms.get(stage);
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    public double getThroughputPerSecond() {
+        long elapsed = measurementEndNanos - measurementStartNanos;
+        return elapsed <= 0 ? 0.0 : (succeeded.sum() + failed.sum()) * 1e9 / elapsed;
+    }
+
+    public void print(PrintStream out) {
+        out.printf("Completed: %d succeeded, %d failed, %d shed, throughput %.1f orders/s%n",
+                   getSucceeded(), getFailed(), getRejected(), getThroughputPerSecond());
+        out.printf("%-14s %10s %10s %10s %10s %10s %10s%n",
+                   "stage (ms)", "count", "mean", "p50", "p99", "p99.9", "max");
+        for (Stage stage : Stage.values()) {
+            LatencyHistogram histogram = histograms.get(stage);
+            out.printf("%-14s %10d %10.3f %10.3f %10.3f %10.3f %10.3f%n",
+                       stage, histogram.getTotalCount(), toMillis(histogram.getMean()),
+                       toMillis(histogram.getValueAtPercentile(50)),
+                       toMillis(histogram.getValueAtPercentile(99)),
+                       toMillis(histogram.getValueAtPercentile(99.9)),
+                       toMillis(histogram.getMaxValue()));
+        }
+    }
+
+    private static double toMillis(double nanos) {
+        return nanos / TimeUnit.MILLISECONDS.toNanos(1);
+    }
+}
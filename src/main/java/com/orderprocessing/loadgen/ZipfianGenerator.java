@@ -0,0 +1,33 @@
+package com.orderprocessing.loadgen;
+
+import java.util.Arrays;
+import java.util.concurrent.ThreadLocalRandom;
+
+public class ZipfianGenerator {
+    private final double[] cumulative;
+
+    public ZipfianGenerator(int items, double skew) {
+        if (items <= 0) {
+            throw new IllegalArgumentException("Item count must be positive");
+        }
+        if (skew < 0) {
+            throw new IllegalArgumentException("Skew cannot be negative");
+        }
+        this.cumulative = new double[items];
+        double sum = 0;
+        for (int rank = 1; rank <= items; rank++) {
+            sum += 1.0 / Math.pow(rank, skew);
+            cumulative[rank - 1] = sum;
+        }
+        for (int i = 0; i < items; i++) {
+            cumulative[i] /= sum;
+        }
+    }
+
+    public int next() {
+        double value = ThreadLocalRandom.current().nextDouble();
+        int index = Arrays.binarySearch(cumulative, value);
+        int item = index >= 0 ? index : -index - 1;
+        return Math.min(item, cumulative.length - 1);
+    }
+}
@@ -0,0 +1,180 @@
+package com.orderprocessing.application.admission;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AdmissionControllerTest {
+    private static final int THREADS = 16;
+    private static final int CALLS_PER_THREAD = 200;
+
+    @Test
+    public void testFullQueueRejectsImmediatelyWithRetryHint() throws Exception {
+        AdmissionController controller = new AdmissionController(fixedLimit(1), 0, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = hold(controller, release);
+
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class,
+                                                           () -> controller.execute(() -> fail("admitted")));
+        assertTrue(rejected.getRetryAfterMillis() >= 1);
+        assertEquals(1, controller.getRejectedCount());
+        assertEquals(1, controller.getInFlight());
+
+        release.countDown();
+        holder.join();
+        assertEquals(0, controller.getInFlight());
+        assertEquals(1, controller.getAdmittedCount());
+    }
+
+    @Test
+    public void testQueuedCallerRunsWhenPermitFrees() throws Exception {
+        AdmissionController controller = new AdmissionController(fixedLimit(1), 1, 5_000);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = hold(controller, release);
+
+        AtomicInteger ran = new AtomicInteger();
+        Thread queued = new Thread(() -> controller.execute(ran::incrementAndGet));
+        queued.start();
+        while (controller.getQueueLength() == 0) {
+            Thread.onSpinWait();
+        }
+        assertThrows(AdmissionRejectedException.class, () -> controller.execute(ran::incrementAndGet));
+
+        release.countDown();
+        holder.join();
+        queued.join();
+        assertEquals(1, ran.get());
+        assertEquals(2, controller.getAdmittedCount());
+        assertEquals(1, controller.getRejectedCount());
+        assertEquals(0, controller.getQueueLength());
+    }
+
+    @Test
+    public void testQueuedCallerTimesOut() throws Exception {
+        AdmissionController controller = new AdmissionController(fixedLimit(1), 4, 20);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = hold(controller, release);
+
+        AdmissionRejectedException rejected = assertThrows(AdmissionRejectedException.class,
+                                                           () -> controller.execute(() -> fail("admitted")));
+        assertTrue(rejected.getMessage().startsWith("Timed out"), rejected.getMessage());
+        assertEquals(0, controller.getQueueLength());
+
+        release.countDown();
+        holder.join();
+    }
+
+    @Test
+    public void testTaskFailuresReleaseTheirPermit() {
+        AdmissionController controller = new AdmissionController(fixedLimit(1), 0, 0);
+        for (int i = 0; i < 3; i++) {
+            assertThrows(IllegalStateException.class, () -> controller.execute(() -> {
+                throw new IllegalStateException("Payment failed");
+            }));
+        }
+        assertEquals("done", controller.call(() -> "done"));
+        assertEquals(0, controller.getInFlight());
+        assertEquals(4, controller.getAdmittedCount());
+        assertEquals(0, controller.getRejectedCount());
+    }
+
+    @Test
+    public void testConcurrencyNeverExceedsLimit() throws Exception {
+        AdmissionController controller = new AdmissionController(fixedLimit(4), THREADS, 10_000);
+        AtomicInteger running = new AtomicInteger();
+        AtomicInteger peak = new AtomicInteger();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < CALLS_PER_THREAD; i++) {
+                        controller.execute(() -> {
+                            peak.accumulateAndGet(running.incrementAndGet(), Math::max);
+                            Thread.yield();
+                            running.decrementAndGet();
+                        });
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(errors.isEmpty(), () -> errors.toString());
+        assertTrue(peak.get() <= 4, "peak " + peak.get());
+        assertEquals((long) THREADS * CALLS_PER_THREAD, controller.getAdmittedCount());
+        assertEquals(0, controller.getInFlight());
+    }
+
+    @Test
+    public void testRejectedProcessingLeavesOrderPending() throws Exception {
+        CustomerId customerId = new CustomerId("CUST-ADMIT");
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(customerId, "admit@example.com", "Admit"));
+        PaymentService payments = new PaymentService();
+        payments.deposit(customerId, new BigDecimal("100.00"));
+        OrderService orderService = new OrderService(new InMemoryOrderRepository(), customers,
+                                                     new InventoryService(Map.of("PROD-A", 10)), payments);
+        AdmissionController controller = new AdmissionController(fixedLimit(1), 0, 0);
+        AdmissionControlledOrderService service = new AdmissionControlledOrderService(orderService, controller);
+
+        Order order = service.createOrder(customerId);
+        service.addItemToOrder(order.getOrderId(), "PROD-A", "Anvil", new BigDecimal("10.00"), 1);
+        CountDownLatch release = new CountDownLatch(1);
+        Thread holder = hold(controller, release);
+        assertThrows(AdmissionRejectedException.class, () -> service.processOrder(order.getOrderId(), "CREDIT_CARD"));
+        assertEquals(OrderStatus.PENDING, service.getOrder(order.getOrderId()).getStatus());
+        release.countDown();
+        holder.join();
+
+        service.processOrder(order.getOrderId(), "CREDIT_CARD");
+        assertNotEquals(OrderStatus.PENDING, service.getOrder(order.getOrderId()).getStatus());
+    }
+
+    private static GradientConcurrencyLimit fixedLimit(int limit) {
+        return new GradientConcurrencyLimit(limit, limit, limit);
+    }
+
+    private static Thread hold(AdmissionController controller, CountDownLatch release) throws Exception {
+        CountDownLatch admitted = new CountDownLatch(1);
+        Thread holder = new Thread(() -> controller.execute(() -> {
+            admitted.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }));
+        holder.start();
+        assertTrue(admitted.await(5, TimeUnit.SECONDS));
+        return holder;
+    }
+}
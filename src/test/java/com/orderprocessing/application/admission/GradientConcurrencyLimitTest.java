@@ -0,0 +1,63 @@
+package com.orderprocessing.application.admission;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class GradientConcurrencyLimitTest {
+    private static final long FAST = 1_000_000;
+    private static final long SLOW = 20_000_000;
+
+    @Test
+    public void testSteadyLatencyUnderLoadRaisesLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(10, 1, 100);
+        for (int i = 0; i < 50; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() > 10, "limit " + limit.getLimit());
+        assertEquals(FAST, limit.getShortRttNanos());
+        assertEquals(FAST, limit.getLongRttNanos());
+    }
+
+    @Test
+    public void testRisingLatencyLowersLimit() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(40, 1, 100);
+        for (int i = 0; i < 20; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        int baseline = limit.getLimit();
+        for (int i = 0; i < 100; i++) {
+            limit.onSample(SLOW, limit.getLimit(), false);
+        }
+        assertTrue(limit.getLimit() < baseline / 2, baseline + " -> " + limit.getLimit());
+        assertTrue(limit.getShortRttNanos() > limit.getLongRttNanos());
+    }
+
+    @Test
+    public void testDropsBackOffAndIdleSamplesHold() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(50, 5, 100);
+        assertEquals(50, limit.onSample(FAST, 3, false));
+        assertEquals(50, limit.onSample(0, 50, true));
+
+        int previous = limit.getLimit();
+        for (int i = 0; i < 40; i++) {
+            int next = limit.onSample(FAST, limit.getLimit(), true);
+            assertTrue(next <= previous);
+            previous = next;
+        }
+        assertEquals(5, limit.getLimit());
+    }
+
+    @Test
+    public void testLimitStaysWithinBounds() {
+        GradientConcurrencyLimit limit = new GradientConcurrencyLimit(8, 4, 12);
+        for (int i = 0; i < 200; i++) {
+            limit.onSample(FAST, limit.getLimit(), false);
+        }
+        assertEquals(12, limit.getLimit());
+
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(1, 0, 10));
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(5, 6, 5));
+        assertThrows(IllegalArgumentException.class, () -> new GradientConcurrencyLimit(11, 1, 10));
+    }
+}
@@ -0,0 +1,92 @@
+package com.orderprocessing.application.analytics;
+
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SalesAnalyticsTest {
+    private static final OrderId ORDER = new OrderId("ORDER-1");
+    private static final LocalDateTime NOW = LocalDateTime.of(2026, 1, 1, 12, 0);
+
+    private final AtomicLong clock = new AtomicLong(TimeUnit.HOURS.toMillis(1));
+    private final SalesAnalytics analytics = new SalesAnalytics(1_000, clock::get);
+
+    private static Money usd(String amount) {
+        return new Money(new BigDecimal(amount), "USD");
+    }
+
+    private static OrderItem item(String productId, String price, int quantity) {
+        return new OrderItem(productId, productId, usd(price), quantity);
+    }
+
+    @Test
+    public void testProductStatsCountSuccessesAndFailures() {
+        analytics.onEvent(new OrderProcessedEvent(ORDER, NOW, usd("25.00"), "DEBIT_CARD",
+                                                  List.of(item("PROD-1", "10.00", 2), item("PROD-2", "5.00", 1))));
+        analytics.onEvent(new OrderProcessedEvent(ORDER, NOW, usd("30.00"), "DEBIT_CARD",
+                                                  List.of(item("PROD-1", "10.00", 3))));
+        analytics.onEvent(new OrderProcessingAbortedEvent(ORDER, List.of(item("PROD-1", "10.00", 1)), NOW));
+
+        WindowStats product = analytics.getProductStats("PROD-1", AnalyticsWindow.LAST_1_MINUTE);
+        assertEquals(2, product.getCount());
+        assertEquals(5, product.getUnits());
+        assertEquals(1, product.getFailures());
+        assertEquals(1.0 / 3, product.getFailureRate(), 1e-9);
+        assertEquals(usd("50.00"), product.getRevenue());
+
+        List<WindowStats> top = analytics.topProductsByRevenue(AnalyticsWindow.LAST_1_MINUTE, 1);
+        assertEquals(1, top.size());
+        assertEquals("PROD-1", top.get(0).getKey());
+    }
+
+    @Test
+    public void testOldBucketsFallOutOfTheWindow() {
+        analytics.onEvent(new OrderProcessedEvent(ORDER, NOW, usd("10.00"), "DEBIT_CARD",
+                                                  List.of(item("PROD-1", "10.00", 1))));
+        clock.addAndGet(TimeUnit.SECONDS.toMillis(90));
+        analytics.onEvent(new OrderProcessedEvent(ORDER, NOW, usd("10.00"), "DEBIT_CARD",
+                                                  List.of(item("PROD-1", "10.00", 1))));
+
+        assertEquals(1, analytics.getProductStats("PROD-1", AnalyticsWindow.LAST_1_MINUTE).getCount());
+        assertEquals(2, analytics.getProductStats("PROD-1", AnalyticsWindow.LAST_5_MINUTES).getCount());
+
+        clock.addAndGet(TimeUnit.MINUTES.toMillis(20));
+        assertEquals(0, analytics.getProductStats("PROD-1", AnalyticsWindow.LAST_15_MINUTES).getCount());
+    }
+
+    @Test
+    public void testPaymentMethodStatsTrackFailuresAndLatency() {
+        CustomerId customer = new CustomerId("CUST-001");
+        analytics.onPaymentCompleted(new PaymentService.PaymentTransaction("TXN-1", ORDER, customer, usd("12.34"),
+                                                                            "CREDIT_CARD"),
+                                     TimeUnit.MILLISECONDS.toNanos(2));
+        analytics.onPaymentFailed(ORDER, customer, usd("12.34"), "CREDIT_CARD", new RuntimeException("declined"),
+                                  TimeUnit.MILLISECONDS.toNanos(8));
+
+        WindowStats card = analytics.getPaymentMethodStats("CREDIT_CARD", AnalyticsWindow.LAST_1_MINUTE);
+        assertEquals(1, card.getCount());
+        assertEquals(1, card.getFailures());
+        assertEquals(usd("12.34"), card.getRevenue());
+        assertTrue(card.getP99LatencyNanos() >= TimeUnit.MILLISECONDS.toNanos(7));
+    }
+
+    @Test
+    public void testMinorUnitsAreExactForLargeAndNegativeAmounts() {
+        assertEquals(-123456789L, usd("-1234567.89").getMinorUnits());
+        assertEquals(Long.MIN_VALUE, new Money(BigDecimal.valueOf(Long.MIN_VALUE, 2), "USD").getMinorUnits());
+        assertThrows(ArithmeticException.class, () -> usd("1e30").getMinorUnits());
+    }
+}
@@ -0,0 +1,78 @@
+package com.orderprocessing.application.partition;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionEventLoopTest {
+    private static final int SUBMITTERS = 4;
+
+    @Test
+    public void testEveryAcceptedTaskRunsWhenShutdownRacesSubmitters() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            PartitionEventLoop loop = new PartitionEventLoop("test-loop-" + round);
+            AtomicInteger accepted = new AtomicInteger();
+            AtomicInteger executed = new AtomicInteger();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < SUBMITTERS; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 1000; i++) {
+                        try {
+                            loop.execute(executed::incrementAndGet);
+                            accepted.incrementAndGet();
+                        } catch (RejectedExecutionException e) {
+                            return;
+                        }
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            Thread.yield();
+            loop.shutdown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            loop.awaitTermination();
+
+            assertEquals(accepted.get(), executed.get());
+            assertThrows(RejectedExecutionException.class, () -> loop.execute(executed::incrementAndGet));
+        }
+    }
+
+    @Test
+    public void testShutdownDrainsQueuedTasks() throws Exception {
+        PartitionEventLoop loop = new PartitionEventLoop("test-loop");
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger executed = new AtomicInteger();
+        loop.execute(() -> {
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        });
+        for (int i = 0; i < 100; i++) {
+            loop.execute(executed::incrementAndGet);
+        }
+        loop.shutdown();
+        release.countDown();
+        loop.awaitTermination();
+
+        assertEquals(100, executed.get());
+        assertEquals(0, loop.getQueueLength());
+    }
+}
@@ -0,0 +1,122 @@
+package com.orderprocessing.application.partition;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PartitionedOrderServiceTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-PART");
+    private static final int ORDERS = 200;
+
+    private PartitionedOrderService newService() {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "part@example.com", "Partition"));
+        PartitionedOrderService service = new PartitionedOrderService(4, customers);
+        for (int p = 0; p < 8; p++) {
+            service.addStock("PROD-" + p, 1_000_000).join();
+        }
+        service.deposit(CUSTOMER, new BigDecimal("1000000.00")).join();
+        return service;
+    }
+
+    @Test
+    public void testConcurrentAddItemsAreAllKept() throws Exception {
+        try (PartitionedOrderService service = newService()) {
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = service.createOrder(CUSTOMER).join();
+                CompletableFuture<Void> first = service.addItemToOrder(order.getOrderId(), "PROD-" + (i % 8), "A",
+                                                                       BigDecimal.ONE, 1);
+                CompletableFuture<Void> second = service.addItemToOrder(order.getOrderId(),
+                                                                        "PROD-" + ((i + 1) % 8), "B",
+                                                                        BigDecimal.ONE, 1);
+                CompletableFuture.allOf(first, second).join();
+
+                assertEquals(2, service.getOrder(order.getOrderId()).join().getItems().size(), "order " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testLateAddItemCannotRevertProcessedOrder() throws Exception {
+        try (PartitionedOrderService service = newService()) {
+            for (int i = 0; i < ORDERS; i++) {
+                Order order = service.createOrder(CUSTOMER).join();
+                service.addItemToOrder(order.getOrderId(), "PROD-" + (i % 8), "A", BigDecimal.ONE, 1).join();
+
+                CompletableFuture<Void> addItem = service.addItemToOrder(order.getOrderId(), "PROD-" + ((i + 3) % 8),
+                                                                         "B", BigDecimal.ONE, 1);
+                CompletableFuture<Void> process = service.processOrder(order.getOrderId(), "DEBIT_CARD");
+                boolean added = succeeded(addItem);
+                boolean processed = succeeded(process);
+
+                Order result = service.getOrder(order.getOrderId()).join();
+                assertTrue(processed, "order " + i);
+                assertEquals(OrderStatus.PROCESSING, result.getStatus(), "order " + i);
+                assertEquals(added ? 2 : 1, result.getItems().size(), "order " + i);
+            }
+        }
+    }
+
+    @Test
+    public void testPartitionsStartWithoutSeededBalances() throws Exception {
+        try (PartitionedOrderService service = newService()) {
+            for (String customer : new String[]{"CUST-001", "CUST-002", "CUST-003"}) {
+                assertEquals(0, service.getBalance(new CustomerId(customer)).join().signum(), customer);
+            }
+            assertEquals(0, new BigDecimal("1000000.00").compareTo(service.getBalance(CUSTOMER).join()));
+        }
+    }
+
+    @Test
+    public void testFailedCommitAfterChargeRefundsAndReleasesTheOrder() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "part@example.com", "Partition"));
+        AtomicBoolean failCommit = new AtomicBoolean(true);
+        try (PartitionedOrderService service = new PartitionedOrderService(2, customers, () -> new InMemoryOrderRepository() {
+            @Override
+            public void update(Order order, long expectedVersion) {
+                if (order.getProcessedAt() != null && failCommit.getAndSet(false)) {
+                    throw new IllegalStateException("Simulated commit failure");
+                }
+                super.update(order, expectedVersion);
+            }
+        })) {
+            service.addStock("PROD-0", 1).join();
+            service.deposit(CUSTOMER, new BigDecimal("100.00")).join();
+            Order order = service.createOrder(CUSTOMER).join();
+            service.addItemToOrder(order.getOrderId(), "PROD-0", "A", new BigDecimal("40.00"), 1).join();
+
+            CompletionException failed = assertThrows(CompletionException.class,
+                                                      () -> service.processOrder(order.getOrderId(), "DEBIT_CARD").join());
+            assertEquals("Simulated commit failure", failed.getCause().getMessage());
+            assertEquals(0, new BigDecimal("100.00").compareTo(service.getBalance(CUSTOMER).join()));
+            assertEquals(OrderStatus.PENDING, service.getOrder(order.getOrderId()).join().getStatus());
+            assertEquals(0, customers.findById(CUSTOMER).orElseThrow().getLoyaltyPoints());
+
+            service.processOrder(order.getOrderId(), "DEBIT_CARD").join();
+            assertEquals(OrderStatus.PROCESSING, service.getOrder(order.getOrderId()).join().getStatus());
+            assertEquals(0, new BigDecimal("60.00").compareTo(service.getBalance(CUSTOMER).join()));
+            assertEquals(4, customers.findById(CUSTOMER).orElseThrow().getLoyaltyPoints());
+        }
+    }
+
+    private static boolean succeeded(CompletableFuture<Void> future) {
+        try {
+            future.join();
+            return true;
+        } catch (CompletionException e) {
+            return false;
+        }
+    }
+}
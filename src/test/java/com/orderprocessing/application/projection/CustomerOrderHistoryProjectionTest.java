@@ -0,0 +1,87 @@
+package com.orderprocessing.application.projection;
+
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CustomerOrderHistoryProjectionTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-001");
+
+    private final CustomerOrderHistoryProjection projection = new CustomerOrderHistoryProjection("USD");
+
+    @Test
+    public void testSpendUsesChargedAmountAndCompletedOrdersAreReleased() {
+        OrderId orderId = new OrderId("ORD-1");
+        projection.apply(new OrderCreatedEvent(orderId, CUSTOMER, NOW));
+        projection.apply(processed(orderId, "100.00", "90.00"));
+
+        CustomerOrderSummary summary = projection.getCustomerSummary(CUSTOMER);
+        assertEquals(usd("90.00"), summary.getLifetimeSpend());
+        assertEquals(1, summary.getOrderCount(OrderStatus.PROCESSING));
+
+        projection.apply(new OrderCompletedEvent(orderId, NOW));
+        assertEquals(0, projection.getTrackedOrderCount());
+        assertEquals(1, projection.getOrderCount(OrderStatus.COMPLETED));
+
+        projection.apply(new OrderShippedEvent(orderId, CUSTOMER, NOW));
+        summary = projection.getCustomerSummary(CUSTOMER);
+        assertEquals(0, summary.getOrderCount(OrderStatus.COMPLETED));
+        assertEquals(1, summary.getOrderCount(OrderStatus.SHIPPED));
+        assertEquals(1, projection.getOrderCount(OrderStatus.SHIPPED));
+        assertEquals(usd("90.00"), summary.getLifetimeSpend());
+    }
+
+    @Test
+    public void testCancellationReversesChargedSpend() {
+        OrderId kept = new OrderId("ORD-1");
+        OrderId cancelled = new OrderId("ORD-2");
+        projection.apply(new OrderCreatedEvent(kept, CUSTOMER, NOW));
+        projection.apply(new OrderCreatedEvent(cancelled, CUSTOMER, NOW.plusMinutes(1)));
+        projection.apply(processed(kept, "40.00", "38.00"));
+        projection.apply(processed(cancelled, "60.00", "57.00"));
+        projection.apply(new OrderCancelledEvent(cancelled, OrderStatus.PROCESSING, NOW));
+
+        CustomerOrderSummary summary = projection.getCustomerSummary(CUSTOMER);
+        assertEquals(usd("38.00"), summary.getLifetimeSpend());
+        assertEquals(2, summary.getOrderCount());
+        assertEquals(1, summary.getOrderCount(OrderStatus.CANCELLED));
+        assertEquals(1, projection.getTrackedOrderCount());
+    }
+
+    @Test
+    public void testShipmentsOfUnseenOrdersAreIgnored() {
+        OrderId orderId = new OrderId("ORD-1");
+        projection.apply(new OrderCreatedEvent(orderId, CUSTOMER, NOW));
+        projection.apply(new OrderShippedEvent(new OrderId("ORD-UNKNOWN"), CUSTOMER, NOW));
+        projection.apply(new OrderShippedEvent(new OrderId("ORD-LEGACY"), NOW));
+
+        CustomerOrderSummary summary = projection.getCustomerSummary(CUSTOMER);
+        assertEquals(0, summary.getOrderCount(OrderStatus.COMPLETED));
+        assertEquals(0, summary.getOrderCount(OrderStatus.SHIPPED));
+        assertEquals(1, summary.getOrderCount(OrderStatus.PENDING));
+    }
+
+    private static OrderProcessedEvent processed(OrderId orderId, String total, String charged) {
+        return new OrderProcessedEvent(orderId, NOW, usd(total), usd(charged), "CREDIT_CARD",
+                                       List.of(new OrderItem("PROD-001", "Widget", usd(total), 1)));
+    }
+
+    private static Money usd(String amount) {
+        return new Money(new BigDecimal(amount), "USD");
+    }
+}
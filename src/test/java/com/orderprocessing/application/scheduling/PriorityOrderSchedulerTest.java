@@ -0,0 +1,182 @@
+package com.orderprocessing.application.scheduling;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PriorityOrderSchedulerTest {
+    private static final OrderId BLOCKER = new OrderId("ORD-BLOCKER");
+    private static final long NO_AGING_MILLIS = 60_000;
+
+    private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+    private final InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+    private final RecordingOrderService orderService = new RecordingOrderService();
+
+    @Test
+    public void testClassifiesByPriorityFlagThenCustomerTier() {
+        Customer regular = customer("CUST-REG", 0);
+        Customer gold = customer("CUST-GOLD", 500);
+        Customer platinum = customer("CUST-PLAT", 1_000);
+        Order order = new Order(regular.getCustomerId());
+
+        assertEquals(PriorityClass.STANDARD, PriorityClass.classify(order, regular));
+        assertEquals(PriorityClass.STANDARD, PriorityClass.classify(order, null));
+        assertEquals(PriorityClass.PREMIUM, PriorityClass.classify(order, gold));
+        assertEquals(PriorityClass.PREMIUM, PriorityClass.classify(order, platinum));
+        order.setPriorityOrder(true);
+        assertEquals(PriorityClass.EXPRESS, PriorityClass.classify(order, regular));
+    }
+
+    @Test
+    public void testBacklogIsDrainedByWeight() throws Exception {
+        try (PriorityOrderScheduler scheduler = new PriorityOrderScheduler(orderService, customers, 1, 100,
+                                                                           NO_AGING_MILLIS)) {
+            CompletableFuture<Void> blocker = block(scheduler);
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            for (int i = 0; i < 13; i++) {
+                for (PriorityClass priorityClass : PriorityClass.values()) {
+                    results.add(scheduler.submit(id(priorityClass, i), "CREDIT_CARD", priorityClass));
+                }
+            }
+            assertEquals(13, scheduler.getQueueLength(PriorityClass.STANDARD));
+            orderService.release.countDown();
+            blocker.join();
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+            Map<PriorityClass, Integer> firstRound = new EnumMap<>(PriorityClass.class);
+            for (OrderId orderId : orderService.processed.subList(1, 14)) {
+                firstRound.merge(classOf(orderId), 1, Integer::sum);
+            }
+            assertEquals(8, firstRound.get(PriorityClass.EXPRESS));
+            assertEquals(4, firstRound.get(PriorityClass.PREMIUM));
+            assertEquals(1, firstRound.get(PriorityClass.STANDARD));
+            assertEquals(40, orderService.processed.size());
+            assertEquals(0, scheduler.getAgedDispatchCount());
+            assertEquals(14, scheduler.getQueueDelay(PriorityClass.STANDARD).getTotalCount());
+        }
+    }
+
+    @Test
+    public void testAgedStandardOrderIsNotStarved() throws Exception {
+        try (PriorityOrderScheduler scheduler = new PriorityOrderScheduler(orderService, customers, 1, 100, 50)) {
+            CompletableFuture<Void> blocker = block(scheduler);
+            List<CompletableFuture<Void>> results = new ArrayList<>();
+            results.add(scheduler.submit(id(PriorityClass.STANDARD, 0), "CREDIT_CARD", PriorityClass.STANDARD));
+            Thread.sleep(200);
+            for (int i = 0; i < 20; i++) {
+                results.add(scheduler.submit(id(PriorityClass.EXPRESS, i), "CREDIT_CARD", PriorityClass.EXPRESS));
+            }
+            orderService.release.countDown();
+            blocker.join();
+            CompletableFuture.allOf(results.toArray(new CompletableFuture[0])).join();
+
+            int position = orderService.processed.indexOf(id(PriorityClass.STANDARD, 0));
+            assertTrue(position <= 3, "standard order dispatched at " + position);
+            assertTrue(scheduler.getAgedDispatchCount() > 0);
+        }
+    }
+
+    @Test
+    public void testRejectsWhenFullOrClosedAndReportsFailures() throws Exception {
+        PriorityOrderScheduler scheduler = new PriorityOrderScheduler(orderService, customers, 1, 2,
+                                                                      NO_AGING_MILLIS);
+        CompletableFuture<Void> blocker = block(scheduler);
+        orderService.failing = new OrderId("ORD-FAIL");
+        CompletableFuture<Void> failed = scheduler.submit(orderService.failing, "CREDIT_CARD", PriorityClass.EXPRESS);
+        CompletableFuture<Void> ok = scheduler.submit(new OrderId("ORD-OK"), "CREDIT_CARD", PriorityClass.STANDARD);
+        assertThrows(IllegalStateException.class,
+                     () -> scheduler.submit(new OrderId("ORD-OVER"), "CREDIT_CARD", PriorityClass.EXPRESS));
+
+        orderService.release.countDown();
+        blocker.join();
+        ok.join();
+        CompletionException thrown = assertThrows(CompletionException.class, failed::join);
+        assertTrue(thrown.getCause() instanceof IllegalStateException);
+
+        scheduler.close();
+        assertThrows(IllegalStateException.class,
+                     () -> scheduler.submit(new OrderId("ORD-LATE"), "CREDIT_CARD", PriorityClass.EXPRESS));
+    }
+
+    @Test
+    public void testSubmitClassifiesStoredOrder() throws Exception {
+        Customer gold = customer("CUST-GOLD", 600);
+        customers.save(gold);
+        Order order = new Order(gold.getCustomerId());
+        orders.save(order);
+        try (PriorityOrderScheduler scheduler = new PriorityOrderScheduler(orderService, customers, 1, 10,
+                                                                           NO_AGING_MILLIS)) {
+            orderService.release.countDown();
+            scheduler.submit(order.getOrderId(), "CREDIT_CARD").join();
+            assertEquals(1, scheduler.getQueueDelay(PriorityClass.PREMIUM).getTotalCount());
+            assertEquals(List.of(order.getOrderId()), orderService.processed);
+        }
+    }
+
+    private CompletableFuture<Void> block(PriorityOrderScheduler scheduler) throws Exception {
+        CompletableFuture<Void> blocker = scheduler.submit(BLOCKER, "CREDIT_CARD", PriorityClass.STANDARD);
+        assertTrue(orderService.blocked.await(5, TimeUnit.SECONDS));
+        return blocker;
+    }
+
+    private static Customer customer(String id, int loyaltyPoints) {
+        return Customer.restore(new CustomerId(id), id.toLowerCase() + "@example.com", id, loyaltyPoints,
+                                LocalDateTime.now(), true);
+    }
+
+    private static OrderId id(PriorityClass priorityClass, int index) {
+        return new OrderId(priorityClass.name() + "-" + index);
+    }
+
+    private static PriorityClass classOf(OrderId orderId) {
+        return PriorityClass.valueOf(orderId.getValue().substring(0, orderId.getValue().indexOf('-')));
+    }
+
+    private class RecordingOrderService extends OrderService {
+        private final List<OrderId> processed = Collections.synchronizedList(new ArrayList<>());
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile OrderId failing;
+
+        RecordingOrderService() {
+            super(orders, customers, new InventoryService(Collections.emptyMap()),
+                  new PaymentService(Collections.emptyMap()));
+        }
+
+        @Override
+        public void processOrder(OrderId orderId, String paymentMethod) {
+            if (BLOCKER.equals(orderId)) {
+                blocked.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            processed.add(orderId);
+            if (orderId.equals(failing)) {
+                throw new IllegalStateException("Order is not pending");
+            }
+        }
+    }
+}
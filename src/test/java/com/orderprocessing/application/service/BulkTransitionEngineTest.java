@@ -0,0 +1,140 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.application.service.BulkTransitionResult.Rejection;
+import com.orderprocessing.application.service.BulkTransitionResult.RejectionReason;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.EventPublishingOrderRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkTransitionEngineTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-BULK");
+    private static final Money PRICE = new Money(new BigDecimal("3.00"), "USD");
+
+    private final List<List<Object>> published = new ArrayList<>();
+    private final InMemoryOrderRepository store = new InMemoryOrderRepository();
+    private final QueryableOrderRepository repository = new EventPublishingOrderRepository(store, published::add);
+
+    @Test
+    public void testTransitionReportsEachRejection() {
+        OrderId processing = save(1, OrderStatus.PROCESSING);
+        OrderId pending = save(2, OrderStatus.PENDING);
+        OrderId completed = save(3, OrderStatus.COMPLETED);
+        OrderId missing = new OrderId("ORD-MISSING");
+        published.clear();
+
+        BulkTransitionResult result = new BulkTransitionEngine(repository)
+            .transition(List.of(processing, pending, missing, processing, completed), OrderStatus.COMPLETED);
+
+        assertEquals(5, result.getRequested());
+        assertEquals(1, result.getApplied());
+        Map<OrderId, RejectionReason> reasons = reasons(result);
+        assertEquals(RejectionReason.INVALID_TRANSITION, reasons.get(pending));
+        assertEquals(RejectionReason.NOT_FOUND, reasons.get(missing));
+        assertEquals(RejectionReason.DUPLICATE, reasons.get(processing));
+        assertEquals(RejectionReason.INVALID_TRANSITION, reasons.get(completed));
+        assertEquals(4, result.getRejections().size());
+
+        assertEquals(OrderStatus.COMPLETED, repository.findSnapshot(processing).orElseThrow().getStatus());
+        assertEquals(OrderStatus.PENDING, repository.findSnapshot(pending).orElseThrow().getStatus());
+        assertEquals(1, published.size());
+        assertEquals(1, published.get(0).size());
+        assertTrue(published.get(0).get(0) instanceof OrderCompletedEvent);
+    }
+
+    @Test
+    public void testTransitionAllMovesStatusIndexInBatches() {
+        List<OrderId> processing = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            processing.add(save(i, OrderStatus.PROCESSING));
+        }
+        save(10, OrderStatus.PENDING);
+        published.clear();
+
+        BulkTransitionEngine engine = new BulkTransitionEngine(repository, 4);
+        BulkTransitionResult completed = engine.transitionAll(OrderStatus.PROCESSING, OrderStatus.COMPLETED);
+        assertEquals(10, completed.getApplied());
+        assertTrue(completed.getRejections().isEmpty());
+        assertEquals(3, published.size());
+        assertTrue(repository.findSnapshotsByStatus(OrderStatus.PROCESSING).isEmpty());
+        assertEquals(10, repository.findSnapshotsByStatus(OrderStatus.COMPLETED).size());
+
+        published.clear();
+        BulkTransitionResult shipped = engine.transition(processing, OrderStatus.SHIPPED);
+        assertEquals(10, shipped.getApplied());
+        assertEquals(10, repository.findSnapshotsByStatus(OrderStatus.SHIPPED).size());
+        assertEquals(1, repository.findSnapshotsByStatus(OrderStatus.PENDING).size());
+        OrderShippedEvent event = (OrderShippedEvent) published.get(0).get(0);
+        assertEquals(CUSTOMER, event.getCustomerId());
+    }
+
+    @Test
+    public void testConcurrentUpdateIsRejectedAsVersionConflict() {
+        OrderId raced = save(1, OrderStatus.PROCESSING);
+        OrderId clean = save(2, OrderStatus.PROCESSING);
+        QueryableOrderRepository racing = new EventPublishingOrderRepository(store, published::add) {
+            @Override
+            public Map<OrderId, RuntimeException> updateAll(List<Order> orders) {
+                Order order = store.findById(raced).orElseThrow();
+                order.setPriorityOrder(true);
+                store.update(order, order.getVersion());
+                return super.updateAll(orders);
+            }
+        };
+
+        BulkTransitionResult result = new BulkTransitionEngine(racing).transition(List.of(raced, clean),
+                                                                                  OrderStatus.COMPLETED);
+
+        assertEquals(1, result.getApplied());
+        assertEquals(Map.of(raced, RejectionReason.VERSION_CONFLICT), reasons(result));
+        assertEquals(OrderStatus.PROCESSING, store.findSnapshot(raced).orElseThrow().getStatus());
+        assertEquals(OrderStatus.COMPLETED, store.findSnapshot(clean).orElseThrow().getStatus());
+    }
+
+    @Test
+    public void testRejectsTargetsThatMoveStockOrMoney() {
+        BulkTransitionEngine engine = new BulkTransitionEngine(repository);
+        assertThrows(IllegalArgumentException.class, () -> engine.transition(List.of(), OrderStatus.CANCELLED));
+        assertThrows(IllegalArgumentException.class,
+                     () -> engine.transitionAll(OrderStatus.PENDING, OrderStatus.PROCESSING));
+        assertThrows(IllegalArgumentException.class, () -> new BulkTransitionEngine(repository, 0));
+    }
+
+    private OrderId save(int index, OrderStatus status) {
+        Order order = new Order(new OrderId(String.format("ORD-%03d", index)), CUSTOMER);
+        order.addItem(new OrderItem("PROD-001", "Widget", PRICE, 1));
+        if (status != OrderStatus.PENDING) {
+            order.setPaymentMethod("CREDIT_CARD");
+            order.process();
+        }
+        if (status == OrderStatus.COMPLETED) {
+            order.complete();
+        }
+        repository.save(order);
+        return order.getOrderId();
+    }
+
+    private static Map<OrderId, RejectionReason> reasons(BulkTransitionResult result) {
+        Map<OrderId, RejectionReason> reasons = new HashMap<>();
+        for (Rejection rejection : result.getRejections()) {
+            reasons.put(rejection.getOrderId(), rejection.getReason());
+        }
+        return reasons;
+    }
+}
@@ -0,0 +1,157 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.CustomerType;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoyaltyAccrualServiceTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-LOYAL");
+    private static final long NEVER = 3_600_000;
+
+    @Test
+    public void testConcurrentAccrualsAreFlushedExactlyOnce() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "loyal@example.com", "Loyal"));
+        try (LoyaltyAccrualService accruals = new LoyaltyAccrualService(customers, NEVER)) {
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicBoolean flushing = new AtomicBoolean(true);
+            AtomicBoolean sawNegative = new AtomicBoolean();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 8; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    for (int i = 0; i < 10_000; i++) {
+                        accruals.accrue(CUSTOMER, 1);
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            Thread flusher = new Thread(() -> {
+                while (flushing.get()) {
+                    accruals.flush();
+                    if (accruals.getPendingPoints(CUSTOMER) < 0) {
+                        sawNegative.set(true);
+                    }
+                }
+            });
+            flusher.start();
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            flushing.set(false);
+            flusher.join();
+            accruals.flush();
+
+            assertFalse(sawNegative.get());
+            assertEquals(0, accruals.getPendingPoints(CUSTOMER));
+            assertEquals(80_000, accruals.getFlushedPoints());
+            Customer customer = customers.findById(CUSTOMER).orElseThrow();
+            assertEquals(80_000, customer.getLoyaltyPoints());
+            assertEquals(CustomerType.PLATINUM, customer.getCustomerType());
+        }
+    }
+
+    @Test
+    public void testFailedWriteKeepsPointsWithoutApplyingThem() {
+        AtomicBoolean failNext = new AtomicBoolean(true);
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository() {
+            @Override
+            public int addLoyaltyPoints(CustomerId customerId, int points) {
+                if (failNext.getAndSet(false)) {
+                    throw new IllegalStateException("Simulated write failure");
+                }
+                return super.addLoyaltyPoints(customerId, points);
+            }
+        };
+        customers.save(new Customer(CUSTOMER, "loyal@example.com", "Loyal"));
+        try (LoyaltyAccrualService accruals = new LoyaltyAccrualService(customers, NEVER)) {
+            accruals.accrue(CUSTOMER, 150);
+
+            assertThrows(IllegalStateException.class, accruals::flush);
+            assertEquals(0, customers.findById(CUSTOMER).orElseThrow().getLoyaltyPoints());
+            assertEquals(150, accruals.getPendingPoints(CUSTOMER));
+
+            assertEquals(1, accruals.flush());
+            Customer customer = customers.findById(CUSTOMER).orElseThrow();
+            assertEquals(150, customer.getLoyaltyPoints());
+            assertEquals(CustomerType.SILVER, customer.getCustomerType());
+            assertEquals(0, accruals.getPendingPoints(CUSTOMER));
+        }
+    }
+
+    @Test
+    public void testFlushKeepsConcurrentRedemptionsAndEdits() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(Customer.restore(CUSTOMER, "loyal@example.com", "Loyal", 100_000,
+                                        LocalDateTime.of(2024, 1, 1, 0, 0), true));
+        try (LoyaltyAccrualService accruals = new LoyaltyAccrualService(customers, NEVER)) {
+            CountDownLatch start = new CountDownLatch(1);
+            Thread redeemer = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                for (int i = 0; i < 20_000; i++) {
+                    Customer customer = customers.findById(CUSTOMER).orElseThrow();
+                    customer.useLoyaltyPoints(1);
+                    customers.update(customer);
+                }
+            });
+            redeemer.start();
+            start.countDown();
+            for (int i = 0; i < 20_000; i++) {
+                accruals.accrue(CUSTOMER, 2);
+                if (i % 100 == 0) {
+                    accruals.flush();
+                }
+            }
+            redeemer.join();
+            Customer edited = customers.findById(CUSTOMER).orElseThrow();
+            edited.setEmail("renamed@example.com");
+            edited.deactivate();
+            customers.update(edited);
+            accruals.accrue(CUSTOMER, 5);
+            accruals.flush();
+
+            Customer customer = customers.findById(CUSTOMER).orElseThrow();
+            assertEquals(100_000 + 40_000 - 20_000 + 5, customer.getLoyaltyPoints());
+            assertEquals("renamed@example.com", customer.getEmail());
+            assertFalse(customer.isActive());
+            assertSame(customer, customers.findByEmail("renamed@example.com").orElseThrow());
+        }
+    }
+
+    @Test
+    public void testFlushDropsPointsForUnknownCustomersAndStopsAtTheLimit() {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(Customer.restore(CUSTOMER, "loyal@example.com", "Loyal", Integer.MAX_VALUE - 10,
+                                        LocalDateTime.of(2024, 1, 1, 0, 0), true));
+        try (LoyaltyAccrualService accruals = new LoyaltyAccrualService(customers, NEVER)) {
+            accruals.accrue(new CustomerId("CUST-GONE"), 7);
+            accruals.accrue(CUSTOMER, 25);
+
+            assertEquals(1, accruals.flush());
+            assertEquals(Integer.MAX_VALUE, customers.findById(CUSTOMER).orElseThrow().getLoyaltyPoints());
+            assertEquals(15, accruals.getPendingPoints(CUSTOMER));
+            assertEquals(0, accruals.getPendingPoints(new CustomerId("CUST-GONE")));
+            assertEquals(10, accruals.getFlushedPoints());
+        }
+    }
+}
@@ -0,0 +1,80 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OptimisticRetryTest {
+    private static final OrderId ORDER = new OrderId("ORD-RETRY");
+
+    @Test
+    public void testRetriesConflictsUntilSuccess() {
+        OptimisticRetry retry = new OptimisticRetry(5, 1_000);
+        AtomicInteger attempts = new AtomicInteger();
+        List<Integer> reported = new ArrayList<>();
+
+        String result = retry.call(() -> {
+            if (attempts.incrementAndGet() < 3) {
+                throw conflict();
+            }
+            return "done";
+        }, (conflict, attempt, wastedNanos) -> {
+            assertTrue(wastedNanos >= 0);
+            reported.add(attempt);
+        });
+
+        assertEquals("done", result);
+        assertEquals(3, attempts.get());
+        assertEquals(List.of(1, 2), reported);
+        assertEquals(2, retry.getConflictCount());
+        assertEquals(0, retry.getExhaustedCount());
+    }
+
+    @Test
+    public void testRethrowsLastConflictOnceAttemptsAreExhausted() {
+        OptimisticRetry retry = new OptimisticRetry(3, 0);
+        AtomicInteger attempts = new AtomicInteger();
+
+        OrderVersionConflictException thrown = assertThrows(OrderVersionConflictException.class,
+                                                             () -> retry.run(() -> {
+                                                                 attempts.incrementAndGet();
+                                                                 throw conflict();
+                                                             }));
+
+        assertEquals(ORDER, thrown.getOrderId());
+        assertEquals(3, attempts.get());
+        assertEquals(3, retry.getConflictCount());
+        assertEquals(1, retry.getExhaustedCount());
+    }
+
+    @Test
+    public void testOtherFailuresAreNotRetried() {
+        OptimisticRetry retry = new OptimisticRetry();
+        AtomicInteger attempts = new AtomicInteger();
+
+        assertThrows(IllegalStateException.class, () -> retry.run(() -> {
+            attempts.incrementAndGet();
+            throw new IllegalStateException("Order is not pending");
+        }));
+
+        assertEquals(1, attempts.get());
+        assertEquals(0, retry.getConflictCount());
+        assertEquals(OptimisticRetry.DEFAULT_MAX_ATTEMPTS, retry.getMaxAttempts());
+    }
+
+    @Test
+    public void testRejectsInvalidSettings() {
+        assertThrows(IllegalArgumentException.class, () -> new OptimisticRetry(0, 0));
+        assertThrows(IllegalArgumentException.class, () -> new OptimisticRetry(1, -1));
+    }
+
+    private static OrderVersionConflictException conflict() {
+        return new OrderVersionConflictException(ORDER, 1, 2);
+    }
+}
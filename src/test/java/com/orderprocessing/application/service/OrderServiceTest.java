@@ -0,0 +1,97 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderServiceTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-TEST");
+    private static final BigDecimal BALANCE = new BigDecimal("1000000.00");
+
+    private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+    private final InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+    private final InventoryService inventory = new InventoryService(Map.of("PROD-T", 100_000));
+    private final PaymentService payments = new PaymentService();
+    private final OrderService service = new OrderService(orders, customers, inventory, payments);
+
+    public OrderServiceTest() {
+        customers.save(new Customer(CUSTOMER, "test@example.com", "Test"));
+        payments.deposit(CUSTOMER, BALANCE);
+    }
+
+    @Test
+    public void testConcurrentProcessOrderChargesExactlyOnce() throws Exception {
+        int rounds = 500;
+        BigDecimal charged = BigDecimal.ZERO;
+        for (int round = 0; round < rounds; round++) {
+            Order order = service.createOrder(CUSTOMER);
+            service.addItemToOrder(order.getOrderId(), "PROD-T", "Test", new BigDecimal("10.00"), 2);
+
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger succeeded = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < 2; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                        service.processOrder(order.getOrderId(), "DEBIT_CARD");
+                        succeeded.incrementAndGet();
+                    } catch (InterruptedException | IllegalStateException e) {
+                        // the losing caller must see the order as already claimed
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, succeeded.get(), "round " + round);
+            Order processed = service.getOrder(order.getOrderId());
+            assertEquals(OrderStatus.PROCESSING, processed.getStatus());
+            assertNotNull(processed.getProcessedAt());
+            PaymentService.PaymentTransaction transaction = payments.getTransaction(order.getOrderId());
+            assertNotNull(transaction, "round " + round);
+            charged = charged.add(transaction.getAmount().getAmount());
+        }
+
+        assertEquals(0, BALANCE.subtract(charged).compareTo(payments.getBalance(CUSTOMER)));
+        assertEquals(100_000 - 2 * rounds, inventory.getAvailableQuantity("PROD-T"));
+    }
+
+    @Test
+    public void testFailedPaymentReturnsOrderToPending() {
+        CustomerId poor = new CustomerId("CUST-POOR");
+        customers.save(new Customer(poor, "poor@example.com", "Poor"));
+        Order order = service.createOrder(poor);
+        service.addItemToOrder(order.getOrderId(), "PROD-T", "Test", new BigDecimal("10.00"), 3);
+
+        assertThrows(IllegalStateException.class, () -> service.processOrder(order.getOrderId(), "DEBIT_CARD"));
+
+        Order rolledBack = service.getOrder(order.getOrderId());
+        assertEquals(OrderStatus.PENDING, rolledBack.getStatus());
+        assertNull(rolledBack.getProcessedAt());
+        assertNull(payments.getTransaction(order.getOrderId()));
+        assertEquals(100_000, inventory.getAvailableQuantity("PROD-T"));
+
+        payments.deposit(poor, new BigDecimal("30.00"));
+        service.processOrder(order.getOrderId(), "DEBIT_CARD");
+        assertEquals(OrderStatus.PROCESSING, service.getOrder(order.getOrderId()).getStatus());
+        assertEquals(0, BigDecimal.ZERO.compareTo(payments.getBalance(poor)));
+    }
+}
@@ -0,0 +1,120 @@
+package com.orderprocessing.application.service;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class PendingOrderSweeperTest {
+    private static final Money PRICE = new Money(new BigDecimal("5.00"), "USD");
+
+    private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+    private final InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+    private final InventoryService inventory = new InventoryService(Map.of("PROD-S", 10_000));
+    private final PaymentService payments = new PaymentService();
+    private final OrderService service = new OrderService(orders, customers, inventory, payments);
+
+    private CustomerId customer(String id) {
+        CustomerId customerId = new CustomerId(id);
+        customers.save(new Customer(customerId, id + "@example.com", id));
+        payments.deposit(customerId, new BigDecimal("100000.00"));
+        return customerId;
+    }
+
+    private OrderId pendingOrder(CustomerId customerId, LocalDateTime createdAt) {
+        OrderId orderId = new OrderId(UUID.randomUUID().toString());
+        orders.save(Order.fromSnapshot(new OrderSnapshot(orderId, customerId, List.of(new OrderItem("PROD-S", "S", PRICE, 1)),
+                                                         OrderStatus.PENDING, PRICE, createdAt, null, null,
+                                                         false, 0)));
+        return orderId;
+    }
+
+    @Test
+    public void testSweepPagesThroughPendingOrders() throws Exception {
+        LocalDateTime now = LocalDateTime.now();
+        List<OrderId> stale = new ArrayList<>();
+        List<OrderId> settled = new ArrayList<>();
+        List<OrderId> fresh = new ArrayList<>();
+        CustomerId[] owners = { customer("CUST-A"), customer("CUST-B"), customer("CUST-C") };
+        for (int i = 0; i < 60; i++) {
+            CustomerId owner = owners[i % owners.length];
+            if (i % 3 == 0) {
+                stale.add(pendingOrder(owner, now.minusHours(2).plusSeconds(i)));
+            } else if (i % 3 == 1) {
+                settled.add(pendingOrder(owner, now.minusMinutes(10).plusSeconds(i)));
+            } else {
+                fresh.add(pendingOrder(owner, now.plusMinutes(5).plusSeconds(i)));
+            }
+        }
+
+        try (PendingOrderSweeper sweeper = new PendingOrderSweeper(service, orders, 4, 7, Duration.ofMinutes(1),
+                                                                   Duration.ofHours(1), "DEBIT_CARD", 3_600_000)) {
+            long deadline = System.nanoTime() + Duration.ofSeconds(10).toNanos();
+            while (sweeper.getCancelledCount() + sweeper.getProcessedCount() < stale.size() + settled.size() &&
+                   System.nanoTime() < deadline) {
+                Thread.sleep(10);
+            }
+            assertEquals(stale.size(), sweeper.getCancelledCount());
+            assertEquals(settled.size(), sweeper.getProcessedCount());
+            assertEquals(0, sweeper.getFailedCount());
+        }
+
+        for (OrderId orderId : stale) {
+            assertEquals(OrderStatus.CANCELLED, service.getOrder(orderId).getStatus());
+        }
+        for (OrderId orderId : settled) {
+            assertEquals(OrderStatus.PROCESSING, service.getOrder(orderId).getStatus());
+        }
+        for (OrderId orderId : fresh) {
+            assertEquals(OrderStatus.PENDING, service.getOrder(orderId).getStatus());
+        }
+    }
+
+    @Test
+    public void testConditionalCancelSkipsOrdersPaidSinceTheSweep() {
+        CustomerId owner = customer("CUST-D");
+        OrderId orderId = pendingOrder(owner, LocalDateTime.now().minusHours(2));
+        long sweptVersion = service.getOrderSnapshot(orderId).getVersion();
+        BigDecimal balance = payments.getBalance(owner);
+
+        service.processOrder(orderId, "DEBIT_CARD");
+
+        assertFalse(service.cancelPendingOrder(orderId, sweptVersion));
+        assertEquals(OrderStatus.PROCESSING, service.getOrder(orderId).getStatus());
+        assertNotNull(payments.getTransaction(orderId));
+        assertEquals(0, balance.subtract(PRICE.getAmount()).compareTo(payments.getBalance(owner)));
+        assertEquals(10_000 - 1, inventory.getAvailableQuantity("PROD-S"));
+    }
+
+    @Test
+    public void testCancellingProcessedOrderRefundsAndReleasesStock() {
+        CustomerId owner = customer("CUST-E");
+        OrderId orderId = pendingOrder(owner, LocalDateTime.now());
+        BigDecimal balance = payments.getBalance(owner);
+        service.processOrder(orderId, "DEBIT_CARD");
+
+        service.cancelOrder(orderId);
+
+        assertEquals(OrderStatus.CANCELLED, service.getOrder(orderId).getStatus());
+        assertNull(payments.getTransaction(orderId));
+        assertEquals(0, balance.compareTo(payments.getBalance(owner)));
+        assertEquals(10_000, inventory.getAvailableQuantity("PROD-S"));
+    }
+}
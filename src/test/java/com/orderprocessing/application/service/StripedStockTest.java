@@ -0,0 +1,96 @@
+package com.orderprocessing.application.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class StripedStockTest {
+    private static final int THREADS = 8;
+    private static final long TOTAL = 10_000;
+
+    @Test
+    public void testConcurrentReserveAndReleaseConservesStock() throws Exception {
+        StripedStock stock = new StripedStock(4);
+        stock.add(TOTAL);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            Thread thread = new Thread(() -> {
+                ThreadLocalRandom random = ThreadLocalRandom.current();
+                List<Integer> held = new ArrayList<>();
+                try {
+                    start.await();
+                    for (int i = 0; i < 20_000; i++) {
+                        if (held.isEmpty() || random.nextBoolean()) {
+                            int quantity = 1 + random.nextInt(5);
+                            if ((stock.tryAcquire(quantity) & StripedStock.ACQUIRED) != 0) {
+                                held.add(quantity);
+                            }
+                        } else if (!stock.release(held.remove(held.size() - 1))) {
+                            throw new AssertionError("Release of held units was refused");
+                        }
+                    }
+                    for (int quantity : held) {
+                        assertTrue(stock.release(quantity));
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(errors.isEmpty(), () -> errors.toString());
+        assertEquals(0, stock.reservedUnits());
+        assertEquals(TOTAL, stock.available() + stock.reservedUnits());
+    }
+
+    @Test
+    public void testConcurrentReleasesCannotExceedReservedUnits() throws Exception {
+        for (int round = 0; round < 200; round++) {
+            StripedStock stock = new StripedStock(4);
+            stock.add(TOTAL);
+            assertEquals(StripedStock.ACQUIRED, stock.tryAcquire(3) & StripedStock.ACQUIRED);
+
+            CountDownLatch start = new CountDownLatch(1);
+            AtomicInteger released = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        return;
+                    }
+                    if (stock.release(3)) {
+                        released.incrementAndGet();
+                    }
+                });
+                threads.add(thread);
+                thread.start();
+            }
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, released.get());
+            assertEquals(0, stock.reservedUnits());
+            assertEquals(TOTAL, stock.available());
+        }
+    }
+}
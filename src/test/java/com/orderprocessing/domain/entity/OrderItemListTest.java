@@ -0,0 +1,87 @@
+package com.orderprocessing.domain.entity;
+
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderItemListTest {
+    private static final Money PRICE = new Money(new BigDecimal("1.00"), "USD");
+
+    @Test
+    public void testAppendsToOlderVersionsDoNotLeakIntoNewerOnes() {
+        OrderItemList base = OrderItemList.empty().append(item("A")).append(item("B"));
+        OrderItemList extended = base.append(item("C"));
+        OrderItemList branched = base.append(item("D"));
+        OrderItemList extendedAgain = extended.append(item("E"));
+
+        assertEquals(List.of("A", "B"), productIds(base));
+        assertEquals(List.of("A", "B", "C"), productIds(extended));
+        assertEquals(List.of("A", "B", "D"), productIds(branched));
+        assertEquals(List.of("A", "B", "C", "E"), productIds(extendedAgain));
+        assertSame(base.get(0), branched.get(0));
+    }
+
+    @Test
+    public void testWithoutProductCopiesAndLeavesOriginalIntact() {
+        OrderItemList items = OrderItemList.empty().append(item("A")).append(item("B")).append(item("A"));
+
+        assertEquals(List.of("B"), productIds(items.withoutProduct("A")));
+        assertEquals(List.of("A", "B", "A"), productIds(items));
+        assertSame(items, items.withoutProduct("Z"));
+        assertSame(OrderItemList.empty(), items.withoutProduct("A").withoutProduct("B"));
+        assertEquals(List.of("B", "C"), productIds(items.withoutProduct("A").append(item("C"))));
+    }
+
+    @Test
+    public void testListIsReadOnlyAndDetachedFromItsSource() {
+        List<OrderItem> source = new ArrayList<>(List.of(item("A"), item("B")));
+        OrderItemList items = OrderItemList.copyOf(source);
+        source.add(item("C"));
+
+        assertEquals(2, items.size());
+        assertSame(items, OrderItemList.copyOf(items));
+        assertThrows(UnsupportedOperationException.class, () -> items.add(item("D")));
+        assertThrows(UnsupportedOperationException.class, () -> items.remove(0));
+        assertThrows(UnsupportedOperationException.class, () -> items.set(0, item("D")));
+        assertThrows(IndexOutOfBoundsException.class, () -> items.get(2));
+        assertThrows(NullPointerException.class, () -> OrderItemList.copyOf(Arrays.asList(item("A"), null)));
+        assertThrows(NullPointerException.class, () -> items.append(null));
+    }
+
+    @Test
+    public void testSnapshotsDoNotSeeLaterChangesToTheirOrder() {
+        Order order = new Order(new OrderId("ORD-SNAP"), new CustomerId("CUST-SNAP"));
+        order.addItem(item("A"));
+        OrderSnapshot before = order.toSnapshot(1);
+        order.addItem(item("B"));
+        order.removeItem("A");
+        order.setPriorityOrder(true);
+        OrderSnapshot after = order.toSnapshot(2);
+
+        assertEquals(List.of("A"), productIds(before.getItems()));
+        assertEquals(PRICE, before.getTotalAmount());
+        assertFalse(before.isPriorityOrder());
+        assertEquals(List.of("B"), productIds(after.getItems()));
+        assertTrue(after.isPriorityOrder());
+    }
+
+    private static List<String> productIds(List<OrderItem> items) {
+        List<String> ids = new ArrayList<>(items.size());
+        for (OrderItem item : items) {
+            ids.add(item.getProductId());
+        }
+        return ids;
+    }
+
+    private static OrderItem item(String productId) {
+        return new OrderItem(productId, "Product " + productId, PRICE, 1);
+    }
+}
@@ -0,0 +1,156 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class BulkImporterTest {
+    private static final int ORDERS = 500;
+
+    @TempDir
+    Path dir;
+
+    private final BulkImporter importer = new BulkImporter(2, 16, ZoneOffset.UTC);
+
+    @Test
+    public void testImportedTimestampsKeepTheirUnits() throws Exception {
+        Path customerFile = write("customers.csv",
+                                  "customerId,email,name,loyaltyPoints,registeredAt,active\n"
+                                  + "CUST-1,one@example.com,One,120,1709294400123,true\n"
+                                  + "CUST-2,two@example.com,Two,0,-1000,false\n");
+        Path orderFile = write("orders.csv",
+                               "orderId,customerId,status,createdAt,processedAt,paymentMethod,priority,totalAmount,items\n"
+                               + "ORD-1,CUST-1,COMPLETED,1709294400123.456789,1709294460000,CREDIT_CARD,false,20.00,"
+                               + "PROD-1|Widget|10.00|2\n"
+                               + "ORD-2,CUST-2,PENDING,1709294400123.5,,,true,0,\n");
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        InMemoryOrderRepository orders = new InMemoryOrderRepository();
+
+        assertEquals(2, importer.importCustomers(customerFile, customers).getRecords());
+        assertEquals(2, importer.importOrders(orderFile, orders).getRecords());
+
+        Customer one = customers.findById(new CustomerId("CUST-1")).orElseThrow();
+        assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_000_000), one.getRegisteredAt());
+        assertEquals(120, one.getLoyaltyPoints());
+        Customer two = customers.findById(new CustomerId("CUST-2")).orElseThrow();
+        assertEquals(LocalDateTime.of(1969, 12, 31, 23, 59, 59), two.getRegisteredAt());
+        assertFalse(two.isActive());
+
+        Order processed = orders.findById(new OrderId("ORD-1")).orElseThrow();
+        assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_456_789), processed.getCreatedAt());
+        assertEquals(LocalDateTime.of(2024, 3, 1, 12, 1, 0), processed.getProcessedAt());
+        Order pending = orders.findById(new OrderId("ORD-2")).orElseThrow();
+        assertEquals(LocalDateTime.of(2024, 3, 1, 12, 0, 0, 123_500_000), pending.getCreatedAt());
+        assertNull(pending.getProcessedAt());
+    }
+
+    @Test
+    public void testRecordsSpanningManyChunksImportExactlyOnce() throws Exception {
+        StringBuilder content = new StringBuilder("orderId,customerId,status,createdAt,processedAt,paymentMethod,"
+                                                  + "priority,totalAmount,items\r\n");
+        for (int i = 0; i < ORDERS; i++) {
+            content.append("ORD-").append(i).append(",CUST-").append(i % 7).append(",PENDING,")
+                   .append(1_700_000_000_000L + i).append(",,,").append(i % 2 == 0).append(',')
+                   .append(i).append(".00,");
+            for (int item = 0; item <= i % 3; item++) {
+                if (item > 0) {
+                    content.append(';');
+                }
+                content.append("PROD-").append(item).append("|\"Part \"\"").append(i).append("\"\", a;b|c\"|0.50|")
+                       .append(item + 1);
+            }
+            content.append("\r\n");
+        }
+        InMemoryOrderRepository orders = new InMemoryOrderRepository();
+
+        BulkImportResult result = new BulkImporter(4, 7, ZoneOffset.UTC)
+            .importOrders(write("orders.csv", content.toString()), orders);
+
+        assertEquals(ORDERS, result.getRecords());
+        assertTrue(result.getChunks() > 1);
+        assertEquals(ORDERS, orders.findAll().size());
+        for (int i = 0; i < ORDERS; i++) {
+            Order order = orders.findById(new OrderId("ORD-" + i)).orElseThrow();
+            assertEquals(new CustomerId("CUST-" + (i % 7)), order.getCustomerId());
+            assertEquals(OrderStatus.PENDING, order.getStatus());
+            assertEquals(i % 2 == 0, order.isPriorityOrder());
+            assertEquals(i % 3 + 1, order.getItems().size());
+            OrderItem last = order.getItems().get(i % 3);
+            assertEquals("Part \"" + i + "\", a;b|c", last.getProductName());
+            assertEquals(i % 3 + 1, last.getQuantity());
+        }
+    }
+
+    @Test
+    public void testInventoryAndBalanceImportsMergeDuplicateKeys() throws Exception {
+        InventoryService inventory = new InventoryService(Collections.emptyMap());
+        PaymentService payments = new PaymentService(Collections.emptyMap());
+
+        importer.importInventory(write("stock.csv", "productId,quantity\nPROD-A,5\nPROD-B,2\nPROD-A,7\n"),
+                                 inventory);
+        importer.importBalances(write("balances.csv", "customerId,balance\nCUST-1,10.25\nCUST-2,1\nCUST-1,0.75\n"),
+                                payments);
+
+        assertEquals(12, inventory.getAvailableQuantity("PROD-A"));
+        assertEquals(2, inventory.getAvailableQuantity("PROD-B"));
+        assertEquals(0, new BigDecimal("11.00").compareTo(payments.getBalance(new CustomerId("CUST-1"))));
+        assertEquals(0, BigDecimal.ONE.compareTo(payments.getBalance(new CustomerId("CUST-2"))));
+    }
+
+    @Test
+    public void testHeaderLineIsAlwaysSkipped() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+
+        assertEquals(0, importer.importCustomers(write("empty.csv", "customerId,email\n"), customers).getRecords());
+        assertEquals(1, importer.importCustomers(write("headless.csv", "CUST-1,one@example.com,One,0,0,true\n"
+                                                        + "CUST-2,two@example.com,Two,0,0,true"),
+                                                 customers).getRecords());
+        assertTrue(customers.findById(new CustomerId("CUST-1")).isEmpty());
+        assertTrue(customers.findById(new CustomerId("CUST-2")).isPresent());
+    }
+
+    @Test
+    public void testMalformedRecordReportsItsFileOffset() throws Exception {
+        String header = "productId,quantity\n";
+        StringBuilder content = new StringBuilder(header);
+        for (int i = 0; i < 100; i++) {
+            content.append("PROD-").append(i).append(",1\n");
+        }
+        long badOffset = content.length();
+        content.append("PROD-X,1,extra\n");
+        Path file = write("stock.csv", content.toString());
+        InventoryService inventory = new InventoryService(Collections.emptyMap());
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class,
+                                                       () -> new BulkImporter(4, 10).importInventory(file, inventory));
+        assertEquals("Malformed record at byte " + badOffset + ": Record has too many fields", thrown.getMessage());
+        assertThrows(IllegalArgumentException.class,
+                     () -> importer.importInventory(write("short.csv", header + "PROD-Y\n"), inventory));
+        assertThrows(IllegalArgumentException.class, () -> new BulkImporter(0, 10));
+    }
+
+    private Path write(String name, String content) throws Exception {
+        Path file = dir.resolve(name);
+        Files.write(file, content.getBytes(StandardCharsets.UTF_8));
+        return file;
+    }
+}
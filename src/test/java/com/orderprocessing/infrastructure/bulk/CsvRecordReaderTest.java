@@ -0,0 +1,183 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CsvRecordReaderTest {
+    private static final String[] METHODS = {"CREDIT_CARD", "PAYPAL"};
+
+    @Test
+    public void testQuotedFieldsKeepSeparatorsAndEscapedQuotes() {
+        CsvRecordReader reader = reader("\"a,b\",\"say \"\"hi\"\"\",\"\",plain\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals("a,b", reader.nextString());
+        assertEquals("say \"hi\"", reader.nextString());
+        assertEquals("", reader.nextString());
+        assertEquals("plain", reader.nextString());
+        assertFalse(reader.hasMoreFields());
+        assertFalse(reader.nextRecord());
+    }
+
+    @Test
+    public void testCrlfBlankAndUnterminatedLastLines() {
+        CsvRecordReader reader = reader("one,1\r\n\r\n\ntwo,2\r\nthree,3");
+
+        assertTrue(reader.nextRecord());
+        assertEquals("one", reader.nextString());
+        assertEquals(1, reader.nextInt());
+        assertFalse(reader.hasMoreFields());
+        assertTrue(reader.nextRecord());
+        assertEquals("two", reader.nextString());
+        assertEquals(2, reader.nextInt());
+        assertTrue(reader.nextRecord());
+        assertEquals("three", reader.nextString());
+        assertEquals(3, reader.nextInt());
+        assertFalse(reader.nextRecord());
+    }
+
+    @Test
+    public void testNestedListsWithQuotedSeparators() {
+        CsvRecordReader reader = reader("ORD-1,\"A|B\"|\"Bolt; large\"|1.50|2;C|Nut|0.25|10,tail\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals("ORD-1", reader.nextString());
+        reader.enter(';');
+        reader.enter('|');
+        assertEquals("A|B", reader.nextString());
+        assertEquals("Bolt; large", reader.nextString());
+        assertEquals(new BigDecimal("1.50"), reader.nextDecimal());
+        assertEquals(2, reader.nextInt());
+        assertFalse(reader.hasMoreFields());
+        reader.exit();
+        assertTrue(reader.hasMoreFields());
+        reader.enter('|');
+        assertEquals("C", reader.nextString());
+        assertEquals("Nut", reader.nextString());
+        assertEquals(new BigDecimal("0.25"), reader.nextDecimal());
+        assertEquals(10, reader.nextInt());
+        reader.exit();
+        assertFalse(reader.hasMoreFields());
+        reader.exit();
+        assertEquals("tail", reader.nextString());
+        assertFalse(reader.hasMoreFields());
+    }
+
+    @Test
+    public void testEmptyListHasNoFieldsAndNestingIsBounded() {
+        CsvRecordReader reader = reader("a,,b\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals("a", reader.nextString());
+        reader.enter(';');
+        assertFalse(reader.hasMoreFields());
+        reader.exit();
+        reader.enter(';');
+        reader.enter('|');
+        reader.enter(':');
+        assertThrows(IllegalStateException.class, () -> reader.enter('/'));
+    }
+
+    @Test
+    public void testKnownValuesEnumsBooleansAndEmptyFields() {
+        CsvRecordReader reader = reader("PAYPAL,,OTHER,SHIPPED,true,0,,x\n");
+
+        assertTrue(reader.nextRecord());
+        assertSame(METHODS[1], reader.nextOptionalString(METHODS));
+        assertNull(reader.nextOptionalString(METHODS));
+        assertEquals("OTHER", reader.nextString(METHODS));
+        assertEquals(OrderStatus.SHIPPED, reader.nextEnum(OrderStatus.values()));
+        assertTrue(reader.nextBoolean());
+        assertFalse(reader.nextBoolean());
+        assertTrue(reader.nextIsEmpty());
+        assertFalse(reader.nextIsEmpty());
+        assertEquals("x", reader.nextString());
+    }
+
+    @Test
+    public void testUtf8TextDecodes() {
+        CsvRecordReader reader = reader("Zoë,\"Café, Ltd\"\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals("Zoë", reader.nextString());
+        assertEquals("Café, Ltd", reader.nextString());
+    }
+
+    @Test
+    public void testFixedPointScalesAndRejectsOverflow() {
+        CsvRecordReader reader = reader("12.5,-3,0.000001,1.1234567,12345678901234.5,1234567890123456789,1.2.3\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals(12_500_000L, reader.nextFixedPoint(6));
+        assertEquals(-3_000_000L, reader.nextFixedPoint(6));
+        assertEquals(1L, reader.nextFixedPoint(6));
+        assertMalformed("more than 6 fraction digits", () -> reader.nextFixedPoint(6));
+        assertMalformed("Number out of range", () -> reader.nextFixedPoint(6));
+        assertMalformed("too many digits", () -> reader.nextFixedPoint(6));
+        assertMalformed("Unexpected character '.'", () -> reader.nextFixedPoint(6));
+    }
+
+    @Test
+    public void testIntegersRejectDigitOverflowAndRange() {
+        CsvRecordReader reader = reader("999999999999999999,1234567890123456789,3000000000,-,7x\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals(999_999_999_999_999_999L, reader.nextLong());
+        assertMalformed("too many digits", reader::nextLong);
+        assertMalformed("Integer out of range", reader::nextInt);
+        assertMalformed("Expected a number", reader::nextLong);
+        assertMalformed("Unexpected character 'x'", reader::nextLong);
+    }
+
+    @Test
+    public void testDecimalsFallBackToBigDecimalBeyondLongPrecision() {
+        CsvRecordReader reader = reader("19.99,-0.50,7,12345678901234567890.25,1e5\n");
+
+        assertTrue(reader.nextRecord());
+        assertEquals(new BigDecimal("19.99"), reader.nextDecimal());
+        assertEquals(new BigDecimal("-0.50"), reader.nextDecimal());
+        assertEquals(new BigDecimal("7"), reader.nextDecimal());
+        assertEquals(new BigDecimal("12345678901234567890.25"), reader.nextDecimal());
+        assertMalformed("Unexpected character 'e'", reader::nextDecimal);
+    }
+
+    @Test
+    public void testMalformedRecordsReportTheirFileOffset() {
+        CsvRecordReader reader = new CsvRecordReader(bytes("ok,1\nbad,\"open\n\"x\"y,2\nshort\n"), 1_000);
+
+        assertTrue(reader.nextRecord());
+        assertEquals(1_000, reader.getRecordOffset());
+        assertTrue(reader.nextRecord());
+        assertEquals("bad", reader.nextString());
+        assertMalformed("at byte 1005: Unterminated quoted field", reader::nextString);
+        assertTrue(reader.nextRecord());
+        assertMalformed("at byte 1015: Unexpected character after quoted field", reader::nextString);
+        assertTrue(reader.nextRecord());
+        assertEquals("short", reader.nextString());
+        assertMalformed("at byte 1022: Record has too few fields", reader::nextString);
+
+        CsvRecordReader values = reader("NEW,yes\n");
+        assertTrue(values.nextRecord());
+        assertMalformed("Unknown value 'NEW'", () -> values.nextEnum(OrderStatus.values()));
+        assertMalformed("Expected boolean but got 'yes'", values::nextBoolean);
+    }
+
+    private static void assertMalformed(String expected, Runnable read) {
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, read::run);
+        assertTrue(thrown.getMessage().contains(expected), thrown.getMessage());
+    }
+
+    private static CsvRecordReader reader(String content) {
+        return new CsvRecordReader(bytes(content), 0);
+    }
+
+    private static ByteBuffer bytes(String content) {
+        return ByteBuffer.wrap(content.getBytes(StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,65 @@
+package com.orderprocessing.infrastructure.bulk;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FileChunkTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testChunksCoverDataAndStartAtLineBoundaries() throws Exception {
+        StringBuilder content = new StringBuilder("header\n");
+        for (int i = 0; i < 200; i++) {
+            content.append("record-").append(i).append(",").append("x".repeat(i % 37)).append('\n');
+        }
+        byte[] bytes = content.toString().getBytes(StandardCharsets.US_ASCII);
+        Path file = dir.resolve("records.csv");
+        Files.write(file, bytes);
+
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+            long dataStart = FileChunk.nextLineStart(channel, 0, channel.size());
+            assertEquals("header\n".length(), dataStart);
+
+            List<FileChunk> chunks = FileChunk.split(channel, dataStart, 16);
+            assertTrue(chunks.size() > 1);
+            long expectedStart = dataStart;
+            for (FileChunk chunk : chunks) {
+                assertEquals(expectedStart, chunk.getStart());
+                assertTrue(chunk.length() > 0);
+                assertEquals('\n', bytes[(int) chunk.getEnd() - 1]);
+                expectedStart = chunk.getEnd();
+            }
+            assertEquals(bytes.length, expectedStart);
+        }
+    }
+
+    @Test
+    public void testHeaderOnlyAndUnterminatedFiles() throws Exception {
+        Path headerOnly = dir.resolve("header.csv");
+        Files.write(headerOnly, "header".getBytes(StandardCharsets.US_ASCII));
+        try (FileChannel channel = FileChannel.open(headerOnly, StandardOpenOption.READ)) {
+            long dataStart = FileChunk.nextLineStart(channel, 0, channel.size());
+            assertEquals(channel.size(), dataStart);
+            assertTrue(FileChunk.split(channel, dataStart, 4).isEmpty());
+        }
+
+        Path unterminated = dir.resolve("unterminated.csv");
+        Files.write(unterminated, "header\na\nb".getBytes(StandardCharsets.US_ASCII));
+        try (FileChannel channel = FileChannel.open(unterminated, StandardOpenOption.READ)) {
+            List<FileChunk> chunks = FileChunk.split(channel, 7, 8);
+            assertEquals(2, chunks.size());
+            assertEquals(9, chunks.get(0).getEnd());
+            assertEquals(channel.size(), chunks.get(1).getEnd());
+        }
+    }
+}
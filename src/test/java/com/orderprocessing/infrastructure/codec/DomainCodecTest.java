@@ -0,0 +1,313 @@
+package com.orderprocessing.infrastructure.codec;
+
+import com.orderprocessing.application.service.PaymentService.PaymentTransaction;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.event.OrderCancelledEvent;
+import com.orderprocessing.domain.event.OrderCompletedEvent;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderItemAddedEvent;
+import com.orderprocessing.domain.event.OrderItemRemovedEvent;
+import com.orderprocessing.domain.event.OrderPriorityChangedEvent;
+import com.orderprocessing.domain.event.OrderProcessedEvent;
+import com.orderprocessing.domain.event.OrderProcessingAbortedEvent;
+import com.orderprocessing.domain.event.OrderProcessingStartedEvent;
+import com.orderprocessing.domain.event.OrderShippedEvent;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class DomainCodecTest {
+    private static final LocalDateTime NOW = LocalDateTime.of(2024, 3, 1, 12, 30, 15, 123_456_000);
+
+    private final DomainCodec codec = new DomainCodec(new CodecDictionary(List.of("PROD-001", "PROD-002")));
+
+    @Test
+    public void testFullBufferSignalsOverflow() {
+        Money price = usd("1.00");
+        ByteBuffer exact = ByteBuffer.allocate(64);
+        codec.encode(price, exact);
+        for (int capacity = 0; capacity < exact.position(); capacity++) {
+            ByteBuffer small = ByteBuffer.allocate(capacity);
+            assertThrows(BufferOverflowException.class, () -> codec.encode(price, small));
+        }
+        assertThrows(IllegalArgumentException.class, () -> codec.encode("not a domain object", ByteBuffer.allocate(64)));
+    }
+
+    @Test
+    public void testOrderRoundTrip() {
+        Order order = new Order(new CustomerId("CUST-001"));
+        order.addItem(new OrderItem("PROD-001", "Widget A", usd("25.99"), 2));
+        order.addItem(new OrderItem("PROD-777", "Widget Z", usd("15.50"), 3));
+        order.setPriorityOrder(true);
+        order.setPaymentMethod("PAYPAL");
+        order.process();
+
+        for (ByteBuffer buffer : new ByteBuffer[] {ByteBuffer.allocate(512), ByteBuffer.allocateDirect(512)}) {
+            Order decoded = (Order) roundTrip(order, buffer);
+
+            assertEquals(order.getOrderId(), decoded.getOrderId());
+            assertEquals(order.getCustomerId(), decoded.getCustomerId());
+            assertEquals(OrderStatus.PROCESSING, decoded.getStatus());
+            assertEquals(order.getCreatedAt(), decoded.getCreatedAt());
+            assertEquals(order.getProcessedAt(), decoded.getProcessedAt());
+            assertEquals("PAYPAL", decoded.getPaymentMethod());
+            assertTrue(decoded.isPriorityOrder());
+            assertEquals(order.getTotalAmount(), decoded.getTotalAmount());
+            assertEquals(2, decoded.getItems().size());
+            assertEquals("PROD-777", decoded.getItems().get(1).getProductId());
+            assertEquals(usd("15.50"), decoded.getItems().get(1).getUnitPrice());
+            assertEquals(3, decoded.getItems().get(1).getQuantity());
+            assertTrue(decoded.getDomainEvents().isEmpty());
+        }
+    }
+
+    @Test
+    public void testOrderSnapshotEncodesAsOrder() {
+        Order order = new Order(new CustomerId("CUST-001"));
+        order.addItem(new OrderItem("PROD-002", "Widget B", usd("15.50"), 3));
+        order.setPaymentMethod("CREDIT_CARD");
+        order.process();
+
+        ByteBuffer fromOrder = ByteBuffer.allocate(256);
+        codec.encode(order, fromOrder);
+        ByteBuffer fromSnapshot = ByteBuffer.allocate(256);
+        codec.encode(order.toSnapshot(order.getVersion()), fromSnapshot);
+
+        assertEquals(fromOrder.flip(), fromSnapshot.flip());
+        Order decoded = (Order) codec.decode(fromSnapshot);
+        assertEquals(order.getOrderId(), decoded.getOrderId());
+        assertEquals(OrderStatus.PROCESSING, decoded.getStatus());
+        assertEquals(order.getTotalAmount(), decoded.getTotalAmount());
+    }
+
+    @Test
+    public void testOrderEncodingIsCompact() {
+        Order order = new Order(new CustomerId("CUST-001"));
+        order.addItem(new OrderItem("PROD-001", "Widget A", usd("25.99"), 2));
+        order.addItem(new OrderItem("PROD-002", "Widget B", usd("15.50"), 3));
+
+        ByteBuffer buffer = ByteBuffer.allocate(512);
+        codec.encode(order, buffer);
+
+        assertTrue(buffer.position() < 100, "Encoded order took " + buffer.position() + " bytes");
+    }
+
+    @Test
+    public void testCustomerRoundTrip() {
+        Customer customer = Customer.restore(new CustomerId("CUST-é中"), "zoë@example.com",
+                                             "Zoë 😀", 750, NOW, false);
+
+        Customer decoded = (Customer) roundTrip(customer, ByteBuffer.allocate(256));
+
+        assertEquals(customer.getCustomerId(), decoded.getCustomerId());
+        assertEquals(customer.getEmail(), decoded.getEmail());
+        assertEquals(customer.getName(), decoded.getName());
+        assertEquals(750, decoded.getLoyaltyPoints());
+        assertEquals(customer.getCustomerType(), decoded.getCustomerType());
+        assertEquals(NOW, decoded.getRegisteredAt());
+        assertFalse(decoded.isActive());
+    }
+
+    @Test
+    public void testMoneyAndTransactionRoundTrip() {
+        Money refund = new Money(new BigDecimal("-1234567.89"), "SEK");
+        assertEquals(refund, roundTrip(refund, ByteBuffer.allocate(64)));
+
+        PaymentTransaction transaction = new PaymentTransaction(
+            "TXN-1-1234", new OrderId("3f2b8c1e-5d6a-4f7b-9c0d-1e2f3a4b5c6d"),
+            new CustomerId("CUST-002"), usd("99.95"), "DEBIT_CARD");
+        PaymentTransaction decoded = (PaymentTransaction) roundTrip(transaction, ByteBuffer.allocate(128));
+
+        assertEquals("TXN-1-1234", decoded.getTransactionId());
+        assertEquals(transaction.getOrderId(), decoded.getOrderId());
+        assertEquals(transaction.getCustomerId(), decoded.getCustomerId());
+        assertEquals(usd("99.95"), decoded.getAmount());
+        assertEquals("DEBIT_CARD", decoded.getPaymentMethod());
+    }
+
+    @Test
+    public void testDomainEventsRoundTrip() {
+        OrderId orderId = new OrderId("3f2b8c1e-5d6a-4f7b-9c0d-1e2f3a4b5c6d");
+        List<Object> events = List.of(
+            new OrderCreatedEvent(orderId, new CustomerId("CUST-001"), NOW),
+            new OrderItemAddedEvent(orderId, "PROD-002", "Widget B", usd("15.50"), 3, NOW),
+            new OrderItemRemovedEvent(orderId, "PROD-002", NOW),
+            new OrderProcessedEvent(orderId, NOW, usd("46.50"), usd("41.85"), "CREDIT_CARD",
+                                    List.of(new OrderItem("PROD-001", "Widget A", usd("15.50"), 3))),
+            new OrderCompletedEvent(orderId, NOW),
+            new OrderCancelledEvent(orderId, OrderStatus.PROCESSING, NOW),
+            new OrderShippedEvent(orderId, new CustomerId("CUST-001"), NOW),
+            new OrderPriorityChangedEvent(orderId, true, NOW),
+            new OrderProcessingStartedEvent(orderId, usd("41.85"), "DEBIT_CARD", NOW),
+            new OrderProcessingAbortedEvent(orderId, List.of(new OrderItem("PROD-001", "Widget A", usd("15.50"), 3)),
+                                            NOW)
+        );
+        ByteBuffer buffer = ByteBuffer.allocate(1024);
+        for (Object event : events) {
+            codec.encode(event, buffer);
+        }
+        buffer.flip();
+
+        OrderCreatedEvent created = (OrderCreatedEvent) codec.decode(buffer);
+        assertEquals(orderId, created.getOrderId());
+        assertEquals(new CustomerId("CUST-001"), created.getCustomerId());
+        assertEquals(NOW, created.getOccurredAt());
+
+        OrderItemAddedEvent added = (OrderItemAddedEvent) codec.decode(buffer);
+        assertEquals("PROD-002", added.getProductId());
+        assertEquals("Widget B", added.getProductName());
+        assertEquals(usd("15.50"), added.getUnitPrice());
+        assertEquals(3, added.getQuantity());
+
+        assertEquals("PROD-002", ((OrderItemRemovedEvent) codec.decode(buffer)).getProductId());
+
+        OrderProcessedEvent processed = (OrderProcessedEvent) codec.decode(buffer);
+        assertEquals(usd("46.50"), processed.getTotalAmount());
+        assertEquals(usd("41.85"), processed.getChargedAmount());
+        assertEquals("CREDIT_CARD", processed.getPaymentMethod());
+        assertEquals(1, processed.getItems().size());
+
+        assertEquals(orderId, ((OrderCompletedEvent) codec.decode(buffer)).getOrderId());
+        assertEquals(OrderStatus.PROCESSING, ((OrderCancelledEvent) codec.decode(buffer)).getPreviousStatus());
+        OrderShippedEvent shipped = (OrderShippedEvent) codec.decode(buffer);
+        assertEquals(NOW, shipped.getOccurredAt());
+        assertEquals(new CustomerId("CUST-001"), shipped.getCustomerId());
+        assertTrue(((OrderPriorityChangedEvent) codec.decode(buffer)).isPriorityOrder());
+
+        OrderProcessingStartedEvent started = (OrderProcessingStartedEvent) codec.decode(buffer);
+        assertEquals(usd("41.85"), started.getTotalAmount());
+        assertEquals("DEBIT_CARD", started.getPaymentMethod());
+        assertEquals(1, ((OrderProcessingAbortedEvent) codec.decode(buffer)).getItems().size());
+        assertFalse(buffer.hasRemaining());
+    }
+
+    @Test
+    public void testLargeRecordsKeepFollowingRecordsReadable() {
+        Order order = new Order(new CustomerId("CUST-001"));
+        for (int i = 0; i < 2000; i++) {
+            order.addItem(new OrderItem("SKU-" + i, "Bulk item " + i, usd("1.25"), 1));
+        }
+        ByteBuffer buffer = ByteBuffer.allocate(256 * 1024);
+        codec.encode(order, buffer);
+        codec.encode(usd("3.00"), buffer);
+        buffer.flip();
+
+        assertEquals(2000, ((Order) codec.decode(buffer)).getItems().size());
+        assertEquals(usd("3.00"), codec.decode(buffer));
+    }
+
+    @Test
+    public void testNewerWriterTrailingFieldsAreSkipped() {
+        ByteBuffer upgraded = ByteBuffer.allocate(256);
+        WireFormat.writeVarInt(upgraded, DomainCodec.ORDER_COMPLETED);
+        upgraded.put((byte) (DomainCodec.SCHEMA_VERSION + 1));
+        ByteBuffer body = ByteBuffer.allocate(128);
+        WireFormat.writeId(body, "ORDER-1");
+        WireFormat.writeTimestamp(body, NOW);
+        WireFormat.writeString(body, "field added by a future schema");
+        WireFormat.writeVarLong(body, 42);
+        body.flip();
+        WireFormat.writeVarInt(upgraded, body.remaining());
+        upgraded.put(body);
+        codec.encode(usd("7.00"), upgraded);
+        upgraded.flip();
+
+        OrderCompletedEvent completed = (OrderCompletedEvent) codec.decode(upgraded);
+        assertEquals(new OrderId("ORDER-1"), completed.getOrderId());
+        assertEquals(NOW, completed.getOccurredAt());
+        assertEquals(usd("7.00"), codec.decode(upgraded));
+    }
+
+    @Test
+    public void testUnknownRecordTypesCanBeSkipped() {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        WireFormat.writeVarInt(buffer, 99);
+        buffer.put((byte) (DomainCodec.SCHEMA_VERSION + 3));
+        WireFormat.writeVarInt(buffer, 3);
+        buffer.put(new byte[] {1, 2, 3});
+        codec.encode(new OrderCompletedEvent(new OrderId("ORDER-2"), NOW), buffer);
+        buffer.flip();
+
+        assertFalse(codec.canDecode(buffer));
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(buffer.duplicate()));
+        codec.skip(buffer);
+        assertTrue(codec.canDecode(buffer));
+        assertEquals(new OrderId("ORDER-2"), ((OrderCompletedEvent) codec.decode(buffer)).getOrderId());
+    }
+
+    @Test
+    public void testOlderProcessedEventsWithoutPaymentMethodOrItemsStillDecode() {
+        ByteBuffer body = ByteBuffer.allocate(128);
+        WireFormat.writeId(body, "ORDER-3");
+        WireFormat.writeTimestamp(body, NOW);
+        WireFormat.writeVarInt(body, 0);
+        WireFormat.writeString(body, "USD");
+        WireFormat.writeSignedVarLong(body, 4650);
+        body.flip();
+
+        ByteBuffer legacy = ByteBuffer.allocate(128);
+        WireFormat.writeVarInt(legacy, DomainCodec.ORDER_PROCESSED);
+        legacy.put((byte) 1);
+        WireFormat.writeVarInt(legacy, body.remaining());
+        legacy.put(body);
+        legacy.flip();
+
+        OrderProcessedEvent processed = (OrderProcessedEvent) codec.decode(legacy);
+        assertEquals(new OrderId("ORDER-3"), processed.getOrderId());
+        assertEquals(usd("46.50"), processed.getTotalAmount());
+        assertEquals(usd("46.50"), processed.getChargedAmount());
+        assertNull(processed.getPaymentMethod());
+        assertTrue(processed.getItems().isEmpty());
+    }
+
+    @Test
+    public void testDictionaryGrowthIsAppendOnly() {
+        CodecDictionary products = new CodecDictionary(List.of("PROD-001"));
+        DomainCodec writer = new DomainCodec(products);
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        writer.encode(new OrderItem("PROD-001", "Widget A", usd("1.00"), 1), buffer);
+
+        products.register("PROD-002");
+        writer.encode(new OrderItem("PROD-002", "Widget B", usd("2.00"), 1), buffer);
+        buffer.flip();
+
+        DomainCodec reader = new DomainCodec(new CodecDictionary(products.values()));
+        assertEquals("PROD-001", ((OrderItem) reader.decode(buffer)).getProductId());
+        assertEquals("PROD-002", ((OrderItem) reader.decode(buffer)).getProductId());
+    }
+
+    @Test
+    public void testTruncatedRecordsAreRejected() {
+        ByteBuffer buffer = ByteBuffer.allocate(128);
+        codec.encode(new OrderCompletedEvent(new OrderId("ORDER-4"), NOW), buffer);
+        buffer.flip();
+        buffer.limit(buffer.limit() - 2);
+
+        assertThrows(IllegalArgumentException.class, () -> codec.decode(buffer));
+    }
+
+    private Object roundTrip(Object value, ByteBuffer buffer) {
+        buffer.clear();
+        codec.encode(value, buffer);
+        buffer.flip();
+        Object decoded = codec.decode(buffer);
+        assertFalse(buffer.hasRemaining());
+        return decoded;
+    }
+
+    private static Money usd(String amount) {
+        return new Money(new BigDecimal(amount), "USD");
+    }
+}
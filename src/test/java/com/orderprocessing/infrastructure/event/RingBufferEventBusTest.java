@@ -0,0 +1,188 @@
+package com.orderprocessing.infrastructure.event;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RingBufferEventBusTest {
+    private static final int BUFFER_SIZE = 64;
+    private static final int PRODUCERS = 4;
+    private static final int EVENTS_PER_PRODUCER = 5_000;
+    private static final int MAX_BATCH = 7;
+
+    @Test
+    public void testBusySpinDeliversEveryEventInOrder() throws Exception {
+        assertMultiProducerDelivery(WaitStrategy.busySpin());
+    }
+
+    @Test
+    public void testYieldingDeliversEveryEventInOrder() throws Exception {
+        assertMultiProducerDelivery(WaitStrategy.yielding());
+    }
+
+    @Test
+    public void testSleepingDeliversEveryEventInOrder() throws Exception {
+        assertMultiProducerDelivery(WaitStrategy.sleeping(TimeUnit.MICROSECONDS.toNanos(50)));
+    }
+
+    @Test
+    public void testBlockingDeliversEveryEventInOrder() throws Exception {
+        assertMultiProducerDelivery(WaitStrategy.blocking());
+    }
+
+    @Test
+    public void testBatchLargerThanBufferIsSplitAndDelivered() throws Exception {
+        RingBufferEventBus bus = new RingBufferEventBus(8, WaitStrategy.blocking());
+        RecordingHandler handler = new RecordingHandler();
+        bus.subscribe("recorder", handler);
+        bus.start();
+
+        List<Object> events = new ArrayList<>();
+        for (int i = 0; i < 50; i++) {
+            events.add(i);
+        }
+        bus.publish(events);
+
+        assertTrue(bus.awaitDrained(10, TimeUnit.SECONDS));
+        bus.close();
+        assertNull(handler.error);
+        assertEquals(events, handler.events);
+        assertEquals(49L, bus.getCursor());
+        assertEquals(8L, bus.getRemainingCapacity());
+    }
+
+    @Test
+    public void testConsumedEventsAreNotRetained() throws Exception {
+        RingBufferEventBus bus = new RingBufferEventBus(16, WaitStrategy.yielding());
+        RecordingHandler fast = new RecordingHandler();
+        CountDownLatch release = new CountDownLatch(1);
+        RecordingHandler slow = new RecordingHandler() {
+            @Override
+            public void onEvent(Object event, long sequence, boolean endOfBatch) {
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                super.onEvent(event, sequence, endOfBatch);
+            }
+        };
+        bus.subscribe("fast", fast);
+        bus.subscribe("slow", slow);
+        bus.start();
+
+        List<Object> events = new ArrayList<>();
+        for (int i = 0; i < 10; i++) {
+            events.add(new Object());
+        }
+        bus.publish(events);
+        assertFalse(bus.awaitDrained(50, TimeUnit.MILLISECONDS));
+        assertEquals(10, bus.getRetainedEventCount());
+
+        release.countDown();
+        assertTrue(bus.awaitDrained(10, TimeUnit.SECONDS));
+        bus.close();
+        assertEquals(events, fast.events);
+        assertEquals(events, slow.events);
+        assertEquals(0, bus.getRetainedEventCount());
+    }
+
+    @Test
+    public void testSubscribeAfterStartIsRejected() throws Exception {
+        RingBufferEventBus bus = new RingBufferEventBus(8, WaitStrategy.yielding());
+        bus.subscribe("first", new RecordingHandler());
+        bus.start();
+        assertThrows(IllegalStateException.class, () -> bus.subscribe("late", new RecordingHandler()));
+        assertThrows(IllegalStateException.class, bus::start);
+        bus.close();
+        assertThrows(IllegalArgumentException.class, () -> new RingBufferEventBus(12, WaitStrategy.yielding()));
+    }
+
+    private static void assertMultiProducerDelivery(WaitStrategy waitStrategy) throws Exception {
+        RingBufferEventBus bus = new RingBufferEventBus(BUFFER_SIZE, waitStrategy);
+        OrderCheckingHandler first = new OrderCheckingHandler();
+        OrderCheckingHandler second = new OrderCheckingHandler();
+        bus.subscribe("first", first);
+        bus.subscribe("second", second);
+        bus.start();
+
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> producers = new ArrayList<>();
+        for (int p = 0; p < PRODUCERS; p++) {
+            int producer = p;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    return;
+                }
+                int sent = 0;
+                while (sent < EVENTS_PER_PRODUCER) {
+                    int batch = Math.min(EVENTS_PER_PRODUCER - sent, 1 + (sent + producer) % MAX_BATCH);
+                    List<Object> events = new ArrayList<>(batch);
+                    for (int i = 0; i < batch; i++) {
+                        events.add(new long[] {producer, sent++});
+                    }
+                    bus.publish(events);
+                }
+            });
+            producers.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : producers) {
+            thread.join();
+        }
+
+        assertTrue(bus.awaitDrained(30, TimeUnit.SECONDS));
+        bus.close();
+        long total = (long) PRODUCERS * EVENTS_PER_PRODUCER;
+        assertEquals(total - 1, bus.getCursor());
+        for (OrderCheckingHandler handler : new OrderCheckingHandler[] {first, second}) {
+            assertNull(handler.error, handler.error);
+            assertEquals(total, handler.received);
+            for (int p = 0; p < PRODUCERS; p++) {
+                assertEquals(EVENTS_PER_PRODUCER, handler.nextByProducer[p]);
+            }
+        }
+    }
+
+    private static final class OrderCheckingHandler implements EventHandler {
+        private final long[] nextByProducer = new long[PRODUCERS];
+        private volatile long received;
+        private volatile String error;
+
+        @Override
+        public void onEvent(Object event, long sequence, boolean endOfBatch) {
+            long[] payload = (long[]) event;
+            int producer = (int) payload[0];
+            if (error == null && sequence != received) {
+                error = "Expected sequence " + received + " but got " + sequence;
+            }
+            if (error == null && payload[1] != nextByProducer[producer]) {
+                error = "Producer " + producer + " expected event " + nextByProducer[producer] + " but got " +
+                        payload[1];
+            }
+            nextByProducer[producer] = payload[1] + 1;
+            received = received + 1;
+        }
+    }
+
+    private static class RecordingHandler implements EventHandler {
+        private final List<Object> events = new ArrayList<>();
+        private volatile String error;
+
+        @Override
+        public void onEvent(Object event, long sequence, boolean endOfBatch) {
+            if (sequence != events.size()) {
+                error = "Expected sequence " + events.size() + " but got " + sequence;
+            }
+            events.add(event);
+        }
+    }
+}
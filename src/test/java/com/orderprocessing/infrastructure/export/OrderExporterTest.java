@@ -0,0 +1,197 @@
+package com.orderprocessing.infrastructure.export;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import com.orderprocessing.infrastructure.bulk.BulkImporter;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderExporterTest {
+    private static final LocalDateTime EPOCH = LocalDateTime.of(2024, 3, 1, 12, 0);
+    private static final String[] PAYMENT_METHODS = {null, "CREDIT_CARD", "DEBIT_CARD", "PAYPAL"};
+    private static final int COLUMNS = 13;
+
+    @TempDir
+    Path dir;
+
+    private final DirectBufferPool pool = new DirectBufferPool(DirectBufferPool.MIN_BUFFER_SIZE, 8);
+
+    @Test
+    public void testUndersizedPoolsAreRejected() {
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DirectBufferPool(DirectBufferPool.MIN_BUFFER_SIZE - 1, 8));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new DirectBufferPool(DirectBufferPool.MIN_BUFFER_SIZE, -1));
+    }
+
+    @Test
+    public void testCsvExportImportsBackUnchanged() throws Exception {
+        InMemoryOrderRepository source = repositoryWith(300);
+
+        ExportResult result = new OrderExporter(pool, 3, ZoneOffset.UTC)
+            .export(source, dir, "orders", ExportFormat.CSV);
+
+        assertEquals(300, result.getOrders());
+        assertEquals(3, result.getFiles().size());
+        InMemoryOrderRepository imported = new InMemoryOrderRepository();
+        BulkImporter importer = new BulkImporter(2, 16, ZoneOffset.UTC);
+        long records = 0;
+        for (Path file : result.getFiles()) {
+            assertTrue(Files.readString(file).startsWith(
+                "orderId,customerId,status,createdAt,processedAt,paymentMethod,priority,totalAmount,items\n"));
+            records += importer.importOrders(file, imported).getRecords();
+        }
+        assertEquals(300, records);
+        for (OrderSnapshot expected : source.findAllSnapshots()) {
+            assertSameOrder(expected, imported.findSnapshot(expected.getOrderId()).orElseThrow());
+        }
+    }
+
+    @Test
+    public void testColumnarBlocksFollowTheDocumentedLayout() throws Exception {
+        int orders = OrderExporter.COLUMNAR_BLOCK_ROWS + 5;
+        InMemoryOrderRepository source = repositoryWith(orders);
+
+        ExportResult result = new OrderExporter(pool, 1, ZoneOffset.UTC)
+            .export(source, dir, "orders", ExportFormat.COLUMNAR);
+
+        ByteBuffer file = ByteBuffer.wrap(Files.readAllBytes(result.getFiles().get(0)));
+        assertEquals(file.capacity(), result.getBytes());
+        byte[] magic = new byte[8];
+        file.get(magic);
+        assertEquals("ORDCOL02", new String(magic, StandardCharsets.US_ASCII));
+
+        List<Integer> blockRows = new ArrayList<>();
+        Map<OrderId, OrderSnapshot> decoded = new HashMap<>();
+        while (file.hasRemaining()) {
+            int rows = file.getInt();
+            int itemCount = file.getInt();
+            assertEquals(COLUMNS, file.getInt());
+            long[] sizes = new long[COLUMNS];
+            for (int i = 0; i < COLUMNS; i++) {
+                sizes[i] = file.getLong();
+            }
+            blockRows.add(rows);
+            ByteBuffer[] columns = new ByteBuffer[COLUMNS];
+            for (int i = 0; i < COLUMNS; i++) {
+                columns[i] = file.slice().limit((int) sizes[i]);
+                file.position(file.position() + (int) sizes[i]);
+            }
+            int items = 0;
+            for (int row = 0; row < rows; row++) {
+                OrderId orderId = new OrderId(string(columns[0]));
+                CustomerId customerId = new CustomerId(string(columns[1]));
+                OrderStatus status = OrderStatus.values()[columns[2].get()];
+                LocalDateTime createdAt = fromEpochNanos(columns[3].getLong());
+                long processedNanos = columns[4].getLong();
+                LocalDateTime processedAt = processedNanos == Long.MIN_VALUE ? null : fromEpochNanos(processedNanos);
+                String paymentMethod = string(columns[5]);
+                boolean priority = columns[6].get() == 1;
+                Money total = money(columns[7]);
+                int orderItems = columns[8].getInt();
+                List<OrderItem> itemList = new ArrayList<>();
+                for (int i = 0; i < orderItems; i++) {
+                    itemList.add(new OrderItem(string(columns[9]), string(columns[10]), money(columns[11]),
+                                               columns[12].getInt()));
+                }
+                items += orderItems;
+                decoded.put(orderId, new OrderSnapshot(orderId, customerId, itemList, status, total, createdAt,
+                                                       processedAt, paymentMethod, priority, 0));
+            }
+            assertEquals(itemCount, items);
+            for (ByteBuffer column : columns) {
+                assertFalse(column.hasRemaining());
+            }
+        }
+
+        assertEquals(List.of(OrderExporter.COLUMNAR_BLOCK_ROWS, 5), blockRows);
+        assertEquals(orders, decoded.size());
+        for (OrderSnapshot expected : source.findAllSnapshots()) {
+            assertSameOrder(expected, decoded.get(expected.getOrderId()));
+        }
+    }
+
+    private static void assertSameOrder(OrderSnapshot expected, OrderSnapshot actual) {
+        String id = expected.getOrderId().getValue();
+        assertEquals(expected.getCustomerId(), actual.getCustomerId(), id);
+        assertEquals(expected.getStatus(), actual.getStatus(), id);
+        assertEquals(expected.getCreatedAt(), actual.getCreatedAt(), id);
+        assertEquals(expected.getProcessedAt(), actual.getProcessedAt(), id);
+        assertEquals(expected.getPaymentMethod(), actual.getPaymentMethod(), id);
+        assertEquals(expected.isPriorityOrder(), actual.isPriorityOrder(), id);
+        assertEquals(expected.getTotalAmount(), actual.getTotalAmount(), id);
+        assertEquals(expected.getItems().size(), actual.getItems().size(), id);
+        for (int i = 0; i < expected.getItems().size(); i++) {
+            OrderItem expectedItem = expected.getItems().get(i);
+            OrderItem actualItem = actual.getItems().get(i);
+            assertEquals(expectedItem.getProductId(), actualItem.getProductId(), id);
+            assertEquals(expectedItem.getProductName(), actualItem.getProductName(), id);
+            assertEquals(expectedItem.getUnitPrice(), actualItem.getUnitPrice(), id);
+            assertEquals(expectedItem.getQuantity(), actualItem.getQuantity(), id);
+        }
+    }
+
+    private static InMemoryOrderRepository repositoryWith(int orders) {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository();
+        OrderStatus[] statuses = OrderStatus.values();
+        for (int i = 0; i < orders; i++) {
+            List<OrderItem> items = new ArrayList<>();
+            BigDecimal total = BigDecimal.ZERO;
+            for (int item = 0; item < i % 4; item++) {
+                BigDecimal price = new BigDecimal(item + 1 + "." + (i % 100 < 10 ? "0" : "") + i % 100);
+                items.add(new OrderItem("PROD-" + item, "Part \"" + i + "\", a;b|c é", new Money(price, "USD"),
+                                        item + 1));
+                total = total.add(price.multiply(BigDecimal.valueOf(item + 1)));
+            }
+            OrderStatus status = statuses[i % statuses.length];
+            LocalDateTime createdAt = EPOCH.plusSeconds(i).plusNanos(i * 1_001L);
+            LocalDateTime processedAt = status == OrderStatus.PENDING ? null : createdAt.plusNanos(123_456_789L);
+            repository.save(Order.fromSnapshot(new OrderSnapshot(
+                new OrderId("ORD-" + i), new CustomerId("CUST-" + i % 7), items, status, new Money(total, "USD"),
+                i == 0 ? LocalDateTime.of(1969, 12, 31, 23, 59, 59, 998_500_000) : createdAt, processedAt,
+                PAYMENT_METHODS[i % PAYMENT_METHODS.length], i % 3 == 0, 0)));
+        }
+        return repository;
+    }
+
+    private static String string(ByteBuffer column) {
+        int length = column.getInt();
+        if (length < 0) {
+            return null;
+        }
+        byte[] bytes = new byte[length];
+        column.get(bytes);
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    private static Money money(ByteBuffer column) {
+        int scale = column.getInt();
+        long unscaled = column.getLong();
+        return new Money(BigDecimal.valueOf(unscaled, scale), string(column));
+    }
+
+    private static LocalDateTime fromEpochNanos(long epochNanos) {
+        return LocalDateTime.ofEpochSecond(Math.floorDiv(epochNanos, 1_000_000_000L),
+                                           (int) Math.floorMod(epochNanos, 1_000_000_000L), ZoneOffset.UTC);
+    }
+}
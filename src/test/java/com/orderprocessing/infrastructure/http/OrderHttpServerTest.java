@@ -0,0 +1,193 @@
+package com.orderprocessing.infrastructure.http;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.codec.CodecDictionary;
+import com.orderprocessing.infrastructure.codec.DomainCodec;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.net.InetSocketAddress;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderHttpServerTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-HTTP");
+    private static final Pattern ORDER_ID = Pattern.compile("\"orderId\":\"([^\"]+)\"");
+    private static final int CONCURRENT_CREATES = 32;
+
+    private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+    private final OrderService service;
+    private final OrderHttpServer server;
+    private final HttpClient client = HttpClient.newBuilder().version(HttpClient.Version.HTTP_1_1).build();
+    private final String baseUri;
+
+    public OrderHttpServerTest() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "http@example.com", "Http"));
+        PaymentService payments = new PaymentService();
+        payments.deposit(CUSTOMER, new BigDecimal("1000.00"));
+        service = new OrderService(orders, customers, new InventoryService(Map.of("PROD-H", 1_000)), payments);
+        server = new OrderHttpServer(service, new InetSocketAddress("127.0.0.1", 0), 4).start();
+        baseUri = "http://127.0.0.1:" + server.getPort();
+    }
+
+    @AfterEach
+    public void stop() throws Exception {
+        server.close();
+    }
+
+    @Test
+    public void testOrderLifecycleOverHttp() throws Exception {
+        HttpResponse<String> created = post("/orders", "customerId=" + CUSTOMER);
+        assertEquals(201, created.statusCode());
+        assertEquals(ExchangeCodec.JSON_TYPE, created.headers().firstValue("Content-Type").orElseThrow());
+        assertTrue(created.body().contains("\"status\":\"PENDING\""), created.body());
+        OrderId orderId = orderIdOf(created.body());
+
+        HttpResponse<String> added = post("/orders/" + orderId + "/items",
+                                          "productId=PROD-H&productName=Hammer+Drill&unitPrice=12.50&quantity=2");
+        assertEquals(200, added.statusCode());
+        assertTrue(added.body().contains("Hammer Drill"), added.body());
+
+        HttpResponse<String> processed = post("/orders/" + orderId + "/process", "paymentMethod=CREDIT_CARD");
+        assertEquals(200, processed.statusCode());
+        OrderSnapshot stored = service.getOrderSnapshot(orderId);
+        assertTrue(processed.body().contains("\"status\":\"" + stored.getStatus() + "\""), processed.body());
+
+        HttpResponse<String> fetched = get("/orders/" + orderId);
+        assertEquals(200, fetched.statusCode());
+        assertEquals(orderId, orderIdOf(fetched.body()));
+
+        HttpResponse<String> listed = get("/customers/" + CUSTOMER + "/orders");
+        assertEquals(200, listed.statusCode());
+        assertTrue(listed.body().startsWith("[") && listed.body().contains(orderId.getValue()), listed.body());
+
+        HttpResponse<String> binary = client.send(HttpRequest.newBuilder(URI.create(baseUri + "/orders/" + orderId))
+                                                      .header("Accept", ExchangeCodec.BINARY_TYPE).GET().build(),
+                                                  HttpResponse.BodyHandlers.ofString());
+        assertEquals(200, binary.statusCode());
+        assertEquals(ExchangeCodec.BINARY_TYPE, binary.headers().firstValue("Content-Type").orElseThrow());
+
+        assertEquals(409, post("/orders/" + orderId + "/process", "paymentMethod=CREDIT_CARD").statusCode());
+    }
+
+    @Test
+    public void testErrorsMapToStatusCodes() throws Exception {
+        assertEquals(404, get("/orders/ORD-MISSING").statusCode());
+        assertEquals(404, post("/orders", "customerId=CUST-NOBODY").statusCode());
+        HttpResponse<String> missing = post("/orders", "");
+        assertEquals(400, missing.statusCode());
+        assertTrue(missing.body().contains("Missing parameter: customerId"), missing.body());
+        assertEquals(405, get("/orders").statusCode());
+        assertEquals(404, get("/ordersX").statusCode());
+        assertEquals(404, get("/customers/" + CUSTOMER).statusCode());
+
+        OrderId orderId = orderIdOf(post("/orders", "customerId=" + CUSTOMER).body());
+        assertEquals(400, post("/orders/" + orderId + "/items",
+                               "productId=PROD-H&productName=Drill&unitPrice=cheap&quantity=1").statusCode());
+    }
+
+    @Test
+    public void testLargeBinaryResponsesGrowTheBuffer() throws Exception {
+        OrderId orderId = orderIdOf(post("/orders", "customerId=" + CUSTOMER).body());
+        for (int i = 0; i < 200; i++) {
+            service.addItemToOrder(orderId, "PROD-H", "Large item " + "x".repeat(40), new BigDecimal("1.00"), 1);
+        }
+
+        HttpResponse<byte[]> binary = client.send(request("/orders/" + orderId)
+                                                      .header("Accept", ExchangeCodec.BINARY_TYPE).GET().build(),
+                                                  HttpResponse.BodyHandlers.ofByteArray());
+
+        assertEquals(200, binary.statusCode());
+        assertTrue(binary.body().length > 4096, "response of " + binary.body().length + " bytes");
+        Order decoded = (Order) new DomainCodec(new CodecDictionary(Collections.emptyList()))
+            .decode(ByteBuffer.wrap(binary.body()));
+        assertEquals(200, decoded.getItems().size());
+    }
+
+    @Test
+    public void testCodecErrorsAreServerErrorsAndNotRetried() throws Exception {
+        AtomicInteger encodes = new AtomicInteger();
+        DomainCodec failing = new DomainCodec(new CodecDictionary(Collections.emptyList())) {
+            @Override
+            public void encode(Object value, ByteBuffer out) {
+                encodes.incrementAndGet();
+                throw new IllegalArgumentException("Unknown order status");
+            }
+        };
+        OrderId orderId = orderIdOf(post("/orders", "customerId=" + CUSTOMER).body());
+        try (OrderHttpServer failingServer = new OrderHttpServer(service, new InetSocketAddress("127.0.0.1", 0), 1, 8,
+                                                                 failing).start()) {
+            HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://127.0.0.1:" + failingServer.getPort() + "/orders/" + orderId))
+                    .header("Accept", ExchangeCodec.BINARY_TYPE).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+            assertEquals(500, response.statusCode());
+            assertTrue(response.body().contains("Unknown order status"), response.body());
+            assertEquals(1, encodes.get());
+        }
+    }
+
+    @Test
+    public void testConcurrentCreatesAreCoalesced() throws Exception {
+        List<CompletableFuture<HttpResponse<String>>> responses = new ArrayList<>();
+        for (int i = 0; i < CONCURRENT_CREATES; i++) {
+            responses.add(client.sendAsync(request("/orders").POST(body("customerId=" + CUSTOMER)).build(),
+                                           HttpResponse.BodyHandlers.ofString()));
+        }
+        for (CompletableFuture<HttpResponse<String>> response : responses) {
+            assertEquals(201, response.join().statusCode());
+        }
+
+        assertEquals(CONCURRENT_CREATES, orders.findByCustomerId(CUSTOMER).size());
+        assertEquals(CONCURRENT_CREATES, server.getCoalescedRequestCount());
+        assertTrue(server.getCoalescedBatchCount() <= CONCURRENT_CREATES);
+    }
+
+    private HttpResponse<String> get(String path) throws Exception {
+        return client.send(request(path).GET().build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpResponse<String> post(String path, String form) throws Exception {
+        return client.send(request(path).POST(body(form)).build(), HttpResponse.BodyHandlers.ofString());
+    }
+
+    private HttpRequest.Builder request(String path) {
+        return HttpRequest.newBuilder(URI.create(baseUri + path))
+            .header("Content-Type", "application/x-www-form-urlencoded");
+    }
+
+    private static HttpRequest.BodyPublisher body(String form) {
+        return form.isEmpty() ? HttpRequest.BodyPublishers.noBody() : HttpRequest.BodyPublishers.ofString(form);
+    }
+
+    private static OrderId orderIdOf(String body) {
+        Matcher matcher = ORDER_ID.matcher(body);
+        assertTrue(matcher.find(), body);
+        return new OrderId(matcher.group(1));
+    }
+}
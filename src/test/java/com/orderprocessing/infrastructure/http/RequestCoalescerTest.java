@@ -0,0 +1,119 @@
+package com.orderprocessing.infrastructure.http;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class RequestCoalescerTest {
+    private static final int WAITERS = 8;
+
+    @Test
+    public void testShortBatchResultFallsBackToSingleHandler() {
+        RequestCoalescer<Integer, String> coalescer =
+            new RequestCoalescer<>(requests -> List.of(), request -> "single-" + request, 16);
+
+        assertEquals("single-7", coalescer.submit(7));
+        assertEquals(1, coalescer.getFallbackCount());
+        assertEquals(1, coalescer.getBatchCount());
+        assertEquals(1, coalescer.getRequestCount());
+    }
+
+    @Test
+    public void testSingleRequestBatchFailureIsNotRetried() {
+        List<Integer> singles = new ArrayList<>();
+        RequestCoalescer<Integer, String> coalescer = new RequestCoalescer<>(requests -> {
+            throw new IllegalArgumentException("Unknown customer");
+        }, request -> {
+            singles.add(request);
+            return "single-" + request;
+        }, 16);
+
+        IllegalArgumentException thrown = assertThrows(IllegalArgumentException.class, () -> coalescer.submit(1));
+        assertEquals("Unknown customer", thrown.getMessage());
+        assertTrue(singles.isEmpty());
+        assertEquals(0, coalescer.getFallbackCount());
+    }
+
+    @Test
+    public void testFailedBatchFallsBackPerRequest() throws Exception {
+        CountDownLatch combining = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        Function<Integer, String> single = request -> {
+            if (request < 0) {
+                throw new IllegalArgumentException("Rejected " + request);
+            }
+            return "single-" + request;
+        };
+        RequestCoalescer<Integer, String> coalescer = new RequestCoalescer<>(requests -> {
+            if (requests.size() > 1) {
+                throw new IllegalStateException("Batch path unavailable");
+            }
+            combining.countDown();
+            try {
+                release.await();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            return List.of(single.apply(requests.get(0)));
+        }, single, 64);
+
+        Map<Integer, Object> outcomes = new ConcurrentHashMap<>();
+        Thread first = submitter(coalescer, 100, outcomes);
+        assertTrue(combining.await(5, TimeUnit.SECONDS));
+        List<Thread> waiters = new ArrayList<>();
+        for (int i = 0; i < WAITERS; i++) {
+            waiters.add(submitter(coalescer, i == 3 ? -3 : i, outcomes));
+        }
+        // Parked waiters have already queued their requests behind the blocked combiner.
+        for (Thread waiter : waiters) {
+            while (waiter.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        release.countDown();
+        first.join();
+        for (Thread waiter : waiters) {
+            waiter.join();
+        }
+
+        assertEquals("single-100", outcomes.get(100));
+        for (int i = 0; i < WAITERS; i++) {
+            if (i == 3) {
+                assertTrue(outcomes.get(-3) instanceof IllegalArgumentException);
+            } else {
+                assertEquals("single-" + i, outcomes.get(i));
+            }
+        }
+        assertEquals(1, coalescer.getFallbackCount());
+        assertEquals(2, coalescer.getBatchCount());
+        assertEquals(WAITERS + 1, coalescer.getRequestCount());
+    }
+
+    @Test
+    public void testRejectsInvalidConfiguration() {
+        assertThrows(IllegalArgumentException.class, () -> new RequestCoalescer<Integer, Integer>(null, r -> r, 1));
+        assertThrows(IllegalArgumentException.class,
+                     () -> new RequestCoalescer<Integer, Integer>(requests -> requests, r -> r, 0));
+    }
+
+    private static Thread submitter(RequestCoalescer<Integer, String> coalescer, int request,
+                                    Map<Integer, Object> outcomes) {
+        Thread thread = new Thread(() -> {
+            try {
+                outcomes.put(request, coalescer.submit(request));
+            } catch (RuntimeException e) {
+                outcomes.put(request, e);
+            }
+        });
+        thread.start();
+        return thread;
+    }
+}
@@ -0,0 +1,173 @@
+package com.orderprocessing.infrastructure.jfr;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.application.service.ProcessingStage;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.nio.file.Path;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class FlightRecorderListenerTest {
+    private static final String PREFIX = "com.orderprocessing.";
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-JFR");
+    private static final int THREADS = 4;
+    private static final int ORDERS_PER_THREAD = 25;
+    private static final Set<ProcessingStage> STAGES = EnumSet.of(
+        ProcessingStage.ORDER_PROCESS, ProcessingStage.INVENTORY_RESERVATION, ProcessingStage.PAYMENT,
+        ProcessingStage.REPOSITORY_UPDATE, ProcessingStage.LOYALTY);
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testEventsPairPerThreadAndCarryTheCommittedOrder() throws Exception {
+        InMemoryOrderRepository orders = new InMemoryOrderRepository();
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "jfr@example.com", "Recorder"));
+        InventoryService inventory = new InventoryService(Map.of("PROD-J1", 1_000_000, "PROD-J2", 1_000_000,
+                                                                 "PROD-SCARCE", 1));
+        PaymentService payments = new PaymentService();
+        payments.deposit(CUSTOMER, new BigDecimal("1000000.00"));
+        OrderService service = new OrderService(orders, customers, inventory, payments);
+        FlightRecorderListener listener = new FlightRecorderListener();
+        service.addListener(listener);
+        inventory.addListener(listener);
+        payments.addListener(listener);
+
+        Map<String, String> processedBy = new ConcurrentHashMap<>();
+        Map<String, OrderSnapshot> committed = new ConcurrentHashMap<>();
+        Order scarce = service.createOrder(CUSTOMER);
+        service.addItemToOrder(scarce.getOrderId(), "PROD-SCARCE", "Scarce", BigDecimal.ONE, 1);
+        inventory.reserve("PROD-SCARCE", 1);
+        Path file = dir.resolve("orders.jfr");
+        try (Recording recording = new Recording()) {
+            for (String event : new String[] {"OrderProcessed", "ProcessingStage", "InventoryReservation",
+                                              "PaymentAttempt"}) {
+                recording.enable(PREFIX + event).withThreshold(Duration.ZERO);
+            }
+            recording.start();
+            CountDownLatch start = new CountDownLatch(1);
+            List<Thread> threads = new ArrayList<>();
+            for (int t = 0; t < THREADS; t++) {
+                int thread = t;
+                threads.add(new Thread(() -> {
+                    try {
+                        start.await();
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                        return;
+                    }
+                    for (int i = 0; i < ORDERS_PER_THREAD; i++) {
+                        Order order = service.createOrder(CUSTOMER);
+                        for (int item = 0; item <= (thread + i) % 3; item++) {
+                            service.addItemToOrder(order.getOrderId(), "PROD-J" + (1 + item % 2), "Item " + item,
+                                                   new BigDecimal(thread + 1 + ".25"), 1 + i % 2);
+                        }
+                        service.processOrder(order.getOrderId(), "DEBIT_CARD");
+                        processedBy.put(order.getOrderId().getValue(), Thread.currentThread().getName());
+                        committed.put(order.getOrderId().getValue(),
+                                      orders.findSnapshot(order.getOrderId()).orElseThrow());
+                    }
+                }, "jfr-worker-" + t));
+            }
+            threads.forEach(Thread::start);
+            start.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+            assertThrows(IllegalStateException.class, () -> service.processOrder(scarce.getOrderId(), "DEBIT_CARD"));
+            recording.stop();
+            recording.dump(file);
+        }
+
+        Map<String, RecordedEvent> processed = new HashMap<>();
+        Map<String, List<RecordedEvent>> stages = new HashMap<>();
+        Map<String, List<RecordedEvent>> reservationsByThread = new HashMap<>();
+        Map<String, RecordedEvent> paymentsByOrder = new HashMap<>();
+        for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+            String name = event.getEventType().getName();
+            if (name.equals(PREFIX + "OrderProcessed")) {
+                assertNull(processed.put(event.getString("orderId"), event));
+            } else if (name.equals(PREFIX + "ProcessingStage")) {
+                stages.computeIfAbsent(event.getString("orderId"), id -> new ArrayList<>()).add(event);
+            } else if (name.equals(PREFIX + "InventoryReservation")) {
+                reservationsByThread.computeIfAbsent(threadOf(event), id -> new ArrayList<>()).add(event);
+            } else if (name.equals(PREFIX + "PaymentAttempt")) {
+                assertNull(paymentsByOrder.put(event.getString("orderId"), event));
+            }
+        }
+
+        assertEquals(THREADS * ORDERS_PER_THREAD + 1, processed.size());
+        Map<String, Integer> expectedReservations = new HashMap<>();
+        for (Map.Entry<String, String> entry : processedBy.entrySet()) {
+            String orderId = entry.getKey();
+            String thread = entry.getValue();
+            OrderSnapshot order = committed.get(orderId);
+            RecordedEvent event = processed.get(orderId);
+            assertEquals(thread, threadOf(event), orderId);
+            assertTrue(event.getBoolean("success"), orderId);
+            assertEquals("DEBIT_CARD", event.getString("paymentMethod"));
+            assertEquals(order.getItems().size(), event.getInt("productCount"), orderId);
+            assertEquals(order.getTotalAmount().getAmount().doubleValue(), event.getDouble("totalAmount"), 1e-9);
+            assertEquals(order.getTotalAmount().getCurrency(), event.getString("currency"));
+
+            Set<ProcessingStage> seen = EnumSet.noneOf(ProcessingStage.class);
+            for (RecordedEvent stage : stages.get(orderId)) {
+                assertTrue(seen.add(ProcessingStage.valueOf(stage.getString("stage"))), orderId);
+                assertTrue(stage.getBoolean("success"));
+                assertWithin(event, stage, thread);
+            }
+            assertEquals(STAGES, seen, orderId);
+            assertWithin(event, paymentsByOrder.get(orderId), thread);
+            expectedReservations.merge(thread, order.getItems().size(), Integer::sum);
+        }
+        for (Map.Entry<String, Integer> entry : expectedReservations.entrySet()) {
+            List<RecordedEvent> reservations = reservationsByThread.get(entry.getKey());
+            assertEquals(entry.getValue(), reservations.size(), entry.getKey());
+            assertTrue(reservations.stream().allMatch(event -> event.getBoolean("success")));
+        }
+
+        RecordedEvent failed = processed.get(scarce.getOrderId().getValue());
+        assertFalse(failed.getBoolean("success"));
+        assertEquals(0, failed.getInt("productCount"));
+        assertNull(failed.getString("currency"));
+        List<RecordedEvent> failedStages = stages.get(scarce.getOrderId().getValue());
+        assertEquals(2, failedStages.size());
+        assertFalse(failedStages.get(1).getBoolean("success"));
+        assertEquals(ProcessingStage.INVENTORY_RESERVATION.name(), failedStages.get(1).getString("stage"));
+        assertFalse(paymentsByOrder.containsKey(scarce.getOrderId().getValue()));
+    }
+
+    private static void assertWithin(RecordedEvent outer, RecordedEvent inner, String thread) {
+        assertEquals(thread, threadOf(inner));
+        assertFalse(inner.getStartTime().isBefore(outer.getStartTime()), inner.toString());
+        assertFalse(inner.getEndTime().isAfter(outer.getEndTime()), inner.toString());
+    }
+
+    private static String threadOf(RecordedEvent event) {
+        return event.getThread().getJavaName();
+    }
+}
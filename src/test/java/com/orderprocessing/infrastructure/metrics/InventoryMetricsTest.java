@@ -0,0 +1,53 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import com.orderprocessing.application.service.InventoryService;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class InventoryMetricsTest {
+    @Test
+    public void testReservationsAndReleasesAreCounted() {
+        InventoryService inventory = new InventoryService(Map.of("PROD-I", 5));
+        InventoryMetrics metrics = new InventoryMetrics();
+        inventory.addListener(metrics);
+
+        assertTrue(inventory.reserve("PROD-I", 3));
+        assertFalse(inventory.reserve("PROD-I", 3));
+        assertTrue(inventory.reserve("PROD-I", 2));
+        inventory.release("PROD-I", 2);
+
+        assertEquals(2, metrics.getReservationsSucceeded());
+        assertEquals(1, metrics.getReservationsFailed());
+        assertEquals(1, metrics.getReleases());
+        assertEquals(0, metrics.getContendedReservations());
+        assertEquals(0.0, metrics.getContentionRate());
+        assertTrue(metrics.getReserveP99Micros() >= 0);
+    }
+
+    @Test
+    public void testContentionRateAndReset() {
+        InventoryMetrics metrics = new InventoryMetrics();
+        assertEquals(0.0, metrics.getContentionRate());
+
+        metrics.onReserve("PROD-I", 1, true, true, 2_000);
+        metrics.onReserve("PROD-I", 1, true, false, 1_000);
+        metrics.onReserve("PROD-I", 1, false, true, 1_000);
+        metrics.onReserve("PROD-I", 1, false, false, 1_000);
+        metrics.onStockSplit("PROD-I", 8);
+
+        assertEquals(2, metrics.getContendedReservations());
+        assertEquals(0.5, metrics.getContentionRate());
+        assertEquals(1, metrics.getStockSplits());
+        assertEquals(2.0, metrics.getReserveP99Micros(), 0.1);
+
+        metrics.reset();
+        assertEquals(0, metrics.getReservationsSucceeded());
+        assertEquals(0, metrics.getReservationsFailed());
+        assertEquals(0, metrics.getContendedReservations());
+        assertEquals(0, metrics.getStockSplits());
+        assertEquals(0.0, metrics.getReserveP99Micros());
+    }
+}
@@ -0,0 +1,70 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LatencyHistogramTest {
+    private static final int THREADS = 8;
+    private static final int RECORDS_PER_THREAD = 50_000;
+
+    @Test
+    public void testConcurrentRecordsAreAllCounted() throws Exception {
+        LatencyHistogram histogram = new LatencyHistogram();
+        CountDownLatch start = new CountDownLatch(1);
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int offset = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    return;
+                }
+                for (int i = 0; i < RECORDS_PER_THREAD; i++) {
+                    histogram.record(1 + (i + offset) % 100);
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertEquals((long) THREADS * RECORDS_PER_THREAD, histogram.getTotalCount());
+        assertEquals(100, histogram.getMaxValue());
+        assertEquals(50.5, histogram.getMean(), 0.01);
+        long median = histogram.getValueAtPercentile(50);
+        assertTrue(median >= 48 && median <= 52, "median " + median);
+        assertEquals(100, histogram.getValueAtPercentile(100));
+    }
+
+    @Test
+    public void testMergeAndReset() {
+        LatencyHistogram first = new LatencyHistogram();
+        LatencyHistogram second = new LatencyHistogram();
+        first.recordCount(10, 3);
+        second.record(5_000);
+        second.record(-7);
+
+        first.add(second);
+        assertEquals(5, first.getTotalCount());
+        assertEquals(5_000, first.getMaxValue());
+        assertEquals(1_006.0, first.getMean(), 0.001);
+        assertEquals(10, first.getValueAtPercentile(60));
+
+        first.reset();
+        assertEquals(0, first.getTotalCount());
+        assertEquals(0, first.getMaxValue());
+        assertEquals(0.0, first.getMean());
+        assertEquals(0, first.getValueAtPercentile(99));
+        assertThrows(IllegalArgumentException.class, () -> first.add(new LatencyHistogram(3)));
+    }
+}
@@ -0,0 +1,110 @@
+package com.orderprocessing.infrastructure.metrics;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.application.service.ProcessingStage;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import javax.management.MBeanServer;
+import javax.management.MBeanServerFactory;
+import javax.management.ObjectName;
+import java.math.BigDecimal;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderProcessingMetricsTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-METRICS");
+
+    private final InMemoryOrderRepository orders = new InMemoryOrderRepository();
+    private final InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+    private final InventoryService inventory = new InventoryService(Map.of("PROD-M", 10));
+    private final PaymentService payments = new PaymentService();
+    private final OrderService service = new OrderService(orders, customers, inventory, payments);
+    private final OrderProcessingMetrics metrics = new OrderProcessingMetrics(orders::size, customers::size);
+
+    public OrderProcessingMetricsTest() {
+        customers.save(new Customer(CUSTOMER, "metrics@example.com", "Metrics"));
+        payments.deposit(CUSTOMER, new BigDecimal("100.00"));
+        service.addListener(metrics);
+        inventory.addListener(metrics.getInventoryMetrics());
+        payments.addListener(metrics);
+    }
+
+    @Test
+    public void testProcessedOrdersAreRecordedPerStage() {
+        OrderId processed = newOrder(6);
+        OrderId outOfStock = newOrder(6);
+        service.processOrder(processed, "DEBIT_CARD");
+        assertThrows(IllegalStateException.class, () -> service.processOrder(outOfStock, "DEBIT_CARD"));
+
+        assertEquals(2, metrics.getOrderCreationMetrics().getCount());
+        assertEquals(2, metrics.getStageMetrics(ProcessingStage.ORDER_PROCESS).getCount());
+        StageMetrics reservation = metrics.getStageMetrics(ProcessingStage.INVENTORY_RESERVATION);
+        assertEquals(2, reservation.getCount());
+        assertEquals(1, reservation.getFailures());
+        for (ProcessingStage stage : new ProcessingStage[] {ProcessingStage.PAYMENT, ProcessingStage.REPOSITORY_UPDATE,
+                                                            ProcessingStage.LOYALTY}) {
+            assertEquals(1, metrics.getStageMetrics(stage).getCount(), stage.name());
+            assertEquals(0, metrics.getStageMetrics(stage).getFailures(), stage.name());
+        }
+        StageMetrics total = metrics.getStageMetrics(ProcessingStage.TOTAL);
+        assertEquals(2, total.getCount());
+        assertEquals(1, total.getFailures());
+        assertTrue(total.getMaxMicros() >= reservation.getMaxMicros());
+
+        PaymentMethodMetrics debit = metrics.getPaymentMethodMetrics("DEBIT_CARD");
+        assertEquals(1, debit.getSucceeded());
+        assertEquals(0.0, debit.getFailureRate());
+        assertNull(metrics.getPaymentMethodMetrics("PAYPAL"));
+
+        total.reset();
+        assertEquals(0, total.getCount());
+        assertEquals(0, total.getFailures());
+    }
+
+    @Test
+    public void testMBeansAreRegisteredAndRemoved() throws Exception {
+        MBeanServer server = MBeanServerFactory.newMBeanServer();
+        metrics.register(server);
+        try {
+            assertThrows(IllegalStateException.class, () -> metrics.register(server));
+            service.processOrder(newOrder(1), "DEBIT_CARD");
+
+            assertEquals(1L, server.getAttribute(name("type=Stage,name=TOTAL"), "Count"));
+            assertEquals(1L, server.getAttribute(name("type=Stage,name=ORDER_CREATION"), "Count"));
+            assertEquals(1L, server.getAttribute(name("type=Inventory"), "ReservationsSucceeded"));
+            assertEquals(1L, server.getAttribute(name("type=Repository"), "OrderCount"));
+            assertEquals(1L, server.getAttribute(name("type=Repository"), "CustomerCount"));
+            ObjectName debit = name("type=Payment,method=" + ObjectName.quote("DEBIT_CARD"));
+            assertEquals(1L, server.getAttribute(debit, "Succeeded"));
+
+            server.invoke(name("type=Stage,name=TOTAL"), "reset", null, null);
+            assertEquals(0, metrics.getStageMetrics(ProcessingStage.TOTAL).getCount());
+        } finally {
+            metrics.unregister();
+        }
+        assertTrue(server.queryNames(new ObjectName(OrderProcessingMetrics.DOMAIN + ":*"), null).isEmpty());
+        metrics.register(server);
+        assertEquals(ProcessingStage.values().length + 4,
+                     server.queryNames(new ObjectName(OrderProcessingMetrics.DOMAIN + ":*"), null).size());
+        metrics.unregister();
+    }
+
+    private OrderId newOrder(int quantity) {
+        Order order = service.createOrder(CUSTOMER);
+        service.addItemToOrder(order.getOrderId(), "PROD-M", "Metered", new BigDecimal("5.00"), quantity);
+        return order.getOrderId();
+    }
+
+    private static ObjectName name(String properties) throws Exception {
+        return new ObjectName(OrderProcessingMetrics.DOMAIN + ":" + properties);
+    }
+}
@@ -0,0 +1,193 @@
+package com.orderprocessing.infrastructure.outbox;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.infrastructure.repository.EventPublishingOrderRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import com.orderprocessing.infrastructure.repository.OutboxOrderRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OutboxTest {
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testResumeAfterCrashBetweenSinkWriteAndCursorCommit() throws Exception {
+        Path file = dir.resolve("events.log");
+        Path cursorFile = dir.resolve("events.cursor");
+
+        try (FileOutboxSink sink = new FileOutboxSink(file)) {
+            Outbox outbox = Outbox.resume(16, sink, new OutboxCursor(cursorFile), 0);
+            outbox.reserve(3);
+            outbox.append(createdEvents(3));
+            List<OutboxEntry> batch = new ArrayList<>();
+            outbox.awaitBatch(batch, 16, 0);
+            sink.write(batch);
+        }
+
+        try (FileOutboxSink sink = new FileOutboxSink(file)) {
+            OutboxCursor cursor = new OutboxCursor(cursorFile);
+            assertEquals(-1L, cursor.getPosition());
+            assertEquals(2L, sink.getLastWrittenSequence());
+            assertThrows(IllegalArgumentException.class,
+                         () -> new OutboxRelay(new Outbox(16, cursor.getPosition(), 0), sink, cursor, 8, 1));
+
+            Outbox outbox = Outbox.resume(16, sink, cursor, 0);
+            OutboxRelay relay = new OutboxRelay(outbox, sink, cursor, 8, 1);
+            relay.start();
+            outbox.reserve(2);
+            outbox.append(createdEvents(2));
+            awaitRelayed(relay, 2);
+            relay.close();
+            assertEquals(4L, cursor.getPosition());
+        }
+
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(i, OutboxEventFormatter.parseSequence(lines.get(i)));
+        }
+    }
+
+    @Test
+    public void testJournaledEntriesSurviveRestartAndReachSinkOnce() throws Exception {
+        Path file = dir.resolve("events.log");
+        Path cursorFile = dir.resolve("events.cursor");
+        Path journal = dir.resolve("events.journal");
+
+        try (FileOutboxSink sink = new FileOutboxSink(file);
+             Outbox outbox = Outbox.open(journal, 16, sink, new OutboxCursor(cursorFile), 0)) {
+            OutboxOrderRepository repository = new OutboxOrderRepository(new InMemoryOrderRepository(), outbox);
+            for (int i = 0; i < 3; i++) {
+                repository.save(new Order(new CustomerId("CUST-" + i)));
+            }
+            assertTrue(outbox.isJournaled());
+        }
+        Files.write(journal, "3|17".getBytes(StandardCharsets.UTF_8), StandardOpenOption.APPEND);
+
+        try (FileOutboxSink sink = new FileOutboxSink(file)) {
+            OutboxCursor cursor = new OutboxCursor(cursorFile);
+            try (Outbox outbox = Outbox.open(journal, 16, sink, cursor, 0)) {
+                assertEquals(3, outbox.size());
+                assertEquals(2L, outbox.getLastSequence());
+                OutboxRelay relay = new OutboxRelay(outbox, sink, cursor, 8, 1);
+                relay.start();
+                awaitRelayed(relay, 3);
+                outbox.reserve(2);
+                outbox.append(createdEvents(2));
+                awaitRelayed(relay, 5);
+                relay.close();
+            }
+        }
+
+        try (FileOutboxSink sink = new FileOutboxSink(file);
+             Outbox outbox = Outbox.open(journal, 16, sink, new OutboxCursor(cursorFile), 0)) {
+            assertEquals(0, outbox.size());
+            assertEquals(4L, outbox.getLastSequence());
+        }
+        List<String> lines = Files.readAllLines(file, StandardCharsets.UTF_8);
+        assertEquals(5, lines.size());
+        for (int i = 0; i < lines.size(); i++) {
+            assertEquals(i, OutboxEventFormatter.parseSequence(lines.get(i)));
+        }
+        assertTrue(lines.get(0).contains("|OrderCreatedEvent|"));
+    }
+
+    @Test
+    public void testJournalSkipsEntriesTheSinkAlreadyHolds() throws Exception {
+        Path file = dir.resolve("events.log");
+        Path cursorFile = dir.resolve("events.cursor");
+        Path journal = dir.resolve("events.journal");
+
+        try (FileOutboxSink sink = new FileOutboxSink(file);
+             Outbox outbox = Outbox.open(journal, 16, sink, new OutboxCursor(cursorFile), 0)) {
+            outbox.reserve(4);
+            outbox.append(createdEvents(4));
+            List<OutboxEntry> batch = new ArrayList<>();
+            outbox.awaitBatch(batch, 2, 0);
+            sink.write(batch);
+        }
+
+        try (FileOutboxSink sink = new FileOutboxSink(file);
+             Outbox outbox = Outbox.open(journal, 16, sink, new OutboxCursor(cursorFile), 0)) {
+            List<OutboxEntry> pending = new ArrayList<>();
+            outbox.awaitBatch(pending, 16, 0);
+            assertEquals(List.of(2L, 3L), List.of(pending.get(0).getSequence(), pending.get(1).getSequence()));
+            assertNull(pending.get(0).getEvent());
+            assertEquals(3L, outbox.getLastSequence());
+        }
+    }
+
+    @Test
+    public void testJournalIsCompactedOnceDelivered() throws Exception {
+        Path journal = dir.resolve("events.journal");
+        try (FileOutboxSink sink = new FileOutboxSink(dir.resolve("events.log"));
+             Outbox outbox = Outbox.open(journal, 4097, sink, new OutboxCursor(dir.resolve("events.cursor")), 0)) {
+            List<Object> events = createdEvents(4096);
+            long journaled = 0;
+            while (journaled < Outbox.COMPACT_THRESHOLD_BYTES) {
+                outbox.reserve(events.size());
+                outbox.append(events);
+                journaled = Files.size(journal);
+                outbox.acknowledge(outbox.getLastSequence() - 1);
+            }
+            assertTrue(Files.size(journal) < 1024, "journal holds " + Files.size(journal) + " bytes");
+            assertEquals(1, outbox.size());
+
+            outbox.reserve(1);
+            outbox.append(createdEvents(1));
+            assertEquals(2, Files.readAllLines(journal, StandardCharsets.UTF_8).size());
+        }
+    }
+
+    @Test
+    public void testOutboxRecordsEventsWhenWrappingPublishingRepository() {
+        Outbox outbox = new Outbox(4, -1L, 0);
+        List<Object> published = new ArrayList<>();
+        OutboxOrderRepository repository = new OutboxOrderRepository(
+            new EventPublishingOrderRepository(new InMemoryOrderRepository(), published::addAll), outbox);
+
+        Order order = new Order(new CustomerId("CUST-001"));
+        repository.save(order);
+
+        assertEquals(1, published.size());
+        assertEquals(1, outbox.size());
+        assertTrue(order.getDomainEvents().isEmpty());
+
+        List<OutboxEntry> batch = new ArrayList<>();
+        try {
+            outbox.awaitBatch(batch, 4, 0);
+        } catch (InterruptedException e) {
+            fail(e);
+        }
+        outbox.acknowledge(batch.get(batch.size() - 1).getSequence());
+        outbox.reserve(outbox.getCapacity());
+    }
+
+    private static List<Object> createdEvents(int count) {
+        List<Object> events = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            events.addAll(new Order(new CustomerId("CUST-" + i)).getDomainEvents());
+        }
+        return events;
+    }
+
+    private static void awaitRelayed(OutboxRelay relay, long expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(10);
+        while (relay.getRelayedEntries() < expected && System.nanoTime() < deadline) {
+            TimeUnit.MILLISECONDS.sleep(5);
+        }
+        assertEquals(expected, relay.getRelayedEntries());
+    }
+}
@@ -0,0 +1,181 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CachingCustomerRepositoryTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-CACHE");
+    private static final int READERS = 8;
+
+    private final CountingCustomerRepository delegate = new CountingCustomerRepository();
+
+    @Test
+    public void testReadThroughCountsHitsAndMisses() {
+        delegate.save(customer(CUSTOMER, "Cached"));
+        CachingCustomerRepository cache = new CachingCustomerRepository(delegate, 16);
+
+        assertEquals("Cached", cache.findById(CUSTOMER).orElseThrow().getName());
+        assertEquals("Cached", cache.findById(CUSTOMER).orElseThrow().getName());
+        assertTrue(cache.findById(new CustomerId("CUST-NONE")).isEmpty());
+        assertTrue(cache.findById(new CustomerId("CUST-NONE")).isEmpty());
+
+        CachingCustomerRepository.Stats stats = cache.getStats();
+        assertEquals(1, stats.getHitCount());
+        assertEquals(3, stats.getMissCount());
+        assertEquals(3, stats.getLoadCount());
+        assertEquals(3, delegate.loads.get());
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    public void testUpdatesWriteThroughAndInvalidateDropsEntry() {
+        CachingCustomerRepository cache = new CachingCustomerRepository(delegate, 16);
+        cache.save(customer(CUSTOMER, "Before"));
+        cache.update(customer(CUSTOMER, "After"));
+
+        assertEquals("After", cache.findById(CUSTOMER).orElseThrow().getName());
+        assertEquals("After", delegate.findById(CUSTOMER).orElseThrow().getName());
+        assertEquals(0, cache.getStats().getLoadCount());
+
+        cache.invalidate(CUSTOMER);
+        assertEquals(0, cache.size());
+        assertTrue(cache.findById(CUSTOMER).isPresent());
+        assertEquals(1, cache.getStats().getLoadCount());
+
+        assertThrows(IllegalStateException.class,
+                     () -> cache.update(customer(new CustomerId("CUST-NONE"), "Missing")));
+        assertTrue(cache.findById(new CustomerId("CUST-NONE")).isEmpty());
+    }
+
+    @Test
+    public void testConcurrentMissesShareOneLoad() throws Exception {
+        delegate.save(customer(CUSTOMER, "Shared"));
+        CachingCustomerRepository cache = new CachingCustomerRepository(delegate, 16);
+        delegate.block();
+
+        List<Optional<Customer>> results = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int i = 0; i < READERS; i++) {
+            Thread reader = new Thread(() -> {
+                Optional<Customer> found = cache.findById(CUSTOMER);
+                synchronized (results) {
+                    results.add(found);
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        for (Thread reader : readers) {
+            while (reader.getState() != Thread.State.WAITING) {
+                Thread.onSpinWait();
+            }
+        }
+        delegate.release.countDown();
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertEquals(1, delegate.loads.get());
+        assertEquals(READERS, results.size());
+        assertTrue(results.stream().allMatch(found -> "Shared".equals(found.orElseThrow().getName())));
+    }
+
+    @Test
+    public void testWriteDuringLoadDiscardsStaleResult() throws Exception {
+        delegate.save(customer(CUSTOMER, "Stale"));
+        CachingCustomerRepository cache = new CachingCustomerRepository(delegate, 16);
+        delegate.block();
+
+        Thread reader = new Thread(() -> cache.findById(CUSTOMER));
+        reader.start();
+        assertTrue(delegate.entered.await(5, TimeUnit.SECONDS));
+        cache.saveAll(List.of(customer(CUSTOMER, "Fresh")));
+        delegate.release.countDown();
+        reader.join();
+
+        assertEquals(0, cache.size());
+        assertEquals("Fresh", cache.findById(CUSTOMER).orElseThrow().getName());
+        assertEquals(2, cache.getStats().getLoadCount());
+    }
+
+    @Test
+    public void testOneHitWondersDoNotEvictFrequentEntries() {
+        CachingCustomerRepository cache = new CachingCustomerRepository(delegate, 4);
+        List<CustomerId> hot = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            CustomerId customerId = new CustomerId("CUST-HOT-" + i);
+            delegate.save(customer(customerId, "Hot " + i));
+            hot.add(customerId);
+        }
+        for (int round = 0; round < 5; round++) {
+            for (CustomerId customerId : hot) {
+                cache.findById(customerId);
+            }
+        }
+        for (int i = 0; i < 10; i++) {
+            CustomerId customerId = new CustomerId("CUST-SCAN-" + i);
+            delegate.save(customer(customerId, "Scan " + i));
+            cache.findById(customerId);
+        }
+
+        assertEquals(4, cache.size());
+        assertTrue(cache.getStats().getRejectionCount() > 0);
+        long loads = delegate.loads.get();
+        for (CustomerId customerId : hot) {
+            cache.findById(customerId);
+        }
+        assertEquals(loads, delegate.loads.get());
+
+        CustomerId riser = new CustomerId("CUST-RISING");
+        delegate.save(customer(riser, "Rising"));
+        for (int i = 0; i < 15; i++) {
+            cache.findById(riser);
+        }
+        assertEquals(4, cache.size());
+        assertTrue(cache.getStats().getEvictionCount() > 0);
+        long before = delegate.loads.get();
+        cache.findById(riser);
+        assertEquals(before, delegate.loads.get());
+    }
+
+    private static Customer customer(CustomerId customerId, String name) {
+        return new Customer(customerId, customerId.getValue().toLowerCase() + "@example.com", name);
+    }
+
+    private static class CountingCustomerRepository extends InMemoryCustomerRepository {
+        private final AtomicInteger loads = new AtomicInteger();
+        private final CountDownLatch entered = new CountDownLatch(1);
+        private final CountDownLatch release = new CountDownLatch(1);
+        private volatile boolean blocking;
+
+        void block() {
+            blocking = true;
+        }
+
+        @Override
+        public Optional<Customer> findById(CustomerId customerId) {
+            Optional<Customer> found = super.findById(customerId);
+            loads.incrementAndGet();
+            if (blocking && entered.getCount() > 0) {
+                entered.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            return found;
+        }
+    }
+}
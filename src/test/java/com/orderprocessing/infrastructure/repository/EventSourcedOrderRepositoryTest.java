@@ -0,0 +1,153 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.event.OrderCreatedEvent;
+import com.orderprocessing.domain.event.OrderItemAddedEvent;
+import com.orderprocessing.domain.repository.OrderNotFoundException;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EventSourcedOrderRepositoryTest {
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-ES");
+    private static final OrderId ORDER = new OrderId("ORD-ES");
+    private static final int SNAPSHOT_INTERVAL = 4;
+
+    private final EventSourcedOrderRepository repository = new EventSourcedOrderRepository(SNAPSHOT_INTERVAL);
+
+    @Test
+    public void testRehydratedOrderMatchesEveryCommittedChange() {
+        Order order = new Order(ORDER, CUSTOMER);
+        order.addItem(item("PROD-A", "4.00", 2));
+        repository.save(order);
+        assertTrue(repository.getHistory(ORDER).get(0) instanceof OrderCreatedEvent);
+
+        order.addItem(item("PROD-B", "10.00", 1));
+        order.addItem(item("PROD-C", "1.50", 4));
+        order.removeItem("PROD-A");
+        order.setPriorityOrder(true);
+        repository.update(order, order.getVersion());
+        order.setPaymentMethod("CREDIT_CARD");
+        order.process();
+        repository.update(order, order.getVersion());
+        order.complete();
+        repository.update(order, order.getVersion());
+
+        Order rehydrated = repository.findById(ORDER).orElseThrow();
+        assertEquals(OrderStatus.COMPLETED, rehydrated.getStatus());
+        assertEquals(List.of("PROD-B", "PROD-C"), productIds(rehydrated.getItems()));
+        assertEquals(new BigDecimal("16.00"), rehydrated.getTotalAmount().getAmount());
+        assertTrue(rehydrated.isPriorityOrder());
+        assertEquals("CREDIT_CARD", rehydrated.getPaymentMethod());
+        assertEquals(order.getProcessedAt(), rehydrated.getProcessedAt());
+        assertEquals(order.getVersion(), rehydrated.getVersion());
+        assertSameState(repository.findSnapshot(ORDER).orElseThrow(), rehydrated);
+    }
+
+    @Test
+    public void testSnapshotsBoundHistoryWithoutLosingEvents() {
+        Order order = new Order(ORDER, CUSTOMER);
+        repository.save(order);
+        int items = SNAPSHOT_INTERVAL * 5 + 1;
+        for (int i = 0; i < items; i++) {
+            order.addItem(item("PROD-" + i, "1.00", 1));
+            repository.update(order, order.getVersion());
+            assertTrue(repository.getHistory(ORDER).size() < SNAPSHOT_INTERVAL, "after item " + i);
+        }
+
+        Order rehydrated = repository.findById(ORDER).orElseThrow();
+        assertEquals(items, rehydrated.getItems().size());
+        assertEquals(new BigDecimal(items + ".00"), rehydrated.getTotalAmount().getAmount());
+        assertEquals(items, rehydrated.getVersion());
+        assertTrue(repository.getHistory(ORDER).stream().allMatch(event -> event instanceof OrderItemAddedEvent));
+    }
+
+    @Test
+    public void testRepeatedUpdatesAppendOnlyUncommittedEvents() {
+        Order order = new Order(ORDER, CUSTOMER);
+        repository.save(order);
+        order.addItem(item("PROD-A", "2.00", 1));
+        repository.update(order);
+        repository.update(order);
+        repository.update(order, order.getVersion());
+
+        assertEquals(2, repository.getHistory(ORDER).size());
+        Order rehydrated = repository.findById(ORDER).orElseThrow();
+        assertEquals(1, rehydrated.getItems().size());
+        assertEquals(3, rehydrated.getVersion());
+    }
+
+    @Test
+    public void testOrdersWithoutCreationEventStartFromSnapshot() {
+        Order source = new Order(ORDER, CUSTOMER);
+        source.addItem(item("PROD-A", "3.00", 3));
+        Order restored = Order.fromSnapshot(source.toSnapshot(0));
+        repository.save(restored);
+
+        assertTrue(repository.getHistory(ORDER).isEmpty());
+        restored.cancel();
+        repository.update(restored, restored.getVersion());
+
+        Order rehydrated = repository.findById(ORDER).orElseThrow();
+        assertEquals(OrderStatus.CANCELLED, rehydrated.getStatus());
+        assertEquals(source.getCreatedAt(), rehydrated.getCreatedAt());
+        assertEquals(List.of("PROD-A"), productIds(rehydrated.getItems()));
+        assertThrows(OrderNotFoundException.class, () -> repository.getHistory(new OrderId("ORD-MISSING")));
+    }
+
+    @Test
+    public void testSnapshotViewIsTheReplayedState() {
+        Order order = new Order(ORDER, CUSTOMER);
+        repository.save(order);
+        for (int i = 0; i < SNAPSHOT_INTERVAL * 2; i++) {
+            order.addItem(item("PROD-" + i, "1.00", 1));
+            repository.update(order, order.getVersion());
+        }
+        order.setPaymentMethod("PAYPAL");
+        repository.update(order, order.getVersion());
+
+        Order rehydrated = repository.findById(ORDER).orElseThrow();
+        OrderSnapshot view = repository.findSnapshot(ORDER).orElseThrow();
+        assertNull(rehydrated.getPaymentMethod());
+        assertNull(view.getPaymentMethod());
+        assertSameState(view, rehydrated);
+        assertEquals(SNAPSHOT_INTERVAL * 2 + 1, view.getVersion());
+        assertEquals(view.getVersion(), rehydrated.getVersion());
+    }
+
+    @Test
+    public void testSavingAnExistingIdIsRejected() {
+        Order order = new Order(ORDER, CUSTOMER);
+        repository.save(order);
+
+        assertThrows(IllegalStateException.class, () -> repository.save(new Order(ORDER, CUSTOMER)));
+        assertEquals(1, repository.getHistory(ORDER).size());
+    }
+
+    private static void assertSameState(OrderSnapshot expected, Order actual) {
+        assertEquals(expected.getStatus(), actual.getStatus());
+        assertEquals(expected.getTotalAmount(), actual.getTotalAmount());
+        assertEquals(productIds(expected.getItems()), productIds(actual.getItems()));
+        assertEquals(expected.isPriorityOrder(), actual.isPriorityOrder());
+        assertEquals(expected.getProcessedAt(), actual.getProcessedAt());
+        assertEquals(expected.getVersion(), actual.getVersion());
+    }
+
+    private static List<String> productIds(List<OrderItem> items) {
+        return items.stream().map(OrderItem::getProductId).collect(Collectors.toList());
+    }
+
+    private static OrderItem item(String productId, String price, int quantity) {
+        return new OrderItem(productId, productId, new Money(new BigDecimal(price), "USD"), quantity);
+    }
+}
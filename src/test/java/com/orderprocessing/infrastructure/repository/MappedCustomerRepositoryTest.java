@@ -0,0 +1,227 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MappedCustomerRepositoryTest {
+    private static final LocalDateTime REGISTERED_AT = LocalDateTime.of(2024, 3, 15, 10, 30, 45, 123_456_789);
+    private static final int CUSTOMERS = 64;
+    private static final int READERS = 3;
+
+    @TempDir
+    Path dir;
+
+    @Test
+    public void testRoundTrip() throws Exception {
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(dir.resolve("customers.dat"), 16, 16)) {
+            repository.save(Customer.restore(new CustomerId("CUST-001"), "jane@example.com", "Jane Doe", 250,
+                                             REGISTERED_AT, false));
+
+            assertCustomer(repository.findById(new CustomerId("CUST-001")), "jane@example.com", "Jane Doe", 250, false);
+            assertCustomer(repository.findByEmail("jane@example.com"), "jane@example.com", "Jane Doe", 250, false);
+            assertTrue(repository.exists(new CustomerId("CUST-001")));
+            assertFalse(repository.findById(new CustomerId("CUST-002")).isPresent());
+            assertEquals(1, repository.size());
+        }
+    }
+
+    @Test
+    public void testReopenRestoresRecordsAndIndexes() throws Exception {
+        Path file = dir.resolve("customers.dat");
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 16)) {
+            for (int i = 0; i < 10; i++) {
+                repository.save(Customer.restore(new CustomerId("CUST-" + i), "c" + i + "@example.com",
+                                                 i % 2 == 0 ? null : "Customer " + i, i * 100, REGISTERED_AT, true));
+            }
+        }
+
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 1, 1)) {
+            assertEquals(16, repository.getCapacity());
+            assertEquals(10, repository.size());
+            for (int i = 0; i < 10; i++) {
+                assertCustomer(repository.findById(new CustomerId("CUST-" + i)), "c" + i + "@example.com",
+                               i % 2 == 0 ? null : "Customer " + i, i * 100, true);
+                assertEquals("CUST-" + i, repository.findByEmail("c" + i + "@example.com")
+                    .orElseThrow().getCustomerId().getValue());
+            }
+            repository.save(new Customer(new CustomerId("CUST-10"), "c10@example.com", "Customer 10"));
+            assertEquals(11, repository.size());
+        }
+    }
+
+    @Test
+    public void testEmailChangeMovesEmailIndexEntry() throws Exception {
+        Path file = dir.resolve("customers.dat");
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 16)) {
+            Customer customer = new Customer(new CustomerId("CUST-001"), "old@example.com", "Jane Doe");
+            repository.save(customer);
+            customer.setEmail("new@example.com");
+            repository.update(customer);
+
+            assertFalse(repository.findByEmail("old@example.com").isPresent());
+            assertEquals("CUST-001", repository.findByEmail("new@example.com").orElseThrow().getCustomerId().getValue());
+
+            repository.save(new Customer(new CustomerId("CUST-002"), "old@example.com", "John Doe"));
+            assertEquals("CUST-002", repository.findByEmail("old@example.com").orElseThrow().getCustomerId().getValue());
+        }
+
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 16)) {
+            assertEquals("CUST-001", repository.findByEmail("new@example.com").orElseThrow().getCustomerId().getValue());
+            assertEquals("CUST-002", repository.findByEmail("old@example.com").orElseThrow().getCustomerId().getValue());
+            assertThrows(IllegalStateException.class,
+                         () -> repository.update(new Customer(new CustomerId("CUST-003"), "x@example.com", "X")));
+        }
+    }
+
+    @Test
+    public void testReadersNeverObserveTornRecords() throws Exception {
+        Path file = dir.resolve("customers.dat");
+        try (MappedCustomerRepository writer = new MappedCustomerRepository(file, CUSTOMERS, CUSTOMERS);
+             MappedCustomerRepository reader = new MappedCustomerRepository(file, CUSTOMERS, 1)) {
+            for (int i = 0; i < CUSTOMERS; i++) {
+                writer.save(versioned(i, 0));
+            }
+            AtomicBoolean done = new AtomicBoolean();
+            AtomicLong reads = new AtomicLong();
+            List<Throwable> errors = new ArrayList<>();
+            List<Thread> readers = new ArrayList<>();
+            for (int r = 0; r < READERS; r++) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        for (int i = 0; !done.get(); i = (i + 1) % CUSTOMERS) {
+                            Customer customer = reader.findById(new CustomerId("CUST-" + i)).orElseThrow();
+                            int version = customer.getLoyaltyPoints();
+                            assertEquals(name(version), customer.getName());
+                            assertEquals(email(i, version), customer.getEmail());
+                            reads.incrementAndGet();
+                        }
+                    } catch (Throwable e) {
+                        synchronized (errors) {
+                            errors.add(e);
+                        }
+                    }
+                });
+                readers.add(thread);
+                thread.start();
+            }
+            for (int version = 1; version <= 2_000; version++) {
+                for (int i = 0; i < CUSTOMERS; i++) {
+                    writer.update(versioned(i, version));
+                }
+            }
+            done.set(true);
+            for (Thread thread : readers) {
+                thread.join();
+            }
+
+            assertTrue(errors.isEmpty(), () -> errors.toString());
+            assertTrue(reads.get() > 0);
+            assertCustomer(writer.findByEmail(email(7, 2_000)), email(7, 2_000), name(2_000), 2_000, true);
+        }
+    }
+
+    @Test
+    public void testFindReturnsDetachedCopies() throws Exception {
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(dir.resolve("customers.dat"), 16, 16)) {
+            Customer saved = Customer.restore(new CustomerId("CUST-001"), "jane@example.com", "Jane Doe", 250,
+                                              REGISTERED_AT, true);
+            repository.save(saved);
+            saved.addLoyaltyPoints(1_000);
+
+            Customer found = repository.findById(new CustomerId("CUST-001")).orElseThrow();
+            assertEquals(250, found.getLoyaltyPoints());
+            found.addLoyaltyPoints(500);
+            found.deactivate();
+
+            assertCustomer(repository.findById(new CustomerId("CUST-001")), "jane@example.com", "Jane Doe", 250, true);
+            assertCustomer(repository.findByEmail("jane@example.com"), "jane@example.com", "Jane Doe", 250, true);
+        }
+    }
+
+    @Test
+    public void testReopenRepairsRecordLeftMidWrite() throws Exception {
+        Path file = dir.resolve("customers.dat");
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 16)) {
+            repository.save(Customer.restore(new CustomerId("CUST-001"), "jane@example.com", "Jane Doe", 250,
+                                             REGISTERED_AT, false));
+        }
+        bumpSequence(file, 0);
+
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 16)) {
+            assertCustomer(repository.findById(new CustomerId("CUST-001")), "jane@example.com", "Jane Doe", 250, false);
+            repository.update(Customer.restore(new CustomerId("CUST-001"), "jane@example.com", "Jane Doe", 300,
+                                               REGISTERED_AT, true));
+        }
+
+        try (MappedCustomerRepository repository = new MappedCustomerRepository(file, 16, 1)) {
+            assertCustomer(repository.findByEmail("jane@example.com"), "jane@example.com", "Jane Doe", 300, true);
+        }
+    }
+
+    @Test
+    public void testReaderGivesUpOnStalledWrite() throws Exception {
+        Path file = dir.resolve("customers.dat");
+        try (MappedCustomerRepository writer = new MappedCustomerRepository(file, 16, 16)) {
+            writer.save(Customer.restore(new CustomerId("CUST-001"), "jane@example.com", "Jane Doe", 250,
+                                         REGISTERED_AT, false));
+        }
+        try (MappedCustomerRepository reader = new MappedCustomerRepository(file, 16, 16)) {
+            bumpSequence(file, 0);
+
+            assertThrows(IllegalStateException.class, () -> reader.findById(new CustomerId("CUST-001")));
+        }
+    }
+
+    private static void bumpSequence(Path file, int record) throws Exception {
+        try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ, StandardOpenOption.WRITE)) {
+            long position = 4096L + record * 256L;
+            ByteBuffer seq = ByteBuffer.allocate(Integer.BYTES).order(ByteOrder.nativeOrder());
+            channel.read(seq, position);
+            seq.flip();
+            int value = seq.getInt();
+            seq.clear();
+            seq.putInt(value + 1).flip();
+            channel.write(seq, position);
+        }
+    }
+
+    private static Customer versioned(int index, int version) {
+        return Customer.restore(new CustomerId("CUST-" + index), email(index, version), name(version), version,
+                                REGISTERED_AT, true);
+    }
+
+    private static String email(int index, int version) {
+        return "c" + index + "-" + version + "@example.com";
+    }
+
+    private static String name(int version) {
+        return String.valueOf(version).repeat(1 + version % 8);
+    }
+
+    private static void assertCustomer(Optional<Customer> found, String email, String name, int loyaltyPoints,
+                                       boolean active) {
+        assertTrue(found.isPresent());
+        Customer customer = found.get();
+        assertEquals(email, customer.getEmail());
+        assertEquals(name, customer.getName());
+        assertEquals(loyaltyPoints, customer.getLoyaltyPoints());
+        assertEquals(REGISTERED_AT, customer.getRegisteredAt());
+        assertEquals(active, customer.isActive());
+    }
+}
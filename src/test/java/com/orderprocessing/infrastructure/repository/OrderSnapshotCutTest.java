@@ -0,0 +1,172 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.OrderSnapshotCut;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderSnapshotCutTest {
+    private static final Money PRICE = new Money(new BigDecimal("2.50"), "USD");
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-CUT");
+    private static final int ORDERS = 64;
+    private static final int CONCURRENT_ORDERS = 4096;
+    private static final int ROUNDS = 20;
+
+    @Test
+    public void testInMemoryCutHidesLaterWrites() throws Exception {
+        assertCutHidesLaterWrites(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedCutHidesLaterWrites() throws Exception {
+        assertCutHidesLaterWrites(new EventSourcedOrderRepository(4));
+    }
+
+    @Test
+    public void testInMemoryCutIsConsistentUnderConcurrentWrites() throws Exception {
+        assertCutsConsistentUnderWrites(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedCutIsConsistentUnderConcurrentWrites() throws Exception {
+        assertCutsConsistentUnderWrites(new EventSourcedOrderRepository(8));
+    }
+
+    private static void assertCutHidesLaterWrites(QueryableOrderRepository repository) throws Exception {
+        for (int i = 0; i < ORDERS; i++) {
+            repository.save(order(i));
+        }
+        Map<OrderId, Integer> seen;
+        try (OrderSnapshotCut cut = repository.openSnapshotCut()) {
+            for (int i = 0; i < ORDERS; i += 2) {
+                Order order = repository.findById(id(i)).orElseThrow();
+                order.addItem(new OrderItem("PROD-LATE", "Late", PRICE, 1));
+                repository.update(order, order.getVersion());
+            }
+            repository.save(order(ORDERS));
+            seen = drain(cut, 4);
+        }
+
+        assertEquals(ORDERS, seen.size());
+        for (int i = 0; i < ORDERS; i++) {
+            assertEquals(1, seen.get(id(i)));
+        }
+        assertEquals(2, repository.findSnapshot(id(0)).orElseThrow().getItems().size());
+
+        CountDownLatch deleted = new CountDownLatch(1);
+        OrderSnapshotCut cut = repository.openSnapshotCut();
+        Thread deleter = new Thread(() -> {
+            repository.delete(id(1));
+            deleted.countDown();
+        });
+        deleter.start();
+        assertFalse(deleted.await(100, TimeUnit.MILLISECONDS));
+        assertEquals(ORDERS + 1, drain(cut, 3).size());
+        cut.close();
+        assertTrue(deleted.await(5, TimeUnit.SECONDS));
+        assertFalse(repository.exists(id(1)));
+    }
+
+    // The writer adds one item per order per round, in index order, so any point-in-time view has item counts
+    // that never increase with the index and differ by at most one.
+    private static void assertCutsConsistentUnderWrites(QueryableOrderRepository repository) throws Exception {
+        for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+            repository.save(order(i));
+        }
+        AtomicBoolean done = new AtomicBoolean();
+        List<Throwable> errors = new ArrayList<>();
+        Thread writer = new Thread(() -> {
+            try {
+                for (int round = 0; round < ROUNDS; round++) {
+                    for (int i = 0; i < CONCURRENT_ORDERS; i++) {
+                        Order order = repository.findById(id(i)).orElseThrow();
+                        order.addItem(new OrderItem("PROD-" + round, "Round " + round, PRICE, 1));
+                        repository.update(order, order.getVersion());
+                    }
+                }
+            } catch (Throwable e) {
+                synchronized (errors) {
+                    errors.add(e);
+                }
+            } finally {
+                done.set(true);
+            }
+        });
+        writer.start();
+        int cuts = 0;
+        while (!done.get() || cuts == 0) {
+            Map<OrderId, Integer> seen;
+            try (OrderSnapshotCut cut = repository.openSnapshotCut()) {
+                seen = drain(cut, 4);
+            }
+            assertEquals(CONCURRENT_ORDERS, seen.size());
+            int first = seen.get(id(0));
+            int previous = first;
+            for (int i = 1; i < CONCURRENT_ORDERS; i++) {
+                int items = seen.get(id(i));
+                assertTrue(items <= previous && first - items <= 1,
+                           "Torn cut at order " + i + ": " + items + " items after " + previous);
+                previous = items;
+            }
+            cuts++;
+        }
+        writer.join();
+
+        assertTrue(errors.isEmpty(), () -> errors.toString());
+        try (OrderSnapshotCut cut = repository.openSnapshotCut()) {
+            assertTrue(drain(cut, 2).values().stream().allMatch(items -> items == ROUNDS + 1));
+        }
+    }
+
+    private static Map<OrderId, Integer> drain(OrderSnapshotCut cut, int partitions) throws Exception {
+        Map<OrderId, Integer> seen = new HashMap<>();
+        AtomicInteger rows = new AtomicInteger();
+        List<Thread> threads = new ArrayList<>();
+        for (Iterator<OrderSnapshot> partition : cut.partitions(partitions)) {
+            Thread thread = new Thread(() -> {
+                while (partition.hasNext()) {
+                    OrderSnapshot snapshot = partition.next();
+                    rows.incrementAndGet();
+                    synchronized (seen) {
+                        seen.put(snapshot.getOrderId(), snapshot.getItems().size());
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        for (Thread thread : threads) {
+            thread.join();
+        }
+        assertEquals(seen.size(), rows.get());
+        return seen;
+    }
+
+    private static Order order(int index) {
+        Order order = new Order(id(index), CUSTOMER);
+        order.addItem(new OrderItem("PROD-0", "Initial", PRICE, 1));
+        return order;
+    }
+
+    private static OrderId id(int index) {
+        return new OrderId(String.format("ORD-%03d", index));
+    }
+}
@@ -0,0 +1,102 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderSnapshotReadTest {
+    private static final Money PRICE = new Money(new BigDecimal("1.00"), "USD");
+    private static final OrderId ORDER = new OrderId("ORD-READ");
+    private static final int WRITES = 2_000;
+    private static final int READERS = 4;
+
+    @Test
+    public void testInMemoryReadersNeverSeeTornOrders() throws Exception {
+        assertReadersSeeCommittedStates(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedReadersNeverSeeTornOrders() throws Exception {
+        assertReadersSeeCommittedStates(new EventSourcedOrderRepository());
+    }
+
+    @Test
+    public void testStoredSnapshotIsDetachedFromWorkingCopy() {
+        InMemoryOrderRepository repository = new InMemoryOrderRepository();
+        Order order = new Order(ORDER, new CustomerId("CUST-READ"));
+        order.addItem(new OrderItem("PROD-0", "Item", PRICE, 1));
+        repository.save(order);
+        OrderSnapshot saved = repository.findSnapshot(ORDER).orElseThrow();
+
+        order.addItem(new OrderItem("PROD-1", "Item", PRICE, 1));
+        assertEquals(1, repository.findSnapshot(ORDER).orElseThrow().getItems().size());
+        repository.update(order, order.getVersion());
+
+        assertEquals(1, saved.getItems().size());
+        assertEquals(2, repository.findSnapshot(ORDER).orElseThrow().getItems().size());
+        assertEquals(saved.getVersion() + 1, repository.findSnapshot(ORDER).orElseThrow().getVersion());
+    }
+
+    // Every committed state has one item per version step and a total equal to its item count.
+    private static void assertReadersSeeCommittedStates(QueryableOrderRepository repository) throws Exception {
+        Order order = new Order(ORDER, new CustomerId("CUST-READ"));
+        repository.save(order);
+        long baseVersion = order.getVersion();
+        AtomicBoolean done = new AtomicBoolean();
+        List<String> errors = new ArrayList<>();
+        List<Thread> readers = new ArrayList<>();
+        for (int r = 0; r < READERS; r++) {
+            Thread reader = new Thread(() -> {
+                long lastVersion = -1;
+                while (!done.get()) {
+                    OrderSnapshot snapshot = repository.findSnapshot(ORDER).orElseThrow();
+                    int items = snapshot.getItems().size();
+                    BigDecimal total = snapshot.getTotalAmount().getAmount();
+                    String problem = null;
+                    if (snapshot.getVersion() < lastVersion) {
+                        problem = "version went back from " + lastVersion + " to " + snapshot.getVersion();
+                    } else if (items != snapshot.getVersion() - baseVersion) {
+                        problem = items + " items at version " + snapshot.getVersion();
+                    } else if (total.compareTo(BigDecimal.valueOf(items)) != 0) {
+                        problem = "total " + total + " for " + items + " items";
+                    }
+                    if (problem != null) {
+                        synchronized (errors) {
+                            errors.add(problem);
+                        }
+                        return;
+                    }
+                    lastVersion = snapshot.getVersion();
+                }
+            });
+            readers.add(reader);
+            reader.start();
+        }
+        try {
+            for (int i = 0; i < WRITES; i++) {
+                order.addItem(new OrderItem("PROD-" + i, "Item", PRICE, 1));
+                repository.update(order, order.getVersion());
+            }
+        } finally {
+            done.set(true);
+        }
+        for (Thread reader : readers) {
+            reader.join();
+        }
+
+        assertTrue(errors.isEmpty(), () -> errors.toString());
+        assertEquals(WRITES, repository.findSnapshot(ORDER).orElseThrow().getItems().size());
+    }
+}
@@ -0,0 +1,144 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.entity.OrderSnapshot;
+import com.orderprocessing.domain.repository.QueryableOrderRepository;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.domain.valueobject.OrderStatus;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class OrderTimeIndexTest {
+    private static final LocalDateTime BASE = LocalDateTime.of(2024, 5, 1, 9, 0);
+    private static final CustomerId CUSTOMER = new CustomerId("CUST-TIME");
+    private static final Money PRICE = new Money(new BigDecimal("5.00"), "USD");
+    private static final Set<OrderStatus> ALL = EnumSet.allOf(OrderStatus.class);
+
+    private final OrderTimeIndex index = new OrderTimeIndex();
+    private final Map<OrderId, OrderSnapshot> live = new HashMap<>();
+
+    @Test
+    public void testCreatedRangeIsHalfOpenAndOrdered() {
+        for (int i = 0; i < 10; i++) {
+            index(snapshot(i, BASE.plusSeconds(45L * i), null, OrderStatus.PENDING));
+        }
+
+        List<OrderSnapshot> hits = index.createdBetween(BASE.plusSeconds(45), BASE.plusSeconds(45L * 6), ALL,
+                                                        live::get);
+        assertEquals(List.of(id(1), id(2), id(3), id(4), id(5)), ids(hits));
+        assertTrue(index.createdBetween(BASE.plusSeconds(45L * 6), BASE.plusSeconds(45), ALL, live::get).isEmpty());
+        assertTrue(index.createdBetween(BASE, BASE, ALL, live::get).isEmpty());
+        assertEquals(10, index.createdBetween(BASE.minusDays(1), BASE.plusDays(1), ALL, live::get).size());
+    }
+
+    @Test
+    public void testStatusFilterAndProcessedRange() {
+        for (int i = 0; i < 8; i++) {
+            boolean processed = i % 2 == 0;
+            index(snapshot(i, BASE.plusMinutes(i), processed ? BASE.plusMinutes(30 + i) : null,
+                           processed ? OrderStatus.PROCESSING : OrderStatus.PENDING));
+        }
+
+        LocalDateTime to = BASE.plusHours(2);
+        assertEquals(List.of(id(1), id(3), id(5), id(7)),
+                     ids(index.createdBetween(BASE, to, EnumSet.of(OrderStatus.PENDING), live::get)));
+        assertEquals(List.of(id(0), id(2), id(4), id(6)), ids(index.processedBetween(BASE, to, ALL, live::get)));
+        assertEquals(List.of(id(2), id(4)),
+                     ids(index.processedBetween(BASE.plusMinutes(31), BASE.plusMinutes(35),
+                                                EnumSet.of(OrderStatus.PROCESSING), live::get)));
+        assertTrue(index.processedBetween(BASE, to, EnumSet.of(OrderStatus.PENDING), live::get).isEmpty());
+        assertTrue(index.createdBetween(BASE, to, EnumSet.noneOf(OrderStatus.class), live::get).isEmpty());
+        assertThrows(IllegalArgumentException.class, () -> index.createdBetween(null, to, ALL, live::get));
+        assertThrows(IllegalArgumentException.class, () -> index.processedBetween(BASE, to, null, live::get));
+    }
+
+    @Test
+    public void testStaleAndRemovedEntriesAreSkipped() {
+        OrderSnapshot indexed = snapshot(0, BASE, BASE.plusMinutes(5), OrderStatus.PROCESSING);
+        index(indexed);
+        index(snapshot(1, BASE, BASE.plusMinutes(6), OrderStatus.PROCESSING));
+
+        // A reindex that has published the new snapshot but not yet moved its index entry.
+        live.put(id(0), snapshot(0, BASE, BASE.plusHours(3), OrderStatus.PROCESSING));
+        assertEquals(List.of(id(1)), ids(index.processedBetween(BASE, BASE.plusHours(1), ALL, live::get)));
+
+        index.remove(indexed);
+        index.remove(live.get(id(1)));
+        live.remove(id(1));
+        assertTrue(index.processedBetween(BASE, BASE.plusHours(4), ALL, live::get).isEmpty());
+        assertTrue(index.createdBetween(BASE, BASE.plusHours(4), ALL, live::get).isEmpty());
+    }
+
+    @Test
+    public void testInMemoryRepositoryReindexesOnUpdate() {
+        assertRepositoryReindexesOnUpdate(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedRepositoryReindexesOnUpdate() {
+        assertRepositoryReindexesOnUpdate(new EventSourcedOrderRepository(4));
+    }
+
+    private static void assertRepositoryReindexesOnUpdate(QueryableOrderRepository repository) {
+        LocalDateTime from = LocalDateTime.now().minusHours(1);
+        LocalDateTime to = LocalDateTime.now().plusHours(1);
+        List<OrderId> processed = new ArrayList<>();
+        for (int i = 0; i < 6; i++) {
+            Order order = new Order(id(i), CUSTOMER);
+            order.addItem(new OrderItem("PROD-001", "Widget", PRICE, 1));
+            repository.save(order);
+            if (i % 3 == 0) {
+                order.setPaymentMethod("CREDIT_CARD");
+                order.process();
+                repository.update(order, order.getVersion());
+                processed.add(order.getOrderId());
+            }
+        }
+
+        assertEquals(6, repository.findSnapshotsCreatedBetween(from, to).size());
+        assertEquals(4, repository.findSnapshotsCreatedBetween(from, to, EnumSet.of(OrderStatus.PENDING)).size());
+        List<OrderSnapshot> hits = repository.findSnapshotsProcessedBetween(from, to);
+        assertEquals(processed.size(), hits.size());
+        assertTrue(ids(hits).containsAll(processed));
+
+        repository.delete(id(0));
+        assertEquals(1, repository.findSnapshotsProcessedBetween(from, to).size());
+        assertEquals(5, repository.findSnapshotsCreatedBetween(from, to).size());
+    }
+
+    private void index(OrderSnapshot snapshot) {
+        live.put(snapshot.getOrderId(), snapshot);
+        index.add(snapshot);
+    }
+
+    private static OrderSnapshot snapshot(int index, LocalDateTime createdAt, LocalDateTime processedAt,
+                                          OrderStatus status) {
+        return new OrderSnapshot(id(index), CUSTOMER, List.of(), status, Money.ZERO, createdAt, processedAt, null,
+                                 false, 1);
+    }
+
+    private static List<OrderId> ids(List<OrderSnapshot> snapshots) {
+        List<OrderId> ids = new ArrayList<>(snapshots.size());
+        for (OrderSnapshot snapshot : snapshots) {
+            ids.add(snapshot.getOrderId());
+        }
+        return ids;
+    }
+
+    private static OrderId id(int index) {
+        return new OrderId(String.format("ORD-%03d", index));
+    }
+}
@@ -0,0 +1,108 @@
+package com.orderprocessing.infrastructure.repository;
+
+import com.orderprocessing.application.service.OptimisticRetry;
+import com.orderprocessing.domain.entity.Order;
+import com.orderprocessing.domain.entity.OrderItem;
+import com.orderprocessing.domain.repository.OrderRepository;
+import com.orderprocessing.domain.repository.OrderVersionConflictException;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.Money;
+import com.orderprocessing.domain.valueobject.OrderId;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class VersionedOrderUpdateTest {
+    private static final Money PRICE = new Money(new BigDecimal("1.00"), "USD");
+    private static final OrderId ORDER = new OrderId("ORD-VERSIONED");
+    private static final int THREADS = 8;
+    private static final int ITEMS_PER_THREAD = 50;
+
+    @Test
+    public void testInMemoryRejectsStaleWriter() {
+        assertStaleWriterRejected(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedRejectsStaleWriter() {
+        assertStaleWriterRejected(new EventSourcedOrderRepository(4));
+    }
+
+    @Test
+    public void testInMemoryKeepsEveryRetriedWrite() throws Exception {
+        assertConcurrentWritersAllKept(new InMemoryOrderRepository());
+    }
+
+    @Test
+    public void testEventSourcedKeepsEveryRetriedWrite() throws Exception {
+        assertConcurrentWritersAllKept(new EventSourcedOrderRepository(4));
+    }
+
+    private static void assertStaleWriterRejected(OrderRepository repository) {
+        repository.save(new Order(ORDER, new CustomerId("CUST-001")));
+        Order first = repository.findById(ORDER).orElseThrow();
+        Order second = repository.findById(ORDER).orElseThrow();
+        long loaded = first.getVersion();
+        assertEquals(loaded, second.getVersion());
+
+        first.addItem(new OrderItem("PROD-A", "First", PRICE, 1));
+        repository.update(first, loaded);
+        assertEquals(loaded + 1, first.getVersion());
+
+        second.addItem(new OrderItem("PROD-B", "Second", PRICE, 1));
+        OrderVersionConflictException conflict =
+            assertThrows(OrderVersionConflictException.class, () -> repository.update(second, loaded));
+        assertEquals(ORDER, conflict.getOrderId());
+        assertEquals(loaded, conflict.getExpectedVersion());
+        assertEquals(loaded + 1, conflict.getActualVersion());
+
+        Order stored = repository.findById(ORDER).orElseThrow();
+        assertEquals(1, stored.getItems().size());
+        assertEquals("PROD-A", stored.getItems().get(0).getProductId());
+        assertEquals(loaded + 1, stored.getVersion());
+    }
+
+    private static void assertConcurrentWritersAllKept(OrderRepository repository) throws Exception {
+        repository.save(new Order(ORDER, new CustomerId("CUST-001")));
+        OptimisticRetry retry = new OptimisticRetry(Integer.MAX_VALUE, 0);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Throwable> errors = new ArrayList<>();
+        List<Thread> threads = new ArrayList<>();
+        for (int t = 0; t < THREADS; t++) {
+            int writer = t;
+            Thread thread = new Thread(() -> {
+                try {
+                    start.await();
+                    for (int i = 0; i < ITEMS_PER_THREAD; i++) {
+                        String productId = "PROD-" + writer + "-" + i;
+                        retry.run(() -> {
+                            Order order = repository.findById(ORDER).orElseThrow();
+                            order.addItem(new OrderItem(productId, "Item", PRICE, 1));
+                            repository.update(order, order.getVersion());
+                        });
+                    }
+                } catch (Throwable e) {
+                    synchronized (errors) {
+                        errors.add(e);
+                    }
+                }
+            });
+            threads.add(thread);
+            thread.start();
+        }
+        start.countDown();
+        for (Thread thread : threads) {
+            thread.join();
+        }
+
+        assertTrue(errors.isEmpty(), () -> errors.toString());
+        Order stored = repository.findById(ORDER).orElseThrow();
+        assertEquals(THREADS * ITEMS_PER_THREAD, stored.getItems().size());
+        assertEquals(0, retry.getExhaustedCount());
+    }
+}
@@ -0,0 +1,68 @@
+package com.orderprocessing.loadgen;
+
+import com.orderprocessing.application.service.InventoryService;
+import com.orderprocessing.application.service.OrderService;
+import com.orderprocessing.application.service.PaymentService;
+import com.orderprocessing.domain.entity.Customer;
+import com.orderprocessing.domain.valueobject.CustomerId;
+import com.orderprocessing.domain.valueobject.OrderId;
+import com.orderprocessing.infrastructure.metrics.LatencyHistogram;
+import com.orderprocessing.infrastructure.repository.InMemoryCustomerRepository;
+import com.orderprocessing.infrastructure.repository.InMemoryOrderRepository;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class LoadGeneratorTest {
+    private static final CustomerId CUSTOMER = new CustomerId("LOAD-CUST-0");
+    private static final int RATE = 100;
+    private static final long STALL_MILLIS = 500;
+
+    @Test
+    public void testLatencyIsMeasuredFromTheIntendedStartDuringAStall() throws Exception {
+        InMemoryCustomerRepository customers = new InMemoryCustomerRepository();
+        customers.save(new Customer(CUSTOMER, "load@example.com", "Load"));
+        PaymentService payments = new PaymentService();
+        payments.deposit(CUSTOMER, new BigDecimal("1000000.00"));
+        AtomicBoolean stalled = new AtomicBoolean();
+        OrderService service = new OrderService(new InMemoryOrderRepository(), customers,
+                                                new InventoryService(Map.of("LOAD-PROD-0", 1_000_000)), payments) {
+            @Override
+            public void processOrder(OrderId orderId, String paymentMethod) {
+                if (!stalled.getAndSet(true)) {
+                    try {
+                        Thread.sleep(STALL_MILLIS);
+                    } catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+                super.processOrder(orderId, paymentMethod);
+            }
+        };
+        LoadProfile profile = new LoadProfile(RATE, 1, 0, 1, 1, 1, 0, 0, 1, 0, 1, 0);
+
+        LoadReport report = new LoadGenerator(service, profile, new CustomerId[] {CUSTOMER},
+                                              new String[] {"LOAD-PROD-0"}, new BigDecimal[] {BigDecimal.ONE})
+            .run();
+
+        assertEquals(RATE, report.getSucceeded());
+        LatencyHistogram endToEnd = report.getHistogram(LoadReport.Stage.END_TO_END);
+        LatencyHistogram serviceTime = report.getHistogram(LoadReport.Stage.SERVICE_TIME);
+        LatencyHistogram queueDelay = report.getHistogram(LoadReport.Stage.QUEUE_DELAY);
+        assertEquals(RATE, endToEnd.getTotalCount());
+        long stallNanos = TimeUnit.MILLISECONDS.toNanos(STALL_MILLIS);
+        // Requests due while the only worker was stalled waited for it; a closed-loop measurement would hide that.
+        assertTrue(serviceTime.getValueAtPercentile(90) < stallNanos / 10,
+                   "service p90 " + serviceTime.getValueAtPercentile(90));
+        assertTrue(queueDelay.getValueAtPercentile(90) > stallNanos * 2 / 5,
+                   "queue p90 " + queueDelay.getValueAtPercentile(90));
+        assertTrue(endToEnd.getValueAtPercentile(90) > stallNanos * 2 / 5,
+                   "end-to-end p90 " + endToEnd.getValueAtPercentile(90));
+        assertTrue(endToEnd.getMaxValue() >= stallNanos * 9 / 10, "end-to-end max " + endToEnd.getMaxValue());
+    }
+}
@@ -0,0 +1,52 @@
+package com.orderprocessing.loadgen;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ZipfianGeneratorTest {
+    private static final int SAMPLES = 400_000;
+
+    @Test
+    public void testRanksFollowTheZipfDistribution() {
+        int items = 10;
+        double skew = 1.0;
+        int[] counts = sample(new ZipfianGenerator(items, skew), items);
+
+        double normalizer = 0;
+        for (int rank = 1; rank <= items; rank++) {
+            normalizer += 1.0 / Math.pow(rank, skew);
+        }
+        for (int rank = 1; rank <= items; rank++) {
+            double expected = 1.0 / Math.pow(rank, skew) / normalizer;
+            assertEquals(expected, (double) counts[rank - 1] / SAMPLES, 0.005, "rank " + rank);
+        }
+        assertEquals(2.0, (double) counts[0] / counts[1], 0.1);
+    }
+
+    @Test
+    public void testZeroSkewIsUniformAndOneItemIsConstant() {
+        int items = 8;
+        int[] counts = sample(new ZipfianGenerator(items, 0), items);
+        for (int item = 0; item < items; item++) {
+            assertEquals(1.0 / items, (double) counts[item] / SAMPLES, 0.005, "item " + item);
+        }
+
+        ZipfianGenerator single = new ZipfianGenerator(1, 2.5);
+        for (int i = 0; i < 1_000; i++) {
+            assertEquals(0, single.next());
+        }
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(0, 1.0));
+        assertThrows(IllegalArgumentException.class, () -> new ZipfianGenerator(4, -0.1));
+    }
+
+    private static int[] sample(ZipfianGenerator generator, int items) {
+        int[] counts = new int[items];
+        for (int i = 0; i < SAMPLES; i++) {
+            int item = generator.next();
+            assertTrue(item >= 0 && item < items, "item " + item);
+            counts[item]++;
+        }
+        return counts;
+    }
+}